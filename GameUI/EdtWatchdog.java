@@ -0,0 +1,282 @@
+package GameUI;
+
+import core.LatencyHistogram;
+import core.metrics.Counter;
+import core.metrics.MetricsRegistry;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EDT(Event Dispatch Thread) 멈춤 감시기
+ *
+ * 시스템 이벤트 큐를 이 큐로 바꿔서 이벤트 하나를 처리하기 시작한 시각을 기록하고,
+ * 감시 스레드가 주기적으로 확인하다가 한 이벤트가 기준 시간(기본 100ms)보다 오래 걸리면
+ * 그 순간의 EDT 스택을 잡아 고정 크기 링 로그에 남깁니다. 이벤트 처리가 끝나면 실제로 멈춘 시간을 채우고
+ * 한 줄 경고를 출력합니다. 예를 들어 효과음 재생의 sleep, 장문 분리, 테마 적용 중의 멈춤이 잡힙니다.
+ *
+ * 모든 이벤트의 처리 시간은 측정값 typing_edt_dispatch_seconds에, 멈춤 횟수는 typing_edt_stalls에 기록됩니다.
+ * 모달 대화상자처럼 이벤트 처리 안에서 다른 이벤트를 처리하는 경우, 바깥 이벤트의 시간에서는 안쪽 처리 시간을 뺍니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class EdtWatchdog extends EventQueue {
+    public static final String THRESHOLD_PROPERTY = "typing.edt.stall.ms";  // 멈춤 기준 시간 (밀리초)
+    public static final long DEFAULT_THRESHOLD_MILLIS = 100;
+    public static final int LOG_CAPACITY = 64;                             // 링 로그에 남기는 최근 멈춤 수
+
+    private static final int REPORTED_FRAMES = 3;  // 경고에 출력할 스택 프레임 수
+
+    /**
+     * 기록된 EDT 멈춤 하나
+     */
+    public static final class Stall {
+        private final long startMillis;
+        private final String event;
+        private final StackTraceElement[] stackTrace;
+        private volatile long durationNanos = -1;
+
+        private Stall(long startMillis, String event, StackTraceElement[] stackTrace) {
+            this.startMillis = startMillis;
+            this.event = event;
+            this.stackTrace = stackTrace;
+        }
+
+        /**
+         * @return 이벤트 처리를 시작한 시각 (System.currentTimeMillis 기준)
+         */
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        /**
+         * @return 멈춘 이벤트 설명 (이벤트 종류와 발생 컴포넌트)
+         */
+        public String getEvent() {
+            return event;
+        }
+
+        /**
+         * @return 멈춤을 감지한 순간의 EDT 스택
+         */
+        public StackTraceElement[] getStackTrace() {
+            return stackTrace.clone();
+        }
+
+        /**
+         * @return 이벤트 처리에 걸린 시간 (나노초), 아직 처리 중이면 -1
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("EDT 멈춤 %s: %s", durationNanos < 0 ? "진행 중"
+                    : String.format("%.1fms", durationNanos / 1_000_000.0), event));
+            for (StackTraceElement frame : stackTrace) {
+                text.append("\n    at ").append(frame);
+            }
+            return text.toString();
+        }
+    }
+
+    private final long thresholdNanos;
+    private final LatencyHistogram dispatchTimes = new LatencyHistogram("EDT 이벤트 처리");
+    private final Counter stallCounter;
+
+    private final Stall[] log = new Stall[LOG_CAPACITY];  // log로 동기화
+    private int logNext = 0;
+    private long totalStalls = 0;
+
+    /**
+     * 처리 중인 이벤트 하나의 상태 (중첩되면 바깥 이벤트의 Frame은 잠시 멈춤)
+     */
+    private static final class Frame {
+        final AWTEvent event;
+        final Thread thread;
+        volatile long runningSince;   // 시작 또는 안쪽 이벤트가 끝나고 다시 진행한 시각
+        volatile long ownNanos = 0;   // 안쪽 이벤트를 뺀 지금까지의 처리 시간 (EDT만 기록, 감시 스레드도 읽음)
+        volatile Stall stall;         // 감시 스레드가 감지한 멈춤
+
+        Frame(AWTEvent event, Thread thread, long now) {
+            this.event = event;
+            this.thread = thread;
+            this.runningSince = now;
+        }
+    }
+
+    private volatile Frame activeFrame = null;  // 가장 안쪽에서 처리 중인 이벤트 (EDT가 쓰고 감시 스레드가 읽음)
+
+    /**
+     * 시스템 속성 typing.edt.stall.ms(기본 100ms)를 기준으로 감시기를 설치합니다.
+     * @return 설치된 감시기
+     */
+    public static EdtWatchdog install() {
+        long thresholdMillis = DEFAULT_THRESHOLD_MILLIS;
+        String configured = System.getProperty(THRESHOLD_PROPERTY);
+        if (configured != null) {
+            try {
+                thresholdMillis = Math.max(1, Long.parseLong(configured.trim()));
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 EDT 멈춤 기준 시간: " + configured + " - 기본값을 사용합니다.");
+            }
+        }
+        return install(thresholdMillis);
+    }
+
+    /**
+     * 시스템 이벤트 큐를 감시기로 바꾸고 감시 스레드를 시작합니다.
+     * @param thresholdMillis 멈춤으로 볼 이벤트 처리 시간 (밀리초)
+     * @return 설치된 감시기
+     */
+    public static EdtWatchdog install(long thresholdMillis) {
+        EdtWatchdog watchdog = new EdtWatchdog(thresholdMillis);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog);
+        Thread thread = new Thread(watchdog::watch, "edt-watchdog");
+        thread.setDaemon(true);
+        thread.start();
+        return watchdog;
+    }
+
+    private EdtWatchdog(long thresholdMillis) {
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.timer("typing_edt_dispatch_seconds", "EDT 이벤트 하나의 처리 시간", dispatchTimes);
+        this.stallCounter = metrics.counter("typing_edt_stalls", "기준 시간보다 오래 걸린 EDT 이벤트 수");
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        long start = System.nanoTime();
+        Frame outer = activeFrame;
+        if (outer != null) {
+            // 모달 대화상자 등으로 중첩된 경우 바깥 이벤트의 시간은 잠시 멈춤
+            outer.ownNanos += start - outer.runningSince;
+        }
+        Frame frame = new Frame(event, Thread.currentThread(), start);
+        activeFrame = frame;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            long end = System.nanoTime();
+            long ownNanos = frame.ownNanos + (end - frame.runningSince);
+            dispatchTimes.record(ownNanos);
+            Stall stall = frame.stall;
+            if (stall != null) {
+                stall.durationNanos = ownNanos;
+                System.err.println(summary(stall));
+            }
+            if (outer != null) {
+                outer.runningSince = end;
+            }
+            activeFrame = outer;
+        }
+    }
+
+    /**
+     * 감시 스레드: 처리 중인 이벤트가 기준 시간을 넘었는지 주기적으로 확인합니다.
+     */
+    private void watch() {
+        long pollMillis = Math.max(10, thresholdNanos / 4_000_000L);
+        while (true) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            Frame frame = activeFrame;
+            if (frame == null || frame.stall != null) {
+                continue;
+            }
+            long runningSince = frame.runningSince;
+            // 안쪽 이벤트가 끝나 다시 진행 중이면 그 전까지 처리한 시간도 더함
+            long elapsed = frame.ownNanos + (System.nanoTime() - runningSince);
+            if (elapsed < thresholdNanos) {
+                continue;
+            }
+            StackTraceElement[] stack = frame.thread.getStackTrace();
+            if (activeFrame != frame || frame.runningSince != runningSince) {
+                continue;  // 스택을 잡는 사이에 처리가 끝나거나 안쪽 이벤트로 넘어감
+            }
+            Stall stall = new Stall(System.currentTimeMillis() - elapsed / 1_000_000L, describe(frame.event), stack);
+            frame.stall = stall;
+            stallCounter.increment();
+            synchronized (log) {
+                log[logNext] = stall;
+                logNext = (logNext + 1) % LOG_CAPACITY;
+                totalStalls++;
+            }
+        }
+    }
+
+    /**
+     * 최근 멈춤 기록을 오래된 순서로 반환합니다. (최대 {@link #LOG_CAPACITY}개)
+     * @return 멈춤 기록 목록
+     */
+    public List<Stall> getStalls() {
+        synchronized (log) {
+            List<Stall> stalls = new ArrayList<>(LOG_CAPACITY);
+            for (int i = 0; i < LOG_CAPACITY; i++) {
+                Stall stall = log[(logNext + i) % LOG_CAPACITY];
+                if (stall != null) {
+                    stalls.add(stall);
+                }
+            }
+            return stalls;
+        }
+    }
+
+    /**
+     * @return 설치 후 감지한 전체 멈춤 수 (링 로그에서 밀려난 것 포함)
+     */
+    public long getTotalStalls() {
+        synchronized (log) {
+            return totalStalls;
+        }
+    }
+
+    /**
+     * @return 모든 EDT 이벤트의 처리 시간 분포
+     */
+    public LatencyHistogram.Snapshot getDispatchTimes() {
+        return dispatchTimes.snapshot();
+    }
+
+    /**
+     * 이벤트 처리 시간 분포와 최근 멈춤 기록(스택 포함)을 출력합니다.
+     * @param out 출력할 스트림
+     */
+    public void printReport(PrintStream out) {
+        out.println(dispatchTimes.snapshot());
+        List<Stall> stalls = getStalls();
+        out.printf("EDT 멈춤 %d회 (기준 %dms, 최근 %d개)%n", getTotalStalls(), thresholdNanos / 1_000_000L, stalls.size());
+        for (Stall stall : stalls) {
+            out.println(stall);
+        }
+    }
+
+    private static String summary(Stall stall) {
+        StringBuilder text = new StringBuilder(String.format("EDT 멈춤 %.1fms: %s",
+                stall.getDurationNanos() / 1_000_000.0, stall.getEvent()));
+        StackTraceElement[] stack = stall.stackTrace;
+        for (int i = 0; i < stack.length && i < REPORTED_FRAMES; i++) {
+            text.append(i == 0 ? " @ " : " < ").append(stack[i]);
+        }
+        return text.toString();
+    }
+
+    private static String describe(AWTEvent event) {
+        if (event == null) {
+            return "알 수 없는 이벤트";
+        }
+        Object source = event.getSource();
+        return event.getClass().getSimpleName() + " (" + (source != null ? source.getClass().getName() : "?") + ")";
+    }
+}
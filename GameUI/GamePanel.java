@@ -1,6 +1,9 @@
 package GameUI;
 
 import core.GameModel;
+import core.GameModelListener;
+import core.HighlightRuns;
+import core.InputLatency;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
@@ -8,7 +11,6 @@ import javax.swing.event.DocumentListener;
 import javax.swing.text.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.geom.Rectangle2D;
 import java.util.List;
 
 public class GamePanel extends JPanel {
@@ -19,12 +21,14 @@ public class GamePanel extends JPanel {
     private JLabel statusLabel;
     private JLabel wpmLabel;
     private JLabel progressLabel;
-    private Timer statusUpdateTimer;
+    private ModelUpdateDispatcher modelUpdates;  // 모델 변경을 프레임당 한 번씩 상태 표시줄에 반영
     private GameModel gameModel;
     private Runnable showMenuCallback;
     private boolean isProcessingInput = false;
     private boolean isComposing = false;
     private boolean isShowingCompleteDialog = false;
+    private long pendingInputNanos = 0;  // 아직 처리하지 않은 가장 오래된 입력 이벤트 시각 (없으면 0)
+    private final HighlightRuns highlightRuns = new HighlightRuns();  // 문장 모드에서 문서에 적용한 하이라이트 구간
 
     private SimpleAttributeSet defaultStyle;
     private SimpleAttributeSet correctStyle;
@@ -34,6 +38,7 @@ public class GamePanel extends JPanel {
     private SimpleAttributeSet fadedSentenceStyle;
 
     private JScrollPane targetScrollPane;
+    private LongTextView longTextView;  // 장문 모드에서 보이는 문장만 그리는 보기
     private JScrollPane inputScrollPane;
     private JPanel bottomPanel;
     private JPanel topPanel;
@@ -47,12 +52,8 @@ public class GamePanel extends JPanel {
         initializeStyles();
         createUIComponents();
 
-        statusUpdateTimer = new Timer(300, e -> {
-            if (gameModel.isGameActive()) {
-                gameModel.updateWPM();
-                updateStatusDisplay();
-            }
-        });
+        modelUpdates = new ModelUpdateDispatcher(gameModel, ModelUpdateDispatcher.DEFAULT_FRAMES_PER_SECOND,
+                this::updateStatusDisplay);
     }
 
     /**
@@ -76,13 +77,6 @@ public class GamePanel extends JPanel {
         // gameModel.startLongTextGame()은 MainFrame에서 이미 호출됨
         setupLayoutForCurrentMode();
         refreshGameScreen();
-
-        SwingUtilities.invokeLater(() -> {
-            targetScrollPane.getVerticalScrollBar().setValue(0);
-            if (targetTextPane.getDocument().getLength() > 0) {
-                targetTextPane.setCaretPosition(0);
-            }
-        });
         
         revalidate();
         repaint();
@@ -100,6 +94,7 @@ public class GamePanel extends JPanel {
         targetScrollPane = new JScrollPane(targetTextPane);
         targetScrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         targetScrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        longTextView = new LongTextView();
 
         inputPane = new JTextPane();
         inputPane.setFont(new Font("맑은 고딕", Font.PLAIN, 20));
@@ -157,13 +152,12 @@ public class GamePanel extends JPanel {
     }
 
     private void setupLongTextModeLayout() {
-        targetTextPane.setFont(new Font("맑은 고딕", Font.PLAIN, 16));
-        targetTextPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        longTextView.setFont(new Font("맑은 고딕", Font.PLAIN, 16));
 
         inputPane.setBorder(BorderFactory.createTitledBorder("여기에 입력하세요"));
         inputScrollPane.setPreferredSize(new Dimension(700, 100));
 
-        add(targetScrollPane, BorderLayout.CENTER);
+        add(longTextView, BorderLayout.CENTER);
 
         JPanel southContainer = new JPanel(new BorderLayout());
         southContainer.add(inputScrollPane, BorderLayout.NORTH);
@@ -207,6 +201,7 @@ public class GamePanel extends JPanel {
                     isComposing = true;
                 } else {
                     isComposing = false;
+                    markInputEvent();
                     SwingUtilities.invokeLater(() -> validateAndHighlight());
                 }
             }
@@ -219,6 +214,7 @@ public class GamePanel extends JPanel {
             @Override
             public void insertUpdate(DocumentEvent e) {
                 if (!isProcessingInput && !isComposing) {
+                    markInputEvent();
                     SwingUtilities.invokeLater(() -> validateAndHighlight());
                 }
             }
@@ -226,6 +222,7 @@ public class GamePanel extends JPanel {
             @Override
             public void removeUpdate(DocumentEvent e) {
                 if (!isProcessingInput && !isComposing) {
+                    markInputEvent();
                     SwingUtilities.invokeLater(() -> validateAndHighlight());
                 }
             }
@@ -235,22 +232,35 @@ public class GamePanel extends JPanel {
         });
     }
 
+    /**
+     * 입력 이벤트 시각을 기록합니다. 처리되기 전에 여러 번 들어오면 가장 오래된 시각을 유지합니다.
+     */
+    private void markInputEvent() {
+        if (pendingInputNanos == 0) {
+            pendingInputNanos = System.nanoTime();
+        }
+    }
+
     private void validateAndHighlight() {
         if (isProcessingInput) return;
         
         try {
             isProcessingInput = true;
+            long startNanos = System.nanoTime();
+            if (pendingInputNanos != 0) {
+                InputLatency.INPUT_TO_MODEL.record(startNanos - pendingInputNanos);
+                pendingInputNanos = 0;
+            }
             String inputText = inputPane.getText();
             String targetText = gameModel.getCurrentPracticeText();
             
             if (targetText != null) {
                 gameModel.processInput(inputText);
-                
-                if (!inputText.isEmpty() && !statusUpdateTimer.isRunning()) {
-                    statusUpdateTimer.start();
-                }
+                long modelDoneNanos = System.nanoTime();
+                InputLatency.MODEL.record(modelDoneNanos - startNanos);
                 
                 updateTargetTextHighlight(inputText, targetText);
+                InputLatency.HIGHLIGHT.recordSince(modelDoneNanos);
                 
                 if (gameModel.isCurrentTextCompleted(inputText)) {
                     completeCurrentText();
@@ -273,183 +283,62 @@ public class GamePanel extends JPanel {
 
     private void updateNormalTextHighlight(String inputText, String targetText) {
         try {
-            int inputLength = inputText.length();
-            int targetLength = targetText.length();
-
-            targetDoc.setCharacterAttributes(0, targetDoc.getLength(), defaultStyle, true);
-
-            for (int i = 0; i < inputLength; i++) {
-                if (i < targetLength) {
-                    SimpleAttributeSet style = (inputText.charAt(i) == targetText.charAt(i)) ? 
-                        correctStyle : incorrectStyle;
-                    targetDoc.setCharacterAttributes(i, 1, style, false);
-                }
-            }
-            
-            if (inputLength > targetLength) {
-                targetDoc.setCharacterAttributes(0, targetLength, incorrectStyle, true);
-            }
+            // 이전에 적용한 구간과 달라진 범위만 문서에 반영 (보통 키 입력 하나에 한 범위)
+            highlightRuns.update(inputText, targetText, (start, length, style) ->
+                    targetDoc.setCharacterAttributes(start, length, styleFor(style), true));
         } catch (Exception e) {
+            highlightRuns.invalidate();
             System.err.println("하이라이트 업데이트 중 오류: " + e.getMessage());
         }
     }
 
-    private int lastProcessedSentenceIndex = -1;
+    private SimpleAttributeSet styleFor(int highlightStyle) {
+        switch (highlightStyle) {
+            case HighlightRuns.CORRECT:
+                return correctStyle;
+            case HighlightRuns.INCORRECT:
+                return incorrectStyle;
+            default:
+                return defaultStyle;
+        }
+    }
+
+    private int lastProcessedSentenceIndex = -1;  // 장문 내 인덱스
     private String lastProcessedInput = "";
+    private int lastWindowStart = -1;               // 보기에 알려준 장문 구간의 시작 인덱스
+    private int lastWindowSize = 0;                 // 보기에 알려준 장문 구간의 문장 수
 
     private void updateLongTextHighlight(String inputText, String targetText) {
         try {
             List<String> allSentences = gameModel.getLongTextSentences();
-            int currentIndex = gameModel.getCurrentLongTextSentenceIndex();
-
             if (allSentences.isEmpty()) return;
 
-            // 전체 텍스트를 처음 한 번만 생성
-            if (targetDoc.getLength() == 0) {
-                StringBuilder fullText = new StringBuilder();
-                for (int i = 0; i < allSentences.size(); i++) {
-                    fullText.append(allSentences.get(i));
-                    if (i < allSentences.size() - 1) {
-                        fullText.append("\n");
-                    }
-                }
-                targetDoc.insertString(0, fullText.toString(), defaultStyle);
-                lastProcessedSentenceIndex = -1; // 새 텍스트이므로 전체 재처리 필요
+            int windowStart = gameModel.getLongTextWindowStart();
+            int currentIndex = windowStart + gameModel.getCurrentLongTextSentenceIndex();
+
+            // 스트리밍 장문은 문장을 넘길 때 구간이 바뀌므로 보기에 새 구간을 알려줌
+            if (windowStart != lastWindowStart || allSentences.size() != lastWindowSize) {
+                longTextView.setWindow(allSentences, gameModel.getCompletedInputTexts(), windowStart);
+                lastWindowStart = windowStart;
+                lastWindowSize = allSentences.size();
             }
 
-            // 문장이 바뀌었거나 처음 처리하는 경우에만 전체 스타일 업데이트
-            boolean needFullUpdate = (currentIndex != lastProcessedSentenceIndex);
-            
-            if (needFullUpdate) {
-                updateAllSentenceStyles(allSentences, currentIndex);
+            // 문장이 바뀐 경우 완료한 문장과 현재 문장을 다시 그리고 현재 문장 근처로 스크롤
+            if (currentIndex != lastProcessedSentenceIndex) {
+                longTextView.setCurrentSentence(currentIndex);
                 lastProcessedSentenceIndex = currentIndex;
             }
 
             // 현재 문장의 입력 하이라이트만 업데이트 (성능 최적화)
             if (!inputText.equals(lastProcessedInput)) {
-                updateCurrentSentenceHighlight(inputText, targetText, allSentences, currentIndex);
+                longTextView.setCurrentInput(inputText);
                 lastProcessedInput = inputText;
             }
-            
-            // 스크롤 처리는 입력이 비어있을 때만
-            if (inputText.isEmpty() && needFullUpdate) {
-                scrollToCurrentSentence(allSentences, currentIndex);
-            }
         } catch (Exception e) {
             System.err.println("장문 하이라이트 업데이트 중 오류: " + e.getMessage());
         }
     }
 
-    private void updateAllSentenceStyles(List<String> allSentences, int currentIndex) {
-        int startPos = 0;
-        List<String> completedInputs = gameModel.getCompletedInputTexts();
-        
-        for (int i = 0; i < allSentences.size(); i++) {
-            String sentence = allSentences.get(i);
-            int length = sentence.length();
-
-            if (i < currentIndex) {
-                // 완료된 문장들
-                if (i < completedInputs.size()) {
-                    highlightCompletedSentence(startPos, completedInputs.get(i), sentence);
-                } else {
-                    targetDoc.setCharacterAttributes(startPos, length, defaultStyle, true);
-                }
-            } else if (i == currentIndex) {
-                // 현재 문장
-                targetDoc.setCharacterAttributes(startPos, length, currentSentenceStyle, true);
-            } else {
-                // 미래 문장들
-                targetDoc.setCharacterAttributes(startPos, length, fadedSentenceStyle, true);
-            }
-
-            startPos += length + 1;
-        }
-    }
-
-    private void updateCurrentSentenceHighlight(String inputText, String targetText, 
-                                              List<String> allSentences, int currentIndex) {
-        // 현재 문장의 시작 위치 계산
-        int currentSentenceStart = 0;
-        for (int i = 0; i < currentIndex && i < allSentences.size(); i++) {
-            currentSentenceStart += allSentences.get(i).length() + 1;
-        }
-
-        // 현재 문장 전체를 기본 스타일로 설정
-        int targetLength = targetText.length();
-        targetDoc.setCharacterAttributes(currentSentenceStart, targetLength, currentSentenceStyle, true);
-
-        // 입력된 부분만 하이라이트 처리
-        int inputLength = Math.min(inputText.length(), targetLength);
-        if (inputLength > 0) {
-            // 정확한 부분과 틀린 부분을 구분하여 일괄 처리
-            int correctEnd = 0;
-            for (int i = 0; i < inputLength; i++) {
-                if (inputText.charAt(i) == targetText.charAt(i)) {
-                    correctEnd = i + 1;
-                } else {
-                    break;
-                }
-            }
-            
-            // 정확한 부분 하이라이트
-            if (correctEnd > 0) {
-                targetDoc.setCharacterAttributes(currentSentenceStart, correctEnd, correctStyle, false);
-            }
-            
-            // 틀린 부분 하이라이트
-            if (correctEnd < inputLength) {
-                targetDoc.setCharacterAttributes(currentSentenceStart + correctEnd, 
-                    inputLength - correctEnd, incorrectStyle, false);
-            }
-        }
-
-        // 입력이 타겟보다 긴 경우 전체를 틀린 것으로 표시
-        if (inputText.length() > targetLength) {
-            targetDoc.setCharacterAttributes(currentSentenceStart, targetLength, incorrectStyle, true);
-        }
-    }
-
-    private void scrollToCurrentSentence(List<String> allSentences, int currentIndex) {
-        int currentSentenceStart = 0;
-        for (int i = 0; i < currentIndex && i < allSentences.size(); i++) {
-            currentSentenceStart += allSentences.get(i).length() + 1;
-        }
-
-        final int currentPos = currentSentenceStart;
-        SwingUtilities.invokeLater(() -> {
-            try {
-                targetTextPane.setCaretPosition(currentPos);
-                targetTextPane.getCaret().setVisible(false);
-                
-                Rectangle2D rect2D = targetTextPane.modelToView2D(currentPos);
-                if (rect2D != null) {
-                    Rectangle rect = rect2D.getBounds();
-                    rect.y = Math.max(0, rect.y - 50);
-                    targetTextPane.scrollRectToVisible(rect);
-                }
-            } catch (BadLocationException e) {
-                targetScrollPane.getVerticalScrollBar().setValue(0);
-            }
-        });
-    }
-
-    private void highlightCompletedSentence(int startPos, String completedInput, String targetSentence) {
-        int minLength = Math.min(completedInput.length(), targetSentence.length());
-        for (int j = 0; j < minLength; j++) {
-            SimpleAttributeSet style = (completedInput.charAt(j) == targetSentence.charAt(j)) ? 
-                correctStyle : incorrectStyle;
-            targetDoc.setCharacterAttributes(startPos + j, 1, style, false);
-        }
-        
-        if (targetSentence.length() > completedInput.length()) {
-            targetDoc.setCharacterAttributes(startPos + completedInput.length(), 
-                targetSentence.length() - completedInput.length(), incorrectStyle, true);
-        } else if (completedInput.length() > targetSentence.length()) {
-            targetDoc.setCharacterAttributes(startPos, targetSentence.length(), incorrectStyle, true);
-        }
-    }
-
     private void completeCurrentText() {
         try {
             SoundUtils.playSuccessSound();
@@ -457,6 +346,8 @@ public class GamePanel extends JPanel {
 
             if (gameModel.isGameCompleted()) {
                 showGameCompleteDialog();
+            } else if (gameModel.getCurrentGameMode() == GameModel.GameMode.LONG_TEXT) {
+                showNextLongTextSentence();
             } else {
                 refreshGameScreen();
             }
@@ -465,59 +356,95 @@ public class GamePanel extends JPanel {
         }
     }
 
-    private void refreshGameScreen() {
-        if (statusUpdateTimer.isRunning()) {
-            statusUpdateTimer.stop();
-        }
+    /**
+     * 장문의 다음 문장으로 넘어갑니다.
+     * {@link LongTextView}에 새 현재 문장을 알려 주면 보기는 화면에 보이는 문장만 다시 그리고
+     * 현재 문장 근처로 스크롤합니다. 입력 필드는 비웁니다.
+     */
+    private void showNextLongTextSentence() throws BadLocationException {
+        updateLongTextHighlight("", gameModel.getCurrentPracticeText());
+        inputDoc.remove(0, inputDoc.getLength());
+        inputPane.requestFocusInWindow();
+    }
 
+    private void refreshGameScreen() {
         try {
             if (gameModel.getCurrentGameMode() == GameModel.GameMode.LONG_TEXT) {
-                targetDoc.remove(0, targetDoc.getLength());
+                // 새 장문을 보기에 연결 (문서를 만들지 않으므로 텍스트 크기와 관계없이 바로 표시됨)
+                List<String> sentences = gameModel.getLongTextSentences();
+                int windowStart = gameModel.getLongTextWindowStart();
+                longTextView.setText(sentences, gameModel.getCompletedInputTexts(), windowStart);
+                lastWindowStart = windowStart;
+                lastWindowSize = sentences.size();
                 // 캐시 초기화 - 새로운 게임이므로 전체 재처리 필요
                 lastProcessedSentenceIndex = -1;
                 lastProcessedInput = "";
                 updateLongTextHighlight("", gameModel.getCurrentPracticeText());
-                
-                SwingUtilities.invokeLater(() -> {
-                    targetScrollPane.getVerticalScrollBar().setValue(0);
-                    targetTextPane.setCaretPosition(0);
-                });
             } else {
                 String targetText = gameModel.getCurrentPracticeText();
                 targetDoc.remove(0, targetDoc.getLength());
                 targetDoc.insertString(0, targetText, defaultStyle);
+                highlightRuns.reset(targetDoc.getLength());
             }
 
             inputDoc.remove(0, inputDoc.getLength());
             inputPane.requestFocusInWindow();
-            updateStatusDisplay();
-            
-            if (!statusUpdateTimer.isRunning()) {
-                statusUpdateTimer.start();
-            }
+            updateStatusDisplay(GameModelListener.ALL);
         } catch (BadLocationException e) {
             System.err.println("화면 새로고침 중 오류: " + e.getMessage());
         }
     }
 
-    private void updateStatusDisplay() {
-        int currentSentence = gameModel.getCurrentSentenceNumber();
-        int totalSentences = gameModel.getTotalSentences();
-        progressLabel.setText(String.format("문장: %d/%d", currentSentence, totalSentences));
+    private int shownSentence = -1;          // 상태 표시줄에 표시 중인 값 (바뀐 경우에만 다시 씀)
+    private int shownTotalSentences = -1;
+    private boolean shownTotalKnown = true;
+    private long shownAccuracyTenths = -1;
+    private int shownCorrect = -1;
+    private int shownTyped = -1;
+    private long shownCpm = -1;
+
+    /**
+     * 바뀐 항목의 상태 표시줄만 갱신합니다. 표시할 값이 그대로면 라벨을 다시 쓰지 않습니다.
+     * @param changes 바뀐 항목 ({@link GameModelListener}의 비트 묶음)
+     */
+    private void updateStatusDisplay(int changes) {
+        if ((changes & GameModelListener.PROGRESS) != 0) {
+            int currentSentence = gameModel.getCurrentSentenceNumber();
+            int totalSentences = gameModel.getTotalSentences();
+            boolean totalKnown = gameModel.isTotalSentencesKnown();
+            if (currentSentence != shownSentence || totalSentences != shownTotalSentences || totalKnown != shownTotalKnown) {
+                // 스트리밍 장문을 아직 끝까지 읽지 않았으면 지금까지 읽은 문장 수 뒤에 +를 붙임
+                progressLabel.setText("문장: " + currentSentence + "/" + totalSentences + (totalKnown ? "" : "+"));
+                shownSentence = currentSentence;
+                shownTotalSentences = totalSentences;
+                shownTotalKnown = totalKnown;
+            }
+        }
 
-        double accuracy = gameModel.getAccuracy();
-        int typed = gameModel.getCurrentTypedChars();
-        int correct = gameModel.getCorrectChars();
-        statusLabel.setText(String.format("정확도: %.1f%% (%d/%d)", accuracy, correct, typed));
+        if ((changes & GameModelListener.ACCURACY) != 0) {
+            long accuracyTenths = Math.round(gameModel.getAccuracy() * 10);
+            int typed = gameModel.getTypedStrokes();     // 한글은 자모 키 입력 단위
+            int correct = gameModel.getCorrectStrokes();
+            if (accuracyTenths != shownAccuracyTenths || correct != shownCorrect || typed != shownTyped) {
+                statusLabel.setText("정확도: " + accuracyTenths / 10 + "." + accuracyTenths % 10
+                        + "% (" + correct + "/" + typed + ")");
+                shownAccuracyTenths = accuracyTenths;
+                shownCorrect = correct;
+                shownTyped = typed;
+            }
+        }
 
-        double averageWPM = gameModel.getAverageWPM();
-        wpmLabel.setText(String.format("타수: %.0f타/분", averageWPM));
+        if ((changes & GameModelListener.SPEED) != 0) {
+            long cpm = Math.round(gameModel.getAverageWPM());
+            if (cpm != shownCpm) {
+                wpmLabel.setText("타수: " + cpm + "타/분");
+                shownCpm = cpm;
+            }
+        }
     }
 
     private void stopTimerAndShowMenu() {
-        if (statusUpdateTimer.isRunning()) {
-            statusUpdateTimer.stop();
-        }
+        modelUpdates.stop();
         gameModel.stopGame();
         showMenuCallback.run();
     }
@@ -531,6 +458,11 @@ public class GamePanel extends JPanel {
             targetTextPane.setForeground(ThemeManager.getForegroundColor(theme));
         }
 
+        if (longTextView != null) {
+            longTextView.setBackground(ThemeManager.getTextBackgroundColor(theme));
+            longTextView.setStyles(defaultStyle, correctStyle, incorrectStyle, currentSentenceStyle, fadedSentenceStyle);
+        }
+
         if (inputPane != null) {
             inputPane.setBackground(ThemeManager.getTextBackgroundColor(theme));
             inputPane.setForeground(ThemeManager.getForegroundColor(theme));
@@ -582,6 +514,8 @@ public class GamePanel extends JPanel {
             try {
                 String inputText = inputPane != null ? inputPane.getText() : "";
                 String targetText = gameModel.getCurrentPracticeText();
+                // 테마가 바뀌면 이미 적용한 스타일의 색도 달라지므로 전체를 다시 적용
+                highlightRuns.invalidate();
                 if (targetText != null && !targetText.isEmpty()) {
                     updateTargetTextHighlight(inputText, targetText);
                 }
@@ -596,10 +530,6 @@ public class GamePanel extends JPanel {
         isShowingCompleteDialog = true;
 
         try {
-            if (statusUpdateTimer.isRunning()) {
-                statusUpdateTimer.stop();
-            }
-
             String message = createCompletionMessage();
 
             int choice = JOptionPane.showConfirmDialog(this, message, "게임 완료",
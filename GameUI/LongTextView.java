@@ -0,0 +1,454 @@
+package GameUI;
+
+import javax.swing.*;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.StyleConstants;
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 화면에 보이는 문장만 배치하고 그리는 장문 보기
+ *
+ * JTextPane에 장문 전체를 넣으면 Swing이 책 전체의 요소/뷰 트리를 만들기 때문에 메모리와 배치 시간이
+ * 텍스트 크기에 비례합니다. 이 컴포넌트는 문서를 만들지 않고 외부의 문장 목록을 그대로 읽어서,
+ * 화면 맨 위에 걸친 문장(topSentence)과 그 안의 픽셀 위치(topOffset)부터 화면이 찰 때까지만 줄바꿈하고 그립니다.
+ * 문장별 줄바꿈 위치는 작은 LRU 캐시에 두고, 글자별 스타일(맞음/틀림/현재/대기)은 그릴 때
+ * 완료된 입력과 현재 입력을 비교해서 바로 정하므로 스타일 정보를 따로 저장하지 않습니다.
+ *
+ * 스크롤바는 문장 번호 단위로 움직이고, 마우스 휠은 픽셀 단위로 움직입니다.
+ * 현재 문장이 바뀌면 가까운 경우 부드럽게, 먼 경우 바로 현재 문장 근처로 이동합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class LongTextView extends JComponent {
+    private static final int PADDING = 10;                 // 텍스트 영역 여백
+    private static final int CURRENT_SENTENCE_MARGIN = 50; // 현재 문장 위로 남겨 둘 높이 (픽셀)
+    private static final int MAX_ANIMATED_SENTENCES = 20;  // 이보다 멀리 이동하면 애니메이션 없이 바로 이동
+    private static final int LAYOUT_CACHE_SIZE = 512;      // 줄바꿈 위치를 기억할 문장 수
+    private static final int SCROLL_FRAME_MILLIS = 15;
+
+    // 글자 스타일 종류
+    private static final int DEFAULT = 0;    // 입력 내용이 없는 지나간 문장
+    private static final int CORRECT = 1;
+    private static final int INCORRECT = 2;
+    private static final int CURRENT = 3;    // 현재 문장에서 아직 입력하지 않은 부분
+    private static final int FADED = 4;      // 앞으로 입력할 문장
+    private static final int STYLE_COUNT = 5;
+
+    private final Color[] styleColors = new Color[STYLE_COUNT];
+    private final boolean[] styleBold = new boolean[STYLE_COUNT];
+
+    private List<String> sentences = Collections.emptyList();        // 메모리에 있는 문장 구간 (읽기 전용 뷰)
+    private List<String> completedInputs = Collections.emptyList();  // 같은 구간의 완료된 입력 내용
+    private int firstIndex = 0;        // sentences 첫 문장의 장문 내 인덱스
+    private int currentIndex = 0;      // 현재 문장의 장문 내 인덱스
+    private String currentInput = "";
+    private int currentCorrectEnd = 0; // 현재 입력에서 처음으로 틀린 위치
+
+    private int topSentence = 0;       // 화면 맨 위에 걸친 문장의 장문 내 인덱스
+    private int topOffset = 0;         // 그 문장에서 화면 위로 가려진 높이 (픽셀)
+
+    private final JScrollBar scrollBar = new JScrollBar(JScrollBar.VERTICAL);
+    private boolean updatingScrollBar = false;
+    private final Timer scrollTimer;
+    private int scrollRemaining = 0;   // 애니메이션으로 더 움직일 높이 (픽셀)
+
+    private Font plainFont;
+    private Font boldFont;
+    private FontMetrics plainMetrics;
+    private FontMetrics boldMetrics;
+    private int lineHeight = 1;
+    private int layoutWidth = -1;      // 줄바꿈 캐시를 만든 텍스트 폭
+    private final Map<String, int[]> lineBreaks = new LinkedHashMap<>(LAYOUT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+            return size() > LAYOUT_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * LongTextView 생성자
+     */
+    public LongTextView() {
+        setLayout(null);
+        setOpaque(true);
+        setFont(new Font("맑은 고딕", Font.PLAIN, 16));
+        setPreferredSize(new Dimension(700, 400));
+        Arrays.fill(styleColors, Color.BLACK);
+        scrollTimer = new Timer(SCROLL_FRAME_MILLIS, e -> stepScrollAnimation());
+
+        add(scrollBar);
+        scrollBar.addAdjustmentListener(e -> {
+            if (!updatingScrollBar) {
+                // 사용자가 스크롤바를 움직이면 해당 문장을 맨 위에 표시
+                scrollTimer.stop();
+                topSentence = e.getValue();
+                topOffset = 0;
+                repaint();
+            }
+        });
+        addMouseWheelListener(e -> {
+            scrollTimer.stop();
+            scrollBy(e.getUnitsToScroll() * lineHeight);
+        });
+    }
+
+    /**
+     * 새 장문을 표시합니다. 맨 위로 스크롤하고 줄바꿈 캐시를 비웁니다.
+     * @param sentences 문장 목록 (복사하지 않고 그대로 읽음)
+     * @param completedInputs 같은 위치부터 시작하는 완료된 입력 내용 목록
+     * @param firstIndex 목록 첫 문장의 장문 내 인덱스
+     */
+    public void setText(List<String> sentences, List<String> completedInputs, int firstIndex) {
+        scrollTimer.stop();
+        lineBreaks.clear();
+        this.sentences = sentences;
+        this.completedInputs = completedInputs;
+        this.firstIndex = firstIndex;
+        currentIndex = firstIndex;
+        topSentence = firstIndex;
+        topOffset = 0;
+        setCurrentInput("");
+        updateScrollBar();
+        repaint();
+    }
+
+    /**
+     * 스트리밍 장문에서 메모리에 있는 문장 구간이 바뀌었을 때 호출합니다.
+     * 스크롤 위치는 장문 내 인덱스 기준으로 유지합니다.
+     * @param sentences 문장 목록
+     * @param completedInputs 같은 위치부터 시작하는 완료된 입력 내용 목록
+     * @param firstIndex 목록 첫 문장의 장문 내 인덱스
+     */
+    public void setWindow(List<String> sentences, List<String> completedInputs, int firstIndex) {
+        this.sentences = sentences;
+        this.completedInputs = completedInputs;
+        this.firstIndex = firstIndex;
+        if (topSentence < firstIndex || topSentence > lastIndex()) {
+            topSentence = Math.max(firstIndex, Math.min(topSentence, lastIndex()));
+            topOffset = 0;
+        }
+        updateScrollBar();
+        repaint();
+    }
+
+    /**
+     * 현재 문장을 바꾸고 그 문장이 화면 위쪽에 오도록 스크롤합니다.
+     * @param index 현재 문장의 장문 내 인덱스
+     */
+    public void setCurrentSentence(int index) {
+        if (index != currentIndex) {
+            currentIndex = index;
+            currentInput = "";
+            currentCorrectEnd = 0;
+            repaint();
+        }
+        scrollToSentence(index);
+    }
+
+    /**
+     * 현재 문장의 입력 내용을 바꾸고 현재 문장 부분만 다시 그립니다.
+     * @param input 현재 문장의 입력 내용
+     */
+    public void setCurrentInput(String input) {
+        currentInput = input;
+        String sentence = sentence(currentIndex);
+        int limit = sentence != null ? Math.min(input.length(), sentence.length()) : 0;
+        int correctEnd = 0;
+        while (correctEnd < limit && input.charAt(correctEnd) == sentence.charAt(correctEnd)) {
+            correctEnd++;
+        }
+        currentCorrectEnd = correctEnd;
+        repaintSentence(currentIndex);
+    }
+
+    /**
+     * 글자 스타일의 색과 굵기를 설정합니다.
+     * @param defaultStyle 입력 내용이 없는 지나간 문장
+     * @param correctStyle 맞게 입력한 글자
+     * @param incorrectStyle 틀리게 입력한 글자
+     * @param currentStyle 현재 문장에서 아직 입력하지 않은 글자
+     * @param fadedStyle 앞으로 입력할 문장
+     */
+    public void setStyles(AttributeSet defaultStyle, AttributeSet correctStyle, AttributeSet incorrectStyle,
+                          AttributeSet currentStyle, AttributeSet fadedStyle) {
+        setStyle(DEFAULT, defaultStyle);
+        setStyle(CORRECT, correctStyle);
+        setStyle(INCORRECT, incorrectStyle);
+        setStyle(CURRENT, currentStyle);
+        setStyle(FADED, fadedStyle);
+        repaint();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        plainMetrics = null;  // 다음에 그릴 때 글꼴 정보와 줄바꿈을 다시 계산
+    }
+
+    @Override
+    public void doLayout() {
+        int barWidth = scrollBar.getPreferredSize().width;
+        scrollBar.setBounds(getWidth() - barWidth, 0, barWidth, getHeight());
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        if (sentences.isEmpty()) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            updateMetrics(g2);
+            Rectangle clip = g2.getClipBounds();
+            int y = PADDING - topOffset;
+            for (int i = topSentence; i <= lastIndex() && y < getHeight(); i++) {
+                String sentence = sentence(i);
+                int[] breaks = lineBreaksOf(sentence);
+                int height = (breaks.length - 1) * lineHeight;
+                if (clip == null || (y + height > clip.y && y < clip.y + clip.height)) {
+                    paintSentence(g2, i, sentence, breaks, y);
+                }
+                y += height;
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintSentence(Graphics2D g2, int index, String sentence, int[] breaks, int top) {
+        for (int line = 0; line < breaks.length - 1; line++) {
+            int baseline = top + line * lineHeight + boldMetrics.getAscent();
+            int x = PADDING;
+            int pos = breaks[line];
+            int lineEnd = breaks[line + 1];
+            // 같은 스타일이 이어지는 구간 단위로 그림
+            while (pos < lineEnd) {
+                int style = styleAt(index, sentence, pos);
+                int end = pos + 1;
+                while (end < lineEnd && styleAt(index, sentence, end) == style) {
+                    end++;
+                }
+                String segment = sentence.substring(pos, end);
+                g2.setFont(styleBold[style] ? boldFont : plainFont);
+                g2.setColor(styleColors[style]);
+                g2.drawString(segment, x, baseline);
+                x += (styleBold[style] ? boldMetrics : plainMetrics).stringWidth(segment);
+                pos = end;
+            }
+        }
+    }
+
+    /**
+     * 문장 안 한 글자의 스타일을 정합니다.
+     */
+    private int styleAt(int index, String sentence, int pos) {
+        if (index < currentIndex) {
+            int inputIndex = index - firstIndex;
+            if (inputIndex >= completedInputs.size()) {
+                return DEFAULT;
+            }
+            String input = completedInputs.get(inputIndex);
+            if (input.length() > sentence.length() || pos >= input.length()) {
+                return INCORRECT;
+            }
+            return input.charAt(pos) == sentence.charAt(pos) ? CORRECT : INCORRECT;
+        }
+        if (index == currentIndex) {
+            if (currentInput.length() > sentence.length()) {
+                return INCORRECT;
+            }
+            if (pos < currentCorrectEnd) {
+                return CORRECT;
+            }
+            return pos < currentInput.length() ? INCORRECT : CURRENT;
+        }
+        return FADED;
+    }
+
+    /**
+     * 문장의 줄 시작 위치 목록을 반환합니다. (마지막 칸은 문장 길이)
+     * 공백에서 줄을 바꾸고, 한 줄에 공백이 없으면 글자 단위로 바꿉니다.
+     */
+    private int[] lineBreaksOf(String sentence) {
+        int width = Math.max(1, getWidth() - scrollBar.getWidth() - 2 * PADDING);
+        if (width != layoutWidth) {
+            lineBreaks.clear();
+            layoutWidth = width;
+        }
+        int[] cached = lineBreaks.get(sentence);
+        if (cached != null) {
+            return cached;
+        }
+
+        int[] breaks = new int[8];
+        int count = 1;  // breaks[0] = 0
+        int lineStart = 0;
+        int lineWidth = 0;
+        int lastSpace = -1;  // 현재 줄에서 마지막 공백 다음 위치
+        int length = sentence.length();
+        for (int i = 0; i < length; i++) {
+            char c = sentence.charAt(i);
+            int charWidth = boldMetrics.charWidth(c);
+            if (lineWidth + charWidth > width && i > lineStart) {
+                int lineBreak = lastSpace > lineStart ? lastSpace : i;
+                if (count + 1 >= breaks.length) {
+                    breaks = Arrays.copyOf(breaks, breaks.length * 2);
+                }
+                breaks[count++] = lineBreak;
+                lineStart = lineBreak;
+                lastSpace = -1;
+                lineWidth = 0;
+                for (int j = lineStart; j < i; j++) {
+                    lineWidth += boldMetrics.charWidth(sentence.charAt(j));
+                }
+            }
+            lineWidth += charWidth;
+            if (c == ' ') {
+                lastSpace = i + 1;
+            }
+        }
+        breaks[count++] = length;
+        int[] result = Arrays.copyOf(breaks, count);
+        lineBreaks.put(sentence, result);
+        return result;
+    }
+
+    private int heightOf(int index) {
+        return (lineBreaksOf(sentence(index)).length - 1) * lineHeight;
+    }
+
+    /**
+     * 화면 위치를 픽셀 단위로 움직입니다. 문장 경계를 넘으면 위/아래 문장으로 기준을 옮깁니다.
+     */
+    private void scrollBy(int dy) {
+        if (sentences.isEmpty() || plainMetrics == null) {
+            return;
+        }
+        topOffset += dy;
+        while (topOffset < 0 && topSentence > firstIndex) {
+            topSentence--;
+            topOffset += heightOf(topSentence);
+        }
+        topOffset = Math.max(0, topOffset);
+        while (topSentence < lastIndex() && topOffset >= heightOf(topSentence)) {
+            topOffset -= heightOf(topSentence);
+            topSentence++;
+        }
+        if (topSentence == lastIndex()) {
+            topOffset = Math.min(topOffset, Math.max(0, heightOf(topSentence) - lineHeight));
+        }
+        updateScrollBar();
+        repaint();
+    }
+
+    /**
+     * 문장이 화면 위쪽 여백 아래에 오도록 스크롤합니다.
+     * 가까우면 애니메이션으로, 멀면 바로 이동합니다.
+     */
+    private void scrollToSentence(int index) {
+        if (sentences.isEmpty() || index < firstIndex || index > lastIndex()) {
+            return;
+        }
+        if (plainMetrics == null || Math.abs(index - topSentence) > MAX_ANIMATED_SENTENCES) {
+            scrollTimer.stop();
+            topSentence = index;
+            topOffset = 0;
+            scrollBy(-CURRENT_SENTENCE_MARGIN);
+            return;
+        }
+        int distance = -topOffset - CURRENT_SENTENCE_MARGIN;
+        for (int i = topSentence; i < index; i++) {
+            distance += heightOf(i);
+        }
+        for (int i = index; i < topSentence; i++) {
+            distance -= heightOf(i);
+        }
+        scrollRemaining = distance;
+        if (distance != 0 && !scrollTimer.isRunning()) {
+            scrollTimer.start();
+        }
+    }
+
+    private void stepScrollAnimation() {
+        int step = scrollRemaining / 4;
+        if (step == 0) {
+            step = scrollRemaining;
+        }
+        int beforeSentence = topSentence;
+        int beforeOffset = topOffset;
+        scrollBy(step);
+        scrollRemaining -= step;
+        boolean moved = topSentence != beforeSentence || topOffset != beforeOffset;
+        if (scrollRemaining == 0 || !moved) {
+            // 목표에 도착했거나 텍스트 끝에 닿음
+            scrollRemaining = 0;
+            scrollTimer.stop();
+        }
+    }
+
+    /**
+     * 문장이 화면에 보이면 그 부분만 다시 그립니다.
+     */
+    private void repaintSentence(int index) {
+        if (sentences.isEmpty() || plainMetrics == null || index < topSentence) {
+            return;
+        }
+        int y = PADDING - topOffset;
+        for (int i = topSentence; i <= lastIndex() && y < getHeight(); i++) {
+            int height = heightOf(i);
+            if (i == index) {
+                repaint(0, y, getWidth(), height);
+                return;
+            }
+            y += height;
+        }
+    }
+
+    private void updateScrollBar() {
+        updatingScrollBar = true;
+        try {
+            int last = Math.max(firstIndex, lastIndex());
+            scrollBar.setValues(topSentence, 1, firstIndex, last + 1);
+        } finally {
+            updatingScrollBar = false;
+        }
+    }
+
+    private void updateMetrics(Graphics g) {
+        if (plainMetrics != null) {
+            return;
+        }
+        plainFont = getFont().deriveFont(Font.PLAIN);
+        boldFont = getFont().deriveFont(Font.BOLD);
+        plainMetrics = g.getFontMetrics(plainFont);
+        boldMetrics = g.getFontMetrics(boldFont);
+        lineHeight = Math.max(1, boldMetrics.getHeight());
+        lineBreaks.clear();
+        layoutWidth = -1;
+    }
+
+    private void setStyle(int style, AttributeSet attributes) {
+        styleColors[style] = StyleConstants.getForeground(attributes);
+        styleBold[style] = StyleConstants.isBold(attributes);
+    }
+
+    private String sentence(int index) {
+        int windowIndex = index - firstIndex;
+        return windowIndex >= 0 && windowIndex < sentences.size() ? sentences.get(windowIndex) : null;
+    }
+
+    private int lastIndex() {
+        return firstIndex + sentences.size() - 1;
+    }
+}
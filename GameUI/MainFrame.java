@@ -1,8 +1,10 @@
 package GameUI;
 
+import core.CorpusPreloader;
 import core.GameModel;
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 타이핑 연습 게임의 메인 프레임 클래스
@@ -21,6 +23,9 @@ public class MainFrame extends JFrame {
     private SettingsPanel settingsPanel;
     private GameModeSelectionPanel gameModeSelectionPanel;
     private GameModel gameModel;
+    private final CorpusPreloader corpusPreloader;  // 백그라운드 텍스트 로더 (없으면 null)
+    private boolean waitingForTexts = false;        // 게임 시작 전 텍스트를 기다리는 중인지 여부
+    private Runnable firstPaintListener;            // 첫 화면을 그린 뒤 한 번 호출할 콜백
 
     /**
      * MainFrame 생성자
@@ -31,6 +36,20 @@ public class MainFrame extends JFrame {
      * @param gameModel 게임 로직을 담당하는 모델 객체
      */
     public MainFrame(GameModel gameModel) {
+        this(gameModel, null);
+    }
+
+    /**
+     * 백그라운드 텍스트 로더를 사용하는 MainFrame 생성자
+     * 
+     * 게임을 시작할 때 필요한 텍스트를 아직 읽는 중이면 그 텍스트만 기다린 뒤 시작합니다.
+     * 
+     * @param gameModel 게임 로직을 담당하는 모델 객체
+     * @param corpusPreloader 텍스트를 미리 읽고 있는 로더, 없으면 null
+     */
+    public MainFrame(GameModel gameModel, CorpusPreloader corpusPreloader) {
+        this.corpusPreloader = corpusPreloader;
+
         // 윈도우 기본 설정
         setTitle("타이핑 연습");
         setSize(800, 600);
@@ -94,6 +113,9 @@ public class MainFrame extends JFrame {
      * @param mode 시작할 게임 모드
      */
     public void startGame(GameModel.GameMode mode) {
+        if (!textsReady(mode, () -> startGame(mode))) {
+            return;
+        }
         if (mode == GameModel.GameMode.MOLE_GAME) {
             moleGamePanel.startGame();
             fadePanel.showComponent("MoleGame");
@@ -110,11 +132,61 @@ public class MainFrame extends JFrame {
      * @param longText 선택한 장문
      */
     public void startLongTextGame(GameModel.LongText longText) {
+        if (!textsReady(GameModel.GameMode.LONG_TEXT, () -> startLongTextGame(longText))) {
+            return;
+        }
         gameModel.startLongTextGame(longText);
         gamePanel.resetForLongTextGame();
         fadePanel.showComponent("GamePanel");
     }
     
+    /**
+     * 게임 모드에 필요한 텍스트를 다 읽었는지 확인합니다.
+     * 아직 읽는 중이면 EDT를 막지 않고 대기 커서를 표시한 뒤, 다 읽으면 시작 동작을 다시 실행합니다.
+     *
+     * @param mode 시작할 게임 모드
+     * @param retry 텍스트를 다 읽은 뒤 실행할 시작 동작
+     * @return 바로 시작할 수 있으면 true
+     */
+    private boolean textsReady(GameModel.GameMode mode, Runnable retry) {
+        if (corpusPreloader == null) {
+            return true;
+        }
+        if (waitingForTexts) {
+            return false;  // 이미 기다리는 중이면 버튼을 다시 눌러도 무시
+        }
+        CompletableFuture<?> texts = corpusPreloader.textsFor(gameModel.getCurrentLanguage(), mode);
+        if (texts.isDone()) {
+            return true;
+        }
+        waitingForTexts = true;
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        texts.whenComplete((result, failure) -> SwingUtilities.invokeLater(() -> {
+            waitingForTexts = false;
+            setCursor(Cursor.getDefaultCursor());
+            retry.run();
+        }));
+        return false;
+    }
+
+    /**
+     * 첫 화면을 그린 직후 한 번 호출할 콜백을 설정합니다. (시작 시간 측정용)
+     * @param listener 호출할 콜백
+     */
+    public void setFirstPaintListener(Runnable listener) {
+        this.firstPaintListener = listener;
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (firstPaintListener != null) {
+            Runnable listener = firstPaintListener;
+            firstPaintListener = null;
+            listener.run();
+        }
+    }
+
     /**
      * 설정 패널을 표시합니다.
      * 언어 선택 등의 설정을 변경할 수 있습니다.
@@ -0,0 +1,144 @@
+package GameUI;
+
+import core.GameModel;
+import core.GameModelListener;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * 모델 변경을 모아서 프레임당 한 번만 화면에 반영하는 전달기
+ *
+ * {@link GameModel}이 키 입력마다 알리는 변경을 비트 묶음으로 합쳐 두었다가, 마지막 반영 후
+ * 한 프레임(기본 1/60초)이 지나면 EDT에서 한 번에 전달합니다. 빠르게 연속 입력해도 화면 갱신은
+ * 프레임 수를 넘지 않습니다.
+ *
+ * 평균 타수는 입력이 없어도 시간이 지나면 바뀌므로, 입력 중에는 일정 간격으로 속도 변경을 만들어 냅니다.
+ * 마지막 입력 후 잠시 입력이 없거나 게임이 끝나면 이 타이머도 멈추므로 입력이 없을 때는 CPU를 쓰지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class ModelUpdateDispatcher implements GameModelListener {
+    public static final int DEFAULT_FRAMES_PER_SECOND = 60;
+    private static final int SPEED_TICK_MILLIS = 500;       // 입력 중 평균 타수를 다시 계산하는 간격
+    private static final long IDLE_NANOS = 3_000_000_000L;  // 마지막 입력 후 이 시간이 지나면 타수 갱신을 멈춤
+
+    private final GameModel model;
+    private final IntConsumer update;   // 모은 변경을 EDT에서 화면에 반영하는 함수
+    private final long frameNanos;
+    private final AtomicInteger pending = new AtomicInteger();       // 아직 전달하지 않은 변경
+    private final AtomicBoolean scheduled = new AtomicBoolean();     // 전달이 예약되어 있는지
+    private final Timer frameTimer;
+    private final Timer speedTimer;
+    private long lastDispatchNanos = 0;  // 마지막으로 전달한 시각 (EDT만 사용)
+    private volatile long lastInputNanos = 0;
+    private long dispatchCount = 0;
+
+    /**
+     * 전달기를 만들고 모델에 리스너로 등록합니다.
+     * @param model 변경을 받을 모델
+     * @param framesPerSecond 초당 최대 전달 횟수
+     * @param update 모은 변경({@link GameModelListener}의 비트 묶음)을 반영하는 함수, EDT에서 호출됨
+     */
+    public ModelUpdateDispatcher(GameModel model, int framesPerSecond, IntConsumer update) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("framesPerSecond must be positive: " + framesPerSecond);
+        }
+        this.model = model;
+        this.update = update;
+        this.frameNanos = 1_000_000_000L / framesPerSecond;
+        this.frameTimer = new Timer(0, e -> dispatch());
+        frameTimer.setRepeats(false);
+        this.speedTimer = new Timer(SPEED_TICK_MILLIS, e -> speedTick());
+        model.addListener(this);
+    }
+
+    @Override
+    public void gameModelChanged(GameModel source, int changes) {
+        if ((changes & (ACCURACY | SPEED)) != 0) {
+            lastInputNanos = System.nanoTime();
+        }
+        post(changes);
+    }
+
+    /**
+     * 예약된 전달과 타수 갱신을 멈추고 모아 둔 변경을 버립니다. 게임 화면을 떠날 때 호출합니다.
+     */
+    public void stop() {
+        frameTimer.stop();
+        speedTimer.stop();
+        pending.set(0);
+        scheduled.set(false);
+    }
+
+    /**
+     * @return 지금까지 화면에 전달한 횟수
+     */
+    public long getDispatchCount() {
+        return dispatchCount;
+    }
+
+    /**
+     * @return 입력 중 타수 갱신 타이머가 돌고 있는지
+     */
+    public boolean isSpeedTimerRunning() {
+        return speedTimer.isRunning();
+    }
+
+    private void post(int changes) {
+        pending.accumulateAndGet(changes, (a, b) -> a | b);
+        if (scheduled.compareAndSet(false, true)) {
+            if (SwingUtilities.isEventDispatchThread()) {
+                scheduleFrame();
+            } else {
+                SwingUtilities.invokeLater(this::scheduleFrame);
+            }
+        }
+    }
+
+    /**
+     * 마지막 전달 후 한 프레임이 지났으면 바로, 아니면 남은 시간 뒤에 전달합니다.
+     */
+    private void scheduleFrame() {
+        long waitMillis = (lastDispatchNanos + frameNanos - System.nanoTime()) / 1_000_000L;
+        if (waitMillis <= 0) {
+            // 같은 이벤트 처리 중에 생긴 변경을 모은 뒤 전달
+            SwingUtilities.invokeLater(this::dispatch);
+        } else {
+            frameTimer.setInitialDelay((int) waitMillis);
+            frameTimer.restart();
+        }
+    }
+
+    private void dispatch() {
+        if (!scheduled.getAndSet(false)) {
+            return;  // stop()으로 취소됨
+        }
+        int changes = pending.getAndSet(0);
+        lastDispatchNanos = System.nanoTime();
+        if (changes != 0) {
+            dispatchCount++;
+            update.accept(changes);
+        }
+
+        // 입력 중에만 평균 타수를 주기적으로 갱신
+        boolean typing = model.isGameActive() && lastDispatchNanos - lastInputNanos < IDLE_NANOS;
+        if (typing && !speedTimer.isRunning()) {
+            speedTimer.start();
+        } else if (!typing && speedTimer.isRunning()) {
+            speedTimer.stop();
+        }
+    }
+
+    private void speedTick() {
+        if (!model.isGameActive() || System.nanoTime() - lastInputNanos >= IDLE_NANOS) {
+            speedTimer.stop();
+            return;
+        }
+        model.updateWPM();
+        post(SPEED);
+    }
+}
@@ -0,0 +1,143 @@
+package GameUI;
+
+import core.MoleField;
+import core.MoleGrid;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 두더지 게임의 두더지 필드를 직접 그리는 컴포넌트
+ *
+ * 두더지마다 JLabel을 붙이지 않고 {@link MoleField}의 두더지 목록을 읽어 배경, 두더지, 카운트다운을
+ * 한 번에 그립니다. 두더지가 나오고 사라져도 컴포넌트를 추가하거나 지우지 않으며,
+ * 그릴 때 쓰는 글꼴과 색은 미리 만들어 둔 것을 씁니다.
+ *
+ * 입력 중인 내용과 앞부분이 맞는 두더지는 다른 색으로 칠하고 맞은 글자에 밑줄을 긋습니다.
+ * 새 두더지의 자리는 컴포넌트 크기에 맞춘 점유 격자({@link MoleGrid})에서 빈 칸을 골라 정합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleFieldView extends JComponent implements MoleField.Placement {
+    public static final int MOLE_WIDTH = 100;
+    public static final int MOLE_HEIGHT = 40;
+    private static final int GAP_X = 20;  // 칸을 나눌 때 두더지 크기에 더하는 여유
+    private static final int GAP_Y = 10;
+
+    private static final Color MOLE_COLOR = Color.YELLOW;
+    private static final Color MATCHED_MOLE_COLOR = new Color(255, 170, 0);   // 입력 중인 내용과 앞부분이 맞는 두더지
+    private static final Color MATCHED_TEXT_COLOR = new Color(200, 0, 0);
+    private static final Color MOLE_BORDER_COLOR = Color.BLACK;
+    private static final Color COUNTDOWN_COLOR = Color.WHITE;
+    private static final Font MOLE_FONT = new Font("맑은 고딕", Font.BOLD, 18);
+
+    private final MoleGrid grid = new MoleGrid(MOLE_WIDTH, MOLE_HEIGHT, GAP_X, GAP_Y, new Random());
+    private MoleField field;
+    private String countdownText;
+    private Font countdownFont;
+
+    public MoleFieldView() {
+        setOpaque(true);
+        setBackground(new Color(139, 69, 19)); // 흙색 배경
+    }
+
+    /**
+     * 그릴 두더지 필드를 지정하고 이 컴포넌트가 두더지 자리를 정하도록 연결합니다.
+     * @param field 두더지 필드, null이면 배경만 그림
+     */
+    public void setField(MoleField field) {
+        this.field = field;
+        grid.clear();
+        if (field != null) {
+            field.setPlacement(this);
+        }
+        repaint();
+    }
+
+    /**
+     * 필드 가운데에 크게 보여줄 카운트다운 문구를 지정합니다.
+     * @param text 보여줄 문구, null이면 숨김
+     * @param font 문구 글꼴
+     */
+    public void setCountdown(String text, Font font) {
+        this.countdownText = text;
+        this.countdownFont = font;
+        repaint();
+    }
+
+    /**
+     * 점유 격자의 빈 칸 하나에 두더지를 놓습니다.
+     * 컴포넌트 크기가 바뀌었으면 먼저 격자를 다시 나누고, 빈 칸이 없으면 두더지를 내보내지 않습니다.
+     */
+    @Override
+    public boolean place(MoleField.Mole mole, MoleField field) {
+        grid.resize(getWidth(), getHeight(), field.getMoles());
+        return grid.place(mole, field);
+    }
+
+    @Override
+    public void release(MoleField.Mole mole) {
+        grid.release(mole);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, getWidth(), getHeight());
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            if (field != null) {
+                paintMoles(g2);
+            }
+            if (countdownText != null) {
+                g2.setFont(countdownFont);
+                g2.setColor(COUNTDOWN_COLOR);
+                FontMetrics metrics = g2.getFontMetrics();
+                int x = (getWidth() - metrics.stringWidth(countdownText)) / 2;
+                int y = (getHeight() - metrics.getHeight()) / 2 + metrics.getAscent();
+                g2.drawString(countdownText, x, y);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * 다시 그릴 영역에 걸친 두더지만 그립니다.
+     */
+    private void paintMoles(Graphics2D g2) {
+        Rectangle clip = g2.getClipBounds();
+        g2.setFont(MOLE_FONT);
+        FontMetrics metrics = g2.getFontMetrics();
+        int textOffsetY = (MOLE_HEIGHT - metrics.getHeight()) / 2 + metrics.getAscent();
+        List<MoleField.Mole> moles = field.getMoles();
+        for (int i = 0, n = moles.size(); i < n; i++) {
+            MoleField.Mole mole = moles.get(i);
+            int x = mole.x();
+            int y = mole.y();
+            if (clip != null && !clip.intersects(x, y, MOLE_WIDTH, MOLE_HEIGHT)) {
+                continue;
+            }
+            int matched = field.getMatchedLength(mole);
+            g2.setColor(matched > 0 ? MATCHED_MOLE_COLOR : MOLE_COLOR);
+            g2.fillRect(x, y, MOLE_WIDTH, MOLE_HEIGHT);
+            g2.setColor(MOLE_BORDER_COLOR);
+            g2.drawRect(x, y, MOLE_WIDTH - 1, MOLE_HEIGHT - 1);
+            String word = mole.word();
+            int textX = x + (MOLE_WIDTH - metrics.stringWidth(word)) / 2;
+            g2.drawString(word, textX, y + textOffsetY);
+            if (matched > 0) {
+                // 맞은 앞부분을 다른 색으로 덧그리고 밑줄
+                String prefix = word.substring(0, Math.min(matched, word.length()));
+                int prefixWidth = metrics.stringWidth(prefix);
+                g2.setColor(MATCHED_TEXT_COLOR);
+                g2.drawString(prefix, textX, y + textOffsetY);
+                g2.fillRect(textX, y + textOffsetY + 2, prefixWidth, 2);
+            }
+        }
+    }
+}
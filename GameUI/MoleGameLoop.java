@@ -0,0 +1,151 @@
+package GameUI;
+
+import core.MoleField;
+
+import javax.swing.*;
+
+/**
+ * 두더지 게임의 고정 간격 게임 루프
+ *
+ * 화면 프레임마다 한 번 도는 Swing 타이머 하나가 {@link System#nanoTime()}으로 흐른 시간을 재고,
+ * 그 시간을 {@link #STEP_MILLIS} 단위로 나누어 {@link MoleField}를 진행합니다.
+ * 웨이브 출현, 남은 시간 감소, 두더지 사라짐은 모두 MoleField 안의 시각으로 처리되므로
+ * 두더지가 몇 마리든 타이머는 이것 하나뿐입니다.
+ *
+ * 게임 시각은 0에서 시작하는 가상 시각이며 단계 단위로만 흐르므로, 프레임 간격이 흔들려도 같은 규칙으로 진행됩니다.
+ * EDT가 오래 멈췄다가 돌아오면 최대 {@link #MAX_STEPS_PER_FRAME}단계까지만 따라잡고 나머지 시간은 버립니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleGameLoop {
+    public static final int STEP_MILLIS = 10;          // 게임 시각을 진행하는 단위 (ms)
+    public static final int MAX_STEPS_PER_FRAME = 25;  // 한 프레임에 따라잡는 최대 단계 수
+    private static final long STEP_NANOS = STEP_MILLIS * 1_000_000L;
+    private static final int FRAME_MILLIS = 16;        // 약 60fps
+
+    private final Timer frameTimer;
+    private final Runnable onChange;    // 상태가 바뀐 프레임마다 호출 (EDT)
+    private final Runnable onFinished;  // 남은 시간이 다 되었을 때 한 번 호출 (EDT)
+    private MoleField field;
+    private long lastNanos;
+    private long pendingNanos;          // 아직 진행하지 않은 실제 경과 시간
+    private long gameMillis;            // 게임 시각 (ms)
+    private long shownVersion = -1;     // 마지막으로 화면에 알린 필드 상태 버전
+
+    /**
+     * 게임 루프를 만듭니다.
+     * @param onChange 두더지, 점수, 남은 시간 중 하나라도 바뀐 프레임마다 호출되는 함수
+     * @param onFinished 남은 시간이 다 되었을 때 호출되는 함수
+     */
+    public MoleGameLoop(Runnable onChange, Runnable onFinished) {
+        this.onChange = onChange;
+        this.onFinished = onFinished;
+        this.frameTimer = new Timer(FRAME_MILLIS, e -> update());
+        frameTimer.setCoalesce(true);
+    }
+
+    /**
+     * 게임 시각 0에서 필드의 새 게임을 시작하고 루프를 돌립니다.
+     * @param field 진행할 두더지 필드
+     */
+    public void start(MoleField field) {
+        this.field = field;
+        gameMillis = 0;
+        pendingNanos = 0;
+        field.start(gameMillis);
+        lastNanos = System.nanoTime();
+        shownVersion = -1;
+        frameTimer.restart();
+        update();
+    }
+
+    /**
+     * 루프를 멈춥니다. 필드는 멈춘 시각의 상태로 남습니다.
+     */
+    public void stop() {
+        frameTimer.stop();
+    }
+
+    public boolean isRunning() {
+        return frameTimer.isRunning();
+    }
+
+    /**
+     * @return 현재 게임 시각 (ms)
+     */
+    public long getGameMillis() {
+        return gameMillis;
+    }
+
+    /**
+     * 지금 시각까지 게임을 진행한 뒤 입력한 단어로 두더지를 잡습니다.
+     * @param word 입력한 단어
+     * @return 두더지를 잡았으면 true
+     */
+    public boolean hit(String word) {
+        if (field == null || !isRunning()) {
+            return false;
+        }
+        advance();
+        boolean hit = field.hit(word, gameMillis);
+        update();
+        return hit;
+    }
+
+    /**
+     * 입력 중인 내용을 필드에 알려 앞부분이 맞는 두더지를 표시하고, 단어를 다 입력했으면 바로 잡습니다.
+     * 마지막 글자가 조합 중이고 그 글자가 다른 두더지 단어로도 이어질 수 있으면("사과" → "사관")
+     * 조합이 끝날 때까지 잡지 않습니다.
+     * @param typed 입력 중인 내용 (앞뒤 공백 제외)
+     * @param composing 마지막 글자가 아직 조합 중인 한글이면 true
+     * @return 두더지를 잡았으면 true
+     */
+    public boolean type(String typed, boolean composing) {
+        if (field == null || !isRunning()) {
+            return false;
+        }
+        advance();
+        field.setTypedText(typed, composing);
+        boolean hit = !typed.isEmpty()
+                && !(composing && field.hasLongerMatch())
+                && field.hit(typed, gameMillis);
+        update();
+        return hit;
+    }
+
+    /**
+     * 흐른 시간만큼 게임을 진행하고, 상태가 바뀌었으면 화면에 알립니다.
+     */
+    private void update() {
+        if (field == null) {
+            return;
+        }
+        advance();
+        if (field.getVersion() != shownVersion) {
+            shownVersion = field.getVersion();
+            onChange.run();
+        }
+        if (field.isFinished() && frameTimer.isRunning()) {
+            frameTimer.stop();
+            onFinished.run();
+        }
+    }
+
+    private void advance() {
+        long now = System.nanoTime();
+        pendingNanos += now - lastNanos;
+        lastNanos = now;
+        int steps = 0;
+        while (pendingNanos >= STEP_NANOS && !field.isFinished()) {
+            if (steps == MAX_STEPS_PER_FRAME) {
+                pendingNanos = 0;  // 오래 멈춘 시간은 따라잡지 않음
+                break;
+            }
+            gameMillis += STEP_MILLIS;
+            field.advanceTo(gameMillis);
+            pendingNanos -= STEP_NANOS;
+            steps++;
+        }
+    }
+}
@@ -1,22 +1,99 @@
 /**
  * 타이핑 연습 게임 메인 클래스
  */
+import GameUI.EdtWatchdog;
 import GameUI.MainFrame;
+import core.CorpusCache;
+import core.CorpusPreloader;
 import core.GameModel;
+import core.InputLatency;
+import core.KeystrokeJournal;
+import core.NanoClock;
+import core.metrics.MetricsHttpServer;
+import core.metrics.MetricsRegistry;
+import core.metrics.TypingMetrics;
 import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Random;
 
 public class TypingPracticeGame {
 
     /**
      * 프로그램 시작점
      * Swing EDT(Event Dispatch Thread)에서 GUI를 초기화합니다.
-     * 
+     *
+     * {@code -Dtyping.journal=<파일 경로>}를 지정하면 모든 키 입력을
+     * 해당 파일에 저널로 기록합니다.
+     * EDT 이벤트가 {@code -Dtyping.edt.stall.ms}(기본 100ms)보다 오래 걸리면 그 순간의 스택과 함께 경고를 출력합니다.
+     * {@code -Dtyping.latency.report=true}를 지정하면 종료할 때 키 입력 단계별 지연 시간 분포와 EDT 멈춤 기록을 출력합니다.
+     * 측정값은 JMX(도메인 typing)로 노출되며, {@code -Dtyping.metrics.port=<포트>}를 지정하면
+     * http://127.0.0.1:&lt;포트&gt;/metrics 에서 OpenMetrics 텍스트로도 볼 수 있습니다.
+     *
+     * 모든 언어의 텍스트는 백그라운드에서 병렬로 미리 읽고, 메인 메뉴는 그동안 바로 표시됩니다.
+     * {@code -Dtyping.latency.report=true}이면 JVM 시작부터 첫 화면을 그릴 때까지의 시간과 미리 읽기에 걸린 시간도 출력합니다.
+     *
      * @param args 명령행 인자 (사용하지 않음)
      */
     public static void main(String[] args) {
+        CorpusPreloader preloader = CorpusPreloader.start(CorpusCache.shared());
+        KeystrokeJournal journal = openJournal(System.getProperty("typing.journal"));
+        // 플랫폼 MBean 서버 준비에 수백 ms가 걸리므로 첫 화면을 늦추지 않게 백그라운드에서 등록
+        Thread metricsThread = new Thread(() -> {
+            MetricsRegistry metrics = TypingMetrics.registry();
+            metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+            MetricsHttpServer.startIfConfigured(metrics);
+        }, "metrics-register");
+        metricsThread.setDaemon(true);
+        metricsThread.start();
+        EdtWatchdog watchdog = EdtWatchdog.install();
+        boolean report = Boolean.getBoolean(InputLatency.REPORT_PROPERTY);
+        if (report) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                InputLatency.printReport(System.out);
+                watchdog.printReport(System.out);
+            }));
+        }
+
         SwingUtilities.invokeLater(() -> {
-            GameModel model = new GameModel();
-            new MainFrame(model);
+            // 텍스트는 첫 게임을 시작할 때 캐시에서 가져오므로 여기서는 읽지 않음
+            GameModel model = new GameModel(NanoClock.SYSTEM, new Random(), CorpusCache.shared(), false);
+            model.setKeystrokeJournal(journal);
+            MainFrame frame = new MainFrame(model, preloader);
+            if (report) {
+                frame.setFirstPaintListener(() -> System.out.printf("시작 시간: JVM 시작 후 첫 화면까지 %dms%n",
+                        ManagementFactory.getRuntimeMXBean().getUptime()));
+            }
         });
+        if (report) {
+            preloader.allLoaded().thenRun(() ->
+                    System.out.printf("텍스트 미리 읽기 완료: %.1fms%n", preloader.getElapsedMillis()));
+        }
+    }
+
+    /**
+     * 키 입력 저널을 열고 프로그램 종료 시 닫히도록 등록합니다.
+     * @param journalPath 저널 파일 경로 (null이면 기록하지 않음)
+     * @return 열린 저널, 경로가 없거나 열기에 실패하면 null
+     */
+    private static KeystrokeJournal openJournal(String journalPath) {
+        if (journalPath == null || journalPath.isBlank()) {
+            return null;
+        }
+        try {
+            KeystrokeJournal journal = KeystrokeJournal.create(Path.of(journalPath));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    System.err.println("키 입력 저널 저장 중 오류 발생: " + e.getMessage());
+                }
+            }));
+            return journal;
+        } catch (IOException e) {
+            System.err.println("키 입력 저널을 열 수 없습니다: " + journalPath + " - " + e.getMessage());
+            return null;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 텍스트를 생성하는 유틸리티 클래스
+ *
+ * 고정된 시드로 영어/한국어 문장과 문단을 만들어
+ * 실행할 때마다 같은 입력으로 측정할 수 있도록 합니다.
+ */
+public final class BenchmarkTexts {
+    private static final String[] ENGLISH_WORDS = {
+            "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "star", "compass",
+            "ocean", "forest", "night", "sky", "island", "legend", "whisper", "horizon", "map", "light"
+    };
+    private static final String[] KOREAN_WORDS = {
+            "하늘", "바다", "정원", "꽃", "바람", "별빛", "나무", "이슬", "새벽", "노래",
+            "숲", "시간", "정원사", "장미", "튤립", "이끼", "덩굴", "햇살", "구름", "강물"
+    };
+
+    private BenchmarkTexts() {
+    }
+
+    /**
+     * 마침표 없이 지정한 길이의 한 문장을 생성합니다.
+     * @param language "en" 또는 "ko"
+     * @param length 문장 길이 (문자 수)
+     * @return 생성된 문장
+     */
+    public static String sentence(String language, int length) {
+        String[] words = words(language);
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(words[random.nextInt(words.length)]);
+        }
+        builder.setLength(length);
+        return builder.toString().trim();
+    }
+
+    /**
+     * 문단과 문장 부호가 섞인 장문을 지정한 크기만큼 생성합니다.
+     * @param language "en" 또는 "ko"
+     * @param targetChars 생성할 문자 수
+     * @return 생성된 장문
+     */
+    public static String longText(String language, int targetChars) {
+        String[] words = words(language);
+        String[] endings = {".", "!", "?"};
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder(targetChars + 256);
+        while (builder.length() < targetChars) {
+            int sentences = 3 + random.nextInt(5);
+            for (int s = 0; s < sentences; s++) {
+                int wordCount = 6 + random.nextInt(12);
+                for (int w = 0; w < wordCount; w++) {
+                    builder.append(words[random.nextInt(words.length)]);
+                    builder.append(w < wordCount - 1 ? " " : endings[random.nextInt(endings.length)]);
+                }
+                builder.append(' ');
+            }
+            builder.setLength(builder.length() - 1);
+            builder.append("\n\n");
+        }
+        return builder.toString();
+    }
+
+    private static String[] words(String language) {
+        return "ko".equals(language) ? KOREAN_WORDS : ENGLISH_WORDS;
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import core.GameModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameModel의 키 입력 처리 경로 벤치마크
+ *
+ * 목표 문장을 한 글자씩 입력하는 상황을 재현하여 문장 길이별
+ * processInput, isCurrentTextCompleted, isInputCorrect의 키 입력당 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameModelBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int sentenceLength;
+
+    @Param({"en", "ko"})
+    public String language;
+
+    private GameModel model;
+    private String[] prefixes;   // 한 글자씩 늘어나는 입력 (빈 문자열부터 전체 문장까지)
+    private int position;
+
+    @Setup
+    public void setUp() {
+        String sentence = BenchmarkTexts.sentence(language, sentenceLength);
+        model = new GameModel();
+        model.startLongTextGame(sentence);
+
+        prefixes = new String[sentence.length() + 1];
+        for (int i = 0; i <= sentence.length(); i++) {
+            prefixes[i] = sentence.substring(0, i);
+        }
+        position = 0;
+    }
+
+    private String nextInput() {
+        position++;
+        if (position == prefixes.length) {
+            position = 0;
+        }
+        return prefixes[position];
+    }
+
+    @Benchmark
+    public int processInput() {
+        model.processInput(nextInput());
+        return model.getCorrectChars();
+    }
+
+    @Benchmark
+    public boolean processInputAndCheckCompleted() {
+        String input = nextInput();
+        model.processInput(input);
+        return model.isCurrentTextCompleted(input);
+    }
+
+    @Benchmark
+    public boolean processInputAndCheckCorrect() {
+        String input = nextInput();
+        model.processInput(input);
+        return model.isInputCorrect(input);
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import core.HangulJamo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한글 자모 분해 벤치마크
+ *
+ * 1M자 한국어 장문에서 {@link HangulJamo}로 키 입력 수를 세고, 오타가 섞인 입력과 자모 단위로 비교하는
+ * 비용을 측정합니다. 결과는 글자 하나당 시간이며, 비교 대상으로 NFD 정규화로 자모를 세는 방식도 함께 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HangulJamoBenchmark {
+    private static final int CHARS = 1 << 20;
+
+    private String target;
+    private String typed;
+
+    @Setup
+    public void setUp() {
+        target = BenchmarkTexts.longText("ko", CHARS).substring(0, CHARS);
+        // 약 5%의 글자를 임의의 음절로 바꾼 입력
+        char[] chars = target.toCharArray();
+        Random random = new Random(42);
+        for (int i = 0; i < chars.length; i++) {
+            if (HangulJamo.isSyllable(chars[i]) && random.nextInt(20) == 0) {
+                chars[i] = (char) (HangulJamo.SYLLABLE_FIRST
+                        + random.nextInt(HangulJamo.SYLLABLE_LAST - HangulJamo.SYLLABLE_FIRST + 1));
+            }
+        }
+        typed = new String(chars);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int strokeCount() {
+        return HangulJamo.strokeCount(target, 0, target.length());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int matchingStrokes() {
+        int correct = 0;
+        for (int i = 0; i < CHARS; i++) {
+            correct += HangulJamo.matchingStrokes(typed.charAt(i), target.charAt(i));
+        }
+        return correct;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int nfdJamoCount() {
+        return Normalizer.normalize(target, Normalizer.Form.NFD).length();
+    }
+}
@@ -0,0 +1,180 @@
+package benchmarks;
+
+import core.HighlightRuns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultStyledDocument;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.StyledDocument;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문장 모드 하이라이트 벤치마크
+ *
+ * 약 5% 확률로 오타를 내고 백스페이스로 고치면서 문장 하나를 끝까지 입력하는 과정을 키 입력 하나씩 재생하며,
+ * 키 입력마다 목표 문장 문서의 속성을 갱신하는 비용을 측정합니다. 결과는 키 입력 하나당 시간입니다.
+ * <ul>
+ *   <li>perCharacter: 문서 전체를 기본 스타일로 되돌린 뒤 입력한 글자마다 속성을 설정하는 이전 방식</li>
+ *   <li>runDiff: {@link HighlightRuns}로 이전에 적용한 구간과 달라진 범위만 설정하는 방식</li>
+ * </ul>
+ * 반복이 끝날 때 키 입력 하나당 속성 변경(문서 변경 이벤트) 수를 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighlightBenchmark {
+    @Param({"60", "300"})
+    public int length;
+
+    private String target;
+    private String[] inputs;  // 키 입력마다의 입력 내용
+    private int next;
+
+    private StyledDocument document;
+    private final HighlightRuns runs = new HighlightRuns();
+    private final SimpleAttributeSet defaultStyle = new SimpleAttributeSet();
+    private final SimpleAttributeSet correctStyle = new SimpleAttributeSet();
+    private final SimpleAttributeSet incorrectStyle = new SimpleAttributeSet();
+
+    private long keystrokes;
+    private long attributeChanges;
+
+    @Setup
+    public void setUp() throws BadLocationException {
+        target = BenchmarkTexts.sentence("en", length);
+        inputs = typingScript(target, new Random(42));
+
+        StyleConstants.setForeground(defaultStyle, Color.BLACK);
+        StyleConstants.setForeground(correctStyle, new Color(0, 100, 200));
+        StyleConstants.setBold(correctStyle, true);
+        StyleConstants.setForeground(incorrectStyle, new Color(200, 0, 0));
+        StyleConstants.setBold(incorrectStyle, true);
+
+        document = new DefaultStyledDocument();
+        document.addDocumentListener(new DocumentListener() {
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                attributeChanges++;
+            }
+
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+            }
+        });
+        loadSentence();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        keystrokes = 0;
+        attributeChanges = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        if (keystrokes > 0) {
+            System.out.printf("  (length=%d: 키 입력 %,d회, 키 입력당 속성 변경 %.2f회)%n",
+                    length, keystrokes, attributeChanges / (double) keystrokes);
+        }
+    }
+
+    @Benchmark
+    public void perCharacter() throws BadLocationException {
+        String input = nextInput();
+        int inputLength = input.length();
+        int targetLength = target.length();
+        document.setCharacterAttributes(0, document.getLength(), defaultStyle, true);
+        for (int i = 0; i < inputLength; i++) {
+            if (i < targetLength) {
+                SimpleAttributeSet style = input.charAt(i) == target.charAt(i) ? correctStyle : incorrectStyle;
+                document.setCharacterAttributes(i, 1, style, false);
+            }
+        }
+        if (inputLength > targetLength) {
+            document.setCharacterAttributes(0, targetLength, incorrectStyle, true);
+        }
+    }
+
+    @Benchmark
+    public int runDiff() throws BadLocationException {
+        String input = nextInput();
+        return runs.update(input, target, (start, spanLength, style) ->
+                document.setCharacterAttributes(start, spanLength, styleFor(style), true));
+    }
+
+    private SimpleAttributeSet styleFor(int style) {
+        switch (style) {
+            case HighlightRuns.CORRECT:
+                return correctStyle;
+            case HighlightRuns.INCORRECT:
+                return incorrectStyle;
+            default:
+                return defaultStyle;
+        }
+    }
+
+    /**
+     * 다음 키 입력의 입력 내용을 반환합니다. 문장을 끝까지 입력하면 게임처럼 문장을 다시 넣고 처음부터 입력합니다.
+     */
+    private String nextInput() throws BadLocationException {
+        if (next == inputs.length) {
+            next = 0;
+            loadSentence();
+        }
+        keystrokes++;
+        return inputs[next++];
+    }
+
+    private void loadSentence() throws BadLocationException {
+        document.remove(0, document.getLength());
+        document.insertString(0, target, defaultStyle);
+        runs.reset(document.getLength());
+    }
+
+    /**
+     * 오타를 내면 다음 키로 지우고 다시 입력하는 입력 과정을 만듭니다.
+     */
+    private static String[] typingScript(String target, Random random) {
+        List<String> script = new ArrayList<>();
+        StringBuilder typed = new StringBuilder();
+        while (typed.length() < target.length()) {
+            char expected = target.charAt(typed.length());
+            if (random.nextInt(20) == 0) {
+                typed.append(expected == 'x' ? 'y' : 'x');
+                script.add(typed.toString());
+                typed.setLength(typed.length() - 1);
+                script.add(typed.toString());
+            }
+            typed.append(expected);
+            script.add(typed.toString());
+        }
+        return script.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import core.GameModel;
+import core.KeystrokeJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 입력 저널 기록 비용 벤치마크
+ *
+ * 저널을 켠 상태와 끈 상태에서 processInput의 키 입력당 비용을 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeystrokeJournalBenchmark {
+
+    @Param({"false", "true"})
+    public boolean journalEnabled;
+
+    @Param({"en", "ko"})
+    public String language;
+
+    private GameModel model;
+    private KeystrokeJournal journal;
+    private Path journalFile;
+    private String[] prefixes;
+    private int position;
+
+    @Setup
+    public void setUp() throws IOException {
+        String sentence = BenchmarkTexts.sentence(language, 200);
+        model = new GameModel();
+        if (journalEnabled) {
+            journalFile = Files.createTempFile("typing-journal", ".tpj");
+            journal = KeystrokeJournal.create(journalFile);
+            model.setKeystrokeJournal(journal);
+        }
+        model.startLongTextGame(sentence);
+
+        prefixes = new String[sentence.length() + 1];
+        for (int i = 0; i <= sentence.length(); i++) {
+            prefixes[i] = sentence.substring(0, i);
+        }
+        position = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Benchmark
+    public int processInput() {
+        position++;
+        if (position == prefixes.length) {
+            position = 0;
+        }
+        model.processInput(prefixes[position]);
+        return model.getCorrectChars();
+    }
+}
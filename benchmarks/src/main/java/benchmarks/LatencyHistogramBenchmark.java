@@ -0,0 +1,70 @@
+package benchmarks;
+
+import core.LatencyHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 시간 히스토그램 벤치마크
+ *
+ * 키 입력마다 항상 기록해도 되는지 확인하기 위해 {@link LatencyHistogram#record(long)} 한 번의 비용과
+ * 여러 스레드가 같은 히스토그램에 동시에 기록하는 비용, 스냅샷과 백분위 계산 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+    private static final int VALUES = 1024;
+
+    private final LatencyHistogram histogram = new LatencyHistogram("benchmark");
+    private final long[] values = new long[VALUES];
+
+    /**
+     * 스레드마다 다른 값을 돌아가며 기록하기 위한 위치
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        // 수 마이크로초 ~ 수 밀리초의 로그정규분포 지연 시간
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = (long) Math.exp(Math.log(50_000) + random.nextGaussian());
+            histogram.record(values[i]);
+        }
+    }
+
+    @Benchmark
+    public void record(Cursor cursor) {
+        histogram.record(values[cursor.next++ & (VALUES - 1)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended(Cursor cursor) {
+        histogram.record(values[cursor.next++ & (VALUES - 1)]);
+    }
+
+    @Benchmark
+    public long snapshotP99() {
+        return histogram.snapshot().getP99();
+    }
+}
@@ -0,0 +1,142 @@
+package benchmarks;
+
+import core.MoleGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Rectangle;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 두더지 자리 찾기 벤치마크
+ *
+ * 필드에 두더지가 moles마리 떠 있는 상태를 유지하면서, 가장 오래된 두더지를 없애고 새 두더지의 자리를 찾는 과정을
+ * 반복합니다. 필드 크기는 두더지가 넓이의 35%를 덮도록 두더지 수에 맞춰 정합니다. 결과는 자리 찾기 한 번당 시간입니다.
+ * <ul>
+ *   <li>randomRetry: 무작위 위치를 최대 10번 골라 떠 있는 두더지마다 겹치는지 확인하는 이전 방식 (자리를 못 찾으면 나오지 않음)</li>
+ *   <li>occupancyGrid: {@link MoleGrid}의 빈 칸 목록에서 한 칸을 고르는 방식</li>
+ * </ul>
+ * 반복이 끝날 때 자리 찾기 성공률을 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MolePlacementBenchmark {
+    private static final int MOLE_WIDTH = 100;
+    private static final int MOLE_HEIGHT = 40;
+    private static final double COVERAGE = 0.35;  // 두더지가 덮는 필드 넓이 비율
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Param({"8", "50", "500"})
+    public int moles;
+
+    private int width;
+    private int height;
+    private final Random random = new Random(42);
+
+    // 이전 방식: 떠 있는 두더지의 영역 (나온 순서의 원형 큐)
+    private Rectangle[] bounds;
+    // 격자 방식: 떠 있는 두더지의 칸 (나온 순서의 원형 큐)
+    private MoleGrid grid;
+    private int[] cells;
+    private int head;
+    private int count;
+
+    private long attempts;
+    private long placed;
+
+    @Setup
+    public void setUp() {
+        double area = moles * (double) (MOLE_WIDTH * MOLE_HEIGHT) / COVERAGE;
+        width = (int) Math.sqrt(area * 5 / 3);  // 게임 화면과 비슷한 5:3 비율
+        height = (int) (area / width);
+        bounds = new Rectangle[moles];
+        cells = new int[moles];
+        grid = new MoleGrid(MOLE_WIDTH, MOLE_HEIGHT, 20, 10, new Random(42));
+        grid.resize(width, height, Collections.emptyList());
+        head = 0;
+        count = 0;
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        attempts = 0;
+        placed = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        if (attempts > 0) {
+            System.out.printf("  (moles=%d, 필드 %dx%d, 격자 %d칸: 자리 찾기 성공률 %.1f%%)%n",
+                    moles, width, height, grid.getCellCount(), placed * 100.0 / attempts);
+        }
+    }
+
+    @Benchmark
+    public boolean randomRetry() {
+        if (count == moles) {
+            bounds[head] = null;
+            head = (head + 1) % moles;
+            count--;
+        }
+        attempts++;
+        Rectangle candidate;
+        boolean overlaps;
+        int tries = 0;
+        do {
+            // 이전 MoleGamePanel.spawnMole과 같이 시도마다 Rectangle을 만들고 컴포넌트 영역(getBounds 복사본)과 비교
+            candidate = new Rectangle(random.nextInt(width - MOLE_WIDTH), random.nextInt(height - MOLE_HEIGHT),
+                    MOLE_WIDTH, MOLE_HEIGHT);
+            overlaps = false;
+            for (int i = 0; i < count; i++) {
+                if (new Rectangle(bounds[(head + i) % moles]).intersects(candidate)) {
+                    overlaps = true;
+                    break;
+                }
+            }
+            tries++;
+        } while (overlaps && tries < MAX_ATTEMPTS);
+        if (overlaps) {
+            return false;
+        }
+        bounds[(head + count) % moles] = candidate;
+        count++;
+        placed++;
+        return true;
+    }
+
+    @Benchmark
+    public int occupancyGrid() {
+        if (count == moles) {
+            grid.releaseCell(cells[head]);
+            head = (head + 1) % moles;
+            count--;
+        }
+        attempts++;
+        int cell = grid.acquireCell();
+        if (cell < 0) {
+            return -1;
+        }
+        cells[(head + count) % moles] = cell;
+        count++;
+        placed++;
+        // 칸 안의 위치도 정함 (MoleGrid.place와 같이 난수 두 번)
+        return grid.cellX(cell) + random.nextInt(21) + grid.cellY(cell) + random.nextInt(11);
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks;
+
+import core.SentenceSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임별 문장 선택 벤치마크
+ *
+ * 예전 selectGameTexts처럼 전체 목록을 복사해서 섞은 뒤 10개를 고르는 방식과
+ * {@link SentenceSampler}로 문장 번호만 뽑는 방식을 말뭉치 크기별로 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SentenceSamplerBenchmark {
+    private static final int SENTENCES_PER_GAME = 10;
+
+    @Param({"1000", "100000", "1000000"})
+    public int corpusSize;
+
+    private List<String> corpus;
+    private Random random;
+    private SentenceSampler sampler;
+
+    @Setup
+    public void setUp() {
+        corpus = new ArrayList<>(corpusSize);
+        for (int i = 0; i < corpusSize; i++) {
+            corpus.add("sentence " + i);
+        }
+        random = new Random(42);
+        sampler = new SentenceSampler(new Random(42));
+    }
+
+    @Benchmark
+    public List<String> shuffleCopy() {
+        List<String> shuffled = new ArrayList<>(corpus);
+        Collections.shuffle(shuffled, random);
+        return new ArrayList<>(shuffled.subList(0, SENTENCES_PER_GAME));
+    }
+
+    @Benchmark
+    public List<String> sampler() {
+        List<String> selected = new ArrayList<>(SENTENCES_PER_GAME);
+        for (int index : sampler.sample(corpus.size(), SENTENCES_PER_GAME)) {
+            selected.add(corpus.get(index));
+        }
+        return selected;
+    }
+}
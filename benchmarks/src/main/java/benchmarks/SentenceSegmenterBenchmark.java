@@ -0,0 +1,83 @@
+package benchmarks;
+
+import core.SentenceSegmenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문장 분리기 벤치마크
+ *
+ * 예전 GameModel의 정규식 분리(문단 split 후 lookbehind split, 중간 리스트/배열 복사)와
+ * {@link SentenceSegmenter}의 한 번 훑기 분리를 같은 수 MB 장문으로 비교합니다.
+ * segmenterOffsets는 문자열을 만들지 않고 위치만 구하는 비용입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SentenceSegmenterBenchmark {
+
+    @Param({"1", "4"})
+    public int sizeMb;
+
+    @Param({"en", "ko"})
+    public String language;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkTexts.longText(language, sizeMb * 1024 * 1024);
+    }
+
+    @Benchmark
+    public List<String> regexSplit() {
+        // 예전 splitLongTextIntoSentences와 같은 방식
+        String[] paragraphs = content.split("\n\n+");
+        List<String> allSentences = new ArrayList<>();
+        for (String paragraph : paragraphs) {
+            String trimmedParagraph = paragraph.trim();
+            if (!trimmedParagraph.isEmpty()) {
+                for (String sentence : trimmedParagraph.split("(?<=[.!?])\\s+")) {
+                    String trimmedSentence = sentence.trim();
+                    if (!trimmedSentence.isEmpty()) {
+                        allSentences.add(trimmedSentence);
+                    }
+                }
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (String sentence : allSentences.toArray(new String[0])) {
+            String trimmed = sentence.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> segmenterSplit() {
+        return SentenceSegmenter.split(content);
+    }
+
+    @Benchmark
+    public int[] segmenterOffsets() {
+        return SentenceSegmenter.offsets(content);
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import core.GameModel;
+import core.LongTextStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장문 문장 분리 벤치마크
+ *
+ * 수 MB 크기의 장문으로 장문 연습을 시작할 때
+ * (splitLongTextIntoSentences 포함) 걸리는 비용을 측정합니다.
+ * startLongTextStream은 같은 장문을 스트리밍으로 시작하여 첫 문장이 준비될 때까지의 비용을 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SentenceSplitBenchmark {
+
+    @Param({"1", "4"})
+    public int sizeMb;
+
+    @Param({"en", "ko"})
+    public String language;
+
+    private GameModel model;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkTexts.longText(language, sizeMb * 1024 * 1024);
+        model = new GameModel();
+    }
+
+    @Benchmark
+    public int startLongTextGame() {
+        model.startLongTextGame(content);
+        return model.getTotalSentences();
+    }
+
+    @Benchmark
+    public int startLongTextStream() {
+        model.startLongTextGame(new LongTextStream(new StringReader(content)));
+        return model.getTotalSentences();
+    }
+}
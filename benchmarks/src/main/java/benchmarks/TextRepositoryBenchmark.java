@@ -0,0 +1,101 @@
+package benchmarks;
+
+import core.TextRepository;
+import core.corpus.CorpusCompiler;
+import core.corpus.CorpusPack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 텍스트 파일 로딩 벤치마크
+ *
+ * 임시 디렉터리에 큰 리소스 파일을 만들고, 그 디렉터리를 클래스패스로 하는
+ * TextRepository로 loadTexts와 loadFullText의 비용을 측정합니다.
+ * 같은 문장들을 말뭉치 팩으로 컴파일해 두고, 팩을 여는 비용과 임의 문장 하나를 가져오는 비용도 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class TextRepositoryBenchmark {
+    private static final String LINES_RESOURCE = "resources/bench_lines.txt";
+    private static final String FULL_TEXT_RESOURCE = "resources/bench_long.txt";
+
+    @Param({"1", "8"})
+    public int sizeMb;
+
+    private Path tempDir;
+    private URLClassLoader classLoader;
+    private TextRepository repository;
+    private Path packPath;
+    private CorpusPack pack;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("typing-bench");
+        Path resources = Files.createDirectories(tempDir.resolve("resources"));
+        String text = BenchmarkTexts.longText("ko", sizeMb * 1024 * 1024);
+        Files.writeString(resources.resolve("bench_lines.txt"), text.replace(". ", ".\n"), StandardCharsets.UTF_8);
+        Files.writeString(resources.resolve("bench_long.txt"), text, StandardCharsets.UTF_8);
+
+        classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null);
+        repository = new TextRepository(classLoader, null);
+
+        packPath = tempDir.resolve("bench_lines.pack");
+        CorpusCompiler.compileLines(resources.resolve("bench_lines.txt"), packPath);
+        pack = CorpusPack.open(packPath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<String> loadTexts() {
+        return repository.loadTexts(LINES_RESOURCE);
+    }
+
+    @Benchmark
+    public String loadFullText() {
+        return repository.loadFullText(FULL_TEXT_RESOURCE);
+    }
+
+    @Benchmark
+    public int openCorpusPack() throws IOException {
+        return CorpusPack.open(packPath).size();
+    }
+
+    @Benchmark
+    public String corpusPackGet() {
+        return pack.get(random.nextInt(pack.size()));
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import core.GameModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 슬라이딩 윈도우 기반 실시간 타수 계산 벤치마크
+ *
+ * 윈도우가 가득 찬 상태에서 getRealTimeWPM과 getAverageWPM의 호출 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypingWindowBenchmark {
+    private static final int KEYSTROKES = 1000;
+
+    private GameModel model;
+
+    @Setup
+    public void setUp() {
+        String sentence = BenchmarkTexts.sentence("en", KEYSTROKES);
+        model = new GameModel();
+        model.startLongTextGame(sentence);
+
+        // 윈도우 길이(5초) 안에 한 글자씩 입력하여 윈도우를 가득 채움
+        for (int i = 1; i <= sentence.length(); i++) {
+            model.processInput(sentence.substring(0, i));
+        }
+    }
+
+    @Benchmark
+    public double getRealTimeWPM() {
+        return model.getRealTimeWPM();
+    }
+
+    @Benchmark
+    public double getAverageWPM() {
+        return model.getAverageWPM();
+    }
+}
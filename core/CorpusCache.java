@@ -0,0 +1,289 @@
+package core;
+
+import core.corpus.CorpusPack;
+import core.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 전체가 함께 사용하는 크기 제한 텍스트 캐시
+ *
+ * 문장 목록과 전체 텍스트를 (종류, 리소스 경로) 단위로 한 번만 읽어 변경할 수 없는 형태로 공유합니다.
+ * 리소스 경로에 언어와 용도(문장/장문/두더지 단어)가 들어 있으므로 언어, 모드를 바꾸거나
+ * 두더지 게임을 다시 시작해도 이미 읽은 텍스트는 파일을 다시 읽지 않습니다.
+ *
+ * 캐시에 들어 있는 문자열의 대략적인 힙 크기 합계가 한도를 넘으면 가장 오래 사용하지 않은
+ * 항목부터 버립니다. 말뭉치 팩의 리스트는 메모리 매핑된 파일을 가리키므로 거의 공간을 차지하지 않습니다.
+ * 같은 리소스를 여러 스레드가 동시에 요청하면 한 스레드만 읽고 나머지는 그 결과를 기다립니다.
+ * 읽지 못한 리소스의 오류 안내 문장은 캐시하지 않으므로, 다음 요청 때 다시 읽어 봅니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class CorpusCache extends TextRepository {
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;       // 기본 한도 32MB
+    public static final String MAX_MB_PROPERTY = "typing.corpus.cache.mb"; // 공유 캐시 한도 시스템 속성 (MB)
+
+    private static final int STRING_OVERHEAD = 56;  // String 객체와 배열 헤더, 리스트 참조의 대략적인 크기
+    private static final int PACK_LIST_SIZE = 64;   // 말뭉치 팩 리스트 뷰의 크기
+
+    /**
+     * 캐시 항목의 종류
+     */
+    private enum Kind { TEXTS, FULL_TEXT }
+
+    private record Key(Kind kind, String resourcePath) {}
+
+    private record Entry(Object value, long bytes) {}
+
+    /**
+     * 캐시에 없는 항목을 읽는 함수 (실패하면 예외를 던짐)
+     */
+    private interface Loader {
+        Object load() throws IOException;
+    }
+
+    /**
+     * 캐시 사용 현황
+     * @param hits 캐시에 있거나 다른 스레드가 읽고 있던 결과를 돌려준 횟수
+     * @param misses 캐시에 없어 직접 읽은 횟수 (읽기에 실패한 경우 포함)
+     * @param evictions 한도를 넘어 버린 항목 수
+     * @param loadNanos 리소스를 읽는 데 걸린 시간 합계 (나노초)
+     * @param entries 현재 항목 수
+     * @param bytes 현재 항목들의 대략적인 크기 (바이트)
+     * @param maxBytes 크기 한도 (바이트)
+     */
+    public record Stats(long hits, long misses, long evictions, long loadNanos,
+                        int entries, long bytes, long maxBytes) {
+        /**
+         * @return 적중률 (0~1), 요청이 없으면 0
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : hits / (double) requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("적중 %d, 실패 %d (적중률 %.1f%%), 제거 %d, 읽기 %.1fms, 항목 %d개, %.1f/%.1fMB",
+                    hits, misses, hitRate() * 100, evictions, loadNanos / 1_000_000.0,
+                    entries, bytes / 1048576.0, maxBytes / 1048576.0);
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);  // 사용 순서
+    private final Map<Key, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private long totalBytes = 0;  // entries로 동기화
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * 프로세스 전체에서 함께 쓰는 캐시 (지연 초기화)
+     */
+    private static final class SharedHolder {
+        static final CorpusCache INSTANCE = createShared();
+
+        private static CorpusCache createShared() {
+            CorpusCache cache = new CorpusCache(CorpusCache.class.getClassLoader(), sharedMaxBytes());
+            MetricsRegistry metrics = MetricsRegistry.global();
+            metrics.gauge("typing_corpus_cache_hits", "공유 텍스트 캐시 적중 횟수", () -> cache.hits.sum());
+            metrics.gauge("typing_corpus_cache_misses", "공유 텍스트 캐시 실패 횟수", () -> cache.misses.sum());
+            metrics.gauge("typing_corpus_cache_hit_ratio", "공유 텍스트 캐시 적중률 (0~1)",
+                    () -> cache.getStats().hitRate());
+            metrics.gauge("typing_corpus_cache_bytes", "공유 텍스트 캐시에 들어 있는 텍스트의 대략적인 크기",
+                    () -> cache.getStats().bytes());
+            return cache;
+        }
+
+        private static long sharedMaxBytes() {
+            String megabytes = System.getProperty(MAX_MB_PROPERTY);
+            try {
+                return megabytes == null ? DEFAULT_MAX_BYTES : Long.parseLong(megabytes.trim()) * 1024 * 1024;
+            } catch (NumberFormatException e) {
+                System.err.println("잘못된 캐시 크기 설정: " + megabytes + " - 기본값을 사용합니다.");
+                return DEFAULT_MAX_BYTES;
+            }
+        }
+    }
+
+    /**
+     * 프로세스 전체에서 함께 쓰는 캐시를 반환합니다.
+     * 한도는 시스템 속성 typing.corpus.cache.mb로 바꿀 수 있습니다. (기본 32MB)
+     * @return 공유 캐시
+     */
+    public static CorpusCache shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * CorpusCache 생성자
+     * @param classLoader 리소스를 읽어올 클래스 로더
+     * @param maxBytes 캐시 크기 한도 (바이트)
+     */
+    public CorpusCache(ClassLoader classLoader, long maxBytes) {
+        super(classLoader);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 문장 목록을 반환합니다. 캐시에 없을 때만 실제로 읽습니다.
+     * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
+     * @return 변경할 수 없는 문장 리스트
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> loadTexts(String resourcePath) {
+        try {
+            return (List<String>) get(new Key(Kind.TEXTS, resourcePath), () -> {
+                List<String> loaded = loadTextsOrThrow(resourcePath);
+                return loaded instanceof CorpusPack.SentenceList ? loaded : List.copyOf(loaded);
+            });
+        } catch (IOException e) {
+            return failedTexts(resourcePath, e);
+        }
+    }
+
+    /**
+     * 전체 텍스트를 반환합니다. 캐시에 없을 때만 실제로 읽습니다.
+     * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
+     * @return 파일 전체 내용 문자열
+     */
+    @Override
+    public String loadFullText(String resourcePath) {
+        try {
+            return (String) get(new Key(Kind.FULL_TEXT, resourcePath), () -> loadFullTextOrThrow(resourcePath));
+        } catch (IOException e) {
+            return failedFullText(resourcePath, e);
+        }
+    }
+
+    /**
+     * @return 현재 캐시 사용 현황
+     */
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), loadNanos.sum(),
+                    entries.size(), totalBytes, maxBytes);
+        }
+    }
+
+    /**
+     * 캐시를 비웁니다. 통계는 유지됩니다.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    private Object get(Key key, Loader loader) throws IOException {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                return entry.value();
+            }
+        }
+
+        // 같은 리소스를 다른 스레드가 읽고 있으면 그 결과를 기다림
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            hits.increment();
+            return await(inFlight);
+        }
+        try {
+            synchronized (entries) {
+                Entry entry = entries.get(key);  // 그 사이 다른 스레드가 읽기를 마친 경우
+                if (entry != null) {
+                    hits.increment();
+                    future.complete(entry.value());
+                    return entry.value();
+                }
+            }
+            misses.increment();
+            long start = System.nanoTime();
+            Object value;
+            try {
+                value = loader.load();
+            } finally {
+                loadNanos.add(System.nanoTime() - start);
+            }
+            put(key, value);
+            future.complete(value);
+            return value;
+        } catch (IOException | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * 다른 스레드의 읽기 결과를 기다립니다. 그 스레드가 읽지 못했으면 같은 예외를 던집니다.
+     */
+    private static Object await(CompletableFuture<Object> inFlight) throws IOException {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    private void put(Key key, Object value) {
+        long bytes = sizeOf(value);
+        if (bytes > maxBytes) {
+            return;  // 한도보다 큰 항목은 캐시하지 않음
+        }
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(value, bytes));
+            if (previous != null) {
+                totalBytes -= previous.bytes();
+            }
+            totalBytes += bytes;
+            // 가장 오래 사용하지 않은 항목부터 버림
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                totalBytes -= evicted.bytes();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static long sizeOf(Object value) {
+        if (value instanceof String text) {
+            return STRING_OVERHEAD + 2L * text.length();
+        }
+        if (value instanceof CorpusPack.SentenceList) {
+            return PACK_LIST_SIZE;
+        }
+        long bytes = 16;
+        for (Object text : (List<?>) value) {
+            bytes += STRING_OVERHEAD + 2L * ((String) text).length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,120 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로그램 시작 시 모든 언어의 텍스트를 백그라운드에서 병렬로 미리 읽는 로더
+ *
+ * 언어마다 문장 목록과 두더지 단어 목록을 각각 별도 작업으로 읽어 공유 캐시({@link CorpusCache})에
+ * 채워 둡니다. 화면은 로딩을 기다리지 않고 바로 표시되며, 게임을 시작할 때
+ * {@link #textsFor(GameModel.Language, GameModel.GameMode)}로 필요한 텍스트만 기다리면 됩니다.
+ * 장문은 게임을 시작할 때 스트리밍으로 읽으므로 미리 읽지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class CorpusPreloader {
+    private final Map<GameModel.Language, CompletableFuture<List<String>>> sentences =
+            new EnumMap<>(GameModel.Language.class);
+    private final Map<GameModel.Language, CompletableFuture<List<String>>> moleWords =
+            new EnumMap<>(GameModel.Language.class);
+    private final CompletableFuture<Void> allLoaded;
+    private final long startNanos = System.nanoTime();
+    private volatile long finishNanos = 0;
+
+    /**
+     * 전용 데몬 스레드 풀에서 미리 읽기를 시작합니다. 모두 읽으면 스레드 풀은 종료됩니다.
+     * @param repository 텍스트를 읽어 담아 둘 저장소 (보통 {@link CorpusCache#shared()})
+     * @return 시작된 로더
+     */
+    public static CorpusPreloader start(TextRepository repository) {
+        int tasks = GameModel.Language.values().length * 2;
+        int threads = Math.max(1, Math.min(tasks, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "corpus-preload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CorpusPreloader preloader = new CorpusPreloader(repository, executor);
+        preloader.allLoaded.whenComplete((ignored, failure) -> executor.shutdown());
+        return preloader;
+    }
+
+    /**
+     * CorpusPreloader 생성자
+     * 생성하는 즉시 모든 읽기 작업을 실행기에 제출합니다.
+     * @param repository 텍스트를 읽어 담아 둘 저장소
+     * @param executor 읽기 작업을 실행할 실행기
+     */
+    public CorpusPreloader(TextRepository repository, Executor executor) {
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (GameModel.Language language : GameModel.Language.values()) {
+            String sentencePath = "resources/" + language.getSentenceFileName();
+            String molePath = "resources/" + language.getMoleGameFileName();
+            CompletableFuture<List<String>> sentenceTask =
+                    CompletableFuture.supplyAsync(() -> repository.loadTexts(sentencePath), executor);
+            CompletableFuture<List<String>> moleTask =
+                    CompletableFuture.supplyAsync(() -> repository.loadTexts(molePath), executor);
+            sentences.put(language, sentenceTask);
+            moleWords.put(language, moleTask);
+            tasks.add(sentenceTask);
+            tasks.add(moleTask);
+        }
+        allLoaded = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, failure) -> finishNanos = System.nanoTime());
+    }
+
+    /**
+     * 게임 모드를 시작하는 데 필요한 텍스트의 읽기 작업을 반환합니다.
+     * @param language 언어
+     * @param mode 시작할 게임 모드
+     * @return 필요한 텍스트를 다 읽으면 완료되는 작업 (장문은 바로 완료됨)
+     */
+    public CompletableFuture<?> textsFor(GameModel.Language language, GameModel.GameMode mode) {
+        return switch (mode) {
+            case SENTENCE -> sentences.get(language);
+            case MOLE_GAME -> moleWords.get(language);
+            case LONG_TEXT -> CompletableFuture.completedFuture(null);
+        };
+    }
+
+    /**
+     * @param language 언어
+     * @return 해당 언어 문장 목록의 읽기 작업
+     */
+    public CompletableFuture<List<String>> sentences(GameModel.Language language) {
+        return sentences.get(language);
+    }
+
+    /**
+     * @param language 언어
+     * @return 해당 언어 두더지 단어 목록의 읽기 작업
+     */
+    public CompletableFuture<List<String>> moleWords(GameModel.Language language) {
+        return moleWords.get(language);
+    }
+
+    /**
+     * @return 모든 텍스트를 다 읽으면 완료되는 작업
+     */
+    public CompletableFuture<Void> allLoaded() {
+        return allLoaded;
+    }
+
+    /**
+     * @return 시작부터 모든 텍스트를 읽을 때까지 걸린 시간 (밀리초), 아직 읽는 중이면 -1
+     */
+    public double getElapsedMillis() {
+        long finish = finishNanos;
+        return finish == 0 ? -1 : (finish - startNanos) / 1_000_000.0;
+    }
+}
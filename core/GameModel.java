@@ -1,13 +1,13 @@
 package core;
 
+import core.metrics.TypingMetrics;
+
 import java.text.Normalizer;
-import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 타이핑 연습 게임의 핵심 로직을 담당하는 모델 클래스
@@ -22,6 +22,10 @@ import java.util.Random;
 public class GameModel {
     private static final int WINDOW_SEC = 5;  // 슬라이딩 창 길이 (초)
     private static final int SENTENCES_PER_GAME = 10;  // 한 게임당 문장 개수
+    private static final int LONG_TEXT_LOOKAHEAD = 32; // 스트리밍 장문에서 현재 문장 뒤로 미리 읽어 둘 문장 수
+    private static final int LONG_TEXT_HISTORY = 32;   // 스트리밍 장문에서 지나간 문장을 남겨 둘 개수
+    private static final int RESET_CHANGES = GameModelListener.GAME_RESET | GameModelListener.PROGRESS
+            | GameModelListener.ACCURACY | GameModelListener.SPEED;  // 새 게임을 시작하면 모든 표시 값이 바뀜
     
     /**
      * 장문 연습용 텍스트 정보를 저장하는 레코드
@@ -181,27 +185,16 @@ public class GameModel {
         }
     }
     
-    /**
-     * 타이핑 이벤트를 기록하는 내부 클래스
-     * 슬라이딩 윈도우 계산에 사용됩니다.
-     */
-    private static class TypingEvent {
-        final Instant time;
-        final int syllableCount;
-        
-        TypingEvent(Instant time, int syllableCount) {
-            this.time = time;
-            this.syllableCount = syllableCount;
-        }
-    }
-    
     // 게임 데이터 관련 필드
     private List<String> practiceTexts;        // 연습용 문장 목록
     private String currentPracticeText;        // 현재 연습 중인 문장
     private int currentTypedChars = 0;         // 현재 입력된 문자 수
     private int correctChars = 0;              // 올바르게 입력된 문자 수
-    private TextRepository textRepository;     // 텍스트 파일 관리 객체
-    private Random random = new Random();      // 랜덤 문장 선택용
+    private final TextRepository textRepository; // 텍스트 파일 관리 객체
+    private final Random random;               // 랜덤 문장 선택용
+    private final SentenceSampler sentenceSampler; // 게임별 문장 선택 (최근 문장 기록 포함)
+    private String sampledTextPath;            // 문장 선택 기록이 가리키는 문장 파일 경로
+    private final NanoClock clock;             // 시간 측정용 시계
     
     // 게임 진행 관련 필드
     private boolean gameStarted = false;       // 게임 시작 여부
@@ -213,19 +206,24 @@ public class GameModel {
     private Difficulty moleGameDifficulty = Difficulty.NORMAL; // 두더지 게임 난이도
     
     // 향상된 타수 계산 관련 필드
-    private final Deque<TypingEvent> typingWindow = new ArrayDeque<>(); // 슬라이딩 윈도우
-    private int totalCharacters = 0;          // 전체 입력된 문자 수 (CPM 계산용)
-    private Instant startTime = null;         // 게임 시작 시간
-    private String lastProcessedInput = "";   // 마지막으로 처리된 입력
-    private String currentInputText = "";      // 현재 입력 중인 텍스트
+    private final TypingWindow typingWindow = new TypingWindow(WINDOW_SEC, TypingWindow.DEFAULT_CAPACITY); // 슬라이딩 윈도우
+    private int totalStrokes = 0;             // 전체 입력된 키 입력(자모) 수 (타수 계산용)
+    private boolean timingStarted = false;    // 시간 측정 시작 여부
+    private long startNanos = 0L;             // 게임 시작 시간 (nanoTime)
+    private int lastProcessedStrokes = 0;     // 마지막으로 처리된 입력의 키 입력 수
+    private final IncrementalScorer scorer = new IncrementalScorer(); // 증분 채점기
+    private KeystrokeJournal keystrokeJournal = null;  // 키 입력 기록용 저널 (없으면 기록하지 않음)
+    private boolean recordsMetrics = true;     // 전역 측정값(TypingMetrics)에 기록할지 여부
+    private final List<GameModelListener> listeners = new CopyOnWriteArrayList<>();
     
     // 완료 조건 설정
     private boolean allowLengthBasedCompletion = true;  // 길이 기반 완료 허용 여부 (기본: 활성화)
     
-    // 각 문장별 결과 추적
-    private List<Double> sentenceAccuracies = new ArrayList<>();  // 각 문장별 정확도
-    private List<Double> sentenceWPMs = new ArrayList<>();        // 각 문장별 타수
-    private List<String> completedInputTexts = new ArrayList<>(); // 완료된 문장들의 실제 입력 내용
+    // 각 문장별 결과 추적 (문장 수와 관계없이 메모리가 일정하도록 합계만 보관)
+    private int completedSentenceCount = 0;                       // 완료된 문장 수
+    private double sentenceAccuracySum = 0.0;                     // 완료된 문장들의 정확도 합계
+    private double sentenceWPMSum = 0.0;                          // 완료된 문장들의 타수 합계
+    private List<String> completedInputTexts = new ArrayList<>(); // 완료된 문장들의 실제 입력 내용 (장문은 문장 구간과 같은 범위)
     // 문장별 완료 상태는 더 이상 추적하지 않음 (단순화)
     
     // 중복 없는 문장 선택
@@ -233,18 +231,62 @@ public class GameModel {
     private int currentGameTextIndex = 0;                         // 현재 게임에서 사용 중인 문장 인덱스
 
     // 장문연습용 문장 분리
-    private List<String> longTextSentences = new ArrayList<>();   // 장문을 문장 단위로 분리한 리스트
+    private List<String> longTextSentences = new ArrayList<>();   // 장문을 문장 단위로 분리한 리스트 (스트리밍이면 메모리에 있는 구간)
+    private int longTextWindowStart = 0;                          // longTextSentences 첫 문장의 장문 내 인덱스
     private int currentLongTextSentenceIndex = 0;                 // 장문 내에서 현재 문장 인덱스
-    private String originalLongText = "";                         // 원본 장문 텍스트 (전체)
+    private String originalLongText = "";                         // 원본 장문 텍스트 (전체, 스트리밍이면 빈 문자열)
+    private LongTextStream longTextStream = null;                 // 스트리밍 장문의 남은 문장 (없으면 null)
 
     /**
      * GameModel 생성자
-     * TextRepository를 초기화하고 기본 언어(한국어)의 텍스트를 로드합니다.
+     * 공유 텍스트 캐시에서 기본 언어(한국어)의 텍스트를 로드합니다.
      */
     public GameModel() {
-        this.textRepository = new TextRepository();
-        loadTextsForCurrentLanguage();
-        startNewGame();
+        this(NanoClock.SYSTEM, new Random());
+    }
+
+    /**
+     * 시계와 난수 생성기를 지정하는 GameModel 생성자
+     * 시뮬레이션에서 가상 시간과 고정된 시드로 게임을 재현할 때 사용합니다.
+     * 텍스트는 프로세스 공유 캐시({@link CorpusCache#shared()})에서 가져옵니다.
+     * @param clock 시간 측정에 사용할 시계
+     * @param random 문장 선택에 사용할 난수 생성기
+     */
+    public GameModel(NanoClock clock, Random random) {
+        this(clock, random, CorpusCache.shared());
+    }
+
+    /**
+     * 시계, 난수 생성기, 텍스트 저장소를 지정하는 GameModel 생성자
+     * 여러 세션이 {@link SharedTextRepository}로 읽기 전용 텍스트를 공유할 때 사용합니다.
+     * @param clock 시간 측정에 사용할 시계
+     * @param random 문장 선택에 사용할 난수 생성기
+     * @param textRepository 텍스트를 읽어올 저장소
+     */
+    public GameModel(NanoClock clock, Random random, TextRepository textRepository) {
+        this(clock, random, textRepository, true);
+    }
+
+    /**
+     * 텍스트를 읽는 시점을 지정하는 GameModel 생성자
+     * 화면을 먼저 띄우고 텍스트는 백그라운드에서 읽을 때({@link CorpusPreloader}) loadTextsNow를 false로 줍니다.
+     * 이 경우 문장은 첫 게임을 시작할 때 읽습니다.
+     * @param clock 시간 측정에 사용할 시계
+     * @param random 문장 선택에 사용할 난수 생성기
+     * @param textRepository 텍스트를 읽어올 저장소
+     * @param loadTextsNow 생성자에서 텍스트를 읽고 첫 게임을 준비할지 여부
+     */
+    public GameModel(NanoClock clock, Random random, TextRepository textRepository, boolean loadTextsNow) {
+        this.clock = clock;
+        this.random = random;
+        this.sentenceSampler = new SentenceSampler(random);
+        this.textRepository = textRepository;
+        if (loadTextsNow) {
+            loadTextsForCurrentLanguage();
+            startNewGame();
+        } else {
+            setPracticeText("");
+        }
     }
 
     /**
@@ -260,6 +302,12 @@ public class GameModel {
             practiceTexts = new ArrayList<>();
             practiceTexts.add("Default text: Please check file path or content.");
         }
+
+        // 다른 문장 파일로 바뀌면 문장 번호가 달라지므로 최근 문장 기록을 지움
+        if (!fullPath.equals(sampledTextPath)) {
+            sentenceSampler.clearHistory();
+            sampledTextPath = fullPath;
+        }
     }
 
     /**
@@ -280,6 +328,19 @@ public class GameModel {
         return this.currentLanguage;
     }
 
+    /**
+     * 키 입력 수, 완료한 문장과 게임, 문장 타수/정확도 분포를 전역 측정값에 기록할지 정합니다.
+     * 가상 사용자를 돌리는 시뮬레이터와 부하 하네스는 끄고 사용합니다. (기본값: 기록함)
+     * @param recordsMetrics 기록하려면 true
+     */
+    public void setRecordsMetrics(boolean recordsMetrics) {
+        this.recordsMetrics = recordsMetrics;
+    }
+
+    public boolean isRecordsMetrics() {
+        return recordsMetrics;
+    }
+
     /**
      * 테마를 설정합니다.
      * @param theme 설정할 테마
@@ -307,84 +368,56 @@ public class GameModel {
         
         // 문장연습 모드에 대한 초기화만 담당
         setCurrentGameMode(GameMode.SENTENCE);
+        recordJournal(KeystrokeJournal.EditKind.GAME_START, GameMode.SENTENCE.ordinal());
         selectGameTexts();
         
         if (!selectedGameTexts.isEmpty()) {
             currentGameTextIndex = 0;
-            currentPracticeText = selectedGameTexts.get(currentGameTextIndex);
+            setPracticeText(selectedGameTexts.get(currentGameTextIndex));
         } else {
-            currentPracticeText = "연습할 문장을 불러올 수 없습니다. 파일을 확인해 주세요.";
+            setPracticeText("연습할 문장을 불러올 수 없습니다. 파일을 확인해 주세요.");
         }
+        fireChanged(RESET_CHANGES);
     }
     
     /**
      * 게임용으로 중복 없는 10개 문장을 미리 선택합니다.
-     * 전체 문장 목록에서 랜덤하게 섞어서 최대 10개를 선택합니다.
+     * 전체 목록을 복사하거나 섞지 않고 문장 번호만 뽑으므로 말뭉치 크기와 관계없이 O(10)이며,
+     * 최근 게임에서 나온 문장은 가능한 한 피합니다.
      */
     private void selectGameTexts() {
         selectedGameTexts.clear();
         
+        if (practiceTexts == null) {
+            loadTextsForCurrentLanguage();  // 텍스트를 미뤄 둔 경우 첫 게임에서 읽음
+        }
         if (practiceTexts == null || practiceTexts.isEmpty()) {
             return;
         }
         
-        // 전체 문장 목록을 복사해서 섞기
-        List<String> shuffledTexts = new ArrayList<>(practiceTexts);
-        Collections.shuffle(shuffledTexts, random);
-        
         // 최대 10개 또는 전체 문장 수만큼 선택
-        int selectCount = Math.min(SENTENCES_PER_GAME, shuffledTexts.size());
-        for (int i = 0; i < selectCount; i++) {
-            selectedGameTexts.add(shuffledTexts.get(i));
+        for (int index : sentenceSampler.sample(practiceTexts.size(), SENTENCES_PER_GAME)) {
+            selectedGameTexts.add(practiceTexts.get(index));
         }
     }
 
     /**
      * 장문 텍스트를 문장 단위로 분리합니다.
-     * 마침표, 느낌표, 물음표를 기준으로 문장을 나누고 빈 문장은 제거합니다.
+     * 문단(빈 줄)과 문장 부호를 기준으로 한 번 훑어서 나누고, 빈 문장은 만들지 않습니다.
      * @param longText 분리할 장문 텍스트
+     * @see SentenceSegmenter
      */
     private void splitLongTextIntoSentences(String longText) {
         longTextSentences.clear();
         currentLongTextSentenceIndex = 0;
         originalLongText = longText != null ? longText : "";  // 원본 장문 저장
         
-        if (longText == null || longText.trim().isEmpty()) {
+        if (longText == null || longText.isBlank()) {
             return;
         }
         
-        // 먼저 문단별로 분리한 후, 각 문단 내에서 문장 분리
-        String[] paragraphs = longText.split("\n\n+");
-        List<String> allSentences = new ArrayList<>();
-        
-        for (String paragraph : paragraphs) {
-            String trimmedParagraph = paragraph.trim();
-            if (!trimmedParagraph.isEmpty()) {
-                // 각 문단 내에서 문장 분리
-                String[] sentences = trimmedParagraph.split("(?<=[.!?])\\s+");
-                for (String sentence : sentences) {
-                    String trimmedSentence = sentence.trim();
-                    if (!trimmedSentence.isEmpty()) {
-                        allSentences.add(trimmedSentence);
-                    }
-                }
-            }
-        }
-        
-        // 분리된 문장들을 배열로 변환
-        String[] sentences = allSentences.toArray(new String[0]);
-        
-        for (String sentence : sentences) {
-            String trimmed = sentence.trim();
-            if (!trimmed.isEmpty()) {
-                longTextSentences.add(trimmed);
-            }
-        }
-        
-        // 분리된 문장이 없으면 원본 텍스트를 그대로 추가
-        if (longTextSentences.isEmpty()) {
-            longTextSentences.add(longText.trim());
-        }
+        SentenceSegmenter.segment(longText,
+                (start, end) -> longTextSentences.add(SentenceSegmenter.sentenceText(longText, start, end)));
     }
 
     /**
@@ -393,33 +426,55 @@ public class GameModel {
      * 문장만 변경하고 게임 진행 상태(타수, 시간)는 유지됩니다.
      */
     public void setNewPracticeText() {
+        advanceToNextText();
+        int changes = GameModelListener.SENTENCE_ADVANCED | GameModelListener.PROGRESS | GameModelListener.ACCURACY;
+        fireChanged(gameCompleted ? changes | GameModelListener.GAME_COMPLETED : changes);
+    }
+
+    /**
+     * 현재 문장의 결과를 기록하고 다음 문장으로 이동합니다. 마지막 문장이었으면 게임을 완료 상태로 만듭니다.
+     */
+    private void advanceToNextText() {
         // 현재 문장의 결과를 먼저 기록
-        double currentAccuracy = getAccuracy();
-        double currentWPM = getAverageWPM();
-        sentenceAccuracies.add(currentAccuracy);
-        sentenceWPMs.add(currentWPM);
-        completedInputTexts.add(currentInputText);
+        double accuracy = getAccuracy();
+        double averageWPM = getAverageWPM();
+        sentenceAccuracySum += accuracy;
+        sentenceWPMSum += averageWPM;
+        completedSentenceCount++;
+        if (recordsMetrics) {
+            TypingMetrics.SENTENCES_COMPLETED.increment();
+            TypingMetrics.SENTENCE_ACCURACY.record(accuracy);
+            TypingMetrics.SENTENCE_CPM.record(averageWPM);
+        }
+        completedInputTexts.add(scorer.getNormalizedInput());
 
         // 현재 문장 관련 상태 초기화
         currentTypedChars = 0;
         correctChars = 0;
-        currentInputText = "";
-        lastProcessedInput = "";
+        lastProcessedStrokes = 0;
+        // 채점기는 아래에서 다음 문장(또는 완료 문구)을 지정할 때 setPracticeText가 다시 설정함
 
         if (currentGameMode == GameMode.LONG_TEXT) {
-            // 장문연습: 다음 문장으로 이동
+            // 장문연습: 다음 문장으로 이동 (스트리밍이면 필요한 만큼 더 읽고 지나간 문장은 버림)
             currentLongTextSentenceIndex++;
+            fillLongTextWindow();
+            trimLongTextWindow();
             
             // 모든 문장 완료 확인
-            if (currentLongTextSentenceIndex >= longTextSentences.size()) {
+            int windowIndex = currentLongTextSentenceIndex - longTextWindowStart;
+            if (windowIndex >= longTextSentences.size()) {
                 gameCompleted = true;
                 gameStarted = false;
-                currentPracticeText = "장문 입력을 완료했습니다!";
+                if (recordsMetrics) {
+                    TypingMetrics.GAMES_COMPLETED.increment();
+                }
+                closeLongTextStream();
+                setPracticeText("장문 입력을 완료했습니다!");
                 return;
             }
             
             // 다음 문장 설정
-            currentPracticeText = longTextSentences.get(currentLongTextSentenceIndex);
+            setPracticeText(longTextSentences.get(windowIndex));
 
         } else { // SENTENCE 모드
             // 문장 번호와 인덱스 증가
@@ -430,13 +485,16 @@ public class GameModel {
             if (currentSentenceNumber > SENTENCES_PER_GAME || currentGameTextIndex >= selectedGameTexts.size()) {
                 gameCompleted = true;
                 gameStarted = false;
-                currentPracticeText = "10개 문장 입력을 모두 완료했습니다!";
+                if (recordsMetrics) {
+                    TypingMetrics.GAMES_COMPLETED.increment();
+                }
+                setPracticeText("10개 문장 입력을 모두 완료했습니다!");
                 return;
             }
             
             // 다음 문장 설정 (미리 선택된 문장 목록에서)
             if (currentGameTextIndex < selectedGameTexts.size()) {
-                currentPracticeText = selectedGameTexts.get(currentGameTextIndex);
+                setPracticeText(selectedGameTexts.get(currentGameTextIndex));
             }
         }
     }
@@ -456,18 +514,19 @@ public class GameModel {
     private void resetGameState() {
         currentTypedChars = 0;
         correctChars = 0;
-        totalCharacters = 0;
-        startTime = null;
+        totalStrokes = 0;
+        timingStarted = false;
         gameStarted = false;
         gameCompleted = false;           // 게임 완료 상태 리셋
         currentSentenceNumber = 1;       // 문장 번호 리셋
         typingWindow.clear();
-        lastProcessedInput = "";
-        currentInputText = "";
+        lastProcessedStrokes = 0;
+        scorer.reset(normalizeText(currentPracticeText));
         
-        // 문장별 결과 추적 리스트 초기화
-        sentenceAccuracies.clear();
-        sentenceWPMs.clear();
+        // 문장별 결과 추적 초기화
+        completedSentenceCount = 0;
+        sentenceAccuracySum = 0.0;
+        sentenceWPMSum = 0.0;
         completedInputTexts.clear();
         // 완료 상태 추적 제거
         
@@ -476,7 +535,9 @@ public class GameModel {
         currentGameTextIndex = 0;
 
         // 장문연습 관련 초기화
+        closeLongTextStream();
         longTextSentences.clear();
+        longTextWindowStart = 0;
         currentLongTextSentenceIndex = 0;
         originalLongText = "";
     }
@@ -487,8 +548,12 @@ public class GameModel {
      */
     private void startGameIfNeeded() {
         if (!gameStarted) {
-            startTime = Instant.now();
+            startNanos = clock.nanoTime();
+            timingStarted = true;
             gameStarted = true;
+            if (recordsMetrics) {
+                TypingMetrics.GAMES_STARTED.increment();
+            }
         }
     }
 
@@ -522,76 +587,167 @@ public class GameModel {
     /**
      * 총 문장 개수를 반환합니다.
      * 문장연습: 10개, 장문연습: 분리된 문장 개수
+     * 스트리밍 장문은 지금까지 읽은 문장 개수이며, {@link #isTotalSentencesKnown()}으로 확정 여부를 확인합니다.
      * @return 총 문장 개수
      */
     public int getTotalSentences() {
         if (currentGameMode == GameMode.LONG_TEXT) {
-            return longTextSentences.size();
+            return longTextWindowStart + longTextSentences.size();
         }
         return SENTENCES_PER_GAME;
     }
 
+    /**
+     * 총 문장 개수가 확정되었는지 확인합니다.
+     * 스트리밍 장문을 아직 끝까지 읽지 않았으면 false입니다.
+     * @return 총 문장 개수 확정 여부
+     */
+    public boolean isTotalSentencesKnown() {
+        return longTextStream == null || currentGameMode != GameMode.LONG_TEXT;
+    }
+
     /**
      * 사용자 입력을 처리하고 정확도를 계산합니다.
      * 정규화를 통해 다양한 입력 형태를 일관되게 처리합니다.
+     * 이전 입력과 달라진 부분만 다시 채점하므로 문장 길이와 무관하게
+     * 변경된 글자 수에 비례하는 비용만 듭니다.
      * @param typedText 사용자가 입력한 텍스트
      */
     public void processInput(String typedText) {
+        // 리스너가 있으면 바뀐 값만 알리기 위해 이전 값을 기억
+        boolean notify = !listeners.isEmpty();
+        int previousTyped = notify ? getTypedStrokes() : 0;
+        int previousCorrect = notify ? getCorrectStrokes() : 0;
+        int previousTotal = totalStrokes;
+
         // 게임 시작 (첫 입력 시)
         startGameIfNeeded();
+        long now = clock.nanoTime();
         
-        // 입력 텍스트 정규화
-        String normalizedInput = normalizeText(typedText);
-        String normalizedTarget = normalizeText(currentPracticeText);
+        // 변경된 구간만 정규화하고 다시 채점
+        scorer.update(typedText);
         
-        // 현재 입력 텍스트 저장
-        currentInputText = normalizedInput;
+        // 입력 길이 및 올바른 문자 수
+        currentTypedChars = scorer.getTypedChars();
+        correctChars = scorer.getCorrectChars();
         
-        // 입력 길이 계산
-        currentTypedChars = normalizedInput.length();
+        // 키 입력 기록 (저널이 설정된 경우)
+        if (keystrokeJournal != null) {
+            recordKeystrokes(now);
+        }
         
-        // 올바른 문자 수 계산
-        correctChars = 0;
-        int minLength = Math.min(normalizedInput.length(), normalizedTarget.length());
-        for (int i = 0; i < minLength; i++) {
-            if (normalizedInput.charAt(i) == normalizedTarget.charAt(i)) {
-                correctChars++;
+        // 타이핑 이벤트 처리 (실시간 타수 계산용, 한글은 자모 단위)
+        int typedStrokes = scorer.getTypedStrokes();
+        processTypingEvents(lastProcessedStrokes, typedStrokes, now);
+        lastProcessedStrokes = typedStrokes;
+
+        if (notify) {
+            int changes = 0;
+            if (getTypedStrokes() != previousTyped || getCorrectStrokes() != previousCorrect) {
+                changes |= GameModelListener.ACCURACY;
+            }
+            if (totalStrokes != previousTotal) {
+                changes |= GameModelListener.SPEED;
             }
+            fireChanged(changes);
         }
-        
+    }
 
-        
-        // 타이핑 이벤트 처리 (실시간 타수 계산용)
-        processTypingEvents(lastProcessedInput, normalizedInput);
-        lastProcessedInput = normalizedInput;
+    /**
+     * 값 변경을 받을 리스너를 등록합니다.
+     * @param listener 등록할 리스너
+     */
+    public void addListener(GameModelListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 등록한 리스너를 제거합니다.
+     * @param listener 제거할 리스너
+     */
+    public void removeListener(GameModelListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireChanged(int changes) {
+        if (changes == 0) {
+            return;
+        }
+        for (GameModelListener listener : listeners) {
+            listener.gameModelChanged(this, changes);
+        }
+    }
+    
+    /**
+     * 마지막 입력에서 지워진 문자와 새로 입력된 문자를 저널에 기록합니다.
+     * @param nanoTime 입력 시각 (시계 기준)
+     */
+    private void recordKeystrokes(long nanoTime) {
+        int sentenceIndex = getCurrentSentenceNumber() - 1;
+        for (int i = 0; i < scorer.getRemovedChars(); i++) {
+            keystrokeJournal.append(nanoTime, KeystrokeJournal.EditKind.DELETE, 0, sentenceIndex);
+        }
+        int index = scorer.getEditStart();
+        while (index < currentTypedChars) {
+            int codePoint = scorer.codePointAt(index);
+            keystrokeJournal.append(nanoTime, KeystrokeJournal.EditKind.INSERT, codePoint, sentenceIndex);
+            index += Character.charCount(codePoint);
+        }
+    }
+    
+    /**
+     * 게임 및 문장 시작 같은 진행 이벤트를 저널에 기록합니다.
+     * @param kind 기록할 이벤트 종류
+     * @param codePoint 이벤트 값 (게임 시작의 경우 게임 모드 순서값)
+     */
+    private void recordJournal(KeystrokeJournal.EditKind kind, int codePoint) {
+        if (keystrokeJournal != null) {
+            keystrokeJournal.append(clock.nanoTime(), kind, codePoint, getCurrentSentenceNumber() - 1);
+        }
+    }
+    
+    /**
+     * 키 입력을 기록할 저널을 설정합니다.
+     * 저널 기록은 버퍼에만 쓰고 바로 반환되므로 입력 처리 지연에 영향을 주지 않습니다.
+     * @param journal 사용할 저널, 기록하지 않으려면 null
+     */
+    public void setKeystrokeJournal(KeystrokeJournal journal) {
+        this.keystrokeJournal = journal;
     }
     
     /**
      * 타이핑 이벤트를 처리하여 슬라이딩 윈도우를 업데이트합니다.
-     * @param oldInput 이전 입력
-     * @param newInput 새로운 입력
+     * 한글은 음절이 아니라 자모 키 입력 수로 세므로 "한"은 3타입니다.
+     * @param oldStrokes 이전 입력의 키 입력 수
+     * @param newStrokes 새로운 입력의 키 입력 수
+     * @param nanoTime 입력 시각 (시계 기준)
      */
-    private void processTypingEvents(String oldInput, String newInput) {
-        if (newInput.length() > oldInput.length()) {
-            // 새로운 문자가 입력됨
-            int newChars = newInput.length() - oldInput.length();
-            
-            Instant currentTime = Instant.now();
-            typingWindow.addLast(new TypingEvent(currentTime, newChars));
-            totalCharacters += newChars;
+    private void processTypingEvents(int oldStrokes, int newStrokes, long nanoTime) {
+        if (newStrokes > oldStrokes) {
+            // 새로운 키 입력이 반영됨
+            int newKeys = newStrokes - oldStrokes;
             
-            // 오래된 이벤트 제거 (5초 이상 된 이벤트)
-            while (!typingWindow.isEmpty()) {
-                TypingEvent firstEvent = typingWindow.peekFirst();
-                if (currentTime.minusSeconds(WINDOW_SEC).isAfter(firstEvent.time)) {
-                    typingWindow.removeFirst();
-                } else {
-                    break;
-                }
+            // 이벤트 추가와 함께 오래된 이벤트 제거 (5초 이상 된 이벤트)
+            typingWindow.add(nanoTime, newKeys);
+            totalStrokes += newKeys;
+            if (recordsMetrics) {
+                TypingMetrics.KEYSTROKES.add(newKeys);
             }
         }
     }
     
+    /**
+     * 현재 연습 문장을 변경하고 채점기를 새 문장으로 초기화합니다.
+     * @param text 새 연습 문장
+     */
+    private void setPracticeText(String text) {
+        currentPracticeText = text;
+        scorer.reset(normalizeText(text));
+        if (!gameCompleted) {
+            recordJournal(KeystrokeJournal.EditKind.SENTENCE_START, 0);
+        }
+    }
+    
     /**
      * 텍스트를 정규화합니다.
      * @param text 정규화할 텍스트
@@ -607,22 +763,24 @@ public class GameModel {
      * 주기적으로 호출되어 슬라이딩 윈도우를 정리합니다.
      */
     public void updateWPM() {
-        if (startTime == null) return;
+        if (!timingStarted) return;
         
-        Instant currentTime = Instant.now();
         // 5초 이상 된 오래된 이벤트들 제거
-        while (!typingWindow.isEmpty()) {
-            TypingEvent firstEvent = typingWindow.peekFirst();
-            if (currentTime.minusSeconds(WINDOW_SEC).isAfter(firstEvent.time)) {
-                typingWindow.removeFirst();
-            } else {
-                break;
-            }
-        }
+        typingWindow.evictOlderThan(clock.nanoTime());
     }
     
     /**
-     * 분당 문자수(CPM)를 반환합니다.
+     * 슬라이딩 윈도우가 보관할 수 있는 최대 입력 이벤트 수를 설정합니다.
+     * 기본값은 {@link TypingWindow#DEFAULT_CAPACITY}이며,
+     * 매우 빠른 입력에서 윈도우가 가득 차는 경우 늘려서 사용합니다.
+     * @param capacity 최대 입력 이벤트 수
+     */
+    public void setTypingWindowCapacity(int capacity) {
+        typingWindow.setCapacity(capacity);
+    }
+    
+    /**
+     * 분당 타수(CPM)를 반환합니다. 한글은 자모 키 입력 단위로 셉니다.
      * @return CPM 값
      */
     public double getCPM() {
@@ -631,61 +789,59 @@ public class GameModel {
     
     /**
      * 실시간 타수를 계산합니다 (슬라이딩 윈도우 기반).
-     * @return 분당 문자수(CPM)
+     * @return 분당 타수(CPM, 한글은 자모 키 입력 단위)
      */
     public double getRealTimeWPM() {
-        if (typingWindow.isEmpty() || startTime == null) {
+        if (typingWindow.isEmpty() || !timingStarted) {
             return 0.0;
         }
         
-        // 슬라이딩 윈도우 내의 문자 수 계산
-        int recentChars = 0;
-        for (TypingEvent event : typingWindow) {
-            recentChars += event.syllableCount;
-        }
+        // 슬라이딩 윈도우 내의 문자 수 (누적 합계로 유지)
+        int recentChars = typingWindow.getCharCount();
         
         if (recentChars == 0) {
             return 0.0;
         }
         
         // 실제 윈도우 크기 계산 (최대 5초, 실제로는 더 짧을 수 있음)
-        Instant currentTime = Instant.now();
-        Instant oldestEventTime = typingWindow.peekFirst().time;
-        double windowSeconds = Math.max(1.0, 
-            currentTime.toEpochMilli() - oldestEventTime.toEpochMilli()) / 1000.0;
+        long elapsedNanos = clock.nanoTime() - typingWindow.getOldestTime();
+        double windowSeconds = Math.max(1.0, elapsedNanos / 1_000_000.0) / 1000.0;
         
-        // CPM 계산: (문자 수 / 시간(초)) * 60
+        // CPM 계산: (키 입력 수 / 시간(초)) * 60
         return (recentChars / windowSeconds) * 60.0;
     }
     
     /**
      * 평균 타수를 계산합니다.
-     * @return 게임 시작부터 현재까지의 평균 분당 문자수(CPM)
+     * @return 게임 시작부터 현재까지의 평균 분당 타수(CPM, 한글은 자모 키 입력 단위)
      */
     public double getAverageWPM() {
-        if (startTime == null || totalCharacters == 0) {
+        if (!timingStarted || totalStrokes == 0) {
             return 0.0;
         }
         
-        double elapsedMinutes = (Instant.now().toEpochMilli() - startTime.toEpochMilli()) / 60000.0;
+        double elapsedMinutes = (clock.nanoTime() - startNanos) / 60_000_000_000.0;
         if (elapsedMinutes <= 0) {
             return 0.0;
         }
         
-        // CPM = 총 문자 수 / 경과 시간(분)
-        return totalCharacters / elapsedMinutes;
+        // CPM = 총 키 입력 수 / 경과 시간(분)
+        return totalStrokes / elapsedMinutes;
     }
     
     /**
      * 정확도를 백분율로 계산합니다.
+     * 자모 키 입력 단위로 비교하므로 "한" 자리에 "학"을 입력하면 3타 중 2타가 맞은 것으로 보고,
+     * 아직 조합 중인 마지막 음절은 입력한 자모가 맞으면 오타로 보지 않습니다.
      * @return 정확도 (0~100)
      */
     public double getAccuracy() {
-        if (currentTypedChars == 0) {
+        int typedStrokes = scorer.getTypedStrokes();
+        if (currentTypedChars == 0 || typedStrokes == 0) {
             return 0.0;  // 아무것도 입력하지 않았으면 0%
         }
         
-        return (double) correctChars / currentTypedChars * 100.0;
+        return (double) scorer.getCorrectStrokes() / typedStrokes * 100.0;
     }
     
     /**
@@ -712,6 +868,22 @@ public class GameModel {
         return correctChars;
     }
 
+    /**
+     * 현재 입력의 키 입력(자모) 수를 반환합니다.
+     * @return 현재 입력된 키 입력 수
+     */
+    public int getTypedStrokes() {
+        return currentTypedChars == 0 ? 0 : scorer.getTypedStrokes();
+    }
+
+    /**
+     * 올바르게 입력된 키 입력(자모) 수를 반환합니다.
+     * @return 올바른 키 입력 수
+     */
+    public int getCorrectStrokes() {
+        return currentTypedChars == 0 ? 0 : scorer.getCorrectStrokes();
+    }
+
     /**
      * 현재 문장의 입력이 완료되었는지 확인합니다.
      * @param typedText 입력된 텍스트
@@ -722,8 +894,16 @@ public class GameModel {
             return false;
         }
         
+        // 방금 채점한 입력이면 정규화를 다시 하지 않고 채점 결과를 사용
+        if (scorer.isCurrent(typedText)) {
+            if (allowLengthBasedCompletion) {
+                return scorer.getTypedChars() >= scorer.getTarget().length();
+            }
+            return scorer.matchesTarget();
+        }
+        
         String normalizedInput = normalizeText(typedText);
-        String normalizedTarget = normalizeText(currentPracticeText);
+        String normalizedTarget = scorer.getTarget();
         
         if (allowLengthBasedCompletion) {
             // 길이 기반 완료: 길이만 맞으면 완료 (정확도와 무관하게 다음 문장으로 진행)
@@ -755,16 +935,11 @@ public class GameModel {
      * @return 평균 정확도
      */
     public double getAverageAccuracy() {
-        if (sentenceAccuracies.isEmpty()) {
+        if (completedSentenceCount == 0) {
             return 0.0;
         }
         
-        double sum = 0.0;
-        for (Double accuracy : sentenceAccuracies) {
-            sum += accuracy;
-        }
-        
-        return sum / sentenceAccuracies.size();
+        return sentenceAccuracySum / completedSentenceCount;
     }
     
     /**
@@ -772,16 +947,11 @@ public class GameModel {
      * @return 평균 타수 (CPM)
      */
     public double getAverageWPMOfSentences() {
-        if (sentenceWPMs.isEmpty()) {
+        if (completedSentenceCount == 0) {
             return 0.0;
         }
         
-        double sum = 0.0;
-        for (Double wpm : sentenceWPMs) {
-            sum += wpm;
-        }
-        
-        return sum / sentenceWPMs.size();
+        return sentenceWPMSum / completedSentenceCount;
     }
     
     /**
@@ -789,15 +959,17 @@ public class GameModel {
      * @return 완료된 문장 개수
      */
     public int getCompletedSentenceCount() {
-        return sentenceAccuracies.size();
+        return completedSentenceCount;
     }
 
     /**
      * 완료된 문장들의 입력 내용을 반환합니다.
-     * @return 완료된 문장들의 입력 내용 리스트
+     * 장문연습에서는 {@link #getLongTextSentences()}와 같은 위치부터 시작합니다.
+     * 복사하지 않은 읽기 전용 뷰이므로 문장을 완료하면 내용이 함께 바뀝니다.
+     * @return 완료된 문장들의 입력 내용 리스트 (읽기 전용)
      */
     public List<String> getCompletedInputTexts() {
-        return new ArrayList<>(completedInputTexts);
+        return Collections.unmodifiableList(completedInputTexts);
     }
     
     /**
@@ -810,39 +982,54 @@ public class GameModel {
             return false;
         }
         
-        String normalizedInput = normalizeText(typedText);
-        String normalizedTarget = normalizeText(currentPracticeText);
+        if (scorer.isCurrent(typedText)) {
+            return scorer.isPrefixOfTarget();
+        }
         
-        return normalizedTarget.startsWith(normalizedInput);
+        String normalizedInput = normalizeText(typedText);
+        return scorer.getTarget().startsWith(normalizedInput);
     }
 
     /**
      * 장문연습에서 전체 문장 리스트를 반환합니다.
+     * 스트리밍 장문에서는 현재 메모리에 있는 구간(지나간 문장 일부와 미리 읽은 문장)만 반환합니다.
      * 문장연습에서는 빈 리스트를 반환합니다.
-     * @return 장문의 모든 문장 리스트
+     * 키 입력마다 불려도 장문 길이만큼 복사하지 않도록 읽기 전용 뷰를 반환하며,
+     * 문장을 넘기면 내용이 함께 바뀝니다.
+     * @return 장문의 문장 리스트 (읽기 전용)
      */
     public List<String> getLongTextSentences() {
         if (currentGameMode == GameMode.LONG_TEXT) {
-            return new ArrayList<>(longTextSentences);  // 복사본 반환 (안전성)
+            return Collections.unmodifiableList(longTextSentences);
         }
-        return new ArrayList<>();  // 문장연습에서는 빈 리스트
+        return Collections.emptyList();  // 문장연습에서는 빈 리스트
     }
 
     /**
      * 장문연습에서 현재 문장의 인덱스를 반환합니다.
+     * {@link #getLongTextSentences()}가 반환하는 리스트 안에서의 위치입니다.
      * 문장연습에서는 -1을 반환합니다.
      * @return 현재 문장 인덱스 (0부터 시작)
      */
     public int getCurrentLongTextSentenceIndex() {
         if (currentGameMode == GameMode.LONG_TEXT) {
-            return currentLongTextSentenceIndex;
+            return currentLongTextSentenceIndex - longTextWindowStart;
         }
         return -1;  // 문장연습에서는 -1
     }
 
+    /**
+     * 장문연습에서 {@link #getLongTextSentences()}가 반환하는 구간의 첫 문장이 장문 전체에서 몇 번째인지 반환합니다.
+     * 스트리밍 장문이 아니면 항상 0입니다.
+     * @return 구간 시작 인덱스 (0부터 시작)
+     */
+    public int getLongTextWindowStart() {
+        return currentGameMode == GameMode.LONG_TEXT ? longTextWindowStart : 0;
+    }
+
     /**
      * 장문연습에서 전체 원본 장문 텍스트를 반환합니다.
-     * 문장연습에서는 빈 문자열을 반환합니다.
+     * 문장연습과 스트리밍 장문에서는 빈 문자열을 반환합니다.
      * @return 원본 장문 텍스트
      */
     public String getFullLongText() {
@@ -891,29 +1078,100 @@ public class GameModel {
 
     /**
      * 특정 장문으로 게임을 시작합니다.
+     * 장문은 스트리밍으로 읽으므로 첫 문장을 읽는 즉시 연습을 시작할 수 있습니다.
      * @param longText 선택된 장문 텍스트 정보
      */
     public void startLongTextGame(LongText longText) {
+        String fullPath = "resources/" + longText.fileName();
+        startLongTextGame(textRepository.openLongTextStream(fullPath));
+    }
+
+    /**
+     * 문장 스트림으로 장문 게임을 시작합니다.
+     * 현재 문장 앞뒤의 일정 구간만 메모리에 두므로 책 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 스트림은 게임이 끝나거나 새 게임을 시작할 때 닫힙니다.
+     * @param stream 연습할 장문의 문장 스트림
+     */
+    public void startLongTextGame(LongTextStream stream) {
+        resetGameState();
+        setCurrentGameMode(GameMode.LONG_TEXT);
+        recordJournal(KeystrokeJournal.EditKind.GAME_START, GameMode.LONG_TEXT.ordinal());
+
+        longTextStream = stream;
+        fillLongTextWindow();
+        if (!longTextSentences.isEmpty()) {
+            currentLongTextSentenceIndex = 0;
+            setPracticeText(longTextSentences.get(0));
+        } else {
+            setPracticeText("장문 텍스트를 불러올 수 없습니다.");
+        }
+        fireChanged(RESET_CHANGES);
+    }
+
+    /**
+     * 스트리밍 장문에서 현재 문장 뒤로 일정 개수의 문장을 미리 읽어 둡니다.
+     * 스트림을 끝까지 읽으면 닫아서 총 문장 수가 확정되도록 합니다.
+     */
+    private void fillLongTextWindow() {
+        if (longTextStream == null) {
+            return;
+        }
+        int wanted = currentLongTextSentenceIndex - longTextWindowStart + 1 + LONG_TEXT_LOOKAHEAD;
+        while (longTextSentences.size() < wanted && longTextStream.hasNext()) {
+            longTextSentences.add(longTextStream.next());
+        }
+        if (!longTextStream.hasNext()) {
+            closeLongTextStream();
+        }
+    }
+
+    /**
+     * 스트리밍 장문에서 오래 지난 문장과 그 입력 내용을 메모리에서 제거합니다.
+     */
+    private void trimLongTextWindow() {
+        if (longTextStream == null) {
+            return;
+        }
+        int removable = currentLongTextSentenceIndex - longTextWindowStart - LONG_TEXT_HISTORY;
+        if (removable > 0) {
+            longTextSentences.subList(0, removable).clear();
+            completedInputTexts.subList(0, Math.min(removable, completedInputTexts.size())).clear();
+            longTextWindowStart += removable;
+        }
+    }
+
+    private void closeLongTextStream() {
+        if (longTextStream != null) {
+            longTextStream.close();
+            longTextStream = null;
+        }
+    }
+
+    /**
+     * 주어진 장문 내용으로 게임을 시작합니다.
+     * 리소스 파일이 아닌 텍스트(외부 파일, 벤치마크용 텍스트 등)를 연습할 때 사용합니다.
+     * @param content 연습할 장문 전체 내용
+     */
+    public void startLongTextGame(String content) {
         // 1. 게임 상태 초기화
         resetGameState();
         
         // 2. 게임 모드 설정
         setCurrentGameMode(GameMode.LONG_TEXT);
+        recordJournal(KeystrokeJournal.EditKind.GAME_START, GameMode.LONG_TEXT.ordinal());
         
-        // 3. 장문 텍스트 불러오기 및 분리
-        String fullPath = "resources/" + longText.fileName();
-        String content = textRepository.loadFullText(fullPath);
-        
+        // 3. 장문 텍스트 분리
         this.originalLongText = content;
         splitLongTextIntoSentences(content);
         
         // 4. 첫 문장 설정
         if (longTextSentences != null && !longTextSentences.isEmpty()) {
             currentLongTextSentenceIndex = 0;
-            currentPracticeText = longTextSentences.get(currentLongTextSentenceIndex);
+            setPracticeText(longTextSentences.get(currentLongTextSentenceIndex));
         } else {
-            currentPracticeText = "장문 텍스트를 불러올 수 없습니다.";
+            setPracticeText("장문 텍스트를 불러올 수 없습니다.");
         }
+        fireChanged(RESET_CHANGES);
     }
 
     public Difficulty getMoleGameDifficulty() {
@@ -923,4 +1181,13 @@ public class GameModel {
     public void setMoleGameDifficulty(Difficulty moleGameDifficulty) {
         this.moleGameDifficulty = moleGameDifficulty;
     }
+
+    /**
+     * 최근에 나온 문장 기록을 지웁니다.
+     * 게임마다 같은 문장 분포가 필요한 경우(시뮬레이터)에 게임 시작 전에 호출하며,
+     * 일반 게임에서는 기록을 유지해 최근 문장이 다시 나오지 않게 합니다.
+     */
+    public void clearSentenceHistory() {
+        sentenceSampler.clearHistory();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package core;
+
+/**
+ * {@link GameModel}의 값 변경을 받는 리스너
+ *
+ * 모델은 값이 실제로 바뀐 경우에만 무엇이 바뀌었는지를 비트 묶음으로 알려줍니다.
+ * 키 입력마다 호출될 수 있으므로 화면 갱신처럼 무거운 작업은 여러 변경을 모아서 처리해야 합니다.
+ * (예: GameUI의 ModelUpdateDispatcher)
+ *
+ * 리스너는 모델을 변경한 스레드에서 호출됩니다. 데스크톱 게임에서는 EDT입니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface GameModelListener {
+    int PROGRESS = 1;                // 문장 번호 또는 전체 문장 수
+    int ACCURACY = 1 << 1;           // 현재 문장의 정확도와 키 입력 수
+    int SPEED = 1 << 2;              // 평균 타수 (키 입력 수 또는 시간 경과)
+    int SENTENCE_ADVANCED = 1 << 3;  // 다음 문장으로 넘어감
+    int GAME_COMPLETED = 1 << 4;     // 게임을 끝까지 완료함
+    int GAME_RESET = 1 << 5;         // 새 게임을 시작함
+    int ALL = PROGRESS | ACCURACY | SPEED | SENTENCE_ADVANCED | GAME_COMPLETED | GAME_RESET;
+
+    /**
+     * 모델의 값이 바뀌었을 때 호출됩니다.
+     * @param model 바뀐 모델
+     * @param changes 바뀐 항목 ({@link #PROGRESS}, {@link #ACCURACY} 등을 OR로 묶은 값)
+     */
+    void gameModelChanged(GameModel model, int changes);
+}
@@ -0,0 +1,308 @@
+package core;
+
+/**
+ * 한글 음절을 두벌식 자판의 키 입력(자모) 단위로 나누는 계산기
+ *
+ * 완성형 한글 음절(U+AC00~U+D7A3)은 {@code (초성 * 21 + 중성) * 28 + 종성} 규칙으로 배치되어 있으므로
+ * 나눗셈과 나머지만으로 초성, 중성, 종성 번호를 구하고, 겹모음(ㅘ = ㅗ+ㅏ)과 겹받침(ㄺ = ㄹ+ㄱ)은
+ * 작은 표로 두 번의 키 입력으로 풀어 씁니다. 쌍자음(ㄲ, ㅆ 등)과 ㅒ, ㅖ는 Shift와 함께 한 번에 입력하므로
+ * 한 번으로 셉니다. 예를 들어 "한"은 ㅎ, ㅏ, ㄴ 3타, "닭"은 ㄷ, ㅏ, ㄹ, ㄱ 4타입니다.
+ *
+ * 한 글자의 키 입력 순서는 long 하나에 담아 돌려주므로 어떤 메서드도 객체를 만들지 않습니다.
+ * (하위 4비트: 키 개수, 그 위로 8비트마다 호환용 자모 U+3130 기준 오프셋)
+ * 한글이 아닌 문자는 키 입력 1타로 셉니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class HangulJamo {
+    public static final char SYLLABLE_FIRST = 0xAC00;  // '가'
+    public static final char SYLLABLE_LAST = 0xD7A3;   // '힣'
+
+    private static final char COMPAT_BASE = 0x3130;    // 호환용 자모 기준 (ㄱ = 0x3131)
+    private static final char COMPAT_FIRST = 0x3131;   // 'ㄱ'
+    private static final char COMPAT_LAST = 0x3163;    // 'ㅣ'
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    // 초성 19개의 호환용 자모
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 중성 21개의 키 입력 (겹모음은 두 글자)
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    // 종성 28개의 키 입력 (받침 없음 포함, 겹받침은 두 글자)
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final long[] INITIAL_KEYS = new long[INITIALS.length()];
+    private static final long[] MEDIAL_KEYS = new long[MEDIAL_COUNT];
+    private static final long[] FINAL_KEYS = new long[FINAL_COUNT];
+    private static final long[] COMPAT_KEYS = new long[COMPAT_LAST - COMPAT_BASE + 1];  // 낱자모 입력
+
+    static {
+        for (int i = 0; i < INITIAL_KEYS.length; i++) {
+            INITIAL_KEYS[i] = pack(String.valueOf(INITIALS.charAt(i)));
+        }
+        for (int i = 0; i < MEDIAL_COUNT; i++) {
+            MEDIAL_KEYS[i] = pack(MEDIALS[i]);
+            COMPAT_KEYS[compatOf(MEDIALS[i])] = MEDIAL_KEYS[i];
+        }
+        for (int i = 1; i < FINAL_COUNT; i++) {
+            FINAL_KEYS[i] = pack(FINALS[i]);
+            COMPAT_KEYS[compatOf(FINALS[i])] = FINAL_KEYS[i];
+        }
+        for (int i = 0; i < INITIAL_KEYS.length; i++) {
+            COMPAT_KEYS[INITIALS.charAt(i) - COMPAT_BASE] = INITIAL_KEYS[i];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 완성형 한글 음절인지 확인합니다.
+     * @param c 확인할 문자
+     * @return 완성형 한글 음절이면 true
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 자모 단위로 나눌 수 있는 한글(완성형 음절 또는 호환용 자모)인지 확인합니다.
+     * @param c 확인할 문자
+     * @return 한글이면 true
+     */
+    public static boolean isHangul(char c) {
+        return isSyllable(c) || (c >= COMPAT_FIRST && c <= COMPAT_LAST);
+    }
+
+    /**
+     * 문자를 입력하는 데 필요한 키 입력 수를 반환합니다.
+     * @param c 문자
+     * @return 키 입력 수 (한글 음절은 2~5, 그 밖의 문자는 1)
+     */
+    public static int strokeCount(char c) {
+        if (isSyllable(c)) {
+            int s = c - SYLLABLE_FIRST;
+            return 1 + keyCount(MEDIAL_KEYS[(s / FINAL_COUNT) % MEDIAL_COUNT]) + keyCount(FINAL_KEYS[s % FINAL_COUNT]);
+        }
+        if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+            return keyCount(COMPAT_KEYS[c - COMPAT_BASE]);
+        }
+        return 1;
+    }
+
+    /**
+     * 텍스트 구간을 입력하는 데 필요한 키 입력 수를 반환합니다.
+     * @param text 텍스트
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (제외)
+     * @return 키 입력 수 합계
+     */
+    public static int strokeCount(CharSequence text, int start, int end) {
+        int strokes = 0;
+        for (int i = start; i < end; i++) {
+            strokes += strokeCount(text.charAt(i));
+        }
+        return strokes;
+    }
+
+    /**
+     * 한글 문자의 키 입력 순서를 반환합니다.
+     * @param c 완성형 한글 음절 또는 호환용 자모
+     * @return 키 입력 순서 ({@link #keyCount(long)}, {@link #keyAt(long, int)}로 읽음), 한글이 아니면 0
+     */
+    public static long keys(char c) {
+        if (isSyllable(c)) {
+            int s = c - SYLLABLE_FIRST;
+            long keys = INITIAL_KEYS[s / (MEDIAL_COUNT * FINAL_COUNT)];
+            keys = append(keys, MEDIAL_KEYS[(s / FINAL_COUNT) % MEDIAL_COUNT]);
+            return append(keys, FINAL_KEYS[s % FINAL_COUNT]);
+        }
+        if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+            return COMPAT_KEYS[c - COMPAT_BASE];
+        }
+        return 0L;
+    }
+
+    /**
+     * @param keys {@link #keys(char)}의 결과
+     * @return 키 개수
+     */
+    public static int keyCount(long keys) {
+        return (int) (keys & 0xF);
+    }
+
+    /**
+     * @param keys {@link #keys(char)}의 결과
+     * @param index 키 순서 (0부터)
+     * @return 해당 순서의 키 (호환용 자모)
+     */
+    public static char keyAt(long keys, int index) {
+        return (char) (COMPAT_BASE + ((keys >>> (4 + 8 * index)) & 0xFF));
+    }
+
+    /**
+     * 입력한 글자의 키 입력 중 목표 글자와 앞에서부터 일치하는 키 입력 수를 반환합니다.
+     * "학"을 "한" 자리에 입력하면 ㅎ, ㅏ가 맞으므로 2입니다.
+     * @param typed 입력한 글자
+     * @param target 목표 글자
+     * @return 맞은 키 입력 수 (0 ~ typed의 키 입력 수)
+     */
+    public static int matchingStrokes(char typed, char target) {
+        if (typed == target) {
+            return strokeCount(typed);
+        }
+        return commonPrefix(keys(typed), keys(target), 0L);
+    }
+
+    /**
+     * 아직 조합 중인 마지막 글자의 맞은 키 입력 수를 반환합니다.
+     * 두벌식에서는 다음 음절의 초성이 먼저 현재 음절의 받침으로 붙으므로("하세" 입력 중 "핫"),
+     * 목표 글자 뒤에 다음 목표 글자의 키 입력까지 이어서 비교합니다.
+     * 반쯤 입력한 음절("한"을 입력 중인 "하")은 입력한 키 입력이 모두 맞은 것으로 셉니다.
+     * @param typed 조합 중인 글자
+     * @param target 목표 글자
+     * @param nextTarget 다음 목표 글자, 없으면 0
+     * @return 맞은 키 입력 수 (0 ~ typed의 키 입력 수)
+     */
+    public static int composingMatchingStrokes(char typed, char target, char nextTarget) {
+        if (typed == target) {
+            return strokeCount(typed);
+        }
+        return commonPrefix(keys(typed), keys(target), keys(nextTarget));
+    }
+
+    /**
+     * 음절을 입력하는 도중 처음 몇 번의 키 입력만 했을 때 입력기가 보여 주는 글자를 반환합니다.
+     * "한"은 1타에 "ㅎ", 2타에 "하", "과"는 2타에 "고"입니다.
+     * @param syllable 입력하려는 완성형 한글 음절
+     * @param strokes 지금까지 입력한 키 입력 수 (1 이상)
+     * @return 조합 중인 글자, strokes가 음절의 키 입력 수 이상이거나 한글 음절이 아니면 syllable
+     */
+    public static char composingState(char syllable, int strokes) {
+        if (!isSyllable(syllable) || strokes >= strokeCount(syllable)) {
+            return syllable;
+        }
+        int s = syllable - SYLLABLE_FIRST;
+        int initial = s / (MEDIAL_COUNT * FINAL_COUNT);
+        int medial = (s / FINAL_COUNT) % MEDIAL_COUNT;
+        if (strokes <= 1) {
+            return INITIALS.charAt(initial);
+        }
+        int medialKeys = keyCount(MEDIAL_KEYS[medial]);
+        if (strokes - 1 < medialKeys) {
+            // 겹모음의 첫 모음까지만 입력 ("과" 입력 중 "고")
+            return compose(initial, indexOf(MEDIAL_KEYS, 0, firstKey(MEDIAL_KEYS[medial])), 0);
+        }
+        if (strokes - 1 == medialKeys) {
+            return compose(initial, medial, 0);
+        }
+        // 겹받침의 첫 자음까지만 입력 ("닭" 입력 중 "달")
+        return compose(initial, medial, indexOf(FINAL_KEYS, 1, firstKey(FINAL_KEYS[s % FINAL_COUNT])));
+    }
+
+    /**
+     * 조합 중인 음절 뒤에 자음을 입력했을 때 그 자음이 받침으로 붙은 글자를 반환합니다.
+     * 두벌식에서는 다음 음절의 초성이 먼저 받침으로 붙습니다. ("하" 뒤 ㅅ → "핫", "갈" 뒤 ㄱ → "갉")
+     * @param syllable 조합 중인 완성형 한글 음절
+     * @param consonant 입력한 자음 (호환용 자모)
+     * @return 받침이 붙은 음절, 받침으로 붙을 수 없으면 0
+     */
+    public static char attachFinal(char syllable, char consonant) {
+        if (!isSyllable(syllable) || consonant < COMPAT_FIRST || consonant > COMPAT_LAST) {
+            return 0;
+        }
+        int finalIndex = (syllable - SYLLABLE_FIRST) % FINAL_COUNT;
+        long keys = append(FINAL_KEYS[finalIndex], 1 | (long) (consonant - COMPAT_BASE) << 4);
+        int attached = indexOf(FINAL_KEYS, 1, keys);
+        return attached < 0 ? 0 : (char) (syllable - finalIndex + attached);
+    }
+
+    private static char compose(int initial, int medial, int finalIndex) {
+        return (char) (SYLLABLE_FIRST + (initial * MEDIAL_COUNT + medial) * FINAL_COUNT + finalIndex);
+    }
+
+    private static long firstKey(long keys) {
+        return (keys & 0xFF0L) | 1;
+    }
+
+    private static int indexOf(long[] table, int from, long keys) {
+        for (int i = from; i < table.length; i++) {
+            if (table[i] == keys) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 입력한 키 입력 순서가 목표 키 입력 순서(target 다음에 next)와 앞에서부터 일치하는 개수를 셉니다.
+     */
+    private static int commonPrefix(long typed, long target, long next) {
+        int typedCount = keyCount(typed);
+        int targetCount = keyCount(target);
+        if (typedCount == 0 || targetCount == 0) {
+            return 0;  // 한글이 아닌 서로 다른 문자
+        }
+        int limit = Math.min(typedCount, targetCount + keyCount(next));
+        int matched = 0;
+        while (matched < limit) {
+            long expected = matched < targetCount
+                    ? (target >>> (4 + 8 * matched)) & 0xFF
+                    : (next >>> (4 + 8 * (matched - targetCount))) & 0xFF;
+            if (((typed >>> (4 + 8 * matched)) & 0xFF) != expected) {
+                break;
+            }
+            matched++;
+        }
+        return matched;
+    }
+
+    private static long append(long keys, long more) {
+        int count = keyCount(keys);
+        int moreCount = keyCount(more);
+        return ((keys | ((more >>> 4) << (4 + 8 * count))) & ~0xFL) | (count + moreCount);
+    }
+
+    private static long pack(String jamo) {
+        long keys = jamo.length();
+        for (int i = 0; i < jamo.length(); i++) {
+            keys |= (long) (jamo.charAt(i) - COMPAT_BASE) << (4 + 8 * i);
+        }
+        return keys;
+    }
+
+    private static int compatOf(String jamo) {
+        // 겹모음, 겹받침은 호환용 자모에서 한 글자이므로 해당 글자를 찾아 연결
+        if (jamo.length() == 1) {
+            return jamo.charAt(0) - COMPAT_BASE;
+        }
+        return switch (jamo) {
+            case "ㅗㅏ" -> 'ㅘ' - COMPAT_BASE;
+            case "ㅗㅐ" -> 'ㅙ' - COMPAT_BASE;
+            case "ㅗㅣ" -> 'ㅚ' - COMPAT_BASE;
+            case "ㅜㅓ" -> 'ㅝ' - COMPAT_BASE;
+            case "ㅜㅔ" -> 'ㅞ' - COMPAT_BASE;
+            case "ㅜㅣ" -> 'ㅟ' - COMPAT_BASE;
+            case "ㅡㅣ" -> 'ㅢ' - COMPAT_BASE;
+            case "ㄱㅅ" -> 'ㄳ' - COMPAT_BASE;
+            case "ㄴㅈ" -> 'ㄵ' - COMPAT_BASE;
+            case "ㄴㅎ" -> 'ㄶ' - COMPAT_BASE;
+            case "ㄹㄱ" -> 'ㄺ' - COMPAT_BASE;
+            case "ㄹㅁ" -> 'ㄻ' - COMPAT_BASE;
+            case "ㄹㅂ" -> 'ㄼ' - COMPAT_BASE;
+            case "ㄹㅅ" -> 'ㄽ' - COMPAT_BASE;
+            case "ㄹㅌ" -> 'ㄾ' - COMPAT_BASE;
+            case "ㄹㅍ" -> 'ㄿ' - COMPAT_BASE;
+            case "ㄹㅎ" -> 'ㅀ' - COMPAT_BASE;
+            case "ㅂㅅ" -> 'ㅄ' - COMPAT_BASE;
+            default -> throw new IllegalStateException("알 수 없는 자모: " + jamo);
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * 목표 문장 하이라이트의 구간(run) 목록과 변경분 계산
+ *
+ * 입력과 목표 문장을 비교해 같은 스타일이 이어지는 구간(맞음, 틀림, 아직 입력 안 함)의 목록을 만들고,
+ * 이전에 문서에 적용한 구간 목록과 비교해서 스타일이 바뀐 범위만 돌려줍니다.
+ * 끝에 한 글자를 입력하거나 지우면 보통 범위 하나만 바뀌므로, 키 입력마다 문서 전체의 속성을
+ * 다시 설정하지 않아도 됩니다.
+ *
+ * 구간 목록은 기본형 배열 두 개를 번갈아 쓰므로 키 입력 경로에서 객체를 만들지 않습니다.
+ * Swing에 의존하지 않으며, 실제 적용은 {@link SpanConsumer}를 넘기는 쪽이 합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class HighlightRuns {
+    public static final int DEFAULT = 0;    // 아직 입력하지 않은 글자
+    public static final int CORRECT = 1;    // 맞게 입력한 글자
+    public static final int INCORRECT = 2;  // 틀리게 입력한 글자
+    private static final int UNKNOWN = -1;  // 적용된 스타일을 알 수 없음 (다음 갱신에서 모두 다시 적용)
+
+    /**
+     * 스타일이 바뀐 범위를 받아 실제 문서에 적용하는 함수
+     */
+    @FunctionalInterface
+    public interface SpanConsumer {
+        /**
+         * @param start 시작 위치
+         * @param length 길이
+         * @param style {@link #DEFAULT}, {@link #CORRECT}, {@link #INCORRECT} 중 하나
+         */
+        void apply(int start, int length, int style);
+    }
+
+    private int[] appliedStarts = new int[16];  // 문서에 적용된 구간의 시작 위치
+    private int[] appliedStyles = new int[16];  // 문서에 적용된 구간의 스타일
+    private int appliedCount = 0;
+    private int appliedLength = -1;             // 적용된 구간 목록이 덮는 문서 길이 (-1이면 모름)
+
+    private int[] nextStarts = new int[16];     // 새로 계산한 구간 (계산 후 적용 목록과 맞바꿈)
+    private int[] nextStyles = new int[16];
+    private int nextCount = 0;
+
+    /**
+     * 문서에 목표 문장을 기본 스타일로 새로 넣었을 때 호출합니다.
+     * @param length 문서 길이
+     */
+    public void reset(int length) {
+        appliedCount = 0;
+        appliedLength = length;
+        if (length > 0) {
+            appliedStarts[0] = 0;
+            appliedStyles[0] = DEFAULT;
+            appliedCount = 1;
+        }
+    }
+
+    /**
+     * 문서의 스타일을 알 수 없게 되었을 때(테마 변경, 다른 모드의 하이라이트 등) 호출합니다.
+     * 다음 {@link #update}에서 문장 전체를 다시 적용합니다.
+     */
+    public void invalidate() {
+        appliedCount = 0;
+        appliedLength = -1;
+    }
+
+    /**
+     * 입력에 맞는 구간 목록을 계산하고, 이전에 적용한 목록과 달라진 범위만 전달합니다.
+     * 이어진 범위가 같은 스타일로 바뀌면 하나로 합쳐서 전달합니다.
+     * @param input 지금까지의 입력
+     * @param target 목표 문장 (문서 내용과 같아야 함)
+     * @param consumer 바뀐 범위를 적용할 함수
+     * @return 전달한 범위 수
+     */
+    public int update(CharSequence input, CharSequence target, SpanConsumer consumer) {
+        int length = target.length();
+        computeRuns(input, target);
+        if (appliedLength != length) {
+            // 문서가 바뀌었거나 스타일을 모르는 경우 전체를 한 번에 다시 적용
+            appliedStarts[0] = 0;
+            appliedStyles[0] = UNKNOWN;
+            appliedCount = length > 0 ? 1 : 0;
+            appliedLength = length;
+        }
+
+        int spans = 0;
+        int spanStart = -1;
+        int spanEnd = -1;
+        int spanStyle = DEFAULT;
+        int pos = 0;
+        int a = 0;
+        int b = 0;
+        while (pos < length) {
+            int appliedEnd = a + 1 < appliedCount ? appliedStarts[a + 1] : length;
+            int nextEnd = b + 1 < nextCount ? nextStarts[b + 1] : length;
+            int end = Math.min(appliedEnd, nextEnd);
+            int style = nextStyles[b];
+            if (appliedStyles[a] != style) {
+                if (spanStart >= 0 && spanEnd == pos && spanStyle == style) {
+                    spanEnd = end;
+                } else {
+                    if (spanStart >= 0) {
+                        consumer.apply(spanStart, spanEnd - spanStart, spanStyle);
+                        spans++;
+                    }
+                    spanStart = pos;
+                    spanEnd = end;
+                    spanStyle = style;
+                }
+            }
+            pos = end;
+            if (appliedEnd == end) {
+                a++;
+            }
+            if (nextEnd == end) {
+                b++;
+            }
+        }
+        if (spanStart >= 0) {
+            consumer.apply(spanStart, spanEnd - spanStart, spanStyle);
+            spans++;
+        }
+
+        // 새 목록이 적용된 목록이 됨
+        int[] starts = appliedStarts;
+        int[] styles = appliedStyles;
+        appliedStarts = nextStarts;
+        appliedStyles = nextStyles;
+        appliedCount = nextCount;
+        nextStarts = starts;
+        nextStyles = styles;
+        return spans;
+    }
+
+    /**
+     * @return 현재 적용된 구간 수
+     */
+    public int getRunCount() {
+        return appliedCount;
+    }
+
+    /**
+     * 입력과 목표 문장을 비교해 새 구간 목록을 만듭니다.
+     * 입력이 목표 문장보다 길면 문장 전체를 틀림으로 표시합니다.
+     */
+    private void computeRuns(CharSequence input, CharSequence target) {
+        nextCount = 0;
+        int length = target.length();
+        int inputLength = input.length();
+        if (inputLength > length) {
+            addRun(0, INCORRECT);
+            return;
+        }
+        for (int i = 0; i < inputLength; i++) {
+            addRun(i, input.charAt(i) == target.charAt(i) ? CORRECT : INCORRECT);
+        }
+        if (inputLength < length) {
+            addRun(inputLength, DEFAULT);
+        }
+    }
+
+    private void addRun(int start, int style) {
+        if (nextCount > 0 && nextStyles[nextCount - 1] == style) {
+            return;  // 앞 구간과 같은 스타일이면 이어 붙임
+        }
+        if (nextCount == nextStarts.length) {
+            nextStarts = Arrays.copyOf(nextStarts, nextCount * 2);
+            nextStyles = Arrays.copyOf(nextStyles, nextCount * 2);
+        }
+        nextStarts[nextCount] = start;
+        nextStyles[nextCount] = style;
+        nextCount++;
+    }
+}
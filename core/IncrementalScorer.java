@@ -0,0 +1,304 @@
+package core;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 키 입력마다 변경된 부분만 다시 채점하는 증분 채점기
+ *
+ * 이전 입력의 NFC 정규화 결과와 위치별 정답 누적 개수를 보관하고,
+ * 새 입력이 들어오면 이전 입력과 달라진 지점부터 끝까지만 다시 정규화하고
+ * 다시 비교합니다. 뒤에 글자를 붙이거나 지우는 일반적인 입력은
+ * 변경된 글자 수에 비례하는 비용만 듭니다. 중간이 수정된 경우에는
+ * 수정 지점부터 다시 계산하며, 앞쪽 공백이 바뀐 경우에는 전체를 다시 계산합니다.
+ *
+ * 정규화 결과는 {@code Normalizer.normalize(text.trim(), NFC)}와 동일합니다.
+ *
+ * 글자 단위 결과와 함께 두벌식 키 입력(자모) 단위 결과도 계산합니다. ({@link HangulJamo})
+ * 마지막 글자는 아직 조합 중일 수 있으므로, 반쯤 입력한 음절은 입력한 자모가 맞으면 오타로 보지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class IncrementalScorer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private String target = "";                      // 정규화된 목표 문장
+    private String lastRaw = null;                   // 마지막으로 처리한 원본 입력
+    private int lastLead = 0;                        // 원본 입력 앞쪽 공백 개수
+    private int lastRawLength = 0;                   // 앞쪽 공백을 제외한 원본 입력 길이
+
+    private char[] normalized = new char[INITIAL_CAPACITY];       // 정규화된 입력 (뒤쪽 공백 포함)
+    private int normalizedLength = 0;
+    private int[] correctPrefix = new int[INITIAL_CAPACITY + 1];  // correctPrefix[i] = [0, i) 구간의 정답 수
+    private int[] segmentStart = new int[INITIAL_CAPACITY + 1];   // 원본 위치별 정규화 위치 (세그먼트 시작이 아니면 -1)
+    private int[] strokePrefix = new int[INITIAL_CAPACITY + 1];   // strokePrefix[i] = [0, i) 구간의 키 입력 수
+    private int[] correctStrokePrefix = new int[INITIAL_CAPACITY + 1];  // [0, i) 구간의 맞은 키 입력 수 (조합 완료 기준)
+
+    private int typedChars = 0;                      // 뒤쪽 공백을 제외한 정규화 입력 길이
+    private int correctChars = 0;                    // 올바르게 입력된 문자 수
+    private int typedStrokes = 0;                    // 입력된 키 입력(자모) 수
+    private int correctStrokes = 0;                  // 올바르게 입력된 키 입력(자모) 수
+
+    private int previousNormalizedLength = 0;        // 이번 갱신 전의 정규화 입력 길이
+    private int firstDifference = -1;                // 이번 갱신에서 처음 달라진 정규화 위치
+    private int editStart = 0;                       // 이번 갱신에서 바뀐 입력의 시작 위치
+    private int removedChars = 0;                    // 이번 갱신에서 지워진 문자 수
+
+    /**
+     * 새로운 목표 문장으로 채점 상태를 초기화합니다.
+     * @param normalizedTarget 이미 정규화된 목표 문장
+     */
+    public void reset(String normalizedTarget) {
+        this.target = normalizedTarget != null ? normalizedTarget : "";
+        this.lastRaw = null;
+        this.lastLead = 0;
+        this.lastRawLength = 0;
+        this.normalizedLength = 0;
+        this.typedChars = 0;
+        this.correctChars = 0;
+        this.typedStrokes = 0;
+        this.correctStrokes = 0;
+        this.editStart = 0;
+        this.removedChars = 0;
+    }
+
+    /**
+     * 새 입력을 반영하여 채점 결과를 갱신합니다.
+     * @param rawInput 사용자가 입력한 원본 텍스트
+     */
+    public void update(String rawInput) {
+        String raw = rawInput != null ? rawInput : "";
+        int lead = countLeadingWhitespace(raw);
+        int rawLength = raw.length() - lead;
+
+        // 이전 입력과 달라진 첫 위치 (앞쪽 공백이 바뀌면 처음부터 다시 계산)
+        int changed = 0;
+        if (lastRaw != null && lead == lastLead) {
+            int limit = Math.min(rawLength, lastRawLength);
+            while (changed < limit && raw.charAt(lead + changed) == lastRaw.charAt(lead + changed)) {
+                changed++;
+            }
+        }
+
+        // 변경 지점 이전의 세그먼트 시작점으로 되돌아가서 그 지점부터 다시 정규화
+        int rawPos = 0;
+        if (changed > 0) {
+            rawPos = Math.min(changed, lastRawLength) - 1;
+            while (rawPos > 0 && segmentStart[rawPos] < 0) {
+                rawPos--;
+            }
+        }
+
+        ensureRawCapacity(rawLength + 1);
+        int previousTypedChars = typedChars;
+        previousNormalizedLength = normalizedLength;
+        firstDifference = -1;
+        normalizedLength = rawPos == 0 ? 0 : segmentStart[rawPos];
+        int rescoreFrom = normalizedLength;
+
+        while (rawPos < rawLength) {
+            segmentStart[rawPos] = normalizedLength;
+            char c = raw.charAt(lead + rawPos);
+            int end = rawPos + 1;
+            while (end < rawLength && !isStableStarter(raw.charAt(lead + end))) {
+                segmentStart[end] = -1;
+                end++;
+            }
+
+            if (end == rawPos + 1 && isStableStarter(c)) {
+                appendNormalized(c);
+            } else {
+                String segment = Normalizer.normalize(raw.subSequence(lead + rawPos, lead + end), Normalizer.Form.NFC);
+                for (int i = 0; i < segment.length(); i++) {
+                    appendNormalized(segment.charAt(i));
+                }
+            }
+            rawPos = end;
+        }
+
+        // 바뀐 구간의 정답 누적 개수만 다시 계산
+        int targetLength = target.length();
+        for (int i = rescoreFrom; i < normalizedLength; i++) {
+            char typed = normalized[i];
+            boolean inTarget = i < targetLength;
+            boolean match = inTarget && typed == target.charAt(i);
+            correctPrefix[i + 1] = correctPrefix[i] + (match ? 1 : 0);
+            strokePrefix[i + 1] = strokePrefix[i] + HangulJamo.strokeCount(typed);
+            correctStrokePrefix[i + 1] = correctStrokePrefix[i]
+                    + (inTarget ? HangulJamo.matchingStrokes(typed, target.charAt(i)) : 0);
+        }
+
+        // trim()과 동일하게 뒤쪽 공백은 입력 길이에서 제외
+        int effectiveLength = normalizedLength;
+        while (effectiveLength > 0 && normalized[effectiveLength - 1] <= ' ') {
+            effectiveLength--;
+        }
+
+        typedChars = effectiveLength;
+        correctChars = correctPrefix[effectiveLength];
+        typedStrokes = strokePrefix[effectiveLength];
+        correctStrokes = effectiveLength == 0 ? 0 : correctStrokePrefix[effectiveLength - 1]
+                + composingMatchingStrokes(effectiveLength - 1);
+
+        // 이전 입력과의 차이 (뒤에서 지워진 문자 수와 새로 입력된 구간의 시작)
+        int unchanged = firstDifference < 0 ? Math.min(normalizedLength, previousNormalizedLength) : firstDifference;
+        editStart = Math.min(unchanged, Math.min(previousTypedChars, typedChars));
+        removedChars = previousTypedChars - editStart;
+        lastRaw = raw;
+        lastLead = lead;
+        lastRawLength = rawLength;
+    }
+
+    /**
+     * 주어진 입력이 마지막으로 처리된 입력과 같은 문자열인지 확인합니다.
+     * @param rawInput 확인할 원본 입력
+     * @return 같은 입력이면 true
+     */
+    public boolean isCurrent(String rawInput) {
+        return lastRaw != null && (lastRaw == rawInput || lastRaw.equals(rawInput));
+    }
+
+    /**
+     * 현재 입력이 목표 문장의 앞부분과 정확히 일치하는지 확인합니다.
+     * @return 일치 여부
+     */
+    public boolean isPrefixOfTarget() {
+        return typedChars <= target.length() && correctChars == typedChars;
+    }
+
+    /**
+     * 현재 입력이 목표 문장과 정확히 같은지 확인합니다.
+     * @return 일치 여부
+     */
+    public boolean matchesTarget() {
+        return typedChars == target.length() && correctChars == typedChars;
+    }
+
+    /**
+     * 정규화된 현재 입력을 문자열로 반환합니다.
+     * 호출할 때마다 새 문자열을 만들므로 키 입력 경로에서는 사용하지 않습니다.
+     * @return 정규화된 입력 텍스트
+     */
+    public String getNormalizedInput() {
+        return new String(normalized, 0, typedChars);
+    }
+
+    /**
+     * 정규화된 입력의 지정 위치에 있는 코드 포인트를 반환합니다.
+     * @param index 정규화된 입력에서의 위치
+     * @return 코드 포인트
+     */
+    public int codePointAt(int index) {
+        return Character.codePointAt(normalized, index, typedChars);
+    }
+
+    /**
+     * 마지막 갱신에서 이전 입력과 달라지기 시작한 위치를 반환합니다.
+     * 이 위치부터 {@link #getTypedChars()}까지가 새로 입력된 구간입니다.
+     * @return 변경 시작 위치
+     */
+    public int getEditStart() {
+        return editStart;
+    }
+
+    /**
+     * 마지막 갱신에서 이전 입력의 변경 시작 위치 뒤로 지워진 문자 수를 반환합니다.
+     * @return 지워진 문자 수
+     */
+    public int getRemovedChars() {
+        return removedChars;
+    }
+
+    /**
+     * 정규화된 목표 문장을 반환합니다.
+     * @return 목표 문장
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * 정규화된 입력 길이를 반환합니다.
+     * @return 입력된 문자 수
+     */
+    public int getTypedChars() {
+        return typedChars;
+    }
+
+    /**
+     * 올바르게 입력된 문자 수를 반환합니다.
+     * @return 올바른 문자 수
+     */
+    public int getCorrectChars() {
+        return correctChars;
+    }
+
+    /**
+     * 입력된 키 입력(자모) 수를 반환합니다. 한글이 아닌 문자는 한 글자를 1타로 셉니다.
+     * @return 입력된 키 입력 수
+     */
+    public int getTypedStrokes() {
+        return typedStrokes;
+    }
+
+    /**
+     * 올바르게 입력된 키 입력(자모) 수를 반환합니다.
+     * @return 올바른 키 입력 수
+     */
+    public int getCorrectStrokes() {
+        return correctStrokes;
+    }
+
+    /**
+     * 마지막 글자의 맞은 키 입력 수 (조합 중인 음절은 다음 글자의 초성까지 이어서 비교)
+     */
+    private int composingMatchingStrokes(int index) {
+        int targetLength = target.length();
+        if (index >= targetLength) {
+            return 0;
+        }
+        char next = index + 1 < targetLength ? target.charAt(index + 1) : 0;
+        return HangulJamo.composingMatchingStrokes(normalized[index], target.charAt(index), next);
+    }
+
+    /**
+     * 앞쪽 문자와 결합하지 않고 NFC 정규화로 바뀌지도 않는 문자인지 확인합니다.
+     * ASCII 문자와 완성형 한글 음절이 여기에 해당하며, 이 문자 앞은
+     * 정규화 결과를 나누어 계산해도 안전한 경계가 됩니다.
+     * @param c 확인할 문자
+     * @return 안전한 경계 문자 여부
+     */
+    private static boolean isStableStarter(char c) {
+        return c < 0x80 || (c >= 0xAC00 && c <= 0xD7A3);
+    }
+
+    private static int countLeadingWhitespace(String text) {
+        int lead = 0;
+        while (lead < text.length() && text.charAt(lead) <= ' ') {
+            lead++;
+        }
+        return lead;
+    }
+
+    private void appendNormalized(char c) {
+        if (firstDifference < 0
+                && (normalizedLength >= previousNormalizedLength || normalized[normalizedLength] != c)) {
+            firstDifference = normalizedLength;
+        }
+        if (normalizedLength == normalized.length) {
+            int newCapacity = normalized.length * 2;
+            normalized = Arrays.copyOf(normalized, newCapacity);
+            correctPrefix = Arrays.copyOf(correctPrefix, newCapacity + 1);
+            strokePrefix = Arrays.copyOf(strokePrefix, newCapacity + 1);
+            correctStrokePrefix = Arrays.copyOf(correctStrokePrefix, newCapacity + 1);
+        }
+        normalized[normalizedLength++] = c;
+    }
+
+    private void ensureRawCapacity(int capacity) {
+        if (segmentStart.length < capacity) {
+            segmentStart = Arrays.copyOf(segmentStart, Math.max(capacity, segmentStart.length * 2));
+        }
+    }
+}
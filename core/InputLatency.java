@@ -0,0 +1,56 @@
+package core;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * 키 입력 한 번이 화면에 반영되기까지의 단계별 지연 시간 히스토그램
+ *
+ * 항상 켜져 있는 프로세스 전역 계측 지점입니다. 기록 비용이 수십 나노초이므로
+ * 입력 경로에서 그대로 사용합니다.
+ * <ul>
+ *   <li>{@link #INPUT_TO_MODEL}: 입력 이벤트(문서 변경, IME 확정)부터 입력 처리가 시작될 때까지 (EDT 대기 시간)</li>
+ *   <li>{@link #MODEL}: {@link GameModel#processInput(String)} 처리 시간</li>
+ *   <li>{@link #HIGHLIGHT}: 목표 문장 하이라이트 갱신 시간</li>
+ * </ul>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class InputLatency {
+    public static final String REPORT_PROPERTY = "typing.latency.report";  // true면 종료할 때 보고서 출력
+
+    public static final LatencyHistogram INPUT_TO_MODEL = new LatencyHistogram("입력→모델");
+    public static final LatencyHistogram MODEL = new LatencyHistogram("모델 처리");
+    public static final LatencyHistogram HIGHLIGHT = new LatencyHistogram("하이라이트");
+
+    private InputLatency() {
+    }
+
+    /**
+     * @return 모든 단계의 히스토그램 (입력 순서)
+     */
+    public static List<LatencyHistogram> all() {
+        return List.of(INPUT_TO_MODEL, MODEL, HIGHLIGHT);
+    }
+
+    /**
+     * 모든 단계의 현재 분포를 출력합니다.
+     * @param out 출력할 스트림
+     */
+    public static void printReport(PrintStream out) {
+        out.println("키 입력 지연 시간:");
+        for (LatencyHistogram histogram : all()) {
+            out.println("  " + histogram.snapshot());
+        }
+    }
+
+    /**
+     * 모든 단계의 기록을 비웁니다.
+     */
+    public static void reset() {
+        for (LatencyHistogram histogram : all()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 키 입력을 기록하는 메모리 맵 기반 이진 저널
+ *
+ * 키 입력 하나는 다음과 같은 가변 길이 레코드로 기록됩니다.
+ * <pre>
+ *   [시간 차이 varint (마이크로초)] [편집 종류 1바이트] [코드 포인트 varint] [문장 인덱스 varint]
+ * </pre>
+ * 키 입력 경로에서는 작은 메모리 버퍼에 레코드를 인코딩만 하고,
+ * 별도의 백그라운드 스레드가 일정 주기마다 버퍼를 메모리 맵 파일로 옮겨 적습니다.
+ * 따라서 EDT에서는 파일 입출력이 일어나지 않습니다.
+ *
+ * 파일 헤더(24바이트)는 매직 넘버, 버전, 기록 시작 시각(epoch 밀리초),
+ * 기록된 데이터 길이로 구성되며, 저장된 파일은 {@link KeystrokeJournalReader}로 읽습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class KeystrokeJournal implements Closeable {
+    static final int MAGIC = 0x54504A31;           // "TPJ1"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int DATA_LENGTH_OFFSET = 16;
+    static final int MAX_RECORD_SIZE = 10 + 1 + 5 + 5;
+
+    private static final long MAP_CHUNK_SIZE = 4L * 1024 * 1024;  // 한 번에 매핑할 파일 구간 크기
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 200;
+
+    /**
+     * 저널 레코드의 편집 종류
+     */
+    public enum EditKind {
+        INSERT,          // 문자 입력 (코드 포인트 = 입력된 문자)
+        DELETE,          // 문자 삭제 (코드 포인트 = 0)
+        SENTENCE_START,  // 새 문장 시작 (코드 포인트 = 0)
+        GAME_START;      // 새 게임 시작 (코드 포인트 = 게임 모드 순서값)
+
+        private static final EditKind[] VALUES = values();
+
+        static EditKind of(int code) {
+            return VALUES[code];
+        }
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final ScheduledExecutorService flusher;
+
+    // 키 입력 경로에서 채우는 버퍼 (this로 동기화)
+    private byte[] pending = new byte[INITIAL_BUFFER_SIZE];
+    private int pendingLength = 0;
+    private long lastNanoTime;
+
+    // 백그라운드 스레드에서만 사용하는 필드
+    private byte[] spare = new byte[INITIAL_BUFFER_SIZE];
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long dataLength = 0;
+    private boolean closed = false;
+
+    /**
+     * 지정한 경로에 새 저널 파일을 만들고 기본 주기(200ms)로 기록을 시작합니다.
+     * 같은 경로에 파일이 있으면 덮어씁니다.
+     * @param path 저널 파일 경로
+     * @return 열린 저널
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public static KeystrokeJournal create(Path path) throws IOException {
+        return new KeystrokeJournal(path, DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    /**
+     * KeystrokeJournal 생성자
+     * @param path 저널 파일 경로
+     * @param flushIntervalMillis 버퍼를 파일로 옮기는 주기 (밀리초)
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public KeystrokeJournal(Path path, long flushIntervalMillis) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.BIG_ENDIAN);
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putLong(8, System.currentTimeMillis());
+        header.putLong(DATA_LENGTH_OFFSET, 0L);
+        this.lastNanoTime = System.nanoTime();
+        mapRegion(HEADER_SIZE);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keystroke-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 레코드 하나를 버퍼에 기록합니다. 파일 입출력 없이 바로 반환됩니다.
+     * @param nanoTime 입력 시각 (System.nanoTime 기준)
+     * @param kind 편집 종류
+     * @param codePoint 코드 포인트
+     * @param sentenceIndex 문장 인덱스 (0부터 시작)
+     */
+    public synchronized void append(long nanoTime, EditKind kind, int codePoint, int sentenceIndex) {
+        if (pendingLength + MAX_RECORD_SIZE > pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        long deltaMicros = Math.max(0L, (nanoTime - lastNanoTime) / 1000L);
+        lastNanoTime += deltaMicros * 1000L;  // 마이크로초 미만의 나머지는 다음 간격에 넘겨 누적 시간이 밀리지 않게 함
+        pendingLength = writeVarLong(pending, pendingLength, deltaMicros);
+        pending[pendingLength++] = (byte) kind.ordinal();
+        pendingLength = writeVarLong(pending, pendingLength, codePoint);
+        pendingLength = writeVarLong(pending, pendingLength, sentenceIndex);
+    }
+
+    /**
+     * 버퍼에 쌓인 레코드를 파일로 옮기고 디스크에 반영합니다.
+     * 백그라운드 스레드가 주기적으로 호출하며, 직접 호출할 수도 있습니다.
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public void flush() throws IOException {
+        synchronized (channel) {
+            if (closed) {
+                return;
+            }
+            byte[] batch;
+            int length;
+            synchronized (this) {
+                batch = pending;
+                length = pendingLength;
+                pending = spare.length >= batch.length ? spare : new byte[batch.length];
+                pendingLength = 0;
+            }
+            if (length > 0) {
+                writeToRegions(batch, length);
+                header.putLong(DATA_LENGTH_OFFSET, dataLength);
+                region.force();
+                header.force();
+            }
+            spare = batch;
+        }
+    }
+
+    /**
+     * 남은 레코드를 모두 기록하고 저널을 닫습니다.
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (channel) {
+            closed = true;
+            try {
+                // 미리 매핑해 둔 뒷부분 잘라내기 (매핑이 남아 있으면 실패하는 OS도 있으나 헤더의 데이터 길이로 충분함)
+                channel.truncate(HEADER_SIZE + dataLength);
+            } catch (IOException e) {
+                System.err.println("키 입력 저널 파일 정리 실패: " + e.getMessage());
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * 지금까지 파일로 옮겨진 데이터 길이(헤더 제외)를 반환합니다.
+     * @return 기록된 데이터 바이트 수
+     */
+    public long getDataLength() {
+        synchronized (channel) {
+            return dataLength;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("키 입력 저널 기록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void writeToRegions(byte[] batch, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            if (!region.hasRemaining()) {
+                region.force();
+                mapRegion(regionStart + region.capacity());
+            }
+            int count = Math.min(length - offset, region.remaining());
+            region.put(batch, offset, count);
+            offset += count;
+            dataLength += count;
+        }
+    }
+
+    private void mapRegion(long start) throws IOException {
+        regionStart = start;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, MAP_CHUNK_SIZE);
+    }
+
+    private static int writeVarLong(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,158 @@
+package core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link KeystrokeJournal}로 기록한 저널 파일을 순차적으로 읽는 클래스
+ *
+ * 파일 전체를 메모리에 올리지 않고 일정 크기의 구간만 차례로 메모리 맵하여 읽으므로
+ * 몇 시간 분량의 저널도 일정한 메모리로 처리할 수 있습니다.
+ * 레코드마다 객체를 만들지 않고, {@link #next()}로 다음 레코드로 이동한 뒤
+ * 게터로 현재 레코드의 값을 읽습니다.
+ *
+ * <pre>
+ *   try (KeystrokeJournalReader reader = KeystrokeJournalReader.open(path)) {
+ *       while (reader.next()) {
+ *           reader.getEditKind(); reader.getCodePoint(); ...
+ *       }
+ *   }
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class KeystrokeJournalReader implements Closeable {
+    private static final long WINDOW_SIZE = 4L * 1024 * 1024;  // 한 번에 매핑할 구간 크기
+
+    private final FileChannel channel;
+    private final long startEpochMillis;
+    private final long dataEnd;          // 파일 내 데이터 끝 위치
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    // 현재 레코드
+    private long elapsedMicros = 0;
+    private KeystrokeJournal.EditKind editKind;
+    private int codePoint;
+    private int sentenceIndex;
+
+    /**
+     * 저널 파일을 읽기 위해 엽니다.
+     * @param path 저널 파일 경로
+     * @return 열린 리더
+     * @throws IOException 파일을 읽을 수 없거나 저널 형식이 아닌 경우
+     */
+    public static KeystrokeJournalReader open(Path path) throws IOException {
+        return new KeystrokeJournalReader(path);
+    }
+
+    private KeystrokeJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, KeystrokeJournal.HEADER_SIZE);
+            header.order(ByteOrder.BIG_ENDIAN);
+            if (header.getInt(0) != KeystrokeJournal.MAGIC) {
+                throw new IOException("키 입력 저널 파일이 아닙니다: " + path);
+            }
+            if (header.getShort(4) != KeystrokeJournal.VERSION) {
+                throw new IOException("지원하지 않는 저널 버전입니다: " + header.getShort(4));
+            }
+            this.startEpochMillis = header.getLong(8);
+            this.dataEnd = KeystrokeJournal.HEADER_SIZE + header.getLong(KeystrokeJournal.DATA_LENGTH_OFFSET);
+            mapWindow(KeystrokeJournal.HEADER_SIZE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 레코드로 이동합니다.
+     * @return 읽을 레코드가 있으면 true, 저널 끝이면 false
+     * @throws IOException 파일 읽기에 실패한 경우
+     */
+    public boolean next() throws IOException {
+        long position = windowStart + window.position();
+        if (position >= dataEnd) {
+            return false;
+        }
+        if (window.remaining() < KeystrokeJournal.MAX_RECORD_SIZE && windowStart + window.limit() < dataEnd) {
+            mapWindow(position);
+        }
+        elapsedMicros += readVarLong();
+        editKind = KeystrokeJournal.EditKind.of(window.get() & 0xFF);
+        codePoint = (int) readVarLong();
+        sentenceIndex = (int) readVarLong();
+        return true;
+    }
+
+    /**
+     * 기록 시작 시각(epoch 밀리초)을 반환합니다.
+     * @return 기록 시작 시각
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * 기록 시작부터 현재 레코드까지 경과한 시간을 반환합니다.
+     * @return 경과 시간 (마이크로초)
+     */
+    public long getElapsedMicros() {
+        return elapsedMicros;
+    }
+
+    /**
+     * 현재 레코드의 편집 종류를 반환합니다.
+     * @return 편집 종류
+     */
+    public KeystrokeJournal.EditKind getEditKind() {
+        return editKind;
+    }
+
+    /**
+     * 현재 레코드의 코드 포인트를 반환합니다.
+     * @return 코드 포인트
+     */
+    public int getCodePoint() {
+        return codePoint;
+    }
+
+    /**
+     * 현재 레코드의 문장 인덱스를 반환합니다.
+     * @return 문장 인덱스 (0부터 시작)
+     */
+    public int getSentenceIndex() {
+        return sentenceIndex;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void mapWindow(long start) throws IOException {
+        windowStart = start;
+        long size = Math.min(WINDOW_SIZE, dataEnd - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = window.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
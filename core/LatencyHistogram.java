@@ -0,0 +1,219 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 메모리 로그-선형 지연 시간 히스토그램
+ *
+ * 값(나노초)을 2의 거듭제곱 구간으로 나누고, 각 구간을 다시 32칸으로 균등하게 나누어 셉니다.
+ * 어떤 크기의 값이든 상대 오차가 약 3% 이내이며, 1ns부터 약 18분까지 1,152칸(약 9KB)만 사용합니다.
+ * 값이 더 크면 가장 큰 칸에 기록합니다.
+ *
+ * 기록은 칸 하나를 원자적으로 증가시키는 것이 전부이므로 잠금이 없고 객체를 만들지 않습니다.
+ * 여러 스레드가 동시에 기록해도 되며, {@link #snapshot()}은 기록을 멈추지 않고 복사본을 만듭니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;                    // 구간당 32칸 (상대 오차 약 3%)
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 39;                      // 2^40 - 1ns (약 18분)까지 구분
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKETS * (MAX_EXPONENT - SUB_BUCKET_BITS + 2);
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 집계된 히스토그램의 복사본
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(String name, long[] counts, long sum, long max) {
+            this.name = name;
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * 백분위 값을 반환합니다. 해당 칸의 가장 큰 값으로 보고하므로 실제 값보다 작게 나오지 않습니다.
+         * @param percentile 백분위 (0~100)
+         * @return 백분위 값 (나노초), 기록이 없으면 0
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // 가장 큰 칸에는 범위를 넘은 값도 들어 있으므로 최댓값으로 보고
+                    return i == counts.length - 1 ? max : Math.min(highestEquivalentValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 기록된 값 개수
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return 가장 큰 값 (나노초)
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @return 평균 (나노초), 기록이 없으면 0
+         */
+        public double getMean() {
+            return count == 0 ? 0.0 : sum / (double) count;
+        }
+
+        /**
+         * @return 값의 합계 (나노초)
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        public long getP50() {
+            return percentile(50);
+        }
+
+        public long getP90() {
+            return percentile(90);
+        }
+
+        public long getP99() {
+            return percentile(99);
+        }
+
+        public long getP999() {
+            return percentile(99.9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %,d회, 평균 %.1fus, p50 %.1fus, p90 %.1fus, p99 %.1fus, p99.9 %.1fus, 최대 %.1fus",
+                    name, count, getMean() / 1000.0, getP50() / 1000.0, getP90() / 1000.0,
+                    getP99() / 1000.0, getP999() / 1000.0, max / 1000.0);
+        }
+    }
+
+    /**
+     * LatencyHistogram 생성자
+     * @param name 보고서에 표시할 이름
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 지연 시간 하나를 기록합니다. 음수는 0으로 기록합니다.
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.getAndIncrement(indexOf(Math.min(value, MAX_VALUE)));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * 시작 시각부터 지금까지의 시간을 기록합니다.
+     * @param startNanos 시작 시각 (System.nanoTime 기준)
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 현재까지의 기록을 복사합니다. 복사하는 동안 들어온 기록은 일부만 포함될 수 있습니다.
+     * @return 복사본
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(name, copy, sum.sum(), max.get());
+    }
+
+    /**
+     * 현재까지의 기록을 복사하고 비웁니다. 일정 간격마다 구간별 분포를 볼 때 사용합니다.
+     * 칸마다 원자적으로 가져가므로 동시에 들어온 기록은 이번 복사본이나 다음 복사본 중 하나에만 들어갑니다.
+     * @return 비우기 전까지의 복사본
+     */
+    public Snapshot snapshotAndReset() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0L);
+        }
+        return new Snapshot(name, copy, sum.sumThenReset(), max.getThenReset());
+    }
+
+    /**
+     * 모든 기록을 비웁니다.
+     */
+    public void reset() {
+        snapshotAndReset();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 값이 들어갈 칸 번호를 계산합니다.
+     * 32 미만은 값 그대로, 그 이상은 (지수, 최상위 1 다음 5비트)로 칸을 정합니다.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 칸에 들어가는 가장 큰 값을 반환합니다.
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub) << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,157 @@
+package core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 장문을 문장 단위로 조금씩 읽어 오는 반복자
+ *
+ * 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼로 읽으면서 {@link SentenceSegmenter}로
+ * 문장 경계를 찾으므로, 메모리에 올린 장문과 같은 규칙으로 문장이 나뉩니다.
+ * 문장 안의 줄바꿈은 공백으로 바뀝니다. 한 번에 메모리에 있는 것은 읽기 버퍼와
+ * 만들고 있는 문장 하나뿐이므로 책 크기와 관계없이 사용하는 메모리가 일정합니다.
+ *
+ * 읽기 중 오류가 발생하면 오류를 출력하고 그때까지 읽은 문장으로 끝냅니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class LongTextStream implements Iterator<String>, Closeable {
+    public static final int MAX_SENTENCE_LENGTH = 4096;  // 문장 부호 없이 이보다 길어지면 강제로 나눔
+    private static final int READ_CHUNK = 8 * 1024;
+
+    private final Reader reader;
+    private final char[] chunk = new char[READ_CHUNK];
+    private int chunkPosition = 0;
+    private int chunkLength = 0;
+    private boolean endOfInput = false;
+
+    private final StringBuilder pending = new StringBuilder();  // 지난 문장 이후 읽은 문자
+    private final SentenceSegmenter segmenter = new SentenceSegmenter();
+    private String nextSentence = null;       // hasNext()로 미리 찾아 둔 문장
+
+    /**
+     * 파일에서 문장을 읽는 스트림을 엽니다. (UTF-8)
+     * @param path 장문 파일 경로
+     * @return 열린 스트림
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static LongTextStream open(Path path) throws IOException {
+        return new LongTextStream(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * LongTextStream 생성자
+     * @param reader 장문을 읽어올 Reader (스트림을 닫을 때 함께 닫힘)
+     */
+    public LongTextStream(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 문장이 있는지 확인합니다. 필요한 만큼만 더 읽습니다.
+     * @return 다음 문장이 있으면 true
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextSentence == null) {
+            nextSentence = readSentence();
+        }
+        return nextSentence != null;
+    }
+
+    /**
+     * 다음 문장을 반환합니다.
+     * @return 앞뒤 공백을 제거한 문장
+     */
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String result = nextSentence;
+        nextSentence = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        endOfInput = true;
+        try {
+            reader.close();
+        } catch (IOException e) {
+            System.err.println("장문 스트림 종료 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private String readSentence() {
+        while (true) {
+            if (chunkPosition == chunkLength && !fillChunk()) {
+                // 입력 끝 (남은 내용이 없으면 null)
+                String result = segmenter.finish() ? takeSentence(false) : null;
+                pending.setLength(0);
+                return result;
+            }
+            char c = chunk[chunkPosition++];
+            if (c == '\r') {
+                continue;
+            }
+            pending.append(c);
+            if (segmenter.feed(pending, pending.length() - 1)) {
+                return takeSentence(segmenter.hasPendingSentence());
+            }
+            if (pending.length() >= MAX_SENTENCE_LENGTH) {
+                // 문장 부호 없이 너무 길면 강제로 나눔 (공백만 쌓였으면 버림)
+                String result = segmenter.finish() ? takeSentence(false) : null;
+                pending.setLength(0);
+                segmenter.reset();
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+    }
+
+    /**
+     * 완성된 문장을 꺼내고 다음 문장을 위해 버퍼를 비웁니다.
+     * @param carryLast 마지막 문자가 이미 다음 문장의 시작인지 여부
+     */
+    private String takeSentence(boolean carryLast) {
+        String result = SentenceSegmenter.sentenceText(pending,
+                segmenter.getSentenceStart(), segmenter.getSentenceEnd());
+        char last = pending.charAt(pending.length() - 1);
+        pending.setLength(0);
+        segmenter.reset();
+        if (carryLast) {
+            pending.append(last);
+            segmenter.feed(pending, 0);
+        }
+        return result;
+    }
+
+    private boolean fillChunk() {
+        if (endOfInput) {
+            return false;
+        }
+        try {
+            int count = reader.read(chunk, 0, chunk.length);
+            if (count < 0) {
+                endOfInput = true;
+                return false;
+            }
+            chunkPosition = 0;
+            chunkLength = count;
+            return true;
+        } catch (IOException e) {
+            System.err.println("장문 읽기 중 오류 발생: " + e.getMessage());
+            endOfInput = true;
+            return false;
+        }
+    }
+}
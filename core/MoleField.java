@@ -0,0 +1,504 @@
+package core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * 두더지 게임 화면에 떠 있는 두더지들의 상태와 출현 규칙
+ *
+ * 웨이브 주기, 최대 두더지 수, 노출 시간 규칙({@link MoleRules})을
+ * Swing 타이머 없이 시각(밀리초)만으로 진행합니다. 호출하는 쪽이 시간을 넘겨주므로
+ * 실제 시간(데스크톱 게임 루프, 서버)과 가상 시간(시뮬레이션) 모두에서 같은 규칙으로 동작합니다.
+ * 스레드 안전하지 않으므로 한 스레드에서만 사용해야 합니다.
+ *
+ * 두더지 객체는 풀에서 꺼내 다시 쓰고, 떠 있는 두더지는 배열에 두며 각 두더지가 배열에서의 위치를 기억합니다.
+ * 잡히거나 사라진 두더지의 자리는 배열의 마지막 두더지로 채우므로 빼는 데 O(1)입니다.
+ * 사라질 시각은 배열로 만든 최소 힙 하나가 관리하므로 두더지마다 타이머를 두지 않으며,
+ * 두더지가 많아도 시간을 진행할 때 사라질 두더지만 꺼내 봅니다.
+ * 떠 있는 단어는 {@link MoleWordIndex}에 색인되어 있어 입력을 확인할 때도 두더지를 모두 훑지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleField {
+    private static final long FIRST_WAVE_DELAY = 500;  // 게임 시작 후 첫 웨이브까지의 시간 (ms)
+    private static final long TICK_INTERVAL = 1000;    // 남은 시간 감소 주기 (ms)
+
+    /**
+     * 화면에 떠 있는 두더지 하나
+     *
+     * 잡히거나 사라진 두더지 객체는 다음에 나오는 두더지로 다시 쓰이므로,
+     * {@link #getMoles()}로 받은 객체를 시간을 진행한 뒤까지 들고 있으면 안 됩니다.
+     */
+    public static final class Mole {
+        private int id;
+        private String word;
+        private long expiresAt;
+        private int x;
+        private int y;
+        private int heapIndex;  // 사라질 시각 힙에서의 위치
+        private int slot;       // 떠 있는 목록(moles)에서의 위치
+        private int matchedLength;   // 입력 중인 내용과 앞부분이 맞는 글자 수
+        private long matchedMark;    // matchedLength를 표시한 입력 (필드의 표시 번호와 다르면 맞지 않음)
+
+        private Mole() {
+        }
+
+        /**
+         * @return 두더지 식별 번호 (게임 안에서 증가)
+         */
+        public int id() {
+            return id;
+        }
+
+        /**
+         * @return 잡기 위해 입력해야 하는 단어
+         */
+        public String word() {
+            return word;
+        }
+
+        /**
+         * @return 사라지는 시각 (밀리초)
+         */
+        public long expiresAt() {
+            return expiresAt;
+        }
+
+        /**
+         * @return 화면에서의 x 좌표 ({@link Placement}가 정함)
+         */
+        public int x() {
+            return x;
+        }
+
+        /**
+         * @return 화면에서의 y 좌표 ({@link Placement}가 정함)
+         */
+        public int y() {
+            return y;
+        }
+
+        /**
+         * 화면에서의 위치를 정합니다. {@link Placement#place}에서 호출합니다.
+         * @param x x 좌표
+         * @param y y 좌표
+         */
+        public void moveTo(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * 새 두더지를 화면에 놓을 자리를 정하는 함수
+     *
+     * 화면이 있는 쪽(데스크톱 게임)이 넘겨 주며, 자리가 없으면 그 두더지는 나오지 않습니다.
+     * 화면이 없는 서버와 시뮬레이션은 자리 없이 진행합니다.
+     */
+    public interface Placement {
+        /**
+         * 나오려는 두더지의 위치를 정합니다.
+         * @param mole 나오려는 두더지 (단어와 사라질 시각은 이미 정해져 있음)
+         * @param field 두더지가 나올 필드 (지금 떠 있는 두더지는 {@link MoleField#getMoles()})
+         * @return 자리를 찾았으면 true, 없으면 false
+         */
+        boolean place(Mole mole, MoleField field);
+
+        /**
+         * 두더지가 잡히거나 사라져 자리가 비었을 때 호출됩니다.
+         * @param mole 없어진 두더지
+         */
+        default void release(Mole mole) {
+        }
+    }
+
+    private final MoleGameModel model;
+    private final MoleRules rules;
+    private final Random random;
+    private Placement placement;
+
+    private Mole[] moles = new Mole[16];   // 떠 있는 두더지 (순서 없음, Mole.slot이 위치)
+    private int moleCount = 0;
+    private Mole[] expiries = new Mole[16];  // 사라질 시각 기준 최소 힙
+    private Mole[] pool = new Mole[16];    // 다시 쓸 두더지 객체
+    private int poolCount = 0;
+    private final MoleWordIndex wordIndex = new MoleWordIndex();
+    private String typedText = "";         // 입력 중인 내용 (앞부분이 맞는 두더지를 표시)
+    private boolean typedComposing = false;
+    private long mark = 1;                 // 입력 내용이 바뀔 때마다 증가하는 표시 번호
+    private int matchedCount = 0;
+    private int exactMatchCount = 0;        // 앞부분이 맞는 두더지 중 단어가 입력 내용과 같은 두더지 수
+    private final Consumer<Mole> marker = mole -> {
+        mole.matchedMark = mark;
+        mole.matchedLength = typedText.length();
+        if (mole.word.equals(typedText)) {
+            exactMatchCount++;
+        }
+    };
+    private final List<Mole> moleView = new AbstractList<>() {
+        @Override
+        public Mole get(int index) {
+            return moles[Objects.checkIndex(index, moleCount)];
+        }
+
+        @Override
+        public int size() {
+            return moleCount;
+        }
+    };
+
+    private long nextWave;
+    private long nextTick;
+    private int nextId = 0;
+    private int spawnedCount = 0;
+    private int hitCount = 0;
+    private long version = 0;
+
+    /**
+     * MoleField 생성자
+     * @param model 점수와 남은 시간, 단어를 관리하는 두더지 게임 모델
+     * @param difficulty 게임 난이도
+     * @param random 웨이브 크기와 간격을 정하는 난수 생성기
+     */
+    public MoleField(MoleGameModel model, GameModel.Difficulty difficulty, Random random) {
+        this(model, MoleRules.forDifficulty(difficulty), random);
+    }
+
+    /**
+     * 출현 규칙을 직접 지정하는 MoleField 생성자
+     * 시뮬레이터에서 난이도 값을 바꿔 가며 돌려 볼 때 사용합니다.
+     * @param model 점수와 남은 시간, 단어를 관리하는 두더지 게임 모델
+     * @param rules 출현 규칙
+     * @param random 웨이브 크기와 간격을 정하는 난수 생성기
+     */
+    public MoleField(MoleGameModel model, MoleRules rules, Random random) {
+        this.model = model;
+        this.rules = rules;
+        this.random = random;
+    }
+
+    /**
+     * 두더지를 놓을 자리를 정하는 함수를 지정합니다.
+     * @param placement 자리를 정하는 함수, null이면 자리 없이 진행
+     */
+    public void setPlacement(Placement placement) {
+        this.placement = placement;
+    }
+
+    /**
+     * 새 게임을 시작합니다.
+     * @param nowMillis 현재 시각 (밀리초)
+     */
+    public void start(long nowMillis) {
+        model.startGame();
+        while (moleCount > 0) {
+            remove(moles[moleCount - 1]);
+        }
+        nextWave = nowMillis + FIRST_WAVE_DELAY;
+        nextTick = nowMillis + TICK_INTERVAL;
+        nextId = 0;
+        spawnedCount = 0;
+        hitCount = 0;
+        typedText = "";
+        typedComposing = false;
+        matchedCount = 0;
+        exactMatchCount = 0;
+        version++;
+    }
+
+    /**
+     * 지정한 시각까지의 웨이브 출현, 남은 시간 감소, 두더지 사라짐을 순서대로 반영합니다.
+     * @param nowMillis 현재 시각 (밀리초)
+     */
+    public void advanceTo(long nowMillis) {
+        while (!model.isTimeUp() && (nextWave <= nowMillis || nextTick <= nowMillis)) {
+            if (nextWave <= nextTick) {
+                spawnWave(nextWave);
+            } else {
+                model.tick();
+                nextTick += TICK_INTERVAL;
+                version++;
+            }
+        }
+        removeExpired(nowMillis);
+    }
+
+    /**
+     * 입력한 단어와 같은 두더지를 잡습니다. 같은 단어가 여러 개면 먼저 나온 두더지를 잡습니다.
+     * @param word 입력한 단어
+     * @param nowMillis 입력을 마친 시각 (밀리초)
+     * @return 두더지를 잡았으면 true
+     */
+    public boolean hit(String word, long nowMillis) {
+        advanceTo(nowMillis);
+        if (model.isTimeUp()) {
+            return false;
+        }
+        Mole mole = wordIndex.first(word);
+        if (mole == null) {
+            return false;
+        }
+        remove(mole);
+        model.moleHit();
+        hitCount++;
+        return true;
+    }
+
+    /**
+     * 입력 중인 내용을 알려 주고, 단어의 앞부분이 맞는 두더지를 표시합니다.
+     * 이후에 나오는 두더지도 이 입력에 맞으면 표시됩니다.
+     * @param typed 입력 중인 내용, 빈 문자열이면 표시를 모두 지움
+     * @param composing 마지막 글자가 아직 조합 중인 한글이면 true
+     * @return 앞부분이 맞는 두더지 수
+     */
+    public int setTypedText(String typed, boolean composing) {
+        if (typed.equals(typedText) && composing == typedComposing) {
+            return matchedCount;
+        }
+        typedText = typed;
+        typedComposing = composing;
+        markTyped();
+        version++;
+        return matchedCount;
+    }
+
+    /**
+     * 두더지 단어의 앞부분이 입력 중인 내용과 맞는 글자 수를 반환합니다.
+     * @param mole 떠 있는 두더지
+     * @return 맞는 글자 수, 맞지 않으면 0
+     */
+    public int getMatchedLength(Mole mole) {
+        return mole.matchedMark == mark ? mole.matchedLength : 0;
+    }
+
+    /**
+     * @return 앞부분이 입력 중인 내용과 맞는 두더지 수
+     */
+    public int getMatchedCount() {
+        return matchedCount;
+    }
+
+    /**
+     * 입력 중인 내용이 그대로의 단어 말고 다른 두더지 단어의 앞부분이기도 한지 확인합니다.
+     * 조합 중인 "사과"는 "사관"으로 이어질 수 있으므로, 이때는 조합이 끝날 때까지 잡지 않아야 합니다.
+     * @return 입력 내용과 다른 단어인데 앞부분이 맞는 두더지가 있으면 true
+     */
+    public boolean hasLongerMatch() {
+        return matchedCount > exactMatchCount;
+    }
+
+    /**
+     * 화면에 떠 있는 두더지 목록을 반환합니다.
+     * 두더지가 빠진 자리를 마지막 두더지로 채우므로 순서는 나온 순서가 아닙니다. (먼저 나온 두더지는 {@link Mole#id()}가 작음)
+     * 목록은 필드의 상태를 그대로 보여 주므로 시간을 진행하면 내용이 바뀝니다.
+     * @return 읽기 전용 두더지 목록
+     */
+    public List<Mole> getMoles() {
+        return moleView;
+    }
+
+    /**
+     * 다음 웨이브 또는 남은 시간 감소가 일어날 시각을 반환합니다.
+     * @return 다음 사건 시각 (밀리초)
+     */
+    public long getNextEventTime() {
+        return Math.min(nextWave, nextTick);
+    }
+
+    /**
+     * 두더지 출현, 사라짐, 점수, 남은 시간 중 하나라도 바뀔 때마다 증가하는 값을 반환합니다.
+     * 화면은 이 값이 바뀐 경우에만 다시 그리면 됩니다.
+     * @return 상태 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFinished() {
+        return model.isTimeUp();
+    }
+
+    public int getSpawnedCount() {
+        return spawnedCount;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public MoleGameModel getModel() {
+        return model;
+    }
+
+    public MoleRules getRules() {
+        return rules;
+    }
+
+    /**
+     * 웨이브 하나를 출현시키고 다음 웨이브 시각을 정합니다.
+     */
+    private void spawnWave(long waveTime) {
+        removeExpired(waveTime);
+        int timeLeft = model.getTimeLeft();
+        int molesToSpawn = rules.waveSize(random);
+
+        // 화면에 두더지가 너무 많으면 웨이브를 건너뜀
+        if (moleCount <= rules.getMaxMoles() - 1) {
+            for (int i = 0; i < molesToSpawn; i++) {
+                spawn(model.getRandomWord(), waveTime + rules.getVisibilityMillis());
+            }
+            if (!typedText.isEmpty()) {
+                markTyped();  // 새 두더지도 입력 중인 내용에 맞으면 표시
+            }
+        }
+        // 남은 시간이 줄수록 다음 웨이브까지의 간격이 짧아짐
+        nextWave += rules.baseDelay(timeLeft) + random.nextInt(rules.getRandomDelay());
+    }
+
+    /**
+     * 풀에서 두더지를 꺼내 자리를 잡고 화면에 올립니다. 자리가 없으면 풀로 되돌립니다.
+     */
+    private void spawn(String word, long expiresAt) {
+        Mole mole = poolCount > 0 ? pool[--poolCount] : new Mole();
+        mole.word = word;
+        mole.expiresAt = expiresAt;
+        mole.x = 0;
+        mole.y = 0;
+        if (placement != null && !placement.place(mole, this)) {
+            mole.word = null;
+            release(mole);
+            return;
+        }
+        mole.id = nextId++;
+        if (moleCount == moles.length) {
+            moles = Arrays.copyOf(moles, moleCount * 2);
+            expiries = Arrays.copyOf(expiries, moleCount * 2);
+        }
+        moles[moleCount] = mole;
+        mole.slot = moleCount;
+        expiries[moleCount] = mole;
+        wordIndex.add(mole);
+        mole.heapIndex = moleCount;
+        moleCount++;
+        siftUp(mole.heapIndex);
+        spawnedCount++;
+        version++;
+    }
+
+    private void removeExpired(long nowMillis) {
+        // 힙의 맨 위가 가장 먼저 사라질 두더지
+        while (moleCount > 0 && expiries[0].expiresAt < nowMillis) {
+            remove(expiries[0]);
+        }
+    }
+
+    /**
+     * 이전 표시를 모두 지우고 입력 중인 내용에 앞부분이 맞는 두더지를 다시 표시합니다.
+     */
+    private void markTyped() {
+        mark++;
+        exactMatchCount = 0;
+        matchedCount = wordIndex.forEachPrefixMatch(typedText, typedComposing, marker);
+    }
+
+    /**
+     * 떠 있는 두더지를 없앱니다. 빈자리는 목록의 마지막 두더지로 채웁니다.
+     */
+    private void remove(Mole mole) {
+        heapRemove(mole.heapIndex, moleCount);
+        Mole last = moles[--moleCount];
+        moles[mole.slot] = last;
+        last.slot = mole.slot;
+        moles[moleCount] = null;
+        release(mole);
+        version++;
+    }
+
+    private void release(Mole mole) {
+        if (mole.word != null) {
+            wordIndex.remove(mole);
+            if (mole.matchedMark == mark) {
+                matchedCount--;
+                if (mole.word.equals(typedText)) {
+                    exactMatchCount--;
+                }
+            }
+            if (placement != null) {
+                placement.release(mole);
+            }
+        }
+        mole.matchedMark = 0;
+        mole.word = null;
+        if (poolCount == pool.length) {
+            pool = Arrays.copyOf(pool, poolCount * 2);
+        }
+        pool[poolCount++] = mole;
+    }
+
+    /**
+     * 크기가 size인 힙에서 index 위치의 두더지를 빼고, 마지막 원소를 그 자리에 넣어 힙을 고칩니다.
+     */
+    private void heapRemove(int index, int size) {
+        int last = size - 1;
+        Mole moved = expiries[last];
+        expiries[last] = null;
+        if (index == last) {
+            return;
+        }
+        expiries[index] = moved;
+        moved.heapIndex = index;
+        siftDown(index, last);
+        if (moved.heapIndex == index) {
+            siftUp(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        Mole mole = expiries[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Mole above = expiries[parent];
+            if (!expiresBefore(mole, above)) {
+                break;
+            }
+            expiries[index] = above;
+            above.heapIndex = index;
+            index = parent;
+        }
+        expiries[index] = mole;
+        mole.heapIndex = index;
+    }
+
+    private void siftDown(int index, int size) {
+        Mole mole = expiries[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && expiresBefore(expiries[right], expiries[child])) {
+                child = right;
+            }
+            Mole below = expiries[child];
+            if (!expiresBefore(below, mole)) {
+                break;
+            }
+            expiries[index] = below;
+            below.heapIndex = index;
+            index = child;
+        }
+        expiries[index] = mole;
+        mole.heapIndex = index;
+    }
+
+    /**
+     * 사라질 시각이 같으면 먼저 나온 두더지가 먼저 사라집니다.
+     */
+    private static boolean expiresBefore(Mole a, Mole b) {
+        return a.expiresAt < b.expiresAt || (a.expiresAt == b.expiresAt && a.id < b.id);
+    }
+}
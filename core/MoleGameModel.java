@@ -1,34 +1,71 @@
 package core;
 
+import core.metrics.TypingMetrics;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 public class MoleGameModel {
     private List<String> words;
-    private Random random = new Random();
+    private final Random random;
 
     private int score;
     private int timeLeft; // 초 단위
-    private TextRepository textRepository = new TextRepository();
+    private final TextRepository textRepository;
+    private boolean recordsMetrics = true;  // 전역 측정값(TypingMetrics)에 기록할지 여부
 
     /**
      * MoleGameModel 생성자
      * @param gameModel 전역 게임 모델
      */
     public MoleGameModel(GameModel gameModel) {
-        loadWords(gameModel);
-        startGame();
+        this(gameModel, new Random());
+    }
+
+    /**
+     * 난수 생성기를 지정하는 MoleGameModel 생성자
+     * 시뮬레이션에서 고정된 시드로 단어 순서를 재현할 때 사용합니다.
+     * 단어 목록은 프로세스 공유 캐시에서 가져오므로 게임을 다시 시작해도 파일을 다시 읽지 않습니다.
+     * 측정값 기록 여부는 게임 모델의 설정을 따릅니다.
+     * @param gameModel 전역 게임 모델
+     * @param random 단어 선택에 사용할 난수 생성기
+     */
+    public MoleGameModel(GameModel gameModel, Random random) {
+        this(gameModel.getCurrentLanguage(), random, CorpusCache.shared());
+        this.recordsMetrics = gameModel.isRecordsMetrics();
+    }
+
+    /**
+     * 언어와 텍스트 저장소를 지정하는 MoleGameModel 생성자
+     * 여러 게임이 {@link SharedTextRepository}로 단어 목록을 공유할 때 사용합니다.
+     * @param language 단어를 불러올 언어
+     * @param random 단어 선택에 사용할 난수 생성기
+     * @param textRepository 단어를 읽어올 저장소
+     */
+    public MoleGameModel(GameModel.Language language, Random random, TextRepository textRepository) {
+        this.random = random;
+        this.textRepository = textRepository;
+        loadWords(language);
+        // 게임 시작 횟수는 실제로 게임을 시작할 때(MoleField.start)만 세므로 여기서는 상태만 초기화
+        score = 0;
+        timeLeft = 60;
     }
 
     public void startGame() {
         score = 0;
         timeLeft = 60;
+        if (recordsMetrics) {
+            TypingMetrics.MOLE_GAMES_STARTED.increment();
+        }
     }
 
     public void tick() {
         if (timeLeft > 0) {
             timeLeft--;
+            if (timeLeft == 0 && recordsMetrics) {
+                TypingMetrics.MOLE_SCORE.record(score);  // 제한 시간까지 마친 게임의 점수
+            }
         }
     }
 
@@ -38,6 +75,17 @@ public class MoleGameModel {
 
     public void moleHit() {
         score += 10; // 두더지를 잡으면 10점 추가
+        if (recordsMetrics) {
+            TypingMetrics.MOLE_HITS.increment();
+        }
+    }
+
+    /**
+     * 게임 시작, 잡은 두더지 수, 점수 분포를 전역 측정값에 기록할지 정합니다. (기본값: 기록함)
+     * @param recordsMetrics 기록하려면 true
+     */
+    public void setRecordsMetrics(boolean recordsMetrics) {
+        this.recordsMetrics = recordsMetrics;
     }
 
     public int getScore() {
@@ -49,11 +97,11 @@ public class MoleGameModel {
     }
 
     /**
-     * 현재 언어 설정에 맞는 단어 목록을 불러옵니다.
-     * @param gameModel 전역 게임 모델
+     * 언어에 맞는 단어 목록을 불러옵니다.
+     * @param language 단어를 불러올 언어
      */
-    private void loadWords(GameModel gameModel) {
-        String fileName = gameModel.getCurrentLanguage().getMoleGameFileName();
+    private void loadWords(GameModel.Language language) {
+        String fileName = language.getMoleGameFileName();
         String resourcePath = "resources/" + fileName;
         this.words = textRepository.loadTexts(resourcePath);
 
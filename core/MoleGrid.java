@@ -0,0 +1,210 @@
+package core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 두더지 필드를 칸으로 나눈 점유 격자
+ *
+ * 필드를 두더지보다 조금 큰 칸으로 나누고 한 칸에 두더지 한 마리만 둡니다.
+ * 빈 칸 번호는 배열 하나에 모아 두고(칸마다 그 배열에서의 위치를 기억), 빈 칸을 무작위로 고르거나
+ * 칸을 비울 때 마지막 원소와 맞바꾸므로 두더지 수와 관계없이 O(1)입니다.
+ * 칸이 겹치지 않으므로 다른 두더지와 겹치는지 확인하거나 자리를 다시 고르지 않으며,
+ * 빈 칸이 하나라도 있으면 반드시 자리를 찾습니다.
+ *
+ * 칸 안에서의 위치는 무작위로 조금씩 어긋나게 놓아 격자 모양이 드러나지 않게 합니다.
+ * 필드 크기가 바뀌면 {@link #resize}로 칸을 다시 나누고 떠 있는 두더지의 칸을 다시 채웁니다.
+ * 스레드 안전하지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleGrid implements MoleField.Placement {
+    private final int moleWidth;
+    private final int moleHeight;
+    private final int minCellWidth;
+    private final int minCellHeight;
+    private final Random random;
+
+    private int width = -1;
+    private int height = -1;
+    private int columns = 0;
+    private int rows = 0;
+    private int cellWidth;
+    private int cellHeight;
+    private MoleField.Mole[] owners = new MoleField.Mole[0];  // 칸을 차지한 두더지 (없으면 null)
+    private int[] free = new int[0];        // 빈 칸 번호 (앞쪽 freeCount개만 유효)
+    private int[] freeIndex = new int[0];   // 칸 번호 -> free 배열에서의 위치 (차 있으면 -1)
+    private int freeCount = 0;
+
+    /**
+     * MoleGrid 생성자
+     * @param moleWidth 두더지 너비
+     * @param moleHeight 두더지 높이
+     * @param gapX 칸을 나눌 때 두더지 너비에 더하는 여유 (칸 안에서 위치를 어긋나게 놓는 범위)
+     * @param gapY 칸을 나눌 때 두더지 높이에 더하는 여유
+     * @param random 빈 칸과 칸 안의 위치를 고르는 난수 생성기
+     */
+    public MoleGrid(int moleWidth, int moleHeight, int gapX, int gapY, Random random) {
+        this.moleWidth = moleWidth;
+        this.moleHeight = moleHeight;
+        this.minCellWidth = moleWidth + gapX;
+        this.minCellHeight = moleHeight + gapY;
+        this.random = random;
+    }
+
+    /**
+     * 필드 크기에 맞게 칸을 다시 나눕니다. 크기가 같으면 아무 일도 하지 않습니다.
+     * 남는 폭은 칸에 고르게 나누어 필드 전체를 씁니다.
+     * 떠 있는 두더지는 위치에 해당하는 칸을 차지하며, 새 필드 밖에 있거나 같은 칸에 먼저 놓인 두더지가 있으면
+     * 칸을 차지하지 않고 사라질 때까지 그 자리에 남습니다.
+     * @param width 필드 너비
+     * @param height 필드 높이
+     * @param moles 떠 있는 두더지
+     */
+    public void resize(int width, int height, List<MoleField.Mole> moles) {
+        if (width == this.width && height == this.height) {
+            return;
+        }
+        this.width = width;
+        this.height = height;
+        columns = Math.max(0, (width + minCellWidth - moleWidth) / minCellWidth);
+        rows = Math.max(0, (height + minCellHeight - moleHeight) / minCellHeight);
+        int cells = columns * rows;
+        cellWidth = columns == 0 ? 0 : width / columns;
+        cellHeight = rows == 0 ? 0 : height / rows;
+
+        owners = new MoleField.Mole[cells];
+        free = new int[cells];
+        freeIndex = new int[cells];
+        freeCount = 0;
+        Arrays.fill(freeIndex, -1);
+        for (int i = 0, n = moles.size(); i < n; i++) {
+            MoleField.Mole mole = moles.get(i);
+            int cell = cellAt(mole.x(), mole.y());
+            if (cell >= 0 && owners[cell] == null) {
+                owners[cell] = mole;
+            }
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (owners[cell] == null) {
+                freeIndex[cell] = freeCount;
+                free[freeCount++] = cell;
+            }
+        }
+    }
+
+    /**
+     * 모든 칸을 비웁니다. 다른 필드의 두더지를 놓기 전에 호출합니다.
+     */
+    public void clear() {
+        Arrays.fill(owners, null);
+        freeCount = 0;
+        for (int cell = 0; cell < owners.length; cell++) {
+            freeIndex[cell] = freeCount;
+            free[freeCount++] = cell;
+        }
+    }
+
+    /**
+     * 빈 칸 하나를 무작위로 골라 두더지를 놓습니다.
+     * @return 빈 칸이 있었으면 true
+     */
+    @Override
+    public boolean place(MoleField.Mole mole, MoleField field) {
+        int cell = acquireCell();
+        if (cell < 0) {
+            return false;
+        }
+        owners[cell] = mole;
+        mole.moveTo(cellX(cell) + random.nextInt(cellWidth - moleWidth + 1),
+                cellY(cell) + random.nextInt(cellHeight - moleHeight + 1));
+        return true;
+    }
+
+    @Override
+    public void release(MoleField.Mole mole) {
+        int cell = cellAt(mole.x(), mole.y());
+        if (cell >= 0 && owners[cell] == mole) {
+            owners[cell] = null;
+            releaseCell(cell);
+        }
+    }
+
+    /**
+     * 빈 칸 하나를 무작위로 골라 차지합니다.
+     * @return 칸 번호, 빈 칸이 없으면 -1
+     */
+    public int acquireCell() {
+        if (freeCount == 0) {
+            return -1;
+        }
+        int index = random.nextInt(freeCount);
+        int cell = free[index];
+        int last = free[--freeCount];
+        free[index] = last;
+        freeIndex[last] = index;
+        freeIndex[cell] = -1;
+        return cell;
+    }
+
+    /**
+     * 차지한 칸을 비웁니다.
+     * @param cell {@link #acquireCell()}로 얻은 칸 번호
+     */
+    public void releaseCell(int cell) {
+        if (freeIndex[cell] >= 0) {
+            return;  // 이미 빈 칸
+        }
+        freeIndex[cell] = freeCount;
+        free[freeCount++] = cell;
+    }
+
+    /**
+     * @param cell 칸 번호
+     * @return 칸의 왼쪽 x 좌표
+     */
+    public int cellX(int cell) {
+        return (cell % columns) * cellWidth;
+    }
+
+    /**
+     * @param cell 칸 번호
+     * @return 칸의 위쪽 y 좌표
+     */
+    public int cellY(int cell) {
+        return (cell / columns) * cellHeight;
+    }
+
+    public int getCellCount() {
+        return owners.length;
+    }
+
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * 좌표가 속한 칸 번호를 반환합니다. 칸에 놓인 두더지의 위치는 항상 그 칸 안에 있습니다.
+     */
+    private int cellAt(int x, int y) {
+        if (x < 0 || y < 0 || cellWidth == 0 || cellHeight == 0) {
+            return -1;
+        }
+        int column = x / cellWidth;
+        int row = y / cellHeight;
+        if (column >= columns || row >= rows) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+}
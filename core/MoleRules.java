@@ -0,0 +1,254 @@
+package core;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 두더지 게임 난이도를 정하는 출현 규칙 값 묶음
+ *
+ * 화면에 둘 수 있는 최대 두더지 수, 웨이브 하나의 두더지 수, 웨이브 사이 간격, 두더지 노출 시간을 담습니다.
+ * 웨이브 사이 간격은 남은 시간에 따라 단계별 기본 간격에 0 ~ randomDelay 사이의 무작위 간격을 더해 정합니다.
+ * {@link MoleField}가 이 값으로 게임을 진행하므로, 시뮬레이터({@code core.simulation.MoleSimulator})에서
+ * 여러 규칙을 돌려 보고 쉬움/보통/어려움 값을 정할 수 있습니다.
+ *
+ * 문자열 표기({@link #parse}, {@link #toString})는 다음과 같습니다.
+ * <pre>
+ *   HARD                                  (기본 규칙 이름)
+ *   빠른HARD:base=HARD,visible=1200        (기본 규칙에서 일부 값만 바꿈, base를 생략하면 NORMAL)
+ *   이름:max=8,wave=2-3,delay=500@40/300@20/200,random=400,visible=1600
+ * </pre>
+ * delay의 {@code 500@40}은 "남은 시간이 40초보다 많으면 500ms"이며, 마지막 값은 그 밖의 경우입니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class MoleRules {
+    public static final MoleRules EASY =
+            new MoleRules("EASY", 4, 1, 1, new int[]{30}, new int[]{1800, 1500}, 800, 2800);
+    public static final MoleRules NORMAL =
+            new MoleRules("NORMAL", 6, 1, 2, new int[]{40, 20}, new int[]{1200, 800, 500}, 700, 2000);
+    public static final MoleRules HARD =
+            new MoleRules("HARD", 8, 2, 3, new int[]{40, 20}, new int[]{500, 300, 200}, 400, 1600);
+
+    private final String name;
+    private final int maxMoles;
+    private final int minWaveSize;
+    private final int maxWaveSize;
+    private final int[] delayThresholds;  // 남은 시간(초)이 이 값보다 많으면 같은 위치의 기본 간격을 씀 (내림차순)
+    private final int[] baseDelays;       // 기본 간격 (ms), delayThresholds보다 하나 많음
+    private final int randomDelay;
+    private final int visibilityMillis;
+
+    /**
+     * MoleRules 생성자
+     * @param name 규칙 이름 (보고서에 표시)
+     * @param maxMoles 화면에 이 수만큼 두더지가 있으면 웨이브를 건너뜀
+     * @param minWaveSize 웨이브 하나의 최소 두더지 수
+     * @param maxWaveSize 웨이브 하나의 최대 두더지 수
+     * @param delayThresholds 기본 간격을 바꾸는 남은 시간 경계 (초, 내림차순)
+     * @param baseDelays 경계마다의 기본 간격 (ms), 경계보다 하나 많아야 함
+     * @param randomDelay 기본 간격에 더하는 무작위 간격의 상한 (ms, 포함하지 않음)
+     * @param visibilityMillis 두더지가 떠 있는 시간 (ms)
+     */
+    public MoleRules(String name, int maxMoles, int minWaveSize, int maxWaveSize,
+                     int[] delayThresholds, int[] baseDelays, int randomDelay, int visibilityMillis) {
+        if (maxMoles <= 0 || minWaveSize <= 0 || maxWaveSize < minWaveSize) {
+            throw new IllegalArgumentException("두더지 수가 올바르지 않습니다: max=" + maxMoles
+                    + ", wave=" + minWaveSize + "-" + maxWaveSize);
+        }
+        if (baseDelays.length != delayThresholds.length + 1) {
+            throw new IllegalArgumentException("기본 간격은 경계보다 하나 많아야 합니다: " + Arrays.toString(baseDelays));
+        }
+        for (int i = 1; i < delayThresholds.length; i++) {
+            if (delayThresholds[i] >= delayThresholds[i - 1]) {
+                throw new IllegalArgumentException("경계는 내림차순이어야 합니다: " + Arrays.toString(delayThresholds));
+            }
+        }
+        for (int delay : baseDelays) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("기본 간격은 양수여야 합니다: " + Arrays.toString(baseDelays));
+            }
+        }
+        if (randomDelay <= 0 || visibilityMillis <= 0) {
+            throw new IllegalArgumentException("random과 visible은 양수여야 합니다: " + randomDelay + ", " + visibilityMillis);
+        }
+        this.name = name;
+        this.maxMoles = maxMoles;
+        this.minWaveSize = minWaveSize;
+        this.maxWaveSize = maxWaveSize;
+        this.delayThresholds = delayThresholds.clone();
+        this.baseDelays = baseDelays.clone();
+        this.randomDelay = randomDelay;
+        this.visibilityMillis = visibilityMillis;
+    }
+
+    /**
+     * 난이도에 해당하는 기본 규칙을 반환합니다.
+     * @param difficulty 게임 난이도
+     * @return 출현 규칙
+     */
+    public static MoleRules forDifficulty(GameModel.Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY: return EASY;
+            case HARD: return HARD;
+            default: return NORMAL;
+        }
+    }
+
+    /**
+     * 웨이브 하나의 두더지 수를 정합니다. 최소와 최대가 같으면 난수를 쓰지 않습니다.
+     * @param random 난수 생성기
+     * @return 두더지 수
+     */
+    public int waveSize(Random random) {
+        return minWaveSize == maxWaveSize ? minWaveSize : minWaveSize + random.nextInt(maxWaveSize - minWaveSize + 1);
+    }
+
+    /**
+     * 남은 시간에 맞는 기본 간격을 반환합니다.
+     * @param timeLeft 남은 시간 (초)
+     * @return 다음 웨이브까지의 기본 간격 (ms)
+     */
+    public int baseDelay(int timeLeft) {
+        for (int i = 0; i < delayThresholds.length; i++) {
+            if (timeLeft > delayThresholds[i]) {
+                return baseDelays[i];
+            }
+        }
+        return baseDelays[delayThresholds.length];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxMoles() {
+        return maxMoles;
+    }
+
+    public int getMinWaveSize() {
+        return minWaveSize;
+    }
+
+    public int getMaxWaveSize() {
+        return maxWaveSize;
+    }
+
+    public int getRandomDelay() {
+        return randomDelay;
+    }
+
+    public int getVisibilityMillis() {
+        return visibilityMillis;
+    }
+
+    /**
+     * 문자열 표기로 규칙을 만듭니다. 표기는 클래스 설명을 참고하세요.
+     * @param spec 규칙 표기
+     * @return 출현 규칙
+     * @throws IllegalArgumentException 표기가 올바르지 않은 경우
+     */
+    public static MoleRules parse(String spec) {
+        String text = spec.trim();
+        int colon = text.indexOf(':');
+        if (colon < 0) {
+            return preset(text);
+        }
+        String name = text.substring(0, colon).trim();
+        String[] entries = text.substring(colon + 1).split(",");
+
+        MoleRules base = NORMAL;
+        for (String entry : entries) {
+            String[] pair = entry.split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equals("base")) {
+                base = preset(pair[1].trim());
+            }
+        }
+        int maxMoles = base.maxMoles;
+        int minWave = base.minWaveSize;
+        int maxWave = base.maxWaveSize;
+        int[] thresholds = base.delayThresholds;
+        int[] delays = base.baseDelays;
+        int random = base.randomDelay;
+        int visible = base.visibilityMillis;
+
+        for (String entry : entries) {
+            String[] pair = entry.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + entry);
+            }
+            String key = pair[0].trim();
+            String value = pair[1].trim();
+            try {
+                switch (key) {
+                    case "base":
+                        break;
+                    case "max":
+                        maxMoles = Integer.parseInt(value);
+                        break;
+                    case "wave":
+                        int dash = value.indexOf('-');
+                        minWave = Integer.parseInt(dash < 0 ? value : value.substring(0, dash));
+                        maxWave = Integer.parseInt(dash < 0 ? value : value.substring(dash + 1));
+                        break;
+                    case "delay":
+                        String[] steps = value.split("/");
+                        thresholds = new int[steps.length - 1];
+                        delays = new int[steps.length];
+                        for (int i = 0; i < steps.length; i++) {
+                            int at = steps[i].indexOf('@');
+                            if ((at >= 0) != (i < steps.length - 1)) {
+                                throw new IllegalArgumentException("마지막 간격만 @경계 없이 써야 합니다: " + value);
+                            }
+                            delays[i] = Integer.parseInt(at < 0 ? steps[i] : steps[i].substring(0, at));
+                            if (at >= 0) {
+                                thresholds[i] = Integer.parseInt(steps[i].substring(at + 1));
+                            }
+                        }
+                        break;
+                    case "random":
+                        random = Integer.parseInt(value);
+                        break;
+                    case "visible":
+                        visible = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 규칙 항목: " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("숫자가 아닙니다: " + entry, e);
+            }
+        }
+        return new MoleRules(name, maxMoles, minWave, maxWave, thresholds, delays, random, visible);
+    }
+
+    private static MoleRules preset(String name) {
+        switch (name.toUpperCase()) {
+            case "EASY": return EASY;
+            case "NORMAL": return NORMAL;
+            case "HARD": return HARD;
+            default: throw new IllegalArgumentException("알 수 없는 기본 규칙: " + name);
+        }
+    }
+
+    /**
+     * @return {@link #parse}로 다시 읽을 수 있는 표기
+     */
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder(name).append(":max=").append(maxMoles)
+                .append(",wave=").append(minWaveSize).append('-').append(maxWaveSize)
+                .append(",delay=");
+        for (int i = 0; i < baseDelays.length; i++) {
+            if (i > 0) {
+                spec.append('/');
+            }
+            spec.append(baseDelays[i]);
+            if (i < delayThresholds.length) {
+                spec.append('@').append(delayThresholds[i]);
+            }
+        }
+        return spec.append(",random=").append(randomDelay)
+                .append(",visible=").append(visibilityMillis).toString();
+    }
+}
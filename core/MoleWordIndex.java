@@ -0,0 +1,181 @@
+package core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 화면에 떠 있는 두더지 단어의 색인
+ *
+ * 단어 전체로 찾는 해시 맵과, 입력 중인 앞부분으로 찾는 트라이를 함께 둡니다.
+ * 두 구조는 같은 노드를 공유하며, 노드마다 그 단어로 끝나는 두더지를 나온 순서대로 들고 있습니다.
+ * 두더지가 나오고 없어질 때마다 {@link MoleField}가 갱신하므로 입력을 확인할 때 떠 있는 두더지를 모두 훑지 않습니다.
+ *
+ * 앞부분 검색은 입력 길이에 비례하고(찾은 두더지 수는 별도), 마지막 글자를 한글 조합 중인 글자로 볼 수 있습니다.
+ * 조합 중인 "하"는 "한"이나 "학"의 앞부분이고, 두벌식에서 다음 음절의 초성이 받침으로 먼저 붙으므로
+ * 조합 중인 "한"은 "하나"의 앞부분이기도 합니다. (비교는 {@link HangulJamo#composingMatchingStrokes})
+ *
+ * 노드는 단어가 모두 없어져도 지우지 않고 다시 씁니다. 단어 목록이 정해져 있으므로 노드 수는 단어 목록 크기를 넘지 않습니다.
+ * 스레드 안전하지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleWordIndex {
+
+    private static final class Node {
+        private char[] keys = new char[2];
+        private Node[] children = new Node[2];
+        private int childCount = 0;
+        private int count = 0;                        // 이 노드 아래(자기 포함)에서 끝나는 두더지 수
+        private final ArrayDeque<MoleField.Mole> moles = new ArrayDeque<>(2);  // 이 노드에서 끝나는 두더지 (나온 순서)
+
+        private Node child(char key) {
+            for (int i = 0; i < childCount; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char key) {
+            Node child = child(key);
+            if (child == null) {
+                if (childCount == keys.length) {
+                    keys = Arrays.copyOf(keys, childCount * 2);
+                    children = Arrays.copyOf(children, childCount * 2);
+                }
+                child = new Node();
+                keys[childCount] = key;
+                children[childCount] = child;
+                childCount++;
+            }
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+    private final Map<String, Node> words = new HashMap<>();
+
+    /**
+     * 나온 두더지를 색인에 넣습니다.
+     * @param mole 나온 두더지
+     */
+    public void add(MoleField.Mole mole) {
+        String word = mole.word();
+        Node node = words.get(word);
+        if (node == null) {
+            node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.childOrCreate(word.charAt(i));
+            }
+            words.put(word, node);
+        }
+        node.moles.addLast(mole);
+        adjustCounts(word, 1);
+    }
+
+    /**
+     * 잡히거나 사라진 두더지를 색인에서 뺍니다.
+     * @param mole 없어진 두더지
+     */
+    public void remove(MoleField.Mole mole) {
+        String word = mole.word();
+        Node node = words.get(word);
+        if (node != null && node.moles.remove(mole)) {
+            adjustCounts(word, -1);
+        }
+    }
+
+    /**
+     * 단어가 같은 두더지 중 먼저 나온 두더지를 찾습니다.
+     * @param word 찾을 단어
+     * @return 두더지, 없으면 null
+     */
+    public MoleField.Mole first(String word) {
+        Node node = words.get(word);
+        return node == null ? null : node.moles.peekFirst();
+    }
+
+    /**
+     * 입력한 내용으로 시작하는 단어의 두더지를 모두 찾습니다.
+     * @param typed 입력한 내용
+     * @param composing 마지막 글자가 아직 조합 중인 한글이면 true
+     * @param action 찾은 두더지마다 호출할 함수
+     * @return 찾은 두더지 수
+     */
+    public int forEachPrefixMatch(CharSequence typed, boolean composing, Consumer<MoleField.Mole> action) {
+        int length = typed.length();
+        if (length == 0) {
+            return 0;
+        }
+        int committed = composing ? length - 1 : length;
+        Node node = root;
+        for (int i = 0; i < committed; i++) {
+            node = node.child(typed.charAt(i));
+            if (node == null || node.count == 0) {
+                return 0;
+            }
+        }
+        if (!composing) {
+            return visit(node, action);
+        }
+
+        // 조합 중인 글자는 입력한 자모가 모두 목표 글자(또는 목표 글자와 다음 글자의 초성)에 맞으면 앞부분으로 봄
+        char last = typed.charAt(committed);
+        int strokes = HangulJamo.strokeCount(last);
+        int found = 0;
+        for (int i = 0; i < node.childCount; i++) {
+            Node child = node.children[i];
+            if (child.count == 0) {
+                continue;
+            }
+            char key = node.keys[i];
+            if (key == last || HangulJamo.composingMatchingStrokes(last, key, (char) 0) == strokes) {
+                found += visit(child, action);
+            } else if (HangulJamo.isSyllable(last)) {
+                for (int j = 0; j < child.childCount; j++) {
+                    Node next = child.children[j];
+                    if (next.count > 0
+                            && HangulJamo.composingMatchingStrokes(last, key, child.keys[j]) == strokes) {
+                        found += visit(next, action);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return 색인에 있는 두더지 수
+     */
+    public int size() {
+        return root.count;
+    }
+
+    private void adjustCounts(String word, int delta) {
+        Node node = root;
+        node.count += delta;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.child(word.charAt(i));
+            node.count += delta;
+        }
+    }
+
+    private static int visit(Node node, Consumer<MoleField.Mole> action) {
+        int found = 0;
+        for (MoleField.Mole mole : node.moles) {
+            action.accept(mole);
+            found++;
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            if (node.children[i].count > 0) {
+                found += visit(node.children[i], action);
+            }
+        }
+        return found;
+    }
+}
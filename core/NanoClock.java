@@ -0,0 +1,25 @@
+package core;
+
+/**
+ * 게임 모델이 시간 측정에 사용하는 나노초 단위 시계
+ *
+ * 실제 게임에서는 {@link #SYSTEM}({@code System.nanoTime})을 사용하고,
+ * 시뮬레이션에서는 가상 시계를 주입하여 실제 시간과 무관하게 빠르게 실행합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface NanoClock {
+    /**
+     * System.nanoTime 기반의 실제 시계
+     */
+    NanoClock SYSTEM = System::nanoTime;
+
+    /**
+     * 현재 시각을 나노초 단위로 반환합니다.
+     * 값 자체보다는 두 시각의 차이로 경과 시간을 계산하는 데 사용합니다.
+     * @return 현재 시각 (나노초)
+     */
+    long nanoTime();
+}
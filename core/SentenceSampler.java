@@ -0,0 +1,195 @@
+package core;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 게임마다 연습 문장을 고르는 표본 추출기
+ *
+ * 전체 문장 목록을 복사해서 섞지 않고 문장 번호만 뽑기 때문에,
+ * 한 게임에 필요한 문장 수(k)만큼의 시간과 메모리만 사용합니다. (말뭉치 크기와 무관)
+ *
+ * 최근 게임에서 나온 문장 번호는 블룸 필터 두 개를 번갈아 쓰는 고정 크기 기록에 남겨서
+ * 다음 게임에서 가능한 한 다시 고르지 않습니다. 일정 게임 수마다 오래된 필터를 비우므로
+ * 대략 최근 gamesPerGeneration ~ 2 * gamesPerGeneration 게임의 문장을 피하게 됩니다.
+ * 필터가 잘못 판단하면(false positive) 가끔 새 문장을 건너뛸 뿐 결과가 틀리지는 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class SentenceSampler {
+    public static final int DEFAULT_FILTER_BITS = 1 << 13;      // 필터 하나의 비트 수 (1KB)
+    public static final int DEFAULT_GAMES_PER_GENERATION = 5;   // 필터를 교체하는 게임 수
+
+    private static final int HASH_COUNT = 3;          // 문장 번호 하나당 켜는 비트 수
+    private static final int ATTEMPTS_PER_SLOT = 8;   // 최근 문장을 피하려고 다시 뽑는 최대 횟수
+
+    private final Random random;
+    private final int gamesPerGeneration;
+    private final int bitMask;
+    private long[] currentFilter;    // 이번 세대에 나온 문장
+    private long[] previousFilter;   // 지난 세대에 나온 문장
+    private int gamesInGeneration = 0;
+
+    /**
+     * 기본 크기의 기록을 사용하는 SentenceSampler 생성자
+     * @param random 문장 선택에 사용할 난수 생성기
+     */
+    public SentenceSampler(Random random) {
+        this(random, DEFAULT_FILTER_BITS, DEFAULT_GAMES_PER_GENERATION);
+    }
+
+    /**
+     * SentenceSampler 생성자
+     * @param random 문장 선택에 사용할 난수 생성기
+     * @param filterBits 필터 하나의 비트 수 (64 ~ 2^20 사이의 2의 거듭제곱)
+     * @param gamesPerGeneration 필터를 교체하는 게임 수
+     */
+    public SentenceSampler(Random random, int filterBits, int gamesPerGeneration) {
+        if (filterBits < 64 || filterBits > 1 << 20 || Integer.bitCount(filterBits) != 1) {
+            throw new IllegalArgumentException("필터 비트 수는 64 ~ 2^20 사이의 2의 거듭제곱이어야 합니다: " + filterBits);
+        }
+        this.random = random;
+        this.gamesPerGeneration = Math.max(1, gamesPerGeneration);
+        this.bitMask = filterBits - 1;
+        this.currentFilter = new long[filterBits / 64];
+        this.previousFilter = new long[filterBits / 64];
+    }
+
+    /**
+     * 0 이상 size 미만의 문장 번호 중 서로 다른 count개를 무작위 순서로 뽑고 기록에 남깁니다.
+     * 최근에 나온 문장은 다른 문장이 충분히 있으면 고르지 않습니다.
+     * @param size 전체 문장 수
+     * @param count 뽑을 문장 수 (size보다 크면 size개)
+     * @return 뽑은 문장 번호 배열
+     */
+    public int[] sample(int size, int count) {
+        int k = Math.max(0, Math.min(count, size));
+        int[] result = size <= 2 * k ? sampleSmall(size, k) : sampleLarge(size, k);
+        finishGame(result);
+        return result;
+    }
+
+    /**
+     * 문장이 최근 게임에서 나왔는지 확인합니다.
+     * @param index 문장 번호
+     * @return 최근에 나왔을 수 있으면 true (드물게 잘못된 true가 있을 수 있음)
+     */
+    public boolean wasRecentlySeen(int index) {
+        return mightContain(currentFilter, index) || mightContain(previousFilter, index);
+    }
+
+    /**
+     * 최근 문장 기록을 지웁니다. 다른 말뭉치로 바꿀 때 사용합니다.
+     */
+    public void clearHistory() {
+        Arrays.fill(currentFilter, 0L);
+        Arrays.fill(previousFilter, 0L);
+        gamesInGeneration = 0;
+    }
+
+    /**
+     * 문장 수가 k에 가까운 작은 말뭉치: 최근에 나오지 않은 문장을 앞에 모은 뒤
+     * 부분 피셔-예이츠 셔플로 뽑습니다. (size &lt;= 2k 이므로 O(k))
+     */
+    private int[] sampleSmall(int size, int k) {
+        int[] indices = new int[size];
+        int fresh = 0;
+        int stale = size;
+        for (int i = 0; i < size; i++) {
+            if (wasRecentlySeen(i)) {
+                indices[--stale] = i;
+            } else {
+                indices[fresh++] = i;
+            }
+        }
+        int[] result = new int[k];
+        for (int i = 0; i < k; i++) {
+            // 새 문장이 남아 있으면 그 안에서, 다 쓰면 최근 문장 중에서 고름
+            int end = i < fresh ? fresh : size;
+            int pick = i + random.nextInt(end - i);
+            int chosen = indices[pick];
+            indices[pick] = indices[i];
+            indices[i] = chosen;
+            result[i] = chosen;
+        }
+        return result;
+    }
+
+    /**
+     * 큰 말뭉치: 무작위로 번호를 뽑고 이미 고른 번호나 최근 문장이면 다시 뽑습니다.
+     * 고른 번호의 절반 이상이 항상 비어 있으므로 기대 시간은 O(k)입니다.
+     */
+    private int[] sampleLarge(int size, int k) {
+        int[] result = new int[k];
+        int[] chosen = new int[Math.max(4, Integer.highestOneBit(k * 4 - 1) << 1)];  // 고른 번호 해시 집합
+        Arrays.fill(chosen, -1);
+        for (int i = 0; i < k; i++) {
+            int candidate;
+            int attempts = 0;
+            do {
+                candidate = random.nextInt(size);
+            } while (contains(chosen, candidate)
+                    || (attempts++ < ATTEMPTS_PER_SLOT && wasRecentlySeen(candidate)));
+            add(chosen, candidate);
+            result[i] = candidate;
+        }
+        return result;
+    }
+
+    private void finishGame(int[] sampled) {
+        if (gamesInGeneration == gamesPerGeneration) {
+            long[] cleared = previousFilter;
+            previousFilter = currentFilter;
+            currentFilter = cleared;
+            Arrays.fill(currentFilter, 0L);
+            gamesInGeneration = 0;
+        }
+        for (int index : sampled) {
+            long hash = mix(index);
+            for (int h = 0; h < HASH_COUNT; h++) {
+                int bit = (int) (hash >>> (h * 20)) & bitMask;
+                currentFilter[bit >>> 6] |= 1L << bit;
+            }
+        }
+        gamesInGeneration++;
+    }
+
+    private boolean mightContain(long[] filter, int index) {
+        long hash = mix(index);
+        for (int h = 0; h < HASH_COUNT; h++) {
+            int bit = (int) (hash >>> (h * 20)) & bitMask;
+            if ((filter[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(int index) {
+        // SplitMix64의 마무리 단계로 번호를 고르게 섞음
+        long z = (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static boolean contains(int[] table, int value) {
+        int mask = table.length - 1;
+        for (int slot = (int) mix(value) & mask; table[slot] != -1; slot = (slot + 1) & mask) {
+            if (table[slot] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void add(int[] table, int value) {
+        int mask = table.length - 1;
+        int slot = (int) mix(value) & mask;
+        while (table[slot] != -1) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+    }
+}
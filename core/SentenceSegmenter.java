@@ -0,0 +1,288 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장문을 문장 단위로 나누는 한 번 훑기(single pass) 분리기
+ *
+ * 정규식 없이 문자를 앞에서부터 한 글자씩 보면서 문장 경계를 찾고,
+ * 문자열을 만들지 않고 각 문장의 시작/끝 위치만 알려 줍니다.
+ * 다음 경우에 문장을 나눕니다.
+ * <ul>
+ *   <li>빈 줄 (문단 경계)</li>
+ *   <li>문장 부호(. ! ? …) 뒤에 공백이 오는 경우 - 부호 뒤의 닫는 따옴표/괄호는 문장에 포함</li>
+ *   <li>한글 뒤의 문장 부호 다음에 띄어쓰기 없이 한글이 이어지는 경우 (예: "했다.그리고")</li>
+ * </ul>
+ * Mr. Dr. e.g. 같은 영어 약어와 J. 같은 이름 머리글자 뒤에서는 나누지 않습니다.
+ *
+ * 한 글자씩 넣는 방식이라 {@link LongTextStream}처럼 텍스트를 조금씩 읽는 경우에도 사용할 수 있습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class SentenceSegmenter {
+
+    /**
+     * 찾은 문장의 위치를 받는 콜백
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * @param start 문장 시작 위치 (포함)
+         * @param end 문장 끝 위치 (제외)
+         */
+        void sentence(int start, int end);
+    }
+
+    // 마침표 뒤에서 문장을 나누지 않는 약어 (소문자, 마지막 마침표 제외)
+    private static final String[] ABBREVIATIONS = {
+            "mr", "mrs", "ms", "dr", "prof", "sr", "jr", "st", "vs", "e.g", "i.e", "cf", "fig"
+    };
+
+    private int sentenceStart = -1;     // 만들고 있는 문장의 시작 위치 (없으면 -1)
+    private int sentenceEnd = 0;        // 만들고 있는 문장의 마지막 비공백 문자 다음 위치
+    private int wordStart = 0;          // 현재 단어의 시작 위치
+    private int terminator = -1;        // 뒤에 닫는 부호만 온 마지막 문장 부호 위치 (없으면 -1)
+    private boolean hangulTerminator;   // 문장 부호가 한글 바로 뒤에 왔는지 여부
+    private int newlineRun = 0;         // 공백 문자만 사이에 둔 연속 줄바꿈 수
+    private int completedStart;         // 마지막으로 완성된 문장의 시작 위치
+    private int completedEnd;           // 마지막으로 완성된 문장의 끝 위치
+
+    /**
+     * 텍스트 전체를 나누어 각 문장의 위치를 콜백으로 전달합니다.
+     * @param text 나눌 텍스트
+     * @param sink 문장 위치를 받을 콜백
+     */
+    public static void segment(CharSequence text, Sink sink) {
+        SentenceSegmenter segmenter = new SentenceSegmenter();
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (segmenter.feed(text, i)) {
+                sink.sentence(segmenter.completedStart, segmenter.completedEnd);
+            }
+        }
+        if (segmenter.finish()) {
+            sink.sentence(segmenter.completedStart, segmenter.completedEnd);
+        }
+    }
+
+    /**
+     * 텍스트 전체를 나누어 문장 위치를 배열로 반환합니다.
+     * @param text 나눌 텍스트
+     * @return [시작0, 끝0, 시작1, 끝1, ...] 형태의 위치 배열
+     */
+    public static int[] offsets(CharSequence text) {
+        int[][] holder = {new int[64]};
+        int[] count = {0};
+        segment(text, (start, end) -> {
+            if (count[0] + 2 > holder[0].length) {
+                holder[0] = Arrays.copyOf(holder[0], holder[0].length * 2);
+            }
+            holder[0][count[0]++] = start;
+            holder[0][count[0]++] = end;
+        });
+        return Arrays.copyOf(holder[0], count[0]);
+    }
+
+    /**
+     * 텍스트 전체를 문장 리스트로 나눕니다.
+     * @param text 나눌 텍스트
+     * @return 문장 리스트 (문장 안의 줄바꿈은 공백으로 바뀜)
+     */
+    public static List<String> split(CharSequence text) {
+        List<String> sentences = new ArrayList<>();
+        segment(text, (start, end) -> sentences.add(sentenceText(text, start, end)));
+        return sentences;
+    }
+
+    /**
+     * 문장 위치에 해당하는 문자열을 만듭니다.
+     * 줄바꿈은 공백으로 바꾸고 \r은 제거합니다.
+     * @param text 원본 텍스트
+     * @param start 문장 시작 위치
+     * @param end 문장 끝 위치
+     * @return 문장 문자열
+     */
+    public static String sentenceText(CharSequence text, int start, int end) {
+        int i = start;
+        while (i < end && text.charAt(i) != '\n' && text.charAt(i) != '\r') {
+            i++;
+        }
+        if (i == end) {
+            return text.subSequence(start, end).toString();  // 줄바꿈이 없으면 그대로 잘라냄
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(text, start, i);
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c != '\r') {
+                builder.append(c == '\n' ? ' ' : c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 텍스트의 다음 문자를 처리합니다.
+     * 문자는 앞에서부터 빠짐없이 하나씩 넣어야 합니다.
+     * @param text 처리 중인 텍스트 (지금까지 넣은 문자가 같은 위치에 있어야 함)
+     * @param index 처리할 문자의 위치
+     * @return 이 문자로 문장 하나가 완성되었으면 true
+     *         ({@link #getSentenceStart()}, {@link #getSentenceEnd()}로 위치 확인)
+     */
+    public boolean feed(CharSequence text, int index) {
+        char c = text.charAt(index);
+        if (Character.isWhitespace(c)) {
+            if (c == '\n') {
+                newlineRun++;
+            }
+            // 빈 줄(문단 경계), 또는 약어가 아닌 문장 부호 뒤의 공백에서 문장을 나눔
+            boolean completed = sentenceStart >= 0
+                    && (newlineRun >= 2 || (terminator >= 0 && !isAbbreviation(text)));
+            if (completed) {
+                complete();
+            }
+            wordStart = index + 1;
+            return completed;
+        }
+
+        boolean completed = false;
+        if (terminator == index - 1 && hangulTerminator && isHangulSyllable(c)) {
+            // 한글 문장 부호 뒤에 띄어쓰기 없이 다음 문장이 이어지는 경우
+            complete();
+            wordStart = index;
+            completed = true;
+        }
+
+        if (sentenceStart < 0) {
+            sentenceStart = index;
+        }
+        sentenceEnd = index + 1;
+        newlineRun = 0;
+
+        if (isTerminator(c)) {
+            if (terminator != index - 1) {
+                // 부호가 이어지면(?!) 첫 부호 앞의 문자로 판단, 말줄임표는 띄어쓰기 없이 이어 쓰는 경우가 많아 제외
+                hangulTerminator = c != '…' && index > sentenceStart && isHangulSyllable(text.charAt(index - 1));
+            }
+            terminator = index;
+        } else if (terminator >= 0 && isCloser(c)) {
+            terminator = index;  // 닫는 따옴표/괄호는 문장 부호에 붙여서 문장에 포함
+            hangulTerminator = false;
+        } else {
+            terminator = -1;
+        }
+        return completed;
+    }
+
+    /**
+     * 텍스트가 끝났을 때 남은 문장을 완성합니다.
+     * @return 남은 문장이 있으면 true
+     */
+    public boolean finish() {
+        if (sentenceStart < 0) {
+            return false;
+        }
+        complete();
+        return true;
+    }
+
+    /**
+     * 처음 상태로 되돌립니다. 이후에는 위치 0부터 다시 넣습니다.
+     */
+    public void reset() {
+        sentenceStart = -1;
+        sentenceEnd = 0;
+        wordStart = 0;
+        terminator = -1;
+        hangulTerminator = false;
+        newlineRun = 0;
+    }
+
+    /**
+     * 아직 완성되지 않은 문장이 있는지 확인합니다.
+     * @return 만들고 있는 문장이 있으면 true
+     */
+    public boolean hasPendingSentence() {
+        return sentenceStart >= 0;
+    }
+
+    /**
+     * @return 마지막으로 완성된 문장의 시작 위치
+     */
+    public int getSentenceStart() {
+        return completedStart;
+    }
+
+    /**
+     * @return 마지막으로 완성된 문장의 끝 위치 (제외)
+     */
+    public int getSentenceEnd() {
+        return completedEnd;
+    }
+
+    private void complete() {
+        completedStart = sentenceStart;
+        completedEnd = sentenceEnd;
+        sentenceStart = -1;
+        terminator = -1;
+        hangulTerminator = false;
+        newlineRun = 0;
+    }
+
+    /**
+     * 문장 부호가 약어나 이름 머리글자의 마침표인지 확인합니다.
+     */
+    private boolean isAbbreviation(CharSequence text) {
+        int dot = terminator;
+        while (dot > wordStart && isCloser(text.charAt(dot))) {
+            dot--;
+        }
+        if (text.charAt(dot) != '.' || (dot > 0 && text.charAt(dot - 1) == '.')) {
+            return false;  // 마침표가 아니거나 말줄임표
+        }
+        int start = wordStart;
+        while (start < dot && isOpener(text.charAt(start))) {
+            start++;
+        }
+        int length = dot - start;
+        if (length == 1 && Character.isUpperCase(text.charAt(start))) {
+            return true;  // 이름 머리글자 (J. R. R. Tolkien)
+        }
+        for (String abbreviation : ABBREVIATIONS) {
+            if (abbreviation.length() == length && regionMatchesIgnoreCase(text, start, abbreviation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence text, int start, String lowerCase) {
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(text.charAt(start + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…' || c == '。' || c == '！' || c == '？';
+    }
+
+    private static boolean isCloser(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '”' || c == '’'
+                || c == '」' || c == '』' || c == '》' || c == '〉';
+    }
+
+    private static boolean isOpener(char c) {
+        return c == '"' || c == '\'' || c == '(' || c == '[' || c == '“' || c == '‘'
+                || c == '「' || c == '『' || c == '《' || c == '〈';
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,30 @@
+package core;
+
+/**
+ * 여러 게임 세션이 함께 사용하는 읽기 전용 텍스트 저장소
+ *
+ * 같은 리소스는 처음 요청될 때 한 번만 읽고, 이후에는 변경할 수 없는 리스트와
+ * 문자열을 그대로 돌려줍니다. 모든 메서드는 여러 스레드에서 동시에 호출해도 안전합니다.
+ * 크기 한도가 없는 {@link CorpusCache}이므로 한 번 읽은 리소스는 버리지 않습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class SharedTextRepository extends CorpusCache {
+
+    /**
+     * SharedTextRepository 생성자
+     * 이 클래스를 로드한 클래스 로더의 클래스패스에서 리소스를 읽습니다.
+     */
+    public SharedTextRepository() {
+        this(SharedTextRepository.class.getClassLoader());
+    }
+
+    /**
+     * 지정한 클래스 로더에서 리소스를 읽는 SharedTextRepository 생성자
+     * @param classLoader 리소스를 읽어올 클래스 로더
+     */
+    public SharedTextRepository(ClassLoader classLoader) {
+        super(classLoader, Long.MAX_VALUE);
+    }
+}
@@ -1,10 +1,17 @@
 package core;
 
+import core.corpus.CorpusPack;
+import core.metrics.TypingMetrics;
+
 import java.io.BufferedReader;
+import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,39 +21,118 @@ import java.util.List;
  * 한국어와 영어 텍스트 파일을 읽어와서 타이핑 연습용 문장 리스트를 
  * 생성하고 관리합니다. 파일 읽기 오류 발생 시 기본 문장을 제공합니다.
  * 
+ * 말뭉치 폴더가 지정되어 있고 그 안에 같은 이름의 .pack 파일이 있으면
+ * 텍스트 파일 대신 미리 컴파일된 말뭉치 팩을 메모리 매핑하여 사용합니다.
+ * (-Dtyping.corpus.dir=폴더, 팩은 {@link core.corpus.CorpusCompiler}로 만듦)
+ * 
  * @author JAVA 중간 프로젝트
  * @version 1.0
  */
 public class TextRepository {
+    public static final String CORPUS_DIR_PROPERTY = "typing.corpus.dir";  // 말뭉치 팩 폴더 시스템 속성
+
+    private final ClassLoader classLoader;  // 리소스를 읽어올 클래스 로더
+    private final Path corpusDirectory;     // 말뭉치 팩을 찾을 폴더 (없으면 null)
+
+    /**
+     * TextRepository 생성자
+     * 이 클래스를 로드한 클래스 로더의 클래스패스에서 리소스를 읽습니다.
+     */
+    public TextRepository() {
+        this(TextRepository.class.getClassLoader());
+    }
+
+    /**
+     * 지정한 클래스 로더에서 리소스를 읽는 TextRepository 생성자
+     * 말뭉치 팩 폴더는 시스템 속성 typing.corpus.dir에서 가져옵니다.
+     * @param classLoader 리소스를 읽어올 클래스 로더
+     */
+    public TextRepository(ClassLoader classLoader) {
+        this(classLoader, defaultCorpusDirectory());
+    }
+
+    /**
+     * 말뭉치 팩 폴더를 지정하는 TextRepository 생성자
+     * @param classLoader 리소스를 읽어올 클래스 로더
+     * @param corpusDirectory 말뭉치 팩을 찾을 폴더, 사용하지 않으려면 null
+     */
+    public TextRepository(ClassLoader classLoader, Path corpusDirectory) {
+        this.classLoader = classLoader;
+        this.corpusDirectory = corpusDirectory;
+    }
+
+    private static Path defaultCorpusDirectory() {
+        String directory = System.getProperty(CORPUS_DIR_PROPERTY);
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
+    }
 
     /**
      * 지정된 파일 경로에서 텍스트를 읽어와 문장 목록을 반환합니다.
-     * 클래스패스에서 리소스를 로드합니다.
+     * 같은 이름의 말뭉치 팩이 있으면 팩의 읽기 전용 리스트를 반환하고,
+     * 없으면 클래스패스에서 리소스를 로드합니다.
      * 
      * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
      * @return 연습용 문장들의 리스트
      */
     public List<String> loadTexts(String resourcePath) {
+        try {
+            return loadTextsOrThrow(resourcePath);
+        } catch (IOException e) {
+            return failedTexts(resourcePath, e);
+        }
+    }
+
+    /**
+     * 문장 목록을 읽되, 읽지 못하면 오류 안내 문장 대신 예외를 던집니다.
+     * 캐시가 실패 결과를 보관하지 않도록 할 때 사용합니다.
+     *
+     * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
+     * @return 연습용 문장들의 리스트
+     * @throws IOException 리소스가 없거나({@link FileNotFoundException}) 읽는 중 오류가 난 경우
+     */
+    List<String> loadTextsOrThrow(String resourcePath) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            return readTexts(resourcePath);
+        } finally {
+            TypingMetrics.CORPUS_LOAD.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * 문장 목록을 읽지 못했을 때 오류를 알리고 대신 보여 줄 안내 문장을 반환합니다.
+     * @param resourcePath 읽으려던 리소스 경로
+     * @param e 발생한 오류
+     * @return 오류 안내 문장 하나만 담은 리스트
+     */
+    List<String> failedTexts(String resourcePath, IOException e) {
+        TypingMetrics.CORPUS_LOAD_FAILURES.increment();
         List<String> texts = new ArrayList<>();
-        
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            
-            if (is == null) {
-                System.err.println("리소스를 찾을 수 없습니다: " + resourcePath);
-                texts.add("오류: 리소스 파일을 찾을 수 없습니다.");
-                return texts;
-            }
+        if (e instanceof FileNotFoundException) {
+            System.err.println("리소스를 찾을 수 없습니다: " + resourcePath);
+            texts.add("오류: 리소스 파일을 찾을 수 없습니다.");
+        } else {
+            System.err.println("리소스 로딩 중 오류 발생: " + resourcePath + " - " + e.getMessage());
+            texts.add("오류: 파일을 읽는 중 문제가 발생했습니다.");
+        }
+        return texts;
+    }
 
+    private List<String> readTexts(String resourcePath) throws IOException {
+        CorpusPack pack = findCorpusPack(resourcePath);
+        if (pack != null && pack.size() > 0) {
+            return pack.asList();
+        }
+
+        List<String> texts = new ArrayList<>();
+        
+        try (BufferedReader reader = openResource(resourcePath)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (!line.trim().isEmpty()) {
                     texts.add(line.trim());
                 }
             }
-        } catch (IOException | NullPointerException e) {
-            System.err.println("리소스 로딩 중 오류 발생: " + resourcePath + " - " + e.getMessage());
-            texts.add("오류: 파일을 읽는 중 문제가 발생했습니다.");
         }
         
         if (texts.isEmpty()) {
@@ -64,27 +150,112 @@ public class TextRepository {
      * @return 파일 전체 내용 문자열, 실패 시 에러 메시지
      */
     public String loadFullText(String resourcePath) {
+        try {
+            return loadFullTextOrThrow(resourcePath);
+        } catch (IOException e) {
+            return failedFullText(resourcePath, e);
+        }
+    }
+
+    /**
+     * 전체 텍스트를 읽되, 읽지 못하면 에러 메시지 대신 예외를 던집니다.
+     * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
+     * @return 파일 전체 내용 문자열
+     * @throws IOException 리소스가 없거나({@link FileNotFoundException}) 읽는 중 오류가 난 경우
+     */
+    String loadFullTextOrThrow(String resourcePath) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            return readFullText(resourcePath);
+        } finally {
+            TypingMetrics.CORPUS_LOAD.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * 전체 텍스트를 읽지 못했을 때 오류를 알리고 대신 보여 줄 에러 메시지를 반환합니다.
+     * @param resourcePath 읽으려던 리소스 경로
+     * @param e 발생한 오류
+     * @return 에러 메시지
+     */
+    String failedFullText(String resourcePath, IOException e) {
+        TypingMetrics.CORPUS_LOAD_FAILURES.increment();
+        if (e instanceof FileNotFoundException) {
+            System.err.println("리소스를 찾을 수 없습니다: " + resourcePath);
+            return "오류: 리소스 파일을 찾을 수 없습니다: " + resourcePath;
+        }
+        System.err.println("전체 텍스트 로딩 중 오류 발생: " + resourcePath + " - " + e.getMessage());
+        return "파일을 불러오는 데 실패했습니다: " + resourcePath;
+    }
+
+    private String readFullText(String resourcePath) throws IOException {
         StringBuilder contentBuilder = new StringBuilder();
         
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-
-            if (is == null) {
-                System.err.println("리소스를 찾을 수 없습니다: " + resourcePath);
-                return "오류: 리소스 파일을 찾을 수 없습니다: " + resourcePath;
-            }
-            
+        try (BufferedReader reader = openResource(resourcePath)) {
+            // 문단 경계(빈 줄)가 남도록 줄바꿈을 유지
             String line;
             while ((line = reader.readLine()) != null) {
                 if (contentBuilder.length() > 0) {
-                    contentBuilder.append(" ");
+                    contentBuilder.append('\n');
                 }
                 contentBuilder.append(line);
             }
-        } catch (IOException | NullPointerException e) {
-            System.err.println("전체 텍스트 로딩 중 오류 발생: " + resourcePath + " - " + e.getMessage());
-            return "파일을 불러오는 데 실패했습니다: " + resourcePath;
         }
         return contentBuilder.toString();
     }
-} 
\ No newline at end of file
+
+    private BufferedReader openResource(String resourcePath) throws FileNotFoundException {
+        InputStream is = classLoader.getResourceAsStream(resourcePath);
+        if (is == null) {
+            throw new FileNotFoundException(resourcePath);
+        }
+        return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지정된 장문 리소스를 문장 단위로 조금씩 읽는 스트림을 엽니다.
+     * 파일 전체를 메모리에 올리지 않으므로 책 한 권 분량의 텍스트에도 사용할 수 있습니다.
+     *
+     * @param resourcePath 읽어올 텍스트 파일의 클래스패스 경로
+     * @return 문장 스트림, 리소스가 없으면 오류 메시지 한 문장만 담은 스트림
+     */
+    public LongTextStream openLongTextStream(String resourcePath) {
+        InputStream is = classLoader.getResourceAsStream(resourcePath);
+        if (is == null) {
+            System.err.println("리소스를 찾을 수 없습니다: " + resourcePath);
+            return new LongTextStream(new StringReader("오류: 리소스 파일을 찾을 수 없습니다: " + resourcePath));
+        }
+        return new LongTextStream(new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 말뭉치 팩 파일을 메모리 매핑하여 엽니다.
+     * 문장 리스트를 만들지 않으므로 문장 수와 관계없이 바로 열리며, N번째 문장은 O(1)에 가져옵니다.
+     *
+     * @param packPath 팩 파일 경로
+     * @return 열린 팩, 실패 시 null
+     */
+    public CorpusPack openCorpusPack(Path packPath) {
+        try {
+            return CorpusPack.open(packPath);
+        } catch (IOException e) {
+            System.err.println("말뭉치 팩 로딩 중 오류 발생: " + packPath + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 리소스 경로에 대응하는 말뭉치 팩을 찾습니다. (resources/typing_words.txt → 폴더/typing_words.pack)
+     */
+    private CorpusPack findCorpusPack(String resourcePath) {
+        if (corpusDirectory == null) {
+            return null;
+        }
+        String fileName = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+        if (fileName.endsWith(".txt")) {
+            fileName = fileName.substring(0, fileName.length() - 4);
+        }
+        Path packPath = corpusDirectory.resolve(fileName + ".pack");
+        return Files.isRegularFile(packPath) ? openCorpusPack(packPath) : null;
+    }
+}
@@ -0,0 +1,145 @@
+package core;
+
+/**
+ * 실시간 타수 계산용 슬라이딩 윈도우
+ *
+ * 고정 크기의 원형 버퍼에 입력 시각(nanoTime)과 입력 문자 수를
+ * 기본형 배열로 저장하고, 윈도우 안의 문자 수 합계를 항상 유지합니다.
+ * 이벤트 추가, 오래된 이벤트 제거, 합계 조회가 모두 O(1)이며
+ * 키 입력 경로에서 객체를 생성하지 않습니다.
+ *
+ * 버퍼가 가득 찬 상태에서 새 이벤트가 들어오면 가장 최근 이벤트에
+ * 문자 수를 합쳐서 윈도우 안의 문자 수가 사라지지 않도록 합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class TypingWindow {
+    public static final int DEFAULT_CAPACITY = 256;  // 기본 버퍼 크기 (5초 동안 256회 입력)
+
+    private final long windowNanos;   // 윈도우 길이 (나노초)
+    private long[] times;             // 이벤트 발생 시각 (nanoTime)
+    private int[] counts;             // 이벤트별 입력 문자 수
+    private int head = 0;             // 가장 오래된 이벤트 위치
+    private int size = 0;             // 저장된 이벤트 개수
+    private int sum = 0;              // 윈도우 안의 문자 수 합계
+
+    /**
+     * TypingWindow 생성자
+     * @param windowSeconds 윈도우 길이 (초)
+     * @param capacity 저장할 수 있는 최대 이벤트 개수
+     */
+    public TypingWindow(int windowSeconds, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상이어야 합니다: " + capacity);
+        }
+        this.windowNanos = windowSeconds * 1_000_000_000L;
+        this.times = new long[capacity];
+        this.counts = new int[capacity];
+    }
+
+    /**
+     * 입력 이벤트를 추가하고 윈도우를 벗어난 이벤트를 제거합니다.
+     * @param nanoTime 입력 시각 (System.nanoTime 기준)
+     * @param charCount 입력된 문자 수
+     */
+    public void add(long nanoTime, int charCount) {
+        // 먼저 오래된 이벤트를 비워야 버퍼가 가득 차 보여 최근 이벤트에 합쳐지는 일이 줄어듦
+        evictOlderThan(nanoTime);
+        if (size == times.length) {
+            // 버퍼가 가득 찬 경우 가장 최근 이벤트에 합산
+            counts[index(size - 1)] += charCount;
+        } else {
+            int tail = index(size);
+            times[tail] = nanoTime;
+            counts[tail] = charCount;
+            size++;
+        }
+        sum += charCount;
+    }
+
+    /**
+     * 기준 시각에서 윈도우 길이보다 오래된 이벤트들을 제거합니다.
+     * @param nanoTime 기준 시각 (System.nanoTime 기준)
+     */
+    public void evictOlderThan(long nanoTime) {
+        long threshold = nanoTime - windowNanos;
+        while (size > 0 && times[head] - threshold < 0) {
+            sum -= counts[head];
+            head = index(1);
+            size--;
+        }
+    }
+
+    /**
+     * 윈도우 안의 문자 수 합계를 반환합니다.
+     * @return 문자 수 합계
+     */
+    public int getCharCount() {
+        return sum;
+    }
+
+    /**
+     * 가장 오래된 이벤트의 시각을 반환합니다.
+     * @return 가장 오래된 이벤트 시각, 비어 있으면 0
+     */
+    public long getOldestTime() {
+        return size > 0 ? times[head] : 0L;
+    }
+
+    /**
+     * 윈도우가 비어 있는지 확인합니다.
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 최대 이벤트 개수를 반환합니다.
+     * @return 버퍼 크기
+     */
+    public int getCapacity() {
+        return times.length;
+    }
+
+    /**
+     * 버퍼 크기를 변경합니다. 최근 이벤트부터 새 버퍼에 담길 만큼 유지합니다.
+     * 매우 빠른 입력에서도 윈도우를 정확히 유지하려면 크기를 늘립니다.
+     * @param capacity 새 버퍼 크기
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상이어야 합니다: " + capacity);
+        }
+        long[] newTimes = new long[capacity];
+        int[] newCounts = new int[capacity];
+        int keep = Math.min(size, capacity);
+        int newSum = 0;
+        for (int i = 0; i < keep; i++) {
+            int from = index(size - keep + i);
+            newTimes[i] = times[from];
+            newCounts[i] = counts[from];
+            newSum += counts[from];
+        }
+        times = newTimes;
+        counts = newCounts;
+        head = 0;
+        size = keep;
+        sum = newSum;
+    }
+
+    /**
+     * 모든 이벤트를 제거합니다.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        sum = 0;
+    }
+
+    private int index(int offset) {
+        int i = head + offset;
+        return i >= times.length ? i - times.length : i;
+    }
+}
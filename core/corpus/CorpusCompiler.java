@@ -0,0 +1,184 @@
+package core.corpus;
+
+import core.LongTextStream;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 텍스트 파일을 바이너리 말뭉치 팩({@link CorpusPack})으로 변환하는 오프라인 컴파일러
+ *
+ * 문장마다 앞뒤 공백 제거와 NFC 정규화를 미리 해 두고, 글자 수와 문자 종류를 계산해
+ * 항목 표에 기록합니다. 본문은 임시 파일에 먼저 쓰고 항목 표만 메모리에 모으므로
+ * 문장 수가 수백만 개여도 문장 하나당 16바이트만 사용합니다.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.corpus.CorpusCompiler resources/typing_words.txt words.pack
+ *   java -cp core/target/typing-core-1.0.jar core.corpus.CorpusCompiler book.txt book.pack --segment
+ *   java -cp core/target/typing-core-1.0.jar core.corpus.CorpusCompiler --all resources corpus
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class CorpusCompiler {
+
+    private CorpusCompiler() {
+    }
+
+    /**
+     * 한 줄에 한 문장인 텍스트 파일을 변환합니다. 빈 줄은 건너뜁니다.
+     * ({@link core.TextRepository#loadTexts(String)}와 같은 규칙)
+     * @param input 입력 텍스트 파일 (UTF-8)
+     * @param output 만들 팩 파일
+     * @return 기록한 문장 수
+     * @throws IOException 읽기나 쓰기에 실패한 경우
+     */
+    public static int compileLines(Path input, Path output) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            return compile(reader.lines().iterator(), output);
+        }
+    }
+
+    /**
+     * 장문 텍스트 파일을 문장 단위로 나누어 변환합니다.
+     * @param input 입력 장문 파일 (UTF-8)
+     * @param output 만들 팩 파일
+     * @return 기록한 문장 수
+     * @throws IOException 읽기나 쓰기에 실패한 경우
+     */
+    public static int compileLongText(Path input, Path output) throws IOException {
+        try (LongTextStream sentences = LongTextStream.open(input)) {
+            return compile(sentences, output);
+        }
+    }
+
+    /**
+     * 문장들을 팩 파일로 기록합니다. 앞뒤 공백을 제거한 뒤 빈 문장은 건너뜁니다.
+     * @param sentences 기록할 문장들
+     * @param output 만들 팩 파일
+     * @return 기록한 문장 수
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    public static int compile(Iterator<String> sentences, Path output) throws IOException {
+        long[] offsets = new long[1024];
+        int[] lengths = new int[1024];
+        int[] classes = new int[1024];
+        int count = 0;
+        long bodyLength = 0;
+
+        Path body = Files.createTempFile(output.toAbsolutePath().getParent(), "corpus", ".body");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(body), 64 * 1024)) {
+                while (sentences.hasNext()) {
+                    String sentence = Normalizer.normalize(sentences.next().trim(), Normalizer.Form.NFC);
+                    if (sentence.isEmpty()) {
+                        continue;
+                    }
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        lengths = Arrays.copyOf(lengths, count * 2);
+                        classes = Arrays.copyOf(classes, count * 2);
+                    }
+                    byte[] bytes = sentence.getBytes(StandardCharsets.UTF_8);
+                    offsets[count] = bodyLength;
+                    lengths[count] = sentence.length();
+                    classes[count] = charClasses(sentence);
+                    count++;
+                    out.write(bytes);
+                    bodyLength += bytes.length;
+                }
+            }
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(output), 64 * 1024))) {
+                out.writeInt(CorpusPack.MAGIC);
+                out.writeInt(CorpusPack.VERSION);
+                out.writeInt(count);
+                out.writeInt(0);
+                out.writeLong(CorpusPack.HEADER_SIZE + (long) count * CorpusPack.ENTRY_SIZE);
+                out.writeLong(bodyLength);
+                for (int i = 0; i < count; i++) {
+                    out.writeLong(offsets[i]);
+                    out.writeInt(lengths[i]);
+                    out.writeInt(classes[i]);
+                }
+                Files.copy(body, out);
+            }
+        } finally {
+            Files.deleteIfExists(body);
+        }
+        return count;
+    }
+
+    /**
+     * 문장에 들어 있는 문자 종류를 계산합니다.
+     * @param sentence 문장
+     * @return {@link CorpusPack}의 CLASS_* 비트 조합
+     */
+    public static int charClasses(CharSequence sentence) {
+        int result = 0;
+        for (int i = 0; i < sentence.length(); i++) {
+            char c = sentence.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if ((c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ') || (c >= 'ᄀ' && c <= 'ᇿ')) {
+                result |= CorpusPack.CLASS_HANGUL;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                result |= CorpusPack.CLASS_LATIN;
+            } else if (Character.isDigit(c)) {
+                result |= CorpusPack.CLASS_DIGIT;
+            } else if (Character.isLetter(c)) {
+                result |= Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN
+                        ? CorpusPack.CLASS_LATIN : CorpusPack.CLASS_OTHER;
+            } else {
+                result |= CorpusPack.CLASS_PUNCTUATION;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 컴파일러 시작점
+     * @param args &lt;입력.txt&gt; &lt;출력.pack&gt; [--segment] 또는 --all &lt;리소스 폴더&gt; &lt;출력 폴더&gt;
+     * @throws IOException 읽기나 쓰기에 실패한 경우
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("--all")) {
+            // 폴더의 모든 텍스트 파일을 변환 (typing_long_*은 문장 단위로 나눔)
+            Path outputDir = Files.createDirectories(Path.of(args[2]));
+            try (DirectoryStream<Path> inputs = Files.newDirectoryStream(Path.of(args[1]), "*.txt")) {
+                for (Path input : inputs) {
+                    String name = input.getFileName().toString();
+                    Path output = outputDir.resolve(name.substring(0, name.length() - 4) + ".pack");
+                    compileAndReport(input, output, name.startsWith("typing_long_"));
+                }
+            }
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("사용법: CorpusCompiler <입력.txt> <출력.pack> [--segment]");
+            System.err.println("        CorpusCompiler --all <리소스 폴더> <출력 폴더>");
+            return;
+        }
+        compileAndReport(Path.of(args[0]), Path.of(args[1]), args.length > 2 && args[2].equals("--segment"));
+    }
+
+    private static void compileAndReport(Path input, Path output, boolean segment) throws IOException {
+        long start = System.nanoTime();
+        int count = segment ? compileLongText(input, output) : compileLines(input, output);
+        System.out.printf("%s -> %s: 문장 %,d개, %,d바이트, %.1fms%n", input, output, count, Files.size(output),
+                (System.nanoTime() - start) / 1_000_000.0);
+    }
+}
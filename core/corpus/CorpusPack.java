@@ -0,0 +1,178 @@
+package core.corpus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * {@link CorpusCompiler}가 만든 바이너리 말뭉치 팩을 읽는 클래스
+ *
+ * 파일을 메모리 매핑하여 열기 때문에 문장 수와 관계없이 여는 비용이 일정하고,
+ * N번째 문장은 항목 표에서 위치를 찾아 그 문장만 디코딩하므로 O(1)에 가져올 수 있습니다.
+ * 전체 문장 리스트를 메모리에 만들지 않으며, 여러 스레드에서 동시에 읽어도 안전합니다.
+ *
+ * 파일 구조 (빅 엔디언):
+ * <pre>
+ *   헤더 (32바이트)    매직 'TPCK', 버전, 문장 수, 예약(0), 본문 시작 위치(long), 본문 크기(long)
+ *   항목 표            문장마다 16바이트: 본문 내 위치(long), 글자 수(int), 문자 종류 비트(int)
+ *   본문               NFC 정규화된 UTF-8 문장들을 구분자 없이 이어 붙임
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class CorpusPack {
+    public static final int MAGIC = 0x5450434B;  // "TPCK"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int ENTRY_SIZE = 16;
+
+    // 문장에 들어 있는 문자 종류 (charClasses 비트)
+    public static final int CLASS_HANGUL = 1;        // 한글 음절, 자모
+    public static final int CLASS_LATIN = 1 << 1;    // 로마자
+    public static final int CLASS_DIGIT = 1 << 2;    // 숫자
+    public static final int CLASS_PUNCTUATION = 1 << 3;  // 문장 부호, 기호
+    public static final int CLASS_OTHER = 1 << 4;    // 그 밖의 문자
+
+    /**
+     * 팩의 문장을 복사하지 않고 보여 주는 읽기 전용 리스트
+     * 문장은 get을 호출할 때마다 매핑된 파일에서 디코딩합니다.
+     */
+    public static final class SentenceList extends AbstractList<String> implements RandomAccess {
+        private final CorpusPack pack;
+
+        private SentenceList(CorpusPack pack) {
+            this.pack = pack;
+        }
+
+        @Override
+        public String get(int index) {
+            return pack.get(index);
+        }
+
+        @Override
+        public int size() {
+            return pack.size();
+        }
+
+        /**
+         * @return 이 리스트가 보여 주는 팩
+         */
+        public CorpusPack getPack() {
+            return pack;
+        }
+    }
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int sentenceCount;
+    private final long bodyStart;
+    private final long bodyLength;
+    private final SentenceList sentenceList;
+
+    private CorpusPack(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("말뭉치 팩 파일이 아닙니다: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("지원하지 않는 말뭉치 팩 버전입니다: " + buffer.getInt(4) + " (" + path + ")");
+        }
+        this.sentenceCount = buffer.getInt(8);
+        this.bodyStart = buffer.getLong(16);
+        this.bodyLength = buffer.getLong(24);
+        if (sentenceCount < 0 || bodyStart != HEADER_SIZE + (long) sentenceCount * ENTRY_SIZE
+                || bodyStart + bodyLength != buffer.capacity()) {
+            throw new IOException("손상된 말뭉치 팩입니다: " + path);
+        }
+        this.sentenceList = new SentenceList(this);
+    }
+
+    /**
+     * 말뭉치 팩 파일을 메모리 매핑하여 엽니다.
+     * 매핑은 파일 채널을 닫은 뒤에도 유지되며 가비지 컬렉션될 때 해제됩니다.
+     * @param path 팩 파일 경로
+     * @return 열린 팩
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우 (2GB 이상 포함)
+     */
+    public static CorpusPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GB 이상의 말뭉치 팩은 지원하지 않습니다: " + path);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new CorpusPack(path, mapped.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * @return 문장 수
+     */
+    public int size() {
+        return sentenceCount;
+    }
+
+    /**
+     * N번째 문장을 반환합니다.
+     * @param index 문장 번호 (0부터 시작)
+     * @return 문장
+     */
+    public String get(int index) {
+        int entry = entryPosition(index);
+        int start = (int) (bodyStart + buffer.getLong(entry));
+        int end = index + 1 < sentenceCount
+                ? (int) (bodyStart + buffer.getLong(entry + ENTRY_SIZE))
+                : (int) (bodyStart + bodyLength);
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * N번째 문장의 글자 수(UTF-16 char 수)를 문장을 디코딩하지 않고 반환합니다.
+     * @param index 문장 번호
+     * @return 글자 수
+     */
+    public int charLength(int index) {
+        return buffer.getInt(entryPosition(index) + 8);
+    }
+
+    /**
+     * N번째 문장에 들어 있는 문자 종류를 반환합니다.
+     * @param index 문장 번호
+     * @return CLASS_* 비트의 조합
+     */
+    public int charClasses(int index) {
+        return buffer.getInt(entryPosition(index) + 12);
+    }
+
+    /**
+     * @return 문장들을 복사하지 않고 보여 주는 읽기 전용 리스트
+     */
+    public SentenceList asList() {
+        return sentenceList;
+    }
+
+    /**
+     * @return 팩 파일 경로
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    private int entryPosition(int index) {
+        if (index < 0 || index >= sentenceCount) {
+            throw new IndexOutOfBoundsException("문장 번호가 범위를 벗어났습니다: " + index + " / " + sentenceCount);
+        }
+        return HEADER_SIZE + index * ENTRY_SIZE;
+    }
+}
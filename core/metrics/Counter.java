@@ -0,0 +1,50 @@
+package core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 증가만 하는 누적 카운터
+ *
+ * {@link LongAdder}로 스레드마다 나누어 더하므로 키 입력 경로처럼 여러 스레드가 자주 증가시켜도
+ * 경합이 생기지 않습니다. 읽을 때만 합계를 계산합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class Counter extends Metric implements CounterMBean {
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name, String help) {
+        super(name, help);
+    }
+
+    /**
+     * 1 증가시킵니다.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * 지정한 만큼 증가시킵니다.
+     * @param amount 증가량 (0 이상)
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    String type() {
+        return "counter";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append("_total ").append(getCount()).append('\n');
+    }
+}
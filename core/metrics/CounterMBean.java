@@ -0,0 +1,19 @@
+package core.metrics;
+
+/**
+ * JMX로 노출되는 카운터 속성
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public interface CounterMBean {
+    /**
+     * @return 누적 값
+     */
+    long getCount();
+
+    /**
+     * @return 측정값 설명
+     */
+    String getHelp();
+}
@@ -0,0 +1,94 @@
+package core.metrics;
+
+import core.LatencyHistogram;
+
+/**
+ * 세션이나 게임마다 하나씩 나오는 값(문장 타수, 정확도, 점수)의 분포
+ *
+ * 마지막 값만 보이는 게이지와 달리 여러 세션이 동시에 기록해도 모든 값이 분포에 남습니다.
+ * 값에 배율을 곱한 정수로 {@link LatencyHistogram}에 기록하므로 잠금이 없고,
+ * 상대 오차는 약 3% 이내입니다. 음수는 0으로 기록합니다.
+ * OpenMetrics에서는 summary(p10/p50/p90/p99, 합계, 횟수)로 보고합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class Distribution extends Metric implements DistributionMBean {
+    private static final double[] QUANTILES = {0.1, 0.5, 0.9, 0.99};
+    private static final double SCALE = 1000.0;  // 소수 셋째 자리까지 구분
+
+    private final LatencyHistogram histogram;
+
+    Distribution(String name, String help) {
+        super(name, help);
+        this.histogram = new LatencyHistogram(name);
+    }
+
+    /**
+     * 값 하나를 기록합니다.
+     * @param value 기록할 값
+     */
+    public void record(double value) {
+        histogram.record(Math.round(value * SCALE));
+    }
+
+    /**
+     * 백분위 값을 반환합니다.
+     * @param percentile 백분위 (0~100)
+     * @return 백분위 값, 기록이 없으면 0
+     */
+    public double percentile(double percentile) {
+        return histogram.snapshot().percentile(percentile) / SCALE;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.snapshot().getCount();
+    }
+
+    @Override
+    public double getMean() {
+        return histogram.snapshot().getMean() / SCALE;
+    }
+
+    @Override
+    public double getP10() {
+        return percentile(10);
+    }
+
+    @Override
+    public double getP50() {
+        return percentile(50);
+    }
+
+    @Override
+    public double getP90() {
+        return percentile(90);
+    }
+
+    @Override
+    public double getP99() {
+        return percentile(99);
+    }
+
+    @Override
+    public double getMax() {
+        return histogram.snapshot().getMax() / SCALE;
+    }
+
+    @Override
+    String type() {
+        return "summary";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (double quantile : QUANTILES) {
+            out.append(getName()).append("{quantile=\"").append(quantile).append("\"} ")
+                    .append(snapshot.percentile(quantile * 100) / SCALE).append('\n');
+        }
+        out.append(getName()).append("_sum ").append(snapshot.getSum() / SCALE).append('\n');
+        out.append(getName()).append("_count ").append(snapshot.getCount()).append('\n');
+    }
+}
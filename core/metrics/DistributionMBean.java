@@ -0,0 +1,28 @@
+package core.metrics;
+
+/**
+ * JMX로 노출되는 분포 속성 (값의 단위는 측정값마다 다름)
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public interface DistributionMBean {
+    long getCount();
+
+    double getMean();
+
+    double getP10();
+
+    double getP50();
+
+    double getP90();
+
+    double getP99();
+
+    double getMax();
+
+    /**
+     * @return 측정값 설명
+     */
+    String getHelp();
+}
@@ -0,0 +1,45 @@
+package core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 현재 값을 나타내는 게이지
+ *
+ * 값을 직접 설정하거나({@link #set(double)}), 읽을 때마다 함수로 계산합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class Gauge extends Metric implements GaugeMBean {
+    private final AtomicLong valueBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final DoubleSupplier supplier;  // 읽을 때 계산하는 함수 (없으면 null)
+
+    Gauge(String name, String help, DoubleSupplier supplier) {
+        super(name, help);
+        this.supplier = supplier;
+    }
+
+    /**
+     * 값을 설정합니다. 함수로 계산하는 게이지에서는 무시됩니다.
+     * @param value 새 값
+     */
+    public void set(double value) {
+        valueBits.set(Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public double getValue() {
+        return supplier != null ? supplier.getAsDouble() : Double.longBitsToDouble(valueBits.get());
+    }
+
+    @Override
+    String type() {
+        return "gauge";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(getValue()).append('\n');
+    }
+}
@@ -0,0 +1,19 @@
+package core.metrics;
+
+/**
+ * JMX로 노출되는 게이지 속성
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public interface GaugeMBean {
+    /**
+     * @return 현재 값
+     */
+    double getValue();
+
+    /**
+     * @return 측정값 설명
+     */
+    String getHelp();
+}
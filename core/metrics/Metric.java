@@ -0,0 +1,42 @@
+package core.metrics;
+
+/**
+ * 레지스트리에 등록되는 측정값의 공통 부모
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+
+    Metric(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /**
+     * @return 측정값 이름 (OpenMetrics 이름 규칙, 예: typing_keystrokes)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 측정값 설명
+     */
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * @return OpenMetrics 종류 (counter, gauge, summary)
+     */
+    abstract String type();
+
+    /**
+     * 현재 값을 OpenMetrics 텍스트 형식의 표본 줄로 기록합니다. (# TYPE, # HELP 줄 제외)
+     * @param out 기록할 버퍼
+     */
+    abstract void writeSamples(StringBuilder out);
+}
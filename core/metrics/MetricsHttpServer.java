@@ -0,0 +1,100 @@
+package core.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 측정값을 OpenMetrics 텍스트로 보여주는 로컬 HTTP 서버
+ *
+ * 루프백 주소에만 바인딩하므로 같은 컴퓨터에서만 접근할 수 있습니다.
+ * {@code GET /metrics}로 {@link MetricsRegistry#toOpenMetrics()} 결과를 돌려주며,
+ * 요청은 데몬 스레드 하나에서 처리합니다.
+ *
+ * <pre>
+ *   java -Dtyping.metrics.port=9464 ... TypingPracticeGame
+ *   curl http://127.0.0.1:9464/metrics
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MetricsHttpServer implements Closeable {
+    public static final String PORT_PROPERTY = "typing.metrics.port";  // 설정하면 시작할 때 서버를 염
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private final HttpServer server;
+    private final MetricsRegistry registry;
+
+    /**
+     * 서버를 열고 바로 요청을 받기 시작합니다.
+     * @param registry 보여줄 레지스트리
+     * @param port 포트 (0이면 빈 포트를 자동으로 선택)
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public MetricsHttpServer(MetricsRegistry registry, int port) throws IOException {
+        this.registry = registry;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    /**
+     * 시스템 속성 typing.metrics.port가 설정되어 있으면 서버를 엽니다.
+     * @param registry 보여줄 레지스트리
+     * @return 열린 서버, 설정이 없거나 열지 못하면 null
+     */
+    public static MetricsHttpServer startIfConfigured(MetricsRegistry registry) {
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null || port.isBlank()) {
+            return null;
+        }
+        try {
+            MetricsHttpServer server = new MetricsHttpServer(registry, Integer.parseInt(port.trim()));
+            System.out.println("측정값 페이지: http://127.0.0.1:" + server.getPort() + "/metrics");
+            return server;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("측정값 서버를 열 수 없습니다: " + port + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return 실제로 열린 포트
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.toOpenMetrics().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
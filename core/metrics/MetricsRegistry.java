@@ -0,0 +1,177 @@
+package core.metrics;
+
+import core.LatencyHistogram;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * 카운터, 게이지, 타이머를 이름으로 등록하고 모아서 보여주는 측정값 레지스트리
+ *
+ * 같은 이름으로 다시 요청하면 이미 등록된 측정값을 돌려주므로 여러 클래스가 같은 측정값을 공유할 수 있습니다.
+ * {@link #registerMBeans(MBeanServer)}를 호출하면 이미 등록된 것과 이후에 등록되는 측정값이 모두
+ * JMX MBean({@code <도메인>:type=Counter,name=<이름>})으로 노출되고,
+ * {@link #toOpenMetrics()}는 Prometheus가 읽을 수 있는 OpenMetrics 텍스트를 만듭니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry("typing");
+
+    private final String domain;
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();  // 이름순 정렬
+    private MBeanServer mbeanServer = null;  // this로 동기화
+
+    /**
+     * 프로세스 전체에서 함께 쓰는 레지스트리를 반환합니다.
+     * @return 전역 레지스트리 (JMX 도메인 "typing")
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * MetricsRegistry 생성자
+     * @param domain JMX 도메인 이름
+     */
+    public MetricsRegistry(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+     * 카운터를 반환합니다. 없으면 새로 등록합니다.
+     * @param name 이름 (예: typing_keystrokes, OpenMetrics에서는 _total이 붙음)
+     * @param help 설명
+     * @return 카운터
+     */
+    public Counter counter(String name, String help) {
+        return register(name, Counter.class, n -> new Counter(n, help));
+    }
+
+    /**
+     * 값을 직접 설정하는 게이지를 반환합니다. 없으면 새로 등록합니다.
+     * @param name 이름
+     * @param help 설명
+     * @return 게이지
+     */
+    public Gauge gauge(String name, String help) {
+        return register(name, Gauge.class, n -> new Gauge(n, help, null));
+    }
+
+    /**
+     * 읽을 때마다 함수로 값을 계산하는 게이지를 반환합니다. 없으면 새로 등록합니다.
+     * @param name 이름
+     * @param help 설명
+     * @param supplier 현재 값을 계산하는 함수
+     * @return 게이지
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier supplier) {
+        return register(name, Gauge.class, n -> new Gauge(n, help, supplier));
+    }
+
+    /**
+     * 타이머를 반환합니다. 없으면 새 히스토그램으로 등록합니다.
+     * @param name 이름 (예: typing_corpus_load_seconds)
+     * @param help 설명
+     * @return 타이머
+     */
+    public Timer timer(String name, String help) {
+        return register(name, Timer.class, n -> new Timer(n, help, new LatencyHistogram(n)));
+    }
+
+    /**
+     * 값의 분포를 반환합니다. 없으면 새로 등록합니다.
+     * @param name 이름 (예: typing_sentence_cpm)
+     * @param help 설명
+     * @return 분포
+     */
+    public Distribution distribution(String name, String help) {
+        return register(name, Distribution.class, n -> new Distribution(n, help));
+    }
+
+    /**
+     * 이미 기록 중인 히스토그램을 타이머로 등록합니다.
+     * @param name 이름
+     * @param help 설명
+     * @param histogram 노출할 히스토그램
+     * @return 타이머
+     */
+    public Timer timer(String name, String help, LatencyHistogram histogram) {
+        return register(name, Timer.class, n -> new Timer(n, help, histogram));
+    }
+
+    /**
+     * @return 등록된 모든 측정값 (이름순)
+     */
+    public List<Metric> getMetrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    /**
+     * 등록된 측정값과 이후에 등록되는 측정값을 JMX MBean으로 노출합니다.
+     * @param server MBean을 등록할 서버 (보통 ManagementFactory.getPlatformMBeanServer())
+     */
+    public synchronized void registerMBeans(MBeanServer server) {
+        mbeanServer = server;
+        for (Metric metric : metrics.values()) {
+            registerMBean(metric);
+        }
+    }
+
+    /**
+     * 모든 측정값을 OpenMetrics 텍스트 형식으로 만듭니다.
+     * @return OpenMetrics 텍스트 (# EOF로 끝남)
+     */
+    public String toOpenMetrics() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : metrics.values()) {
+            out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.type()).append('\n');
+            out.append("# HELP ").append(metric.getName()).append(' ')
+                    .append(metric.getHelp().replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            metric.writeSamples(out);
+        }
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private <T extends Metric> T register(String name, Class<T> type, Function<String, T> factory) {
+        Metric metric = metrics.get(name);
+        if (metric == null) {
+            synchronized (this) {
+                metric = metrics.get(name);
+                if (metric == null) {
+                    metric = factory.apply(name);
+                    metrics.put(name, metric);
+                    if (mbeanServer != null) {
+                        registerMBean(metric);
+                    }
+                }
+            }
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("이미 다른 종류로 등록된 측정값입니다: " + name);
+        }
+        return type.cast(metric);
+    }
+
+    private void registerMBean(Metric metric) {
+        try {
+            ObjectName objectName = new ObjectName(domain + ":type=" + metric.getClass().getSimpleName()
+                    + ",name=" + metric.getName());
+            mbeanServer.registerMBean(metric, objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            // 이미 노출된 측정값
+        } catch (JMException e) {
+            System.err.println("JMX 등록 실패: " + metric.getName() + " - " + e.getMessage());
+        }
+    }
+}
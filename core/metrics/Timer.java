@@ -0,0 +1,97 @@
+package core.metrics;
+
+import core.LatencyHistogram;
+
+/**
+ * 걸린 시간의 분포를 기록하는 타이머
+ *
+ * 잠금 없는 {@link LatencyHistogram}에 기록하므로 기록 한 번이 수십 나노초입니다.
+ * OpenMetrics에서는 초 단위 summary(p50/p90/p99/p99.9, 합계, 횟수)로 보고합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class Timer extends Metric implements TimerMBean {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final LatencyHistogram histogram;
+
+    Timer(String name, String help, LatencyHistogram histogram) {
+        super(name, help);
+        this.histogram = histogram;
+    }
+
+    /**
+     * 걸린 시간을 기록합니다.
+     * @param nanos 걸린 시간 (나노초)
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * 시작 시각부터 지금까지의 시간을 기록합니다.
+     * @param startNanos 시작 시각 (System.nanoTime 기준)
+     */
+    public void recordSince(long startNanos) {
+        histogram.recordSince(startNanos);
+    }
+
+    /**
+     * @return 기록이 쌓이는 히스토그램
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.snapshot().getCount();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return histogram.snapshot().getMean() / 1000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return histogram.snapshot().getP50() / 1000.0;
+    }
+
+    @Override
+    public double getP90Micros() {
+        return histogram.snapshot().getP90() / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return histogram.snapshot().getP99() / 1000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return histogram.snapshot().getP999() / 1000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return histogram.snapshot().getMax() / 1000.0;
+    }
+
+    @Override
+    String type() {
+        return "summary";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (double quantile : QUANTILES) {
+            out.append(getName()).append("{quantile=\"").append(quantile).append("\"} ")
+                    .append(snapshot.percentile(quantile * 100) / 1e9).append('\n');
+        }
+        out.append(getName()).append("_sum ").append(snapshot.getSum() / 1e9).append('\n');
+        out.append(getName()).append("_count ").append(snapshot.getCount()).append('\n');
+    }
+}
@@ -0,0 +1,28 @@
+package core.metrics;
+
+/**
+ * JMX로 노출되는 타이머 속성 (시간 단위는 마이크로초)
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public interface TimerMBean {
+    long getCount();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    /**
+     * @return 측정값 설명
+     */
+    String getHelp();
+}
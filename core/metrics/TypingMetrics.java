@@ -0,0 +1,66 @@
+package core.metrics;
+
+import core.InputLatency;
+
+/**
+ * 타자 연습 게임이 기록하는 측정값 모음
+ *
+ * 모두 {@link MetricsRegistry#global()}에 등록되며, 모델과 저장소 클래스가 이 필드로 바로 기록합니다.
+ * 카운터는 {@link java.util.concurrent.atomic.LongAdder} 기반이라 키 입력 경로에서 증가시켜도 경합이 없습니다.
+ * 문장 타수, 정확도, 두더지 점수처럼 세션마다 나오는 값은 여러 세션이 동시에 기록하므로 게이지가 아닌 분포로 남깁니다.
+ * 시뮬레이터처럼 가상 사용자를 돌리는 하네스는 모델의 setRecordsMetrics(false)로 기록하지 않을 수 있습니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public final class TypingMetrics {
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+
+    // 타자 연습 (GameModel)
+    public static final Counter KEYSTROKES =
+            REGISTRY.counter("typing_keystrokes", "입력된 키 입력 수 (한글은 자모 단위)");
+    public static final Counter GAMES_STARTED =
+            REGISTRY.counter("typing_games_started", "첫 입력으로 시작된 문장/장문 연습 게임 수");
+    public static final Counter GAMES_COMPLETED =
+            REGISTRY.counter("typing_games_completed", "끝까지 완료한 문장/장문 연습 게임 수");
+    public static final Counter SENTENCES_COMPLETED =
+            REGISTRY.counter("typing_sentences_completed", "완료한 문장 수");
+    public static final Distribution SENTENCE_CPM =
+            REGISTRY.distribution("typing_sentence_cpm", "문장을 완료했을 때 그 게임의 평균 타수 (타/분)");
+    public static final Distribution SENTENCE_ACCURACY =
+            REGISTRY.distribution("typing_sentence_accuracy", "완료한 문장의 정확도 (%)");
+
+    // 두더지 게임 (MoleGameModel)
+    public static final Counter MOLE_GAMES_STARTED =
+            REGISTRY.counter("typing_mole_games_started", "시작한 두더지 게임 수");
+    public static final Counter MOLE_HITS =
+            REGISTRY.counter("typing_mole_hits", "잡은 두더지 수");
+    public static final Distribution MOLE_SCORE =
+            REGISTRY.distribution("typing_mole_score", "제한 시간까지 마친 두더지 게임의 점수");
+
+    // 텍스트 로딩 (TextRepository)
+    public static final Timer CORPUS_LOAD =
+            REGISTRY.timer("typing_corpus_load_seconds", "텍스트 파일 또는 말뭉치 팩을 실제로 읽는 데 걸린 시간");
+    public static final Counter CORPUS_LOAD_FAILURES =
+            REGISTRY.counter("typing_corpus_load_failures", "텍스트를 읽지 못한 횟수");
+
+    // 키 입력 지연 시간 (InputLatency)
+    public static final Timer INPUT_TO_MODEL =
+            REGISTRY.timer("typing_input_to_model_seconds", "입력 이벤트부터 입력 처리 시작까지의 시간",
+                    InputLatency.INPUT_TO_MODEL);
+    public static final Timer MODEL =
+            REGISTRY.timer("typing_model_seconds", "모델의 입력 처리 시간", InputLatency.MODEL);
+    public static final Timer HIGHLIGHT =
+            REGISTRY.timer("typing_highlight_seconds", "목표 문장 하이라이트 갱신 시간", InputLatency.HIGHLIGHT);
+
+    private TypingMetrics() {
+    }
+
+    /**
+     * 이 클래스의 측정값이 모두 등록된 레지스트리를 반환합니다.
+     * @return 전역 레지스트리
+     */
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+}
@@ -0,0 +1,300 @@
+package core.server;
+
+import core.GameModel;
+import core.MoleField;
+import core.MoleGameModel;
+import core.session.SessionManager;
+import core.session.SessionSnapshot;
+import core.session.TypingSession;
+
+import java.util.Random;
+
+/**
+ * WebSocket 연결 하나에 대응하는 게임 상태
+ *
+ * 문장 연습과 장문 연습은 {@link TypingSession}에 입력을 넘겨 세션 작업 스레드에서 채점하고,
+ * 두더지 게임은 {@link MoleField}로 selector 스레드에서 바로 처리합니다.
+ * 키 입력마다 응답하지 않고, 서버가 프레임마다 {@link #flush(long)}를 호출하면
+ * 마지막으로 처리된 입력 번호(ack)와 최신 상태를 하나의 메시지로 묶어 보냅니다.
+ *
+ * 받는 메시지 (텍스트 프레임 한 줄):
+ * <pre>
+ *   start sentence|long|mole ko|en   새 게임 시작
+ *   input &lt;번호&gt; &lt;입력 필드 전체 내용&gt;     키 입력 (번호는 클라이언트가 1씩 증가)
+ *   submit &lt;번호&gt; &lt;단어&gt;                  두더지 게임에서 Enter
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+class ServerSession {
+
+    /**
+     * 세션 작업 스레드에서 처리를 마친 입력 결과
+     * generation은 입력을 보낸 게임의 번호로, 보내기 직전에 현재 게임과 비교합니다.
+     */
+    private record Update(int generation, long ack, SessionSnapshot snapshot) {}
+
+    private final String id;
+    private final WebSocketConnection connection;
+    private final SessionManager sessionManager;
+
+    private GameModel.GameMode mode = null;
+    private GameModel.Language language = null;
+
+    // 문장 연습, 장문 연습
+    private TypingSession typingSession;
+    private volatile int generation = 0;           // 게임을 새로 시작할 때마다 증가 (이전 게임의 늦은 결과 무시)
+    private volatile Update latest;                 // 세션 작업 스레드가 채우는 최신 결과
+    private volatile String pendingError;           // 다음 프레임에 보낼 오류 메시지
+    private Update lastSent;
+    private String lastSentText;
+
+    // 두더지 게임
+    private MoleField moleField;
+    private long moleAck = 0;
+    private long lastMoleSignature = -1;
+
+    ServerSession(String id, WebSocketConnection connection, SessionManager sessionManager) {
+        this.id = id;
+        this.connection = connection;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * 클라이언트 메시지를 처리합니다.
+     * @param message 받은 메시지
+     * @param nowMillis 현재 시각 (밀리초)
+     */
+    void onMessage(String message, long nowMillis) {
+        int firstSpace = message.indexOf(' ');
+        String command = firstSpace < 0 ? message : message.substring(0, firstSpace);
+        String rest = firstSpace < 0 ? "" : message.substring(firstSpace + 1);
+
+        switch (command) {
+            case "start":
+                start(rest, nowMillis);
+                break;
+            case "input":
+            case "submit": {
+                int secondSpace = rest.indexOf(' ');
+                String number = secondSpace < 0 ? rest : rest.substring(0, secondSpace);
+                String text = secondSpace < 0 ? "" : rest.substring(secondSpace + 1);
+                long seq;
+                try {
+                    seq = Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    connection.sendText(error("잘못된 입력 번호: " + number));
+                    return;
+                }
+                if (command.equals("input")) {
+                    input(seq, text);
+                } else {
+                    submit(seq, text, nowMillis);
+                }
+                break;
+            }
+            default:
+                connection.sendText(error("알 수 없는 명령: " + command));
+        }
+    }
+
+    /**
+     * 지난 프레임 이후 바뀐 상태가 있으면 한 번에 보냅니다.
+     * @param nowMillis 현재 시각 (밀리초)
+     */
+    void flush(long nowMillis) {
+        String errorMessage = pendingError;
+        if (errorMessage != null) {
+            pendingError = null;
+            connection.sendText(error(errorMessage));
+        }
+        if (mode == GameModel.GameMode.MOLE_GAME) {
+            flushMole(nowMillis);
+            return;
+        }
+        Update update = latest;
+        // accept가 번호를 확인한 뒤 새 게임이 시작되었을 수 있으므로 이전 게임의 결과는 여기서도 버림
+        if (update == null || update == lastSent || update.generation() != generation) {
+            return;
+        }
+        lastSent = update;
+        SessionSnapshot snapshot = update.snapshot();
+        StringBuilder json = new StringBuilder(160);
+        json.append("{\"type\":\"state\",\"ack\":").append(update.ack())
+                .append(",\"sentence\":").append(snapshot.sentenceNumber())
+                .append(",\"total\":").append(snapshot.totalSentences())
+                .append(",\"typed\":").append(snapshot.typedChars())
+                .append(",\"correct\":").append(snapshot.correctChars())
+                .append(",\"accuracy\":").append(round(snapshot.accuracy()))
+                .append(",\"cpm\":").append(round(snapshot.realTimeCpm()))
+                .append(",\"averageCpm\":").append(round(snapshot.averageCpm()))
+                .append(",\"completed\":").append(snapshot.gameCompleted());
+        // 연습 문장은 바뀌었을 때만 보냄
+        if (!snapshot.practiceText().equals(lastSentText)) {
+            lastSentText = snapshot.practiceText();
+            json.append(",\"text\":");
+            appendJsonString(json, lastSentText);
+        }
+        connection.sendText(json.append('}').toString());
+    }
+
+    /**
+     * 연결이 끊겼을 때 세션을 정리합니다.
+     */
+    void close() {
+        generation++;
+        if (typingSession != null) {
+            sessionManager.closeSession(id);
+            typingSession = null;
+        }
+    }
+
+    private void start(String arguments, long nowMillis) {
+        String[] parts = arguments.split(" ");
+        GameModel.GameMode newMode = switch (parts[0]) {
+            case "sentence" -> GameModel.GameMode.SENTENCE;
+            case "long" -> GameModel.GameMode.LONG_TEXT;
+            case "mole" -> GameModel.GameMode.MOLE_GAME;
+            default -> null;
+        };
+        if (newMode == null) {
+            connection.sendText(error("알 수 없는 게임 모드: " + parts[0]));
+            return;
+        }
+        GameModel.Language newLanguage = parts.length > 1 && parts[1].equals("en")
+                ? GameModel.Language.ENGLISH : GameModel.Language.KOREAN;
+
+        int startedGeneration = ++generation;
+        latest = null;
+        lastSent = null;
+        lastSentText = null;
+        moleField = null;
+        mode = newMode;
+
+        if (newMode == GameModel.GameMode.MOLE_GAME) {
+            MoleGameModel moleModel = new MoleGameModel(newLanguage, new Random(), sessionManager.getTextRepository());
+            moleModel.setRecordsMetrics(sessionManager.isRecordsMetrics());
+            moleField = new MoleField(moleModel, GameModel.Difficulty.NORMAL, new Random());
+            moleField.start(nowMillis);
+            moleAck = 0;
+            lastMoleSignature = -1;
+            language = newLanguage;
+            return;
+        }
+
+        // 언어가 바뀌면 세션을 새로 열고, 같으면 기존 세션에서 새 게임 시작
+        if (typingSession != null && language != newLanguage) {
+            sessionManager.closeSession(id);
+            typingSession = null;
+        }
+        if (typingSession == null) {
+            typingSession = sessionManager.openSession(id, newLanguage);
+        }
+        language = newLanguage;
+        var started = newMode == GameModel.GameMode.LONG_TEXT
+                ? typingSession.startLongTextGame(newLanguage.getLongTexts().get(0))
+                : typingSession.startSentenceGame();
+        started.whenComplete((snapshot, failure) -> accept(startedGeneration, 0, snapshot, failure));
+    }
+
+    private void input(long seq, String text) {
+        if (mode == GameModel.GameMode.MOLE_GAME) {
+            moleAck = seq;  // 서버 클라이언트는 Enter(submit)로 제출하므로 입력 중에는 채점하지 않음
+            return;
+        }
+        if (typingSession == null) {
+            connection.sendText(error("게임이 시작되지 않았습니다."));
+            return;
+        }
+        int inputGeneration = generation;
+        typingSession.submitInput(text).whenComplete(
+                (snapshot, failure) -> accept(inputGeneration, seq, snapshot, failure));
+    }
+
+    private void submit(long seq, String word, long nowMillis) {
+        if (moleField == null) {
+            connection.sendText(error("두더지 게임이 시작되지 않았습니다."));
+            return;
+        }
+        moleField.hit(word.trim(), nowMillis);
+        moleAck = seq;
+    }
+
+    /**
+     * 세션 작업 스레드에서 호출되어 최신 결과를 갱신합니다.
+     */
+    private void accept(int expectedGeneration, long seq, SessionSnapshot snapshot, Throwable failure) {
+        if (expectedGeneration != generation) {
+            return;
+        }
+        if (failure != null) {
+            pendingError = "입력 처리 실패: " + failure.getMessage();
+            return;
+        }
+        latest = new Update(expectedGeneration, seq, snapshot);
+    }
+
+    private void flushMole(long nowMillis) {
+        moleField.advanceTo(nowMillis);
+        MoleGameModel model = moleField.getModel();
+        // 바뀐 것이 없으면 보내지 않음
+        long signature = moleAck * 31 + model.getScore();
+        signature = signature * 31 + model.getTimeLeft();
+        signature = signature * 31 + moleField.getSpawnedCount();
+        signature = signature * 31 + moleField.getMoles().size();
+        if (signature == lastMoleSignature) {
+            return;
+        }
+        lastMoleSignature = signature;
+
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"type\":\"mole\",\"ack\":").append(moleAck)
+                .append(",\"score\":").append(model.getScore())
+                .append(",\"timeLeft\":").append(model.getTimeLeft())
+                .append(",\"finished\":").append(moleField.isFinished())
+                .append(",\"moles\":[");
+        boolean first = true;
+        for (MoleField.Mole mole : moleField.getMoles()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"id\":").append(mole.id()).append(",\"word\":");
+            appendJsonString(json, mole.word());
+            json.append(",\"ttl\":").append(Math.max(0, mole.expiresAt() - nowMillis)).append('}');
+        }
+        connection.sendText(json.append("]}").toString());
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"type\":\"error\",\"message\":");
+        appendJsonString(json, message);
+        return json.append('}').toString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+
+    static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
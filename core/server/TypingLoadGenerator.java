@@ -0,0 +1,312 @@
+package core.server;
+
+import core.SharedTextRepository;
+import core.session.SessionManager;
+import core.simulation.DistributionStats;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타자 연습 서버용 부하 생성기
+ *
+ * JDK의 WebSocket 클라이언트로 여러 연결을 열어 문장 연습을 진행하면서, 키 입력을 보낸 시점부터
+ * 그 입력 번호가 서버 상태 메시지의 ack로 돌아올 때까지의 지연을 측정합니다.
+ * 세션 수를 단계적으로 늘려 가며 단계마다 처리량과 지연 분포, 코어당 세션 수를 출력합니다.
+ * 서버 주소를 주지 않으면 같은 프로세스 안에 서버를 띄워서 측정합니다.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.server.TypingLoadGenerator \
+ *        --sessions 250,500,1000 --seconds 10 --interval-ms 150 --server-threads 4
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class TypingLoadGenerator {
+    private static final int SENT_TIME_SLOTS = 4096;  // 응답을 기다리는 입력의 전송 시각 보관 개수
+
+    /**
+     * 연결 하나를 사용하는 가상 사용자
+     * 키 입력 스레드와 WebSocket 수신 스레드가 함께 사용하므로 this로 동기화합니다.
+     */
+    private class Client implements WebSocket.Listener {
+        private final String language;
+        private final long[] sentAt = new long[SENT_TIME_SLOTS];
+        private final StringBuilder partial = new StringBuilder();
+        private WebSocket socket;
+        private CompletableFuture<WebSocket> lastSend;
+        private long nextSeq = 1;
+        private long lastAck = 0;
+        private String target = null;
+        private int sentence = 0;
+        private int typedLength = 0;
+        private boolean restarting = true;
+
+        Client(String language) {
+            this.language = language;
+        }
+
+        void connect(HttpClient httpClient, URI uri) {
+            socket = httpClient.newWebSocketBuilder().buildAsync(uri, this).join();
+            synchronized (this) {
+                lastSend = CompletableFuture.completedFuture(socket);
+                send("start sentence " + language);
+            }
+        }
+
+        synchronized void keystroke() {
+            if (restarting || target == null || typedLength >= target.length()) {
+                return;  // 다음 문장이나 새 게임을 기다리는 중
+            }
+            if (!lastSend.isDone()) {
+                skipped.incrementAndGet();
+                return;
+            }
+            long seq = nextSeq++;
+            typedLength++;
+            sentAt[(int) (seq % SENT_TIME_SLOTS)] = System.nanoTime();
+            send("input " + seq + " " + target.substring(0, typedLength));
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                String message = partial.toString();
+                partial.setLength(0);
+                handle(message);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private synchronized void handle(String message) {
+            long now = System.nanoTime();
+            updates.incrementAndGet();
+            if (!message.startsWith("{\"type\":\"state\"")) {
+                return;
+            }
+            long ack = longField(message, "\"ack\":");
+            DistributionStats stats = latency;
+            for (long seq = lastAck + 1; seq <= ack && seq < nextSeq; seq++) {
+                synchronized (stats) {
+                    stats.record((now - sentAt[(int) (seq % SENT_TIME_SLOTS)]) / 1000.0);
+                }
+                acked.incrementAndGet();
+            }
+            lastAck = Math.max(lastAck, ack);
+
+            if (message.contains("\"completed\":true")) {
+                restarting = true;
+                send("start sentence " + language);
+                return;
+            }
+            int messageSentence = (int) longField(message, "\"sentence\":");
+            String text = stringField(message, "\"text\":");
+            if (text != null || messageSentence != sentence || restarting) {
+                if (text != null) {
+                    target = text;
+                }
+                sentence = messageSentence;
+                typedLength = 0;
+                restarting = false;
+            }
+        }
+
+        private void send(String message) {
+            lastSend = lastSend.thenCompose(webSocket -> webSocket.sendText(message, true));
+        }
+
+        void close() {
+            socket.abort();
+        }
+    }
+
+    private final URI uri;
+    private final int[] phases;
+    private final int seconds;
+    private final int intervalMillis;
+    private final int serverThreads;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong acked = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private volatile DistributionStats latency = newLatencyStats();
+
+    /**
+     * TypingLoadGenerator 생성자
+     * @param uri 서버 주소
+     * @param phases 단계별 세션 수
+     * @param seconds 단계별 측정 시간 (초)
+     * @param intervalMillis 사용자별 키 입력 간격 (밀리초)
+     * @param serverThreads 서버 작업 스레드 수 (코어당 세션 수 계산용)
+     */
+    public TypingLoadGenerator(URI uri, int[] phases, int seconds, int intervalMillis, int serverThreads) {
+        this.uri = uri;
+        this.phases = phases;
+        this.seconds = seconds;
+        this.intervalMillis = intervalMillis;
+        this.serverThreads = serverThreads;
+    }
+
+    /**
+     * 단계별로 세션을 늘려 가며 부하를 주고 결과를 출력합니다.
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void run() throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        ScheduledExecutorService drivers = Executors.newScheduledThreadPool(2);
+        List<Client> clients = new ArrayList<>();
+        Random random = new Random(42);
+
+        System.out.printf("서버 %s, 작업 스레드 %d개, 입력 간격 %dms, 단계별 %d초%n",
+                uri, serverThreads, intervalMillis, seconds);
+        System.out.printf("%8s %10s %12s %12s %10s | %-28s%n",
+                "세션", "세션/코어", "ack/초", "상태 메시지/초", "건너뜀", "키 입력→ack(ms) p50 / p99 / max");
+        try {
+            for (int sessions : phases) {
+                while (clients.size() < sessions) {
+                    Client client = new Client(clients.size() % 2 == 0 ? "ko" : "en");
+                    client.connect(httpClient, uri);
+                    clients.add(client);
+                    drivers.scheduleAtFixedRate(client::keystroke, random.nextInt(intervalMillis), intervalMillis,
+                            TimeUnit.MILLISECONDS);
+                }
+                Thread.sleep(1000);  // 새 연결이 안정될 때까지 대기
+
+                latency = newLatencyStats();
+                acked.set(0);
+                updates.set(0);
+                skipped.set(0);
+                Thread.sleep(seconds * 1000L);
+
+                DistributionStats stats = latency;
+                synchronized (stats) {
+                    System.out.printf("%8d %10.0f %12.0f %12.0f %10d | %8.1f / %8.1f / %8.1f%n",
+                            sessions, sessions / (double) serverThreads,
+                            acked.get() / (double) seconds, updates.get() / (double) seconds, skipped.get(),
+                            stats.percentile(50) / 1000.0, stats.percentile(99) / 1000.0, stats.getMax() / 1000.0);
+                }
+            }
+        } finally {
+            drivers.shutdownNow();
+            for (Client client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private static DistributionStats newLatencyStats() {
+        return new DistributionStats(2_000_000.0, 100.0);  // 마이크로초, 최대 2초
+    }
+
+    private static long longField(String json, String name) {
+        int start = json.indexOf(name);
+        if (start < 0) {
+            return 0;
+        }
+        start += name.length();
+        int end = start;
+        while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '-')) {
+            end++;
+        }
+        return Long.parseLong(json.substring(start, end));
+    }
+
+    private static String stringField(String json, String name) {
+        int start = json.indexOf(name);
+        if (start < 0) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder();
+        for (int i = start + name.length() + 1; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                char escaped = json.charAt(++i);
+                switch (escaped) {
+                    case 'n': value.append('\n'); break;
+                    case 'r': value.append('\r'); break;
+                    case 't': value.append('\t'); break;
+                    case 'u':
+                        value.append((char) Integer.parseInt(json.substring(i + 1, i + 5), 16));
+                        i += 4;
+                        break;
+                    default: value.append(escaped);
+                }
+            } else {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * 부하 생성기 시작점
+     * @param args --url ws://... --sessions N[,N...] --seconds N --interval-ms N --server-threads N --frame-ms N
+     * @throws Exception 서버를 띄우거나 연결하지 못한 경우
+     */
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int[] phases = {250, 500, 1000};
+        int seconds = 10;
+        int intervalMillis = 150;
+        int serverThreads = Runtime.getRuntime().availableProcessors();
+        long frameMillis = TypingServer.DEFAULT_FRAME_MILLIS;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url": url = args[i + 1]; break;
+                case "--sessions":
+                    String[] parts = args[i + 1].split(",");
+                    phases = new int[parts.length];
+                    for (int p = 0; p < parts.length; p++) {
+                        phases[p] = Integer.parseInt(parts[p].trim());
+                    }
+                    break;
+                case "--seconds": seconds = Integer.parseInt(args[i + 1]); break;
+                case "--interval-ms": intervalMillis = Integer.parseInt(args[i + 1]); break;
+                case "--server-threads": serverThreads = Integer.parseInt(args[i + 1]); break;
+                case "--frame-ms": frameMillis = Long.parseLong(args[i + 1]); break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+
+        if (url != null) {
+            new TypingLoadGenerator(URI.create(url), phases, seconds, intervalMillis, serverThreads).run();
+            return;
+        }
+
+        // 서버 주소가 없으면 같은 프로세스 안에 서버를 띄움
+        SessionManager sessionManager = new SessionManager(serverThreads, SessionManager.DEFAULT_MAX_PENDING_TASKS,
+                new SharedTextRepository());
+        sessionManager.setRecordsMetrics(false);  // 가상 사용자의 입력은 전역 측정값에 넣지 않음
+        TypingServer server = new TypingServer(new InetSocketAddress("127.0.0.1", 0), sessionManager, frameMillis);
+        server.start();
+        try {
+            URI uri = URI.create("ws://127.0.0.1:" + server.getPort() + "/");
+            new TypingLoadGenerator(uri, phases, seconds, intervalMillis, serverThreads).run();
+        } finally {
+            server.close();
+            sessionManager.close();
+        }
+    }
+}
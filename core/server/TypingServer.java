@@ -0,0 +1,243 @@
+package core.server;
+
+import core.SharedTextRepository;
+import core.session.SessionManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 브라우저나 다른 프로세스에서 타자 연습을 할 수 있게 하는 로컬 WebSocket 서버
+ *
+ * 외부 라이브러리 없이 NIO selector 스레드 하나가 모든 연결의 입출력을 처리하고,
+ * 채점은 {@link SessionManager}의 세션 작업 스레드에서 이루어집니다.
+ * 클라이언트는 키 입력을 응답을 기다리지 않고 계속 보내며, 서버는 일정한 프레임 간격마다
+ * 연결별로 바뀐 상태만 모아서 보냅니다. 프로토콜은 {@link ServerSession}을 참고하세요.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.server.TypingServer --port 8787 --frame-ms 30
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class TypingServer implements Closeable {
+    public static final int DEFAULT_PORT = 8787;
+    public static final long DEFAULT_FRAME_MILLIS = 30;  // 상태를 모아서 보내는 간격 (ms)
+
+    private static final String USAGE = String.join("\n",
+            "Typing Practice WebSocket 서버",
+            "ws://<host>:<port>/ 로 연결한 뒤 다음 텍스트 메시지를 보냅니다.",
+            "  start sentence|long|mole ko|en",
+            "  input <번호> <입력 필드 전체 내용>",
+            "  submit <번호> <단어>",
+            "");
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final SessionManager sessionManager;
+    private final long frameMillis;
+    private final Map<WebSocketConnection, ServerSession> sessions = new HashMap<>();  // selector 스레드에서만 사용
+    private final Thread thread;
+    private volatile boolean running = false;
+    private long nextSessionId = 0;
+
+    /**
+     * TypingServer 생성자
+     * @param address 바인딩할 주소 (포트 0이면 임의의 빈 포트)
+     * @param sessionManager 채점을 맡을 세션 관리자
+     * @param frameMillis 상태를 모아서 보내는 간격 (밀리초)
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public TypingServer(InetSocketAddress address, SessionManager sessionManager, long frameMillis) throws IOException {
+        this.sessionManager = sessionManager;
+        this.frameMillis = frameMillis;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::runLoop, "typing-server-selector");
+    }
+
+    /**
+     * 서버 스레드를 시작합니다.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * 실제로 바인딩된 포트를 반환합니다.
+     * @return 포트 번호
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * 서버를 멈추고 모든 연결을 닫습니다. 세션 관리자는 닫지 않습니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        long nextFrame = nowMillis() + frameMillis;
+        try {
+            while (running) {
+                selector.select(Math.max(1, nextFrame - nowMillis()));
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+
+                long now = nowMillis();
+                if (now >= nextFrame) {
+                    flushFrame(now);
+                    nextFrame = now + frameMillis;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("서버 실행 중 오류 발생: " + e.getMessage());
+        } finally {
+            for (WebSocketConnection connection : new ArrayList<>(sessions.keySet())) {
+                closeConnection(connection);
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                System.err.println("서버 종료 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        WebSocketConnection connection = (WebSocketConnection) key.attachment();
+        try {
+            boolean open = true;
+            if (key.isReadable()) {
+                long now = nowMillis();
+                open = connection.read((source, message) -> sessions.get(source).onMessage(message, now));
+            }
+            if (open && key.isValid() && key.isWritable()) {
+                open = connection.flushWrites();
+            }
+            if (!open) {
+                closeConnection(connection);
+            }
+        } catch (IOException e) {
+            closeConnection(connection);
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            WebSocketConnection connection = new WebSocketConnection(channel, key, USAGE);
+            key.attach(connection);
+            sessions.put(connection, new ServerSession("ws-" + (nextSessionId++), connection, sessionManager));
+        } catch (IOException e) {
+            System.err.println("연결 수락 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 연결의 바뀐 상태를 보내고 바로 소켓에 씁니다.
+     */
+    private void flushFrame(long now) {
+        for (Map.Entry<WebSocketConnection, ServerSession> entry : new ArrayList<>(sessions.entrySet())) {
+            WebSocketConnection connection = entry.getKey();
+            if (!connection.isOpen()) {
+                continue;
+            }
+            entry.getValue().flush(now);
+            if (connection.getPendingWrites() > 0) {
+                try {
+                    if (!connection.flushWrites()) {
+                        closeConnection(connection);
+                    }
+                } catch (IOException e) {
+                    closeConnection(connection);
+                }
+            }
+        }
+    }
+
+    private void closeConnection(WebSocketConnection connection) {
+        ServerSession session = sessions.remove(connection);
+        if (session != null) {
+            session.close();
+        }
+        connection.close();
+    }
+
+    private static long nowMillis() {
+        return System.nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * 서버 시작점
+     * @param args --port N --frame-ms N --threads N
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        long frameMillis = DEFAULT_FRAME_MILLIS;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(args[i + 1]); break;
+                case "--frame-ms": frameMillis = Long.parseLong(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+
+        SessionManager sessionManager = new SessionManager(threads, SessionManager.DEFAULT_MAX_PENDING_TASKS,
+                new SharedTextRepository());
+        TypingServer server = new TypingServer(new InetSocketAddress("127.0.0.1", port), sessionManager, frameMillis);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            sessionManager.close();
+        }));
+        server.start();
+        System.out.println("타자 연습 서버 시작: ws://127.0.0.1:" + server.getPort() + "/ (작업 스레드 " + threads + "개)");
+    }
+}
@@ -0,0 +1,301 @@
+package core.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NIO 소켓 위의 WebSocket(RFC 6455) 연결 하나
+ *
+ * HTTP 업그레이드 핸드셰이크, 프레임 해석(마스킹, 분할 메시지, ping/close),
+ * 텍스트 프레임 전송만 구현한 최소한의 서버 측 구현입니다.
+ * 모든 메서드는 서버의 selector 스레드에서만 호출됩니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+class WebSocketConnection {
+    static final int MAX_MESSAGE_SIZE = 64 * 1024;  // 받을 수 있는 최대 메시지 크기
+
+    private static final String HANDSHAKE_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int OPCODE_CONTINUATION = 0x0;
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    /**
+     * 받은 텍스트 메시지를 처리하는 콜백
+     */
+    interface Listener {
+        void onText(WebSocketConnection connection, String message);
+    }
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final String usage;                     // 일반 HTTP 요청에 돌려줄 안내문
+    private ByteBuffer readBuffer = ByteBuffer.allocate(8 * 1024);
+    private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private boolean handshakeDone = false;
+    private boolean closeAfterWrite = false;
+
+    // 분할된 텍스트 메시지 조립용
+    private byte[] fragments = new byte[0];
+    private int fragmentLength = 0;
+    private boolean inFragmentedMessage = false;
+
+    WebSocketConnection(SocketChannel channel, SelectionKey key, String usage) {
+        this.channel = channel;
+        this.key = key;
+        this.usage = usage;
+    }
+
+    /**
+     * 소켓에서 읽을 수 있는 만큼 읽고, 완성된 메시지를 콜백으로 전달합니다.
+     * @param listener 텍스트 메시지 콜백
+     * @return 연결을 계속 유지하면 true, 닫아야 하면 false
+     * @throws IOException 소켓 읽기에 실패한 경우
+     */
+    boolean read(Listener listener) throws IOException {
+        if (!readBuffer.hasRemaining()) {
+            if (readBuffer.capacity() >= MAX_MESSAGE_SIZE + 14) {
+                return false;
+            }
+            ByteBuffer larger = ByteBuffer.allocate(readBuffer.capacity() * 2);
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+        int count = channel.read(readBuffer);
+        if (count < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        boolean open = handshakeDone ? readFrames(listener) : readHandshake(listener);
+        readBuffer.compact();
+        return open;
+    }
+
+    /**
+     * 텍스트 프레임을 보냅니다. 실제 전송은 selector가 쓰기 가능을 알릴 때 이루어집니다.
+     * @param message 보낼 메시지
+     */
+    void sendText(String message) {
+        sendFrame(OPCODE_TEXT, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 대기 중인 데이터를 소켓에 씁니다.
+     * @return 연결을 계속 유지하면 true, 닫아야 하면 false
+     * @throws IOException 소켓 쓰기에 실패한 경우
+     */
+    boolean flushWrites() throws IOException {
+        while (!writeQueue.isEmpty()) {
+            ByteBuffer buffer = writeQueue.peek();
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                return true;
+            }
+            writeQueue.poll();
+        }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        return !closeAfterWrite;
+    }
+
+    boolean isOpen() {
+        return handshakeDone && !closeAfterWrite;
+    }
+
+    int getPendingWrites() {
+        return writeQueue.size();
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("연결 종료 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private boolean readHandshake(Listener listener) throws IOException {
+        int end = findHeaderEnd();
+        if (end < 0) {
+            return true;  // 헤더를 아직 다 받지 못함
+        }
+        byte[] header = new byte[end];
+        readBuffer.get(header);
+        String[] lines = new String(header, StandardCharsets.ISO_8859_1).split("\r\n");
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.put(lines[i].substring(0, colon).trim().toLowerCase(), lines[i].substring(colon + 1).trim());
+            }
+        }
+
+        String webSocketKey = headers.get("sec-websocket-key");
+        if (!"websocket".equalsIgnoreCase(headers.get("upgrade")) || webSocketKey == null) {
+            // WebSocket 요청이 아니면 안내문을 보내고 연결을 닫음
+            byte[] body = usage.getBytes(StandardCharsets.UTF_8);
+            String response = "HTTP/1.1 200 OK\r\nContent-Type: text/plain; charset=utf-8\r\n"
+                    + "Content-Length: " + body.length + "\r\nConnection: close\r\n\r\n";
+            enqueue(response.getBytes(StandardCharsets.ISO_8859_1));
+            enqueue(body);
+            closeAfterWrite = true;
+            return flushWrites();
+        }
+
+        String response = "HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + acceptKey(webSocketKey) + "\r\n\r\n";
+        enqueue(response.getBytes(StandardCharsets.ISO_8859_1));
+        handshakeDone = true;
+        return flushWrites() && readFrames(listener);
+    }
+
+    private int findHeaderEnd() {
+        for (int i = readBuffer.position(); i + 3 < readBuffer.limit(); i++) {
+            if (readBuffer.get(i) == '\r' && readBuffer.get(i + 1) == '\n'
+                    && readBuffer.get(i + 2) == '\r' && readBuffer.get(i + 3) == '\n') {
+                return i + 4 - readBuffer.position();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 버퍼에 있는 완성된 프레임을 모두 처리합니다. 덜 받은 프레임은 버퍼에 남겨 둡니다.
+     */
+    private boolean readFrames(Listener listener) throws IOException {
+        while (readBuffer.remaining() >= 2) {
+            int start = readBuffer.position();
+            int first = readBuffer.get(start) & 0xFF;
+            int second = readBuffer.get(start + 1) & 0xFF;
+            boolean fin = (first & 0x80) != 0;
+            int opcode = first & 0x0F;
+            boolean masked = (second & 0x80) != 0;
+            long length = second & 0x7F;
+            int headerLength = 2;
+
+            if (length == 126) {
+                if (readBuffer.remaining() < 4) return true;
+                length = readBuffer.getShort(start + 2) & 0xFFFF;
+                headerLength = 4;
+            } else if (length == 127) {
+                if (readBuffer.remaining() < 10) return true;
+                length = readBuffer.getLong(start + 2);
+                headerLength = 10;
+            }
+            if (!masked || length < 0 || length > MAX_MESSAGE_SIZE) {
+                // 클라이언트 프레임은 반드시 마스킹되어야 하며, 너무 큰 메시지는 거부
+                sendClose(masked ? 1009 : 1002);
+                return flushWrites();
+            }
+            int frameLength = headerLength + 4 + (int) length;
+            if (readBuffer.remaining() < frameLength) {
+                return true;  // 프레임을 아직 다 받지 못함
+            }
+
+            byte[] payload = new byte[(int) length];
+            int maskStart = start + headerLength;
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] = (byte) (readBuffer.get(maskStart + 4 + i) ^ readBuffer.get(maskStart + (i & 3)));
+            }
+            readBuffer.position(start + frameLength);
+
+            switch (opcode) {
+                case OPCODE_TEXT:
+                case OPCODE_CONTINUATION:
+                    if (opcode == OPCODE_TEXT && fin && !inFragmentedMessage) {
+                        listener.onText(this, new String(payload, StandardCharsets.UTF_8));
+                        break;
+                    }
+                    if (!appendFragment(payload)) {
+                        sendClose(1009);
+                        return flushWrites();
+                    }
+                    inFragmentedMessage = !fin;
+                    if (fin) {
+                        String message = new String(fragments, 0, fragmentLength, StandardCharsets.UTF_8);
+                        fragmentLength = 0;
+                        listener.onText(this, message);
+                    }
+                    break;
+                case OPCODE_PING:
+                    sendFrame(OPCODE_PONG, payload);
+                    break;
+                case OPCODE_CLOSE:
+                    sendClose(1000);
+                    return flushWrites();
+                default:
+                    break;  // pong, 바이너리 프레임은 무시
+            }
+        }
+        return true;
+    }
+
+    private boolean appendFragment(byte[] payload) {
+        int needed = fragmentLength + payload.length;
+        if (needed > MAX_MESSAGE_SIZE) {
+            return false;
+        }
+        if (needed > fragments.length) {
+            fragments = Arrays.copyOf(fragments, Math.max(needed, fragments.length * 2));
+        }
+        System.arraycopy(payload, 0, fragments, fragmentLength, payload.length);
+        fragmentLength = needed;
+        return true;
+    }
+
+    private void sendClose(int statusCode) {
+        sendFrame(OPCODE_CLOSE, new byte[] {(byte) (statusCode >> 8), (byte) statusCode});
+        closeAfterWrite = true;
+    }
+
+    private void sendFrame(int opcode, byte[] payload) {
+        if (closeAfterWrite) {
+            return;
+        }
+        int headerLength = payload.length < 126 ? 2 : (payload.length <= 0xFFFF ? 4 : 10);
+        ByteBuffer frame = ByteBuffer.allocate(headerLength + payload.length);
+        frame.put((byte) (0x80 | opcode));
+        if (payload.length < 126) {
+            frame.put((byte) payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            frame.put((byte) 126);
+            frame.putShort((short) payload.length);
+        } else {
+            frame.put((byte) 127);
+            frame.putLong(payload.length);
+        }
+        frame.put(payload);
+        frame.flip();
+        writeQueue.add(frame);
+        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+    }
+
+    private void enqueue(byte[] bytes) {
+        writeQueue.add(ByteBuffer.wrap(bytes));
+    }
+
+    private static String acceptKey(String webSocketKey) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((webSocketKey + HANDSHAKE_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1을 사용할 수 없습니다.", e);
+        }
+    }
+}
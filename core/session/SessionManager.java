@@ -0,0 +1,164 @@
+package core.session;
+
+import core.GameModel;
+import core.NanoClock;
+import core.SharedTextRepository;
+import core.TextRepository;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 사용자의 타자 연습 세션을 한 프로세스에서 관리하는 클래스
+ *
+ * 세션마다 독립된 GameModel을 만들고, 모든 세션의 입력 처리는 코어 수만큼의
+ * 스레드를 가진 하나의 작업 스레드 풀에서 실행합니다. 세션 안의 작업은 순서대로
+ * 하나씩 실행되므로 GameModel을 그대로 사용할 수 있습니다.
+ * 연습용 텍스트는 {@link SharedTextRepository}로 한 번만 읽어 모든 세션이 공유합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class SessionManager implements Closeable {
+    public static final int DEFAULT_MAX_PENDING_TASKS = 256;  // 세션당 기본 최대 대기 작업 수
+
+    private final Map<String, TypingSession> sessions = new ConcurrentHashMap<>();
+    private final TextRepository textRepository;
+    private final ExecutorService executor;
+    private final int maxPendingTasks;
+    private volatile boolean recordsMetrics = true;  // 새 세션의 모델이 전역 측정값에 기록할지 여부
+
+    /**
+     * 코어 수만큼의 작업 스레드를 사용하는 SessionManager 생성자
+     */
+    public SessionManager() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_PENDING_TASKS, new SharedTextRepository());
+    }
+
+    /**
+     * SessionManager 생성자
+     * @param threads 입력 처리에 사용할 작업 스레드 수
+     * @param maxPendingTasks 세션당 대기할 수 있는 최대 작업 수
+     * @param textRepository 모든 세션이 공유할 텍스트 저장소
+     */
+    public SessionManager(int threads, int maxPendingTasks, TextRepository textRepository) {
+        this.textRepository = textRepository;
+        this.maxPendingTasks = maxPendingTasks;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "typing-session-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 사용자의 세션을 엽니다. 이미 열린 세션이 있으면 그 세션을 반환합니다.
+     * 새 세션은 지정한 언어의 문장 연습 게임으로 시작합니다.
+     * @param userId 사용자 식별자
+     * @param language 연습할 언어
+     * @return 사용자의 세션
+     */
+    public TypingSession openSession(String userId, GameModel.Language language) {
+        TypingSession existing = sessions.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        // 텍스트를 읽고 모델을 만드는 동안 맵의 잠금을 잡지 않도록 밖에서 만든 뒤 넣음
+        GameModel model = new GameModel(NanoClock.SYSTEM, new Random(), textRepository);
+        model.setRecordsMetrics(recordsMetrics);
+        if (model.getCurrentLanguage() != language) {
+            model.setLanguage(language);
+        }
+        TypingSession created = new TypingSession(userId, model, executor, maxPendingTasks);
+        existing = sessions.putIfAbsent(userId, created);
+        if (existing != null) {
+            created.close();  // 같은 사용자의 세션을 다른 스레드가 먼저 넣음
+            return existing;
+        }
+        return created;
+    }
+
+    /**
+     * 이후에 여는 세션의 모델이 전역 측정값에 기록할지 정합니다.
+     * 가상 사용자로 부하를 거는 하네스는 끄고 사용합니다. (기본값: 기록함)
+     * @param recordsMetrics 기록하려면 true
+     */
+    public void setRecordsMetrics(boolean recordsMetrics) {
+        this.recordsMetrics = recordsMetrics;
+    }
+
+    public boolean isRecordsMetrics() {
+        return recordsMetrics;
+    }
+
+    /**
+     * 사용자의 세션을 반환합니다.
+     * @param userId 사용자 식별자
+     * @return 열린 세션, 없으면 null
+     */
+    public TypingSession getSession(String userId) {
+        return sessions.get(userId);
+    }
+
+    /**
+     * 사용자의 세션을 닫고 관리 대상에서 제거합니다.
+     * @param userId 사용자 식별자
+     */
+    public void closeSession(String userId) {
+        TypingSession session = sessions.remove(userId);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * 열린 세션 목록을 반환합니다.
+     * @return 열린 세션들 (읽기 전용 뷰)
+     */
+    public Collection<TypingSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * 모든 세션이 공유하는 텍스트 저장소를 반환합니다.
+     * @return 공유 텍스트 저장소
+     */
+    public TextRepository getTextRepository() {
+        return textRepository;
+    }
+
+    /**
+     * 열린 세션 개수를 반환합니다.
+     * @return 세션 개수
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 모든 세션을 닫고, 대기 중인 작업을 마친 뒤 작업 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        for (String userId : sessions.keySet()) {
+            closeSession(userId);
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                System.err.println("세션 작업 스레드가 제시간에 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
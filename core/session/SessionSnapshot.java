@@ -0,0 +1,31 @@
+package core.session;
+
+/**
+ * 입력을 처리한 직후의 세션 상태
+ *
+ * 세션의 GameModel은 세션 작업 스레드에서만 다루므로, 다른 스레드에는
+ * 이 변경할 수 없는 스냅샷으로 결과를 전달합니다.
+ *
+ * @param practiceText 현재 연습 문장 (문장이 넘어갔다면 새 문장)
+ * @param sentenceNumber 현재 문장 번호 (1부터 시작)
+ * @param totalSentences 총 문장 개수
+ * @param typedChars 현재 문장에서 입력된 문자 수
+ * @param correctChars 현재 문장에서 올바르게 입력된 문자 수
+ * @param accuracy 현재 문장의 정확도 (0~100)
+ * @param realTimeCpm 실시간 타수 (최근 5초)
+ * @param averageCpm 게임 시작부터의 평균 타수
+ * @param inputCorrect 지금까지의 입력이 목표 문장의 앞부분과 일치하는지 여부
+ * @param sentenceAdvanced 이번 입력으로 문장을 마치고 다음 문장으로 넘어갔는지 여부
+ * @param gameCompleted 게임 완료 여부
+ */
+public record SessionSnapshot(String practiceText,
+                              int sentenceNumber,
+                              int totalSentences,
+                              int typedChars,
+                              int correctChars,
+                              double accuracy,
+                              double realTimeCpm,
+                              double averageCpm,
+                              boolean inputCorrect,
+                              boolean sentenceAdvanced,
+                              boolean gameCompleted) {}
@@ -0,0 +1,205 @@
+package core.session;
+
+import core.GameModel;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 한 사용자의 타자 연습 세션
+ *
+ * 세션마다 자신만의 GameModel을 가지며, 세션에 대한 모든 작업은 요청 순서대로
+ * 한 번에 하나씩 공유 작업 스레드 풀에서 실행됩니다. 따라서 GameModel에는 잠금이
+ * 필요 없고, 서로 다른 세션은 병렬로 처리됩니다.
+ *
+ * 처리 결과는 {@link SessionSnapshot}으로 전달되며, 대기 중인 작업이 너무 많으면
+ * 새 작업은 {@link RejectedExecutionException}으로 실패합니다.
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class TypingSession {
+    private static final int TASKS_PER_TURN = 32;  // 한 번 실행될 때 처리할 최대 작업 수 (다른 세션과의 공평성)
+
+    private final String id;
+    private final GameModel model;           // 세션 작업 스레드에서만 접근
+    private final Executor executor;
+    private final int maxPendingTasks;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();  // this로 동기화
+    private boolean scheduled = false;                          // 작업 스레드 풀에 실행이 예약되었는지 여부 (this로 동기화)
+    private boolean closed = false;                             // this로 동기화
+    private volatile SessionSnapshot lastSnapshot;
+
+    /**
+     * TypingSession 생성자
+     * @param id 세션 식별자
+     * @param model 이 세션만 사용하는 게임 모델
+     * @param executor 세션 작업을 실행할 공유 작업 스레드 풀
+     * @param maxPendingTasks 대기할 수 있는 최대 작업 수
+     */
+    TypingSession(String id, GameModel model, Executor executor, int maxPendingTasks) {
+        this.id = id;
+        this.model = model;
+        this.executor = executor;
+        this.maxPendingTasks = maxPendingTasks;
+        this.lastSnapshot = snapshot(false);
+    }
+
+    /**
+     * 입력 필드 내용이 바뀐 것을 처리합니다.
+     * 문장을 마치면 GamePanel과 같이 다음 문장으로 넘어갑니다.
+     * @param typedText 입력 필드 전체 내용
+     * @return 처리 후 세션 상태
+     */
+    public CompletableFuture<SessionSnapshot> submitInput(String typedText) {
+        return enqueue(() -> {
+            model.processInput(typedText);
+            if (model.isCurrentTextCompleted(typedText)) {
+                model.setNewPracticeText();
+                return snapshot(true);
+            }
+            return snapshot(false);
+        });
+    }
+
+    /**
+     * 새 문장 연습 게임을 시작합니다.
+     * @return 시작 후 세션 상태
+     */
+    public CompletableFuture<SessionSnapshot> startSentenceGame() {
+        return enqueue(() -> {
+            model.startNewGame();
+            return snapshot(false);
+        });
+    }
+
+    /**
+     * 지정한 장문으로 장문 연습 게임을 시작합니다.
+     * @param longText 연습할 장문 정보
+     * @return 시작 후 세션 상태
+     */
+    public CompletableFuture<SessionSnapshot> startLongTextGame(GameModel.LongText longText) {
+        return enqueue(() -> {
+            model.startLongTextGame(longText);
+            return snapshot(false);
+        });
+    }
+
+    /**
+     * 실시간 타수를 갱신한 현재 상태를 반환합니다.
+     * @return 현재 세션 상태
+     */
+    public CompletableFuture<SessionSnapshot> refresh() {
+        return enqueue(() -> snapshot(false));
+    }
+
+    /**
+     * 마지막으로 처리된 작업 직후의 상태를 반환합니다. 어느 스레드에서나 호출할 수 있습니다.
+     * @return 마지막 세션 상태
+     */
+    public SessionSnapshot getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 세션을 닫습니다. 이미 대기 중인 작업은 실행되고, 이후 요청은 실패합니다.
+     */
+    synchronized void close() {
+        closed = true;
+    }
+
+    private <T> CompletableFuture<T> enqueue(Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(work.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            }
+        };
+
+        boolean schedule;
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new RejectedExecutionException("세션이 닫혔습니다: " + id));
+                return future;
+            }
+            if (tasks.size() >= maxPendingTasks) {
+                future.completeExceptionally(new RejectedExecutionException("세션 대기 작업이 너무 많습니다: " + id));
+                return future;
+            }
+            tasks.add(task);
+            schedule = !scheduled;
+            scheduled = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+        return future;
+    }
+
+    /**
+     * 대기 중인 작업을 순서대로 실행합니다. 한 번에 일정 개수만 실행하고
+     * 남은 작업이 있으면 다시 예약하여 다른 세션도 실행될 수 있게 합니다.
+     * 작업에서 Error가 나도 남은 작업은 다음 차례에 이어서 실행됩니다.
+     */
+    private void runTasks() {
+        for (int i = 0; i < TASKS_PER_TURN; i++) {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (Error e) {
+                schedule();  // scheduled가 true로 남아 있으므로 남은 작업을 다시 예약
+                throw e;
+            }
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::runTasks);
+        } catch (RejectedExecutionException e) {
+            // 작업 스레드 풀이 종료 중이면 남은 작업을 현재 스레드에서 마저 실행
+            runTasks();
+        }
+    }
+
+    private SessionSnapshot snapshot(boolean sentenceAdvanced) {
+        // GamePanel의 statusUpdateTimer 대신 상태를 읽을 때마다 슬라이딩 윈도우를 정리
+        model.updateWPM();
+        SessionSnapshot snapshot = new SessionSnapshot(
+                model.getCurrentPracticeText(),
+                model.getCurrentSentenceNumber(),
+                model.getTotalSentences(),
+                model.getCurrentTypedChars(),
+                model.getCorrectChars(),
+                model.getAccuracy(),
+                model.getRealTimeWPM(),
+                model.getAverageWPM(),
+                model.getCurrentTypedChars() == 0 || model.getCorrectChars() == model.getCurrentTypedChars(),
+                sentenceAdvanced,
+                model.isGameCompleted());
+        lastSnapshot = snapshot;
+        return snapshot;
+    }
+}
@@ -0,0 +1,89 @@
+package core.simulation;
+
+/**
+ * 고정 구간 히스토그램 기반의 분포 통계
+ *
+ * 값을 일정한 폭의 구간으로 나누어 개수만 세므로 표본이 아무리 많아도
+ * 메모리 사용량이 일정하며, 스레드별 통계를 {@link #merge}로 합칠 수 있습니다.
+ */
+public class DistributionStats {
+    private final double bucketWidth;
+    private final long[] buckets;
+    private long count = 0;
+    private double sum = 0.0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * DistributionStats 생성자
+     * @param maxValue 구간으로 나눌 최댓값 (이보다 큰 값은 마지막 구간에 들어감)
+     * @param bucketWidth 구간 폭
+     */
+    public DistributionStats(double maxValue, double bucketWidth) {
+        this.bucketWidth = bucketWidth;
+        this.buckets = new long[(int) Math.ceil(maxValue / bucketWidth) + 1];
+    }
+
+    /**
+     * 값을 하나 기록합니다.
+     * @param value 기록할 값
+     */
+    public void record(double value) {
+        int index = (int) (Math.max(0.0, value) / bucketWidth);
+        buckets[Math.min(index, buckets.length - 1)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 통계를 이 통계에 합칩니다. 구간 설정이 같아야 합니다.
+     * @param other 합칠 통계
+     */
+    public void merge(DistributionStats other) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 백분위 값을 구간 중앙값으로 근사하여 반환합니다.
+     * @param percentile 백분위 (0~100)
+     * @return 백분위 값, 기록이 없으면 0
+     */
+    public double percentile(double percentile) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && buckets[i] > 0) {
+                return Math.min(max, Math.max(min, (i + 0.5) * bucketWidth));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+}
@@ -0,0 +1,348 @@
+package core.simulation;
+
+import core.CorpusCache;
+import core.GameModel;
+import core.HangulJamo;
+import core.MoleField;
+import core.MoleGameModel;
+import core.MoleRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 두더지 게임 난이도 조정을 위한 헤드리스 시뮬레이터
+ *
+ * 출현 규칙({@link MoleRules})마다 합성 타자 사용자({@link SyntheticTypist})가 가상 시간 위에서 60초 게임을 진행합니다.
+ * 사용자는 제때 입력을 마칠 수 있는 두더지 중 가장 먼저 사라질 두더지를 골라, 반응 시간 뒤에 단어를 입력합니다.
+ * 데스크톱 게임처럼 단어를 다 입력하는 순간 잡으며, 고치지 않은 오타가 남으면 알아차린 뒤 Enter로 지우고 다음 두더지로 넘어갑니다.
+ *
+ * 게임마다 기준 시드와 게임 번호로 난수를 만들고, 게임 번호 구간을 fork/join으로 나누어 모든 코어에서 실행합니다.
+ * 결과는 구간별로 합치므로 스레드 수와 관계없이 같은 분포가 나옵니다.
+ * 규칙/언어/프로필별로 점수와 놓친 두더지 수, 잡은 비율의 분포를 출력합니다.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.simulation.MoleSimulator \
+ *        --games 100000 --rules "EASY;NORMAL;HARD;HARD2:base=HARD,visible=2000" --cpm 150,300,600
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class MoleSimulator {
+    private static final int GAMES_PER_TASK = 64;  // 이 수 이하의 게임 구간은 나누지 않고 한 작업에서 실행
+
+    /**
+     * 시뮬레이션 설정
+     * @param games 실행할 게임 수 (규칙/언어/프로필 조합에 고르게 나눔)
+     * @param threads 작업 스레드 수
+     * @param seed 기준 시드
+     * @param rules 비교할 출현 규칙 목록
+     * @param languages 사용할 언어 목록
+     * @param profiles 사용할 타자 사용자 프로필 목록
+     */
+    public record Config(int games, int threads, long seed, List<MoleRules> rules,
+                         List<GameModel.Language> languages, List<TypistProfile> profiles) {}
+
+    /**
+     * 시뮬레이션 결과
+     */
+    public static class Result {
+        private final Map<String, DistributionStats> scores = new TreeMap<>();
+        private final Map<String, DistributionStats> misses = new TreeMap<>();
+        private final Map<String, DistributionStats> hitRates = new TreeMap<>();
+        private long games = 0;
+        private long spawned = 0;
+        private long hits = 0;
+        private long failedAttempts = 0;   // 입력을 마쳤지만 잡지 못한 횟수 (이미 사라짐, 고치지 않은 오타)
+        private long wallNanos = 0;
+
+        void record(String key, int score, int missed, double hitRate) {
+            scores.computeIfAbsent(key, k -> newScoreStats()).record(score);
+            misses.computeIfAbsent(key, k -> newMissStats()).record(missed);
+            hitRates.computeIfAbsent(key, k -> newHitRateStats()).record(hitRate);
+            games++;
+        }
+
+        void merge(Result other) {
+            other.scores.forEach((key, stats) -> scores.computeIfAbsent(key, k -> newScoreStats()).merge(stats));
+            other.misses.forEach((key, stats) -> misses.computeIfAbsent(key, k -> newMissStats()).merge(stats));
+            other.hitRates.forEach((key, stats) -> hitRates.computeIfAbsent(key, k -> newHitRateStats()).merge(stats));
+            games += other.games;
+            spawned += other.spawned;
+            hits += other.hits;
+            failedAttempts += other.failedAttempts;
+        }
+
+        private static DistributionStats newScoreStats() {
+            return new DistributionStats(20_000.0, 10.0);
+        }
+
+        private static DistributionStats newMissStats() {
+            return new DistributionStats(2_000.0, 1.0);
+        }
+
+        private static DistributionStats newHitRateStats() {
+            return new DistributionStats(100.0, 0.5);
+        }
+
+        public Map<String, DistributionStats> getScores() {
+            return scores;
+        }
+
+        public Map<String, DistributionStats> getMisses() {
+            return misses;
+        }
+
+        public Map<String, DistributionStats> getHitRates() {
+            return hitRates;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getSpawned() {
+            return spawned;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getFailedAttempts() {
+            return failedAttempts;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+    }
+
+    private final Config config;
+
+    /**
+     * MoleSimulator 생성자
+     * @param config 시뮬레이션 설정
+     */
+    public MoleSimulator(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * 설정된 게임을 fork/join 풀에서 나누어 실행하고 결과를 합칩니다.
+     * @return 합쳐진 시뮬레이션 결과
+     */
+    public Result run() {
+        ForkJoinPool pool = new ForkJoinPool(config.threads());
+        long start = System.nanoTime();
+        try {
+            Result result = pool.invoke(new GameRange(0, config.games()));
+            result.wallNanos = System.nanoTime() - start;
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 게임 번호 구간 하나를 실행하는 작업. 구간이 크면 반으로 나누어 나머지 절반을 다른 스레드에 넘깁니다.
+     */
+    private class GameRange extends RecursiveTask<Result> {
+        private final int from;
+        private final int to;
+
+        GameRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                Result result = new Result();
+                for (int game = from; game < to; game++) {
+                    playGame(game, result);
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            GameRange left = new GameRange(from, middle);
+            left.fork();
+            Result result = new GameRange(middle, to).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * 게임 번호에 해당하는 규칙/언어/프로필로 한 판을 진행하고 결과에 기록합니다.
+     */
+    private void playGame(int game, Result result) {
+        int ruleCount = config.rules().size();
+        int languageCount = config.languages().size();
+        MoleRules rules = config.rules().get(game % ruleCount);
+        GameModel.Language language = config.languages().get((game / ruleCount) % languageCount);
+        TypistProfile profile = config.profiles().get((game / (ruleCount * languageCount)) % config.profiles().size());
+
+        Random random = new Random(config.seed() * 0x9E3779B97F4A7C15L + game);
+        MoleGameModel model = new MoleGameModel(language, new Random(random.nextLong()), CorpusCache.shared());
+        model.setRecordsMetrics(false);
+        MoleField field = new MoleField(model, rules, new Random(random.nextLong()));
+        VirtualClock clock = new VirtualClock();
+        SyntheticTypist typist = new SyntheticTypist(profile, clock, random);
+
+        field.start(0);
+        long failed = 0;
+        while (true) {
+            long now = millis(clock);
+            field.advanceTo(now);
+            if (field.isFinished()) {
+                break;
+            }
+            String word = chooseWord(field, profile, now);
+            if (word == null) {
+                // 제때 잡을 수 있는 두더지가 없으면 다음 웨이브까지 기다림
+                clock.advance((field.getNextEventTime() - now) * 1_000_000L);
+                continue;
+            }
+            // 두더지를 보고 입력을 시작하기까지의 반응 시간
+            clock.advanceMillis(profile.reactionMs() * (0.5 + random.nextDouble()));
+            String typed = typist.type(word, text -> {});
+            if (!typed.equals(word)) {
+                // 고치지 않은 오타: 알아차린 뒤 Enter로 입력 필드를 비움
+                clock.advanceMillis(profile.reactionMs() * (0.5 + random.nextDouble()));
+                typist.pressEnter();
+                failed++;
+            } else if (!field.hit(word, millis(clock))) {
+                failed++;  // 입력을 마치기 전에 사라짐
+            }
+        }
+
+        int hits = field.getHitCount();
+        int spawned = field.getSpawnedCount();
+        String key = rules.getName() + "/" + language.name() + "/" + profile.name();
+        result.record(key, model.getScore(), spawned - hits, spawned == 0 ? 0.0 : hits * 100.0 / spawned);
+        result.spawned += spawned;
+        result.hits += hits;
+        result.failedAttempts += failed;
+    }
+
+    /**
+     * 평균 속도로 입력해도 사라지기 전에 마칠 수 있는 두더지 중 가장 먼저 사라질 두더지의 단어를 고릅니다.
+     * @return 단어, 제때 잡을 수 있는 두더지가 없으면 null
+     */
+    private static String chooseWord(MoleField field, TypistProfile profile, long now) {
+        List<MoleField.Mole> moles = field.getMoles();
+        MoleField.Mole best = null;
+        for (int i = 0, n = moles.size(); i < n; i++) {
+            MoleField.Mole mole = moles.get(i);
+            String word = mole.word();
+            double estimate = profile.reactionMs()
+                    + HangulJamo.strokeCount(word, 0, word.length()) * profile.meanKeyIntervalMs();
+            if (now + estimate <= mole.expiresAt() && (best == null || mole.expiresAt() < best.expiresAt()
+                    || (mole.expiresAt() == best.expiresAt() && mole.id() < best.id()))) {
+                best = mole;  // 같은 시각에 사라지면 먼저 나온 두더지
+            }
+        }
+        return best == null ? null : best.word();
+    }
+
+    private static long millis(VirtualClock clock) {
+        return clock.nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * 결과를 표준 출력에 보고합니다.
+     * @param result 출력할 결과
+     */
+    public static void printReport(Result result) {
+        double seconds = result.getWallNanos() / 1_000_000_000.0;
+        System.out.printf("게임 %,d판, 두더지 %,d마리 중 %,d마리 잡음, 헛입력 %,d회, %.2f초 (%,.0f판/초)%n",
+                result.getGames(), result.getSpawned(), result.getHits(), result.getFailedAttempts(),
+                seconds, result.getGames() / seconds);
+        System.out.println();
+        System.out.printf("%-28s %6s | %-30s | %-24s | %-8s%n", "규칙/언어/프로필", "게임",
+                "점수 평균 / p10 / p50 / p90", "놓침 평균 / p50 / p90", "잡은 비율");
+        for (Map.Entry<String, DistributionStats> entry : result.getScores().entrySet()) {
+            DistributionStats score = entry.getValue();
+            DistributionStats missed = result.getMisses().get(entry.getKey());
+            DistributionStats hitRate = result.getHitRates().get(entry.getKey());
+            System.out.printf("%-28s %6d | %6.0f / %5.0f / %5.0f / %5.0f | %6.1f / %5.0f / %5.0f | %6.1f%%%n",
+                    entry.getKey(), score.getCount(),
+                    score.getMean(), score.percentile(10), score.percentile(50), score.percentile(90),
+                    missed.getMean(), missed.percentile(50), missed.percentile(90),
+                    hitRate.getMean());
+        }
+    }
+
+    /**
+     * 시뮬레이터 시작점
+     * @param args --games N --threads N --seed N --language ko|en|all --rules "규칙;규칙..." --cpm 타수,타수...
+     */
+    public static void main(String[] args) {
+        int games = 20_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42L;
+        String language = "all";
+        String rulesSpec = "EASY;NORMAL;HARD";
+        String cpm = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--language": language = args[i + 1]; break;
+                case "--rules": rulesSpec = args[i + 1]; break;
+                case "--cpm": cpm = args[i + 1]; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+
+        List<MoleRules> rules = new ArrayList<>();
+        try {
+            for (String spec : rulesSpec.split(";")) {
+                if (!spec.isBlank()) {
+                    rules.add(MoleRules.parse(spec));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("규칙을 읽을 수 없습니다: " + e.getMessage());
+            return;
+        }
+        List<GameModel.Language> languages = switch (language) {
+            case "ko" -> List.of(GameModel.Language.KOREAN);
+            case "en" -> List.of(GameModel.Language.ENGLISH);
+            default -> List.of(GameModel.Language.values());
+        };
+        List<TypistProfile> profiles = cpm == null ? TypistProfile.defaults() : profilesForCpm(cpm);
+
+        for (MoleRules rule : rules) {
+            System.out.println("규칙 " + rule);
+        }
+        Result result = new MoleSimulator(new Config(games, threads, seed, rules, languages, profiles)).run();
+        printReport(result);
+    }
+
+    /**
+     * 분당 타수 목록으로 프로필을 만듭니다. 타수 외의 특성은 "보통" 프로필을 따릅니다.
+     */
+    private static List<TypistProfile> profilesForCpm(String cpmList) {
+        TypistProfile base = TypistProfile.AVERAGE;
+        List<TypistProfile> profiles = new ArrayList<>();
+        for (String value : cpmList.split(",")) {
+            int cpm = Integer.parseInt(value.trim());
+            profiles.add(new TypistProfile(cpm + "타", 60_000.0 / cpm, base.intervalSpread(), base.errorRate(),
+                    base.correctionRate(), base.reactionMs(), base.imeBurstRate()));
+        }
+        return profiles;
+    }
+}
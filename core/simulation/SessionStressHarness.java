@@ -0,0 +1,208 @@
+package core.simulation;
+
+import core.GameModel;
+import core.SharedTextRepository;
+import core.session.SessionManager;
+import core.session.SessionSnapshot;
+import core.session.TypingSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 많은 세션을 동시에 실행하여 키 입력 처리 지연을 측정하는 부하 하네스
+ *
+ * 실제 시간 위에서 가상 사용자마다 일정한 평균 간격으로 한 글자씩 입력하고,
+ * 입력을 보낸 시점부터 세션이 처리를 마칠 때까지의 지연을 초 단위 구간별로 집계합니다.
+ * 앞의 입력이 아직 처리되지 않았으면 그 키 입력은 건너뛰고 따로 셉니다.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.simulation.SessionStressHarness \
+ *        --sessions 2000 --seconds 10 --interval-ms 150
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class SessionStressHarness {
+
+    /**
+     * 세션 하나에 입력을 보내는 가상 사용자
+     * 입력 상태는 완료 콜백(세션 작업 스레드)에서만 바꾸고, 다음 입력은
+     * 이전 입력이 끝난 뒤에만 보내므로 별도의 잠금이 필요 없습니다.
+     */
+    private class Client {
+        private final TypingSession session;
+        private final AtomicBoolean inFlight = new AtomicBoolean(false);
+        private String target;
+        private int typedLength = 0;
+
+        Client(TypingSession session) {
+            this.session = session;
+            this.target = session.getLastSnapshot().practiceText();
+        }
+
+        void keystroke() {
+            if (!inFlight.compareAndSet(false, true)) {
+                skipped.incrementAndGet();
+                return;
+            }
+            if (typedLength >= target.length()) {
+                typedLength = 0;
+            }
+            String input = target.substring(0, ++typedLength);
+            long sentAt = System.nanoTime();
+            session.submitInput(input).whenComplete((snapshot, error) -> {
+                long latency = System.nanoTime() - sentAt;
+                if (error != null) {
+                    failures.incrementAndGet();
+                    inFlight.set(false);
+                    return;
+                }
+                recordLatency(sentAt, latency);
+                if (snapshot.gameCompleted()) {
+                    // 게임을 마치면 새 게임이 시작된 뒤에 다음 입력을 보냄
+                    session.startSentenceGame().whenComplete((started, startError) -> {
+                        if (started != null) {
+                            nextSentence(started.practiceText());
+                        }
+                        inFlight.set(false);
+                    });
+                    return;
+                }
+                if (snapshot.sentenceAdvanced()) {
+                    nextSentence(snapshot.practiceText());
+                }
+                inFlight.set(false);
+            });
+        }
+
+        private void nextSentence(String practiceText) {
+            target = practiceText;
+            typedLength = 0;
+        }
+    }
+
+    private final int sessions;
+    private final int seconds;
+    private final int intervalMillis;
+    private final int threads;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private DistributionStats[] latencyPerSecond;  // 초 단위 구간별 지연 (마이크로초, 구간마다 동기화)
+    private long startNanos;
+
+    /**
+     * SessionStressHarness 생성자
+     * @param sessions 동시 세션 수
+     * @param seconds 측정 시간 (초)
+     * @param intervalMillis 사용자별 평균 키 입력 간격 (밀리초)
+     * @param threads 세션 작업 스레드 수
+     */
+    public SessionStressHarness(int sessions, int seconds, int intervalMillis, int threads) {
+        this.sessions = sessions;
+        this.seconds = seconds;
+        this.intervalMillis = intervalMillis;
+        this.threads = threads;
+    }
+
+    /**
+     * 세션을 열고 지정한 시간 동안 입력을 보낸 뒤 결과를 출력합니다.
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void run() throws InterruptedException {
+        latencyPerSecond = new DistributionStats[seconds + 1];
+        for (int i = 0; i < latencyPerSecond.length; i++) {
+            latencyPerSecond[i] = new DistributionStats(100_000.0, 10.0);
+        }
+
+        SessionManager manager = new SessionManager(threads, SessionManager.DEFAULT_MAX_PENDING_TASKS,
+                new SharedTextRepository());
+        manager.setRecordsMetrics(false);  // 가상 사용자의 입력은 전역 측정값에 넣지 않음
+        long openStart = System.nanoTime();
+        List<Client> clients = new ArrayList<>(sessions);
+        GameModel.Language[] languages = GameModel.Language.values();
+        for (int i = 0; i < sessions; i++) {
+            clients.add(new Client(manager.openSession("user-" + i, languages[i % languages.length])));
+        }
+        long openNanos = System.nanoTime() - openStart;
+
+        ScheduledExecutorService drivers = Executors.newScheduledThreadPool(2);
+        Random random = new Random(42);
+        startNanos = System.nanoTime();
+        for (Client client : clients) {
+            drivers.scheduleAtFixedRate(client::keystroke, random.nextInt(intervalMillis), intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        Thread.sleep(seconds * 1000L);
+        drivers.shutdownNow();
+        drivers.awaitTermination(5, TimeUnit.SECONDS);
+        manager.close();
+
+        printReport(openNanos);
+    }
+
+    private void recordLatency(long sentAt, long latencyNanos) {
+        processed.incrementAndGet();
+        int second = (int) Math.min(seconds, (sentAt - startNanos) / 1_000_000_000L);
+        DistributionStats stats = latencyPerSecond[second];
+        synchronized (stats) {
+            stats.record(latencyNanos / 1000.0);
+        }
+    }
+
+    private void printReport(long openNanos) {
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("세션 %,d개 (생성 %.1fms), 작업 스레드 %d개, 입력 간격 %dms, %d초%n",
+                sessions, openNanos / 1_000_000.0, threads, intervalMillis, seconds);
+        System.out.printf("처리된 입력 %,d회 (%,.0f회/초), 건너뜀 %,d회, 실패 %,d회, 사용 중인 힙 %,dMB%n",
+                processed.get(), processed.get() / (double) seconds, skipped.get(), failures.get(),
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        System.out.printf("%4s %10s | %-30s%n", "초", "입력", "지연(µs) p50 / p99 / max");
+
+        DistributionStats total = new DistributionStats(100_000.0, 10.0);
+        for (int i = 0; i < seconds; i++) {
+            DistributionStats stats = latencyPerSecond[i];
+            synchronized (stats) {
+                System.out.printf("%4d %10d | %8.0f / %8.0f / %8.0f%n", i + 1, stats.getCount(),
+                        stats.percentile(50), stats.percentile(99), stats.getMax());
+                total.merge(stats);
+            }
+        }
+        System.out.printf("전체 %10d | %8.0f / %8.0f / %8.0f%n", total.getCount(),
+                total.percentile(50), total.percentile(99), total.getMax());
+    }
+
+    /**
+     * 하네스 시작점
+     * @param args --sessions N --seconds N --interval-ms N --threads N
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = 2000;
+        int seconds = 10;
+        int intervalMillis = 150;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sessions": sessions = Integer.parseInt(args[i + 1]); break;
+                case "--seconds": seconds = Integer.parseInt(args[i + 1]); break;
+                case "--interval-ms": intervalMillis = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+        new SessionStressHarness(sessions, seconds, intervalMillis, threads).run();
+    }
+}
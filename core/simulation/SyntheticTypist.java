@@ -0,0 +1,194 @@
+package core.simulation;
+
+import core.HangulJamo;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 가상 시간 위에서 문장을 입력하는 합성 타자 사용자
+ *
+ * {@link TypistProfile}에 따라 키 입력 간격, 오타, 백스페이스 수정,
+ * 한글 IME 조합을 흉내 내며, 입력 필드 내용이 바뀔 때마다
+ * {@link InputSink}에 현재 입력 전체를 전달합니다.
+ *
+ * 한글 음절은 두벌식 자모 키 입력 수({@link HangulJamo#strokeCount(char)})만큼 시간이 걸립니다.
+ * 보통은 음절을 다 입력한 뒤 입력 필드에 반영하고, IME 조합 구간에서는 실제 입력기처럼
+ * 키 하나마다 조합 중인 글자를 반영합니다. ("ㅎ" → "하" → "한", "하세" 입력 중 "하" → "핫" → "하세")
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class SyntheticTypist {
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final String ASCII_TYPOS = "abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * 입력 필드 내용이 바뀔 때 호출되는 콜백
+     */
+    @FunctionalInterface
+    public interface InputSink {
+        /**
+         * @param text 바뀐 입력 필드 전체 내용
+         */
+        void input(String text);
+    }
+
+    private final TypistProfile profile;
+    private final VirtualClock clock;
+    private final Random random;
+    private final double logMean;          // 로그정규분포의 평균 (평균 간격이 meanKeyIntervalMs가 되도록 보정)
+
+    private char[] buffer = new char[64];  // 입력 필드 내용
+    private int length = 0;
+    private long keystrokes = 0;           // 누적 키 입력 수 (백스페이스, 자모 포함)
+    private long inputEvents = 0;          // 누적 입력 필드 변경 횟수
+
+    /**
+     * SyntheticTypist 생성자
+     * @param profile 입력 특성
+     * @param clock 시간을 진행시킬 가상 시계
+     * @param random 난수 생성기
+     */
+    public SyntheticTypist(TypistProfile profile, VirtualClock clock, Random random) {
+        this.profile = profile;
+        this.clock = clock;
+        this.random = random;
+        double sigma = profile.intervalSpread();
+        this.logMean = Math.log(profile.meanKeyIntervalMs()) - sigma * sigma / 2.0;
+    }
+
+    /**
+     * 목표 문장을 처음부터 끝까지 입력합니다.
+     * 수정하지 않은 오타는 그대로 남으므로 결과의 길이는 목표 문장과 같습니다.
+     * @param target 입력할 문장
+     * @param sink 입력 필드 변경을 받을 콜백
+     * @return 최종 입력 필드 내용
+     */
+    public String type(String target, InputSink sink) {
+        length = 0;
+        boolean composing = false;  // 마지막 글자가 IME 조합 구간에서 입력되어 아직 조합 중인지 여부
+
+        for (int i = 0; i < target.length(); i++) {
+            char expected = target.charAt(i);
+            boolean typo = random.nextDouble() < profile.errorRate();
+
+            if (isHangulSyllable(expected) && !typo && random.nextDouble() < profile.imeBurstRate()) {
+                typeComposing(expected, composing, sink);
+                composing = true;
+                continue;
+            }
+            composing = false;
+            pressKeys(HangulJamo.strokeCount(expected));
+            append(typo ? typoFor(expected) : expected);
+            emit(sink);
+
+            if (typo && random.nextDouble() < profile.correctionRate()) {
+                // 오타를 알아차리고 백스페이스로 지운 뒤 다시 입력
+                clock.advanceMillis(profile.reactionMs() * (0.5 + random.nextDouble()));
+                pressKeys(1);
+                length--;
+                emit(sink);
+                pressKeys(HangulJamo.strokeCount(expected));
+                append(expected);
+                emit(sink);
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * 한글 음절을 자모 키 하나마다 입력 필드에 반영하며 입력합니다.
+     * 앞 글자가 아직 조합 중이면 첫 자음은 먼저 앞 음절의 받침으로 붙었다가 모음을 입력하면 떨어집니다.
+     */
+    private void typeComposing(char syllable, boolean afterComposing, InputSink sink) {
+        int start = length;  // 이 음절이 들어갈 위치
+        char previous = afterComposing ? buffer[start - 1] : 0;
+        char attached = previous == 0 ? 0
+                : HangulJamo.attachFinal(previous, HangulJamo.keyAt(HangulJamo.keys(syllable), 0));
+        int strokes = HangulJamo.strokeCount(syllable);
+        for (int k = 1; k <= strokes; k++) {
+            pressKeys(1);
+            if (k == 1 && attached != 0) {
+                buffer[start - 1] = attached;
+            } else {
+                if (attached != 0) {
+                    buffer[start - 1] = previous;
+                }
+                length = start;
+                append(HangulJamo.composingState(syllable, k));
+            }
+            emit(sink);
+        }
+    }
+
+    /**
+     * Enter 키를 한 번 누릅니다. 입력 필드 내용은 바뀌지 않습니다.
+     */
+    public void pressEnter() {
+        pressKeys(1);
+    }
+
+    /**
+     * 누적 키 입력 수를 반환합니다. (자모 단위 입력과 백스페이스 포함)
+     * @return 키 입력 수
+     */
+    public long getKeystrokes() {
+        return keystrokes;
+    }
+
+    /**
+     * 누적 입력 필드 변경 횟수를 반환합니다.
+     * @return {@link InputSink}가 호출된 횟수
+     */
+    public long getInputEvents() {
+        return inputEvents;
+    }
+
+    public TypistProfile getProfile() {
+        return profile;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private void pressKeys(int count) {
+        for (int i = 0; i < count; i++) {
+            clock.advanceMillis(nextInterval());
+        }
+        keystrokes += count;
+    }
+
+    private double nextInterval() {
+        if (profile.intervalSpread() <= 0) {
+            return profile.meanKeyIntervalMs();
+        }
+        return Math.exp(logMean + profile.intervalSpread() * random.nextGaussian());
+    }
+
+    private char typoFor(char expected) {
+        char typo;
+        do {
+            if (isHangulSyllable(expected)) {
+                typo = (char) (HANGUL_BASE + random.nextInt(HANGUL_LAST - HANGUL_BASE + 1));
+            } else {
+                typo = ASCII_TYPOS.charAt(random.nextInt(ASCII_TYPOS.length()));
+            }
+        } while (typo == expected);
+        return typo;
+    }
+
+    private void append(char c) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = c;
+    }
+
+    private void emit(InputSink sink) {
+        inputEvents++;
+        sink.input(new String(buffer, 0, length));
+    }
+}
@@ -0,0 +1,438 @@
+package core.simulation;
+
+import core.GameModel;
+import core.HangulJamo;
+import core.MoleField;
+import core.MoleGameModel;
+import core.TextRepository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Swing 없이 GameModel을 구동하는 헤드리스 타자 시뮬레이터
+ *
+ * 합성 타자 사용자({@link SyntheticTypist})가 가상 시간({@link VirtualClock}) 위에서
+ * 문장 연습, 장문 연습, 두더지 게임을 진행합니다. 작업 스레드마다 자신의 GameModel과
+ * 가상 시계를 가지므로 모든 코어에서 잠금 없이 병렬로 실행됩니다.
+ *
+ * 게임마다 고정된 시드에서 난수를 만들기 때문에 스레드 수와 관계없이 같은 결과가 재현되며,
+ * 실행이 끝나면 처리량과 모드/프로필별 정확도, 타수 분포를 출력합니다.
+ * 문장을 마칠 때마다 GameModel의 정확도와 평균 타수를 시뮬레이터가 따로 계산한 값과
+ * 비교하여 일치하지 않는 경우를 보고합니다.
+ *
+ * <pre>
+ *   java -cp core/target/typing-core-1.0.jar core.simulation.TypingSimulator \
+ *        --games 20000 --threads 8 --seed 42 --language all --mode all
+ * </pre>
+ *
+ * @author JAVA 중간 프로젝트
+ * @version 1.0
+ */
+public class TypingSimulator {
+    private static final double TOLERANCE = 1e-9;
+    private static final int MAX_REPORTED_MISMATCHES = 5;
+    private static final int MOLE_GAME_MILLIS = 60_000;
+
+    /**
+     * 시뮬레이션 설정
+     * @param games 실행할 게임 수
+     * @param threads 작업 스레드 수
+     * @param seed 기준 시드
+     * @param languages 사용할 언어 목록
+     * @param modes 실행할 게임 모드 목록
+     * @param profiles 사용할 타자 사용자 프로필 목록
+     */
+    public record Config(int games, int threads, long seed, List<GameModel.Language> languages,
+                         List<GameModel.GameMode> modes, List<TypistProfile> profiles) {}
+
+    /**
+     * 시뮬레이션 결과
+     */
+    public static class Result {
+        private final Map<String, DistributionStats> accuracy = new TreeMap<>();
+        private final Map<String, DistributionStats> cpm = new TreeMap<>();
+        private final List<String> mismatchSamples = new ArrayList<>();
+        private long mismatches = 0;
+        private long keystrokes = 0;
+        private long inputEvents = 0;
+        private long games = 0;
+        private long wallNanos = 0;
+
+        void record(String key, double accuracyValue, double cpmValue) {
+            accuracy.computeIfAbsent(key, k -> new DistributionStats(100.0, 0.5)).record(accuracyValue);
+            cpm.computeIfAbsent(key, k -> new DistributionStats(2000.0, 5.0)).record(cpmValue);
+            games++;
+        }
+
+        void mismatch(String message) {
+            mismatches++;
+            if (mismatchSamples.size() < MAX_REPORTED_MISMATCHES) {
+                mismatchSamples.add(message);
+            }
+        }
+
+        void merge(Result other) {
+            other.accuracy.forEach((key, stats) ->
+                    accuracy.computeIfAbsent(key, k -> new DistributionStats(100.0, 0.5)).merge(stats));
+            other.cpm.forEach((key, stats) ->
+                    cpm.computeIfAbsent(key, k -> new DistributionStats(2000.0, 5.0)).merge(stats));
+            for (String sample : other.mismatchSamples) {
+                if (mismatchSamples.size() < MAX_REPORTED_MISMATCHES) {
+                    mismatchSamples.add(sample);
+                }
+            }
+            mismatches += other.mismatches;
+            keystrokes += other.keystrokes;
+            inputEvents += other.inputEvents;
+            games += other.games;
+        }
+
+        public Map<String, DistributionStats> getAccuracy() {
+            return accuracy;
+        }
+
+        public Map<String, DistributionStats> getCpm() {
+            return cpm;
+        }
+
+        public long getMismatches() {
+            return mismatches;
+        }
+
+        public List<String> getMismatchSamples() {
+            return mismatchSamples;
+        }
+
+        public long getKeystrokes() {
+            return keystrokes;
+        }
+
+        public long getInputEvents() {
+            return inputEvents;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+    }
+
+    private final Config config;
+
+    /**
+     * TypingSimulator 생성자
+     * @param config 시뮬레이션 설정
+     */
+    public TypingSimulator(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * 설정된 게임을 모든 작업 스레드에 나누어 실행하고 결과를 합칩니다.
+     * @return 합쳐진 시뮬레이션 결과
+     * @throws Exception 작업 스레드에서 예외가 발생한 경우
+     */
+    public Result run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        long start = System.nanoTime();
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int worker = 0; worker < config.threads(); worker++) {
+                int workerIndex = worker;
+                futures.add(executor.submit(() -> new Worker(workerIndex).call()));
+            }
+            Result total = new Result();
+            for (Future<Result> future : futures) {
+                total.merge(future.get());
+            }
+            total.wallNanos = System.nanoTime() - start;
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 한 스레드에서 자신에게 배정된 게임들을 순서대로 실행하는 작업자
+     * 언어별 GameModel과 두더지 게임 모델, 장문 텍스트를 한 번만 만들어 재사용합니다.
+     */
+    private class Worker {
+        private final int workerIndex;
+        private final VirtualClock clock = new VirtualClock();
+        private final Random gameRandom = new Random();    // GameModel이 문장 선택에 사용 (게임마다 다시 시드 설정)
+        private final Map<GameModel.Language, GameModel> models = new EnumMap<>(GameModel.Language.class);
+        private final Map<GameModel.Language, MoleGameModel> moleModels = new EnumMap<>(GameModel.Language.class);
+        private final Map<GameModel.Language, String> longTexts = new EnumMap<>(GameModel.Language.class);
+        private final TextRepository textRepository = new TextRepository();
+        private final Result result = new Result();
+
+        // 문장 단위 검증용 상태
+        private int previousStrokes;
+        private long groundTruthStrokes;
+        private long firstInputNanos;
+
+        Worker(int workerIndex) {
+            this.workerIndex = workerIndex;
+        }
+
+        Result call() {
+            // GameModel 생성자는 첫 게임을 준비하며 gameRandom을 쓰므로, 게임마다 시드를 설정하기 전에 모두 만들어 둠
+            for (GameModel.Language language : config.languages()) {
+                modelFor(language);
+            }
+            for (int game = workerIndex; game < config.games(); game += config.threads()) {
+                GameModel.GameMode mode = config.modes().get(game % config.modes().size());
+                GameModel.Language language =
+                        config.languages().get((game / config.modes().size()) % config.languages().size());
+                int combination = config.modes().size() * config.languages().size();
+                TypistProfile profile = config.profiles().get((game / combination) % config.profiles().size());
+                Random random = new Random(config.seed() * 0x9E3779B97F4A7C15L + game);
+                gameRandom.setSeed(random.nextLong());
+                // 앞선 게임이 남긴 밀리초 미만의 시각이 두더지 출현 시각 계산에 영향을 주지 않게 밀리초 경계에서 시작
+                clock.advance((1_000_000L - clock.nanoTime() % 1_000_000L) % 1_000_000L);
+                SyntheticTypist typist = new SyntheticTypist(profile, clock, random);
+
+                String key = mode.name() + "/" + language.name() + "/" + profile.name();
+                if (mode == GameModel.GameMode.MOLE_GAME) {
+                    runMoleGame(language, typist, random, key);
+                } else {
+                    runTypingGame(mode, language, typist, key);
+                }
+                result.keystrokes += typist.getKeystrokes();
+                result.inputEvents += typist.getInputEvents();
+            }
+            return result;
+        }
+
+        /**
+         * 문장 연습 또는 장문 연습 한 게임을 끝까지 진행합니다.
+         */
+        private void runTypingGame(GameModel.GameMode mode, GameModel.Language language,
+                                   SyntheticTypist typist, String key) {
+            GameModel model = modelFor(language);
+            // 모델은 작업 스레드마다 재사용하므로, 앞서 이 스레드에서 진행한 게임이 문장 선택에 영향을 주지 않게 기록을 지움
+            model.clearSentenceHistory();
+            if (mode == GameModel.GameMode.LONG_TEXT) {
+                model.startLongTextGame(longTextFor(language));
+            } else {
+                model.startNewGame();
+            }
+            groundTruthStrokes = 0;
+            firstInputNanos = -1;
+
+            double lastCpm = 0.0;
+            while (!model.isGameCompleted()) {
+                String target = model.getCurrentPracticeText();
+                previousStrokes = 0;
+                String typed = typist.type(target, text -> {
+                    if (firstInputNanos < 0) {
+                        firstInputNanos = clock.nanoTime();
+                    }
+                    String trimmed = text.trim();
+                    int strokes = HangulJamo.strokeCount(trimmed, 0, trimmed.length());
+                    if (strokes > previousStrokes) {
+                        groundTruthStrokes += strokes - previousStrokes;
+                    }
+                    previousStrokes = strokes;
+                    model.processInput(text);
+                    // 조합 중인 글자("하", "핫")가 있는 입력도 채점이 맞는지 입력마다 확인
+                    verifyAccuracy(key, model, target, text);
+                });
+
+                if (!model.isCurrentTextCompleted(typed)) {
+                    result.mismatch(key + ": 입력을 마쳤지만 완료로 판정되지 않음 - " + target);
+                }
+                verifyAccuracy(key, model, target, typed);
+                lastCpm = verifyAverageCpm(key, model);
+                model.setNewPracticeText();
+            }
+            result.record(key, model.getAverageAccuracy(), lastCpm);
+        }
+
+        /**
+         * 두더지 게임 한 판(가상 60초)을 진행합니다.
+         * 두더지 출현 규칙은 {@link MoleField}를 따르며,
+         * 정확도 자리에는 출현한 두더지 중 잡은 비율을 기록합니다.
+         */
+        private void runMoleGame(GameModel.Language language, SyntheticTypist typist, Random random, String key) {
+            GameModel model = modelFor(language);
+            MoleGameModel moleModel = moleModels.computeIfAbsent(language,
+                    l -> new MoleGameModel(model, gameRandom));
+            MoleField field = new MoleField(moleModel, model.getMoleGameDifficulty(), random);
+            field.start(nowMillis());
+            long typedChars = 0;
+
+            while (true) {
+                field.advanceTo(nowMillis());
+                if (field.isFinished()) {
+                    break;
+                }
+                if (field.getMoles().isEmpty()) {
+                    clock.advance((field.getNextEventTime() - nowMillis()) * 1_000_000L);
+                    continue;
+                }
+
+                // 가장 오래된 두더지의 단어를 입력하고 Enter
+                String typed = typist.type(oldestMole(field).word(), text -> {});
+                typist.pressEnter();
+                typedChars += typed.length();
+                field.hit(typed, nowMillis());
+            }
+
+            int hits = field.getHitCount();
+            if (moleModel.getScore() != hits * 10) {
+                result.mismatch(key + ": 점수 불일치 - 모델 " + moleModel.getScore() + ", 기대 " + hits * 10);
+            }
+            double hitRate = field.getSpawnedCount() == 0 ? 0.0 : hits * 100.0 / field.getSpawnedCount();
+            result.record(key, hitRate, typedChars * 60_000.0 / MOLE_GAME_MILLIS);
+        }
+
+        /**
+         * 가장 먼저 나온(번호가 가장 작은) 두더지를 찾습니다. 떠 있는 목록은 나온 순서가 아닙니다.
+         */
+        private MoleField.Mole oldestMole(MoleField field) {
+            List<MoleField.Mole> moles = field.getMoles();
+            MoleField.Mole oldest = moles.get(0);
+            for (int i = 1, n = moles.size(); i < n; i++) {
+                if (moles.get(i).id() < oldest.id()) {
+                    oldest = moles.get(i);
+                }
+            }
+            return oldest;
+        }
+
+        private long nowMillis() {
+            return clock.nanoTime() / 1_000_000L;
+        }
+
+        private void verifyAccuracy(String key, GameModel model, String target, String typed) {
+            String expectedTarget = target.trim();
+            String input = typed.trim();
+            if (input.isEmpty()) {
+                return;
+            }
+            // 자모 키 입력 단위로 전체를 다시 채점 (마지막 글자는 조합 중인 음절로 취급)
+            int correct = 0;
+            int last = input.length() - 1;
+            for (int i = 0; i < last && i < expectedTarget.length(); i++) {
+                correct += HangulJamo.matchingStrokes(input.charAt(i), expectedTarget.charAt(i));
+            }
+            if (last < expectedTarget.length()) {
+                char next = last + 1 < expectedTarget.length() ? expectedTarget.charAt(last + 1) : 0;
+                correct += HangulJamo.composingMatchingStrokes(input.charAt(last), expectedTarget.charAt(last), next);
+            }
+            double expected = correct * 100.0 / HangulJamo.strokeCount(input, 0, input.length());
+            if (Math.abs(model.getAccuracy() - expected) > TOLERANCE) {
+                result.mismatch(key + ": 정확도 불일치 - 모델 " + model.getAccuracy() + ", 기대 " + expected);
+            }
+        }
+
+        private double verifyAverageCpm(String key, GameModel model) {
+            double minutes = (clock.nanoTime() - firstInputNanos) / 60_000_000_000.0;
+            double expected = minutes <= 0 || groundTruthStrokes == 0 ? 0.0 : groundTruthStrokes / minutes;
+            double actual = model.getAverageWPM();
+            if (Math.abs(actual - expected) > TOLERANCE * Math.max(1.0, expected)) {
+                result.mismatch(key + ": 평균 타수 불일치 - 모델 " + actual + ", 기대 " + expected);
+            }
+            return actual;
+        }
+
+        private GameModel modelFor(GameModel.Language language) {
+            return models.computeIfAbsent(language, l -> {
+                GameModel model = new GameModel(clock, gameRandom);
+                model.setRecordsMetrics(false);  // 가상 사용자의 입력은 전역 측정값에 넣지 않음 (두더지 모델도 따름)
+                model.setLanguage(l);
+                return model;
+            });
+        }
+
+        private String longTextFor(GameModel.Language language) {
+            return longTexts.computeIfAbsent(language,
+                    l -> textRepository.loadFullText("resources/" + l.getLongTexts().get(0).fileName()));
+        }
+    }
+
+    /**
+     * 결과를 표준 출력에 보고합니다.
+     * @param result 출력할 결과
+     */
+    public static void printReport(Result result) {
+        double seconds = result.getWallNanos() / 1_000_000_000.0;
+        System.out.printf("게임 %d판, 키 입력 %,d회, 입력 이벤트 %,d회, %.2f초%n",
+                result.getGames(), result.getKeystrokes(), result.getInputEvents(), seconds);
+        System.out.printf("처리량: 키 입력 %,.0f회/초, 입력 이벤트 %,.0f회/초%n",
+                result.getKeystrokes() / seconds, result.getInputEvents() / seconds);
+        System.out.println();
+        System.out.printf("%-32s %6s | %-26s | %-26s%n", "모드/언어/프로필", "게임",
+                "정확도 p50 / p90 / p99", "CPM p10 / p50 / p90");
+        for (Map.Entry<String, DistributionStats> entry : result.getAccuracy().entrySet()) {
+            DistributionStats accuracy = entry.getValue();
+            DistributionStats cpm = result.getCpm().get(entry.getKey());
+            System.out.printf("%-32s %6d | %7.1f / %7.1f / %7.1f | %7.0f / %7.0f / %7.0f%n",
+                    entry.getKey(), accuracy.getCount(),
+                    accuracy.percentile(50), accuracy.percentile(90), accuracy.percentile(99),
+                    cpm.percentile(10), cpm.percentile(50), cpm.percentile(90));
+        }
+        System.out.println();
+        System.out.println("지표 불일치: " + result.getMismatches() + "건");
+        for (String sample : result.getMismatchSamples()) {
+            System.out.println("  " + sample);
+        }
+    }
+
+    /**
+     * 시뮬레이터 시작점
+     * @param args --games N --threads N --seed N --language ko|en|all --mode sentence|long|mole|all
+     * @throws Exception 시뮬레이션 중 오류가 발생한 경우
+     */
+    public static void main(String[] args) throws Exception {
+        int games = 2000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42L;
+        String language = "all";
+        String mode = "all";
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--language": language = args[i + 1]; break;
+                case "--mode": mode = args[i + 1]; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+
+        List<GameModel.Language> languages = switch (language) {
+            case "ko" -> List.of(GameModel.Language.KOREAN);
+            case "en" -> List.of(GameModel.Language.ENGLISH);
+            default -> List.of(GameModel.Language.values());
+        };
+        List<GameModel.GameMode> modes = switch (mode) {
+            case "sentence" -> List.of(GameModel.GameMode.SENTENCE);
+            case "long" -> List.of(GameModel.GameMode.LONG_TEXT);
+            case "mole" -> List.of(GameModel.GameMode.MOLE_GAME);
+            default -> List.of(GameModel.GameMode.values());
+        };
+
+        Config config = new Config(games, threads, seed, languages, modes, TypistProfile.defaults());
+        Result result = new TypingSimulator(config).run();
+        printReport(result);
+        if (result.getMismatches() > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package core.simulation;
+
+import java.util.List;
+
+/**
+ * 가상 타자 사용자의 입력 특성
+ *
+ * @param name 프로필 이름
+ * @param meanKeyIntervalMs 키 입력 사이의 평균 간격 (밀리초)
+ * @param intervalSpread 키 입력 간격의 로그정규분포 표준편차 (0이면 일정한 속도)
+ * @param errorRate 한 글자를 틀리게 입력할 확률
+ * @param correctionRate 틀린 글자를 알아차리고 백스페이스로 고칠 확률
+ * @param reactionMs 오타를 알아차리기까지 걸리는 평균 시간 (밀리초)
+ * @param imeBurstRate 한글 음절을 IME 조합 구간으로 입력하여 자모 키마다 조합 중인 글자가 입력 필드에 반영될 확률
+ */
+public record TypistProfile(String name,
+                            double meanKeyIntervalMs,
+                            double intervalSpread,
+                            double errorRate,
+                            double correctionRate,
+                            double reactionMs,
+                            double imeBurstRate) {
+
+    public static final TypistProfile BEGINNER = new TypistProfile("초보", 450, 0.6, 0.08, 0.7, 700, 0.1);
+    public static final TypistProfile AVERAGE = new TypistProfile("보통", 220, 0.4, 0.04, 0.8, 450, 0.2);
+    public static final TypistProfile FAST = new TypistProfile("숙련", 110, 0.3, 0.02, 0.9, 300, 0.3);
+    public static final TypistProfile EXPERT = new TypistProfile("고수", 60, 0.2, 0.01, 0.95, 200, 0.4);
+
+    /**
+     * 기본 제공 프로필 목록을 반환합니다.
+     * @return 기본 프로필 목록
+     */
+    public static List<TypistProfile> defaults() {
+        return List.of(BEGINNER, AVERAGE, FAST, EXPERT);
+    }
+}
@@ -0,0 +1,34 @@
+package core.simulation;
+
+import core.NanoClock;
+
+/**
+ * 시뮬레이션용 가상 시계
+ *
+ * 실제 시간과 무관하게 {@link #advance(long)}로만 시간이 흐릅니다.
+ * 하나의 시뮬레이션 스레드 안에서만 사용합니다.
+ */
+public class VirtualClock implements NanoClock {
+    private long now = 0L;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * 가상 시간을 앞으로 이동합니다.
+     * @param nanos 이동할 시간 (나노초)
+     */
+    public void advance(long nanos) {
+        now += nanos;
+    }
+
+    /**
+     * 가상 시간을 밀리초 단위로 앞으로 이동합니다.
+     * @param millis 이동할 시간 (밀리초, 소수 허용)
+     */
+    public void advanceMillis(double millis) {
+        now += (long) (millis * 1_000_000.0);
+    }
+}
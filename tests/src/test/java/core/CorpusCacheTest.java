@@ -0,0 +1,175 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CorpusCache}의 크기 한도 제거, 리소스당 한 번만 읽기, 사용 현황 값을 확인합니다.
+ */
+class CorpusCacheTest {
+    private static final String LINE = "x".repeat(100);
+    private static final long LIST_BYTES = 16 + 56 + 2 * 100;  // 100글자 문장 하나짜리 리스트의 크기
+
+    /**
+     * 메모리에 있는 텍스트를 리소스로 내주고, 읽은 횟수를 세는 클래스 로더
+     */
+    private static class MemoryClassLoader extends ClassLoader {
+        private final Map<String, String> resources = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+        MemoryClassLoader(String... names) {
+            super(null);
+            for (String name : names) {
+                resources.put(name, LINE);
+            }
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            reads.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+            beforeRead(name);
+            String text = resources.get(name);
+            return text == null ? null : new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void beforeRead(String name) {
+        }
+
+        int reads(String name) {
+            AtomicInteger count = reads.get(name);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverSize() {
+        MemoryClassLoader loader = new MemoryClassLoader("a", "b", "c");
+        CorpusCache cache = new CorpusCache(loader, 2 * LIST_BYTES);
+
+        cache.loadTexts("a");
+        cache.loadTexts("b");
+        assertEquals(2 * LIST_BYTES, cache.getStats().bytes());
+        cache.loadTexts("a");  // b가 가장 오래 사용하지 않은 항목이 됨
+        cache.loadTexts("c");
+
+        CorpusCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.entries());
+        assertEquals(2 * LIST_BYTES, stats.bytes());
+        assertEquals(1, stats.evictions());
+
+        cache.loadTexts("a");
+        cache.loadTexts("c");
+        assertEquals(1, loader.reads("a"));
+        assertEquals(1, loader.reads("c"));
+        cache.loadTexts("b");
+        assertEquals(2, loader.reads("b"));
+    }
+
+    @Test
+    void skipsEntriesLargerThanLimit() {
+        MemoryClassLoader loader = new MemoryClassLoader("a");
+        CorpusCache cache = new CorpusCache(loader, LIST_BYTES - 1);
+
+        assertEquals(List.of(LINE), cache.loadTexts("a"));
+        assertEquals(List.of(LINE), cache.loadTexts("a"));
+        assertEquals(2, loader.reads("a"));
+        assertEquals(0, cache.getStats().entries());
+        assertEquals(0, cache.getStats().bytes());
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        MemoryClassLoader loader = new MemoryClassLoader("a", "b");
+        CorpusCache cache = new CorpusCache(loader, Long.MAX_VALUE);
+
+        List<String> first = cache.loadTexts("a");
+        assertSame(first, cache.loadTexts("a"));
+        cache.loadTexts("b");
+        cache.loadFullText("a");  // 전체 텍스트는 문장 목록과 따로 캐시됨
+        assertEquals(LINE, cache.loadFullText("a"));
+
+        CorpusCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(0, stats.evictions());
+        assertEquals(3, stats.entries());
+        assertEquals(0.4, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void doesNotCacheFailedLoads() {
+        MemoryClassLoader loader = new MemoryClassLoader();
+        CorpusCache cache = new CorpusCache(loader, Long.MAX_VALUE);
+
+        assertEquals(List.of("오류: 리소스 파일을 찾을 수 없습니다."), cache.loadTexts("missing"));
+        assertTrue(cache.loadFullText("missing").startsWith("오류:"));
+        assertEquals(0, cache.getStats().entries());
+
+        // 리소스가 생기면 다음 요청 때 읽음
+        loader.resources.put("missing", LINE);
+        assertEquals(List.of(LINE), cache.loadTexts("missing"));
+        assertEquals(1, cache.getStats().entries());
+        assertEquals(3, loader.reads("missing"));
+    }
+
+    @Test
+    void loadsEachResourceOnceUnderContention() throws Exception {
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        MemoryClassLoader loader = new MemoryClassLoader("a") {
+            @Override
+            void beforeRead(String name) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);  // 다른 스레드가 모두 요청할 때까지 읽기를 붙잡아 둠
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        CorpusCache cache = new CorpusCache(loader, Long.MAX_VALUE);
+        CyclicBarrier start = new CyclicBarrier(threads + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.loadTexts("a");
+                }));
+            }
+            start.await();
+            Thread.sleep(100);
+            release.countDown();
+
+            List<String> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<String>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loader.reads("a"));
+        CorpusCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.misses());
+        assertEquals(threads - 1, stats.hits());
+    }
+}
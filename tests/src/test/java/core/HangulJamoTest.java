@@ -0,0 +1,94 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link HangulJamo}의 두벌식 키 입력 수와 조합 중인 글자 비교를 확인합니다.
+ */
+class HangulJamoTest {
+
+    @Test
+    void countsStrokesPerSyllable() {
+        assertEquals(2, HangulJamo.strokeCount('가'));
+        assertEquals(3, HangulJamo.strokeCount('한'));
+        assertEquals(4, HangulJamo.strokeCount('닭'));   // ㄷ ㅏ ㄹ ㄱ
+        assertEquals(3, HangulJamo.strokeCount('과'));   // ㄱ ㅗ ㅏ
+        assertEquals(2, HangulJamo.strokeCount('까'));   // 쌍자음은 Shift와 함께 한 번
+        assertEquals(2, HangulJamo.strokeCount('예'));   // ㅖ도 한 번
+        assertEquals(5, HangulJamo.strokeCount('뷁'));   // ㅂ ㅜ ㅔ ㄹ ㄱ
+        assertEquals(1, HangulJamo.strokeCount('a'));
+        assertEquals(1, HangulJamo.strokeCount(' '));
+        assertEquals(1, HangulJamo.strokeCount('ㄱ'));
+    }
+
+    @Test
+    void countsStrokesOfText() {
+        assertEquals(3 + 3 + 1 + 1 + 2, HangulJamo.strokeCount("한글 a가", 0, 5));
+        assertEquals(3, HangulJamo.strokeCount("한글", 1, 2));
+        assertEquals(0, HangulJamo.strokeCount("", 0, 0));
+    }
+
+    @Test
+    void matchesStrokesFromTheStart() {
+        assertEquals(3, HangulJamo.matchingStrokes('한', '한'));
+        assertEquals(2, HangulJamo.matchingStrokes('학', '한'));   // ㅎ ㅏ 까지 맞음
+        assertEquals(0, HangulJamo.matchingStrokes('각', '한'));
+        assertEquals(1, HangulJamo.matchingStrokes('a', 'a'));
+        assertEquals(0, HangulJamo.matchingStrokes('a', 'b'));
+        assertEquals(0, HangulJamo.matchingStrokes('a', '한'));
+    }
+
+    @Test
+    void treatsHalfTypedSyllableAsCorrectWhileComposing() {
+        assertEquals(2, HangulJamo.composingMatchingStrokes('하', '한', (char) 0));
+        assertEquals(1, HangulJamo.composingMatchingStrokes('ㅎ', '한', (char) 0));
+        assertEquals(2, HangulJamo.composingMatchingStrokes('고', '과', (char) 0));
+        assertEquals(2, HangulJamo.composingMatchingStrokes('하', '학', (char) 0));
+        // 잘못된 받침은 맞은 키 입력에 넣지 않음
+        assertEquals(2, HangulJamo.composingMatchingStrokes('학', '한', (char) 0));
+    }
+
+    @Test
+    void matchesNextInitialAttachedAsFinalWhileComposing() {
+        // "하세"를 입력하는 중 다음 음절의 초성 ㅅ이 받침으로 먼저 붙은 "핫"
+        assertEquals(3, HangulJamo.composingMatchingStrokes('핫', '하', '세'));
+        // "가방" 입력 중의 "갑"
+        assertEquals(3, HangulJamo.composingMatchingStrokes('갑', '가', '방'));
+        // 다음 글자가 없으면 받침은 맞지 않음
+        assertEquals(2, HangulJamo.composingMatchingStrokes('핫', '하', (char) 0));
+    }
+
+    @Test
+    void showsComposingStateAfterEachStroke() {
+        assertEquals('ㅎ', HangulJamo.composingState('한', 1));
+        assertEquals('하', HangulJamo.composingState('한', 2));
+        assertEquals('한', HangulJamo.composingState('한', 3));
+        // 겹모음과 겹받침은 첫 자모까지만 입력한 글자를 거침
+        assertEquals('고', HangulJamo.composingState('과', 2));
+        assertEquals('달', HangulJamo.composingState('닭', 3));
+        assertEquals('a', HangulJamo.composingState('a', 1));
+    }
+
+    @Test
+    void attachesNextConsonantAsFinal() {
+        assertEquals('핫', HangulJamo.attachFinal('하', 'ㅅ'));
+        assertEquals('갉', HangulJamo.attachFinal('갈', 'ㄱ'));
+        // 받침이 될 수 없는 자음, 더 붙을 수 없는 받침
+        assertEquals(0, HangulJamo.attachFinal('하', 'ㄸ'));
+        assertEquals(0, HangulJamo.attachFinal('닭', 'ㄱ'));
+        assertEquals(0, HangulJamo.attachFinal('하', 'ㅏ'));
+    }
+
+    @Test
+    void classifiesHangul() {
+        assertTrue(HangulJamo.isSyllable('가'));
+        assertTrue(HangulJamo.isSyllable('힣'));
+        assertFalse(HangulJamo.isSyllable('ㄱ'));
+        assertTrue(HangulJamo.isHangul('ㄱ'));
+        assertFalse(HangulJamo.isHangul('a'));
+    }
+}
@@ -0,0 +1,105 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link HighlightRuns}가 돌려준 변경 범위만 적용해도 문서 전체를 다시 칠한 결과와 같은지 확인합니다.
+ */
+class HighlightRunsTest {
+    private static final String TARGET = "The quick brown fox jumps over the lazy dog.";
+
+    @Test
+    void appliedSpansReproduceFullRestyle() {
+        Random random = new Random(11);
+        HighlightRuns runs = new HighlightRuns();
+        int[] document = new int[TARGET.length()];
+        Arrays.fill(document, HighlightRuns.DEFAULT);
+        runs.reset(TARGET.length());
+
+        StringBuilder input = new StringBuilder();
+        for (int step = 0; step < 5_000; step++) {
+            int roll = random.nextInt(10);
+            if (roll < 6 && input.length() <= TARGET.length()) {
+                int next = Math.min(input.length(), TARGET.length() - 1);
+                input.append(random.nextInt(8) > 0 ? TARGET.charAt(next) : '#');
+            } else if (roll < 9 && input.length() > 0) {
+                input.setLength(input.length() - 1);
+            } else if (input.length() > 0) {
+                input.setCharAt(random.nextInt(input.length()), '#');
+            }
+            runs.update(input, TARGET, (start, length, style) -> Arrays.fill(document, start, start + length, style));
+            assertArrayEquals(expectedStyles(input, TARGET), document, "입력: " + input);
+        }
+    }
+
+    @Test
+    void typingOneCharacterChangesOneSpan() {
+        HighlightRuns runs = new HighlightRuns();
+        runs.reset(TARGET.length());
+        int[] calls = new int[1];
+        int[] last = new int[3];
+        HighlightRuns.SpanConsumer consumer = (start, length, style) -> {
+            calls[0]++;
+            last[0] = start;
+            last[1] = length;
+            last[2] = style;
+        };
+
+        assertEquals(1, runs.update("T", TARGET, consumer));
+        assertArrayEquals(new int[]{0, 1, HighlightRuns.CORRECT}, last);
+        assertEquals(1, runs.update("Th", TARGET, consumer));
+        assertArrayEquals(new int[]{1, 1, HighlightRuns.CORRECT}, last);
+        assertEquals(1, runs.update("Thx", TARGET, consumer));
+        assertArrayEquals(new int[]{2, 1, HighlightRuns.INCORRECT}, last);
+        assertEquals(1, runs.update("Th", TARGET, consumer));
+        assertArrayEquals(new int[]{2, 1, HighlightRuns.DEFAULT}, last);
+        assertEquals(0, runs.update("Th", TARGET, consumer));
+        assertEquals(4, calls[0]);
+        assertEquals(2, runs.getRunCount());
+    }
+
+    @Test
+    void restylesWholeTextAfterInvalidate() {
+        HighlightRuns runs = new HighlightRuns();
+        runs.reset(TARGET.length());
+        runs.update("The", TARGET, (start, length, style) -> { });
+        runs.invalidate();
+
+        int[] document = new int[TARGET.length()];
+        Arrays.fill(document, -1);
+        runs.update("The", TARGET, (start, length, style) -> Arrays.fill(document, start, start + length, style));
+        assertArrayEquals(expectedStyles("The", TARGET), document);
+    }
+
+    @Test
+    void marksEverythingIncorrectWhenInputIsTooLong() {
+        HighlightRuns runs = new HighlightRuns();
+        runs.reset(3);
+        int[] document = new int[3];
+        runs.update("abcd", "abc", (start, length, style) -> Arrays.fill(document, start, start + length, style));
+        assertTrue(Arrays.stream(document).allMatch(style -> style == HighlightRuns.INCORRECT));
+    }
+
+    private static int[] expectedStyles(CharSequence input, String target) {
+        int[] styles = new int[target.length()];
+        if (input.length() > target.length()) {
+            Arrays.fill(styles, HighlightRuns.INCORRECT);
+            return styles;
+        }
+        for (int i = 0; i < target.length(); i++) {
+            if (i >= input.length()) {
+                styles[i] = HighlightRuns.DEFAULT;
+            } else {
+                styles[i] = input.charAt(i) == target.charAt(i) ? HighlightRuns.CORRECT : HighlightRuns.INCORRECT;
+            }
+        }
+        return styles;
+    }
+}
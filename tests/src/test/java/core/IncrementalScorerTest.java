@@ -0,0 +1,132 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IncrementalScorer}의 결과가 입력 전체를 다시 채점한 결과와 같은지 확인합니다.
+ */
+class IncrementalScorerTest {
+    private static final String[] TARGETS = {
+            "The quick brown fox jumps over the lazy dog.",
+            "한글 타자 연습을 시작합니다.",
+            "닭볶음탕과 괜찮은 쉐이크, 뷁!",
+            "Mixed 한글 and English 문장"
+    };
+
+    @Test
+    void matchesFullRescanForRandomEdits() {
+        Random random = new Random(7);
+        IncrementalScorer scorer = new IncrementalScorer();
+        for (String target : TARGETS) {
+            scorer.reset(target);
+            StringBuilder input = new StringBuilder();
+            for (int step = 0; step < 2_000; step++) {
+                edit(input, target, random);
+                String raw = input.toString();
+                scorer.update(raw);
+                assertScoredLikeRescan(scorer, target, raw);
+            }
+        }
+    }
+
+    @Test
+    void scoresDecomposedJamoLikeComposedText() {
+        String target = "한글";
+        IncrementalScorer scorer = new IncrementalScorer();
+        scorer.reset(target);
+        String decomposed = Normalizer.normalize(target, Normalizer.Form.NFD);
+        for (int end = 1; end <= decomposed.length(); end++) {
+            String raw = decomposed.substring(0, end);
+            scorer.update(raw);
+            assertScoredLikeRescan(scorer, target, raw);
+        }
+        assertTrue(scorer.matchesTarget());
+    }
+
+    @Test
+    void reportsPrefixAndCompletion() {
+        IncrementalScorer scorer = new IncrementalScorer();
+        scorer.reset("abc");
+        scorer.update("ab");
+        assertTrue(scorer.isPrefixOfTarget());
+        assertFalse(scorer.matchesTarget());
+        scorer.update("abx");
+        assertFalse(scorer.isPrefixOfTarget());
+        scorer.update("  abc  ");
+        assertTrue(scorer.matchesTarget());
+        assertEquals("abc", scorer.getNormalizedInput());
+    }
+
+    /**
+     * 끝에 글자 붙이기(오타 포함), 지우기, 중간 수정, 앞쪽 공백 바꾸기 중 하나를 무작위로 적용합니다.
+     */
+    private static void edit(StringBuilder input, String target, Random random) {
+        int roll = random.nextInt(100);
+        int length = input.length();
+        if (roll < 55) {
+            int next = Math.min(length, target.length() - 1);
+            char c = random.nextInt(10) > 0 ? target.charAt(next) : (char) ('a' + random.nextInt(26));
+            if (HangulJamo.isSyllable(c) && random.nextInt(4) == 0) {
+                // 조합 중인 음절: 받침 없이 초성+중성만 입력
+                c = (char) (HangulJamo.SYLLABLE_FIRST + (c - HangulJamo.SYLLABLE_FIRST) / 28 * 28);
+            }
+            input.append(c);
+        } else if (roll < 80) {
+            if (length > 0) {
+                input.setLength(length - 1);
+            }
+        } else if (roll < 92) {
+            if (length > 0) {
+                input.setCharAt(random.nextInt(length), random.nextBoolean() ? '가' : 'x');
+            }
+        } else if (roll < 96) {
+            input.insert(0, ' ');
+        } else {
+            if (length > 0 && Character.isWhitespace(input.charAt(0))) {
+                input.deleteCharAt(0);
+            } else {
+                input.append(' ');
+            }
+        }
+        if (input.length() > target.length() + 5) {
+            input.setLength(target.length());
+        }
+    }
+
+    /**
+     * 입력 전체를 정규화하고 글자/자모 단위로 다시 세어 채점기 결과와 비교합니다.
+     */
+    private static void assertScoredLikeRescan(IncrementalScorer scorer, String target, String raw) {
+        String input = Normalizer.normalize(raw.trim(), Normalizer.Form.NFC);
+        int correct = 0;
+        int strokes = HangulJamo.strokeCount(input, 0, input.length());
+        int correctStrokes = 0;
+        int last = input.length() - 1;
+        for (int i = 0; i < input.length(); i++) {
+            if (i < target.length() && input.charAt(i) == target.charAt(i)) {
+                correct++;
+            }
+            if (i < last && i < target.length()) {
+                correctStrokes += HangulJamo.matchingStrokes(input.charAt(i), target.charAt(i));
+            }
+        }
+        if (last >= 0 && last < target.length()) {
+            char next = last + 1 < target.length() ? target.charAt(last + 1) : 0;
+            correctStrokes += HangulJamo.composingMatchingStrokes(input.charAt(last), target.charAt(last), next);
+        }
+
+        String message = "입력: \"" + raw + "\"";
+        assertEquals(input, scorer.getNormalizedInput(), message);
+        assertEquals(input.length(), scorer.getTypedChars(), message);
+        assertEquals(correct, scorer.getCorrectChars(), message);
+        assertEquals(strokes, scorer.getTypedStrokes(), message);
+        assertEquals(correctStrokes, scorer.getCorrectStrokes(), message);
+    }
+}
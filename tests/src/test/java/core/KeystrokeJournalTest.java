@@ -0,0 +1,85 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link KeystrokeJournal}로 쓴 레코드를 {@link KeystrokeJournalReader}로 그대로 읽는지 확인합니다.
+ */
+class KeystrokeJournalTest {
+    private static final long FLUSH_INTERVAL_MS = 60_000;  // 테스트에서는 직접 flush/close
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryRecord() throws IOException {
+        Path path = directory.resolve("round-trip.tpj");
+        int[] codePoints = {'a', '한', 0x1F600, 0, Integer.MAX_VALUE};
+        KeystrokeJournal.EditKind[] kinds = KeystrokeJournal.EditKind.values();
+        long base = System.nanoTime() + 1_000_000_000L;  // 저널을 연 시각 이후
+
+        try (KeystrokeJournal journal = new KeystrokeJournal(path, FLUSH_INTERVAL_MS)) {
+            for (int i = 0; i < 100_000; i++) {
+                journal.append(base + i * 1_000_000L, kinds[i % kinds.length], codePoints[i % codePoints.length], i / 7);
+            }
+        }
+
+        try (KeystrokeJournalReader reader = KeystrokeJournalReader.open(path)) {
+            long first = -1;
+            for (int i = 0; i < 100_000; i++) {
+                assertTrue(reader.next(), "레코드 " + i);
+                if (first < 0) {
+                    first = reader.getElapsedMicros();
+                }
+                assertEquals(kinds[i % kinds.length], reader.getEditKind());
+                assertEquals(codePoints[i % codePoints.length], reader.getCodePoint());
+                assertEquals(i / 7, reader.getSentenceIndex());
+                assertEquals(i * 1_000L, reader.getElapsedMicros() - first);
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void keepsSubMicrosecondRemainderAcrossRecords() throws IOException {
+        Path path = directory.resolve("remainder.tpj");
+        long base = System.nanoTime() + 1_000_000_000L;
+        int records = 10_000;
+        long interval = 1_500;  // 1.5us: 레코드마다 자르면 0.5us씩 밀림
+
+        try (KeystrokeJournal journal = new KeystrokeJournal(path, FLUSH_INTERVAL_MS)) {
+            for (int i = 0; i < records; i++) {
+                journal.append(base + i * interval, KeystrokeJournal.EditKind.INSERT, 'a', 0);
+            }
+        }
+
+        try (KeystrokeJournalReader reader = KeystrokeJournalReader.open(path)) {
+            assertTrue(reader.next());
+            long first = reader.getElapsedMicros();
+            long last = first;
+            while (reader.next()) {
+                last = reader.getElapsedMicros();
+            }
+            long expected = (records - 1) * interval / 1_000L;
+            assertTrue(Math.abs((last - first) - expected) <= 1,
+                    "재생 시간 " + (last - first) + "us, 기대 " + expected + "us");
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path path = directory.resolve("not-a-journal.tpj");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> KeystrokeJournalReader.open(path));
+    }
+}
@@ -0,0 +1,96 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MoleField}의 입력 표시와 두더지 잡기를 확인합니다.
+ */
+class MoleFieldTest {
+    private static final long NOW = MoleFields.FIRST_WAVE;
+
+    @Test
+    void composingSyllableWaitsWhenAnotherWordContinuesIt() {
+        MoleField field = MoleFields.withWords("사과", "사관");
+
+        // 조합 중인 "과"는 "관"으로 이어질 수 있음
+        assertEquals(2, field.setTypedText("사과", true));
+        assertTrue(field.hasLongerMatch());
+        // 조합이 끝나면 "사과"뿐
+        assertEquals(1, field.setTypedText("사과", false));
+        assertFalse(field.hasLongerMatch());
+    }
+
+    @Test
+    void composingSyllableCompletesWhenNoOtherWordContinuesIt() {
+        MoleField field = MoleFields.withWords("사과", "나무");
+
+        field.setTypedText("사과", true);
+        assertFalse(field.hasLongerMatch());
+        assertTrue(field.hit("사과", NOW));
+        assertEquals(1, field.getMoles().size());
+    }
+
+    @Test
+    void forgetsLongerMatchOnceThatMoleIsGone() {
+        MoleField field = MoleFields.withWords("사과", "사관");
+        field.setTypedText("사과", true);
+
+        assertTrue(field.hit("사관", NOW));
+        assertFalse(field.hasLongerMatch());
+        assertEquals(1, field.getMatchedCount());
+    }
+
+    @Test
+    void hitsRemoveOnlyThatMoleFromAnywhereInTheList() {
+        MoleField field = MoleFields.withWords("a", "b", "c", "d", "e");
+
+        assertTrue(field.hit("c", NOW));
+        assertEquals(Set.of("a", "b", "d", "e"), words(field));
+        assertTrue(field.hit("a", NOW));
+        assertTrue(field.hit("e", NOW));
+        assertEquals(Set.of("b", "d"), words(field));
+        assertFalse(field.hit("c", NOW));
+
+        // 목록에서 자리를 옮긴 두더지도 다시 찾아 뺄 수 있음
+        assertTrue(field.hit("d", NOW));
+        assertTrue(field.hit("b", NOW));
+        assertTrue(field.getMoles().isEmpty());
+        assertEquals(5, field.getHitCount());
+    }
+
+    @Test
+    void sameWordHitsFirstSpawnedMole() {
+        MoleField field = MoleFields.withWords("x", "y", "x");
+
+        assertTrue(field.hit("x", NOW));
+        assertEquals(2, field.getMoles().stream().filter(mole -> mole.id() != 0).count());
+        assertTrue(field.hit("x", NOW));
+        assertEquals(Set.of("y"), words(field));
+    }
+
+    @Test
+    void expiresRemainingMolesAfterHits() {
+        MoleField field = MoleFields.withWords("a", "b", "c");
+        assertTrue(field.hit("b", NOW));
+
+        MoleField.Mole remaining = field.getMoles().get(0);
+        field.advanceTo(remaining.expiresAt() + 1);
+        assertTrue(field.getMoles().isEmpty());
+        assertEquals(3, field.getSpawnedCount());
+    }
+
+    private static Set<String> words(MoleField field) {
+        Set<String> words = new TreeSet<>();
+        for (MoleField.Mole mole : field.getMoles()) {
+            words.add(mole.word());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,53 @@
+package core;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 지정한 단어의 두더지가 떠 있는 필드를 만드는 테스트 도우미
+ */
+final class MoleFields {
+    static final long FIRST_WAVE = 500;  // 시작 후 첫 웨이브 시각 (ms)
+
+    private MoleFields() {
+    }
+
+    /**
+     * 첫 웨이브에 단어들이 순서대로 하나씩 나온 필드를 만듭니다.
+     * 다음 웨이브는 60초 뒤이며, 자리는 모두 (0, 0)으로 두는 배치 함수를 씁니다.
+     * @param words 나올 단어들
+     * @return 첫 웨이브까지 진행한 필드
+     */
+    static MoleField withWords(String... words) {
+        TextRepository repository = new TextRepository() {
+            @Override
+            public List<String> loadTexts(String resourcePath) {
+                return List.of(words);
+            }
+        };
+        // 단어를 목록 순서대로 고르도록 0, 1, 2, ... 를 돌려주는 난수
+        Random inOrder = new Random() {
+            private int next = 0;
+
+            @Override
+            public int nextInt(int bound) {
+                return next++ % bound;
+            }
+        };
+        MoleGameModel model = new MoleGameModel(GameModel.Language.KOREAN, inOrder, repository);
+        int count = words.length;
+        MoleRules rules = new MoleRules("TEST", count, count, count,
+                new int[0], new int[]{60_000}, 1, 60_000);
+        MoleField field = new MoleField(model, rules, new Random(0));
+        field.setPlacement((mole, f) -> true);
+        field.start(0);
+        field.advanceTo(FIRST_WAVE);
+        assertEquals(count, field.getMoles().size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(words[i], field.getMoles().get(i).word());
+        }
+        return field;
+    }
+}
@@ -0,0 +1,157 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MoleGrid}의 빈 칸 목록, 크기 변경 시 칸 다시 채우기, 자리 고르기를 확인합니다.
+ */
+class MoleGridTest {
+    private static final int MOLE = 10;
+    private static final int GAP = 5;
+
+    @Test
+    void acquiresEveryCellOnceAndReleasesIdempotently() {
+        MoleGrid grid = new MoleGrid(MOLE, MOLE, 0, 0, new Random(1));
+        grid.resize(100, 50, List.of());
+        assertEquals(50, grid.getCellCount());
+
+        Set<Integer> cells = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            int cell = grid.acquireCell();
+            assertTrue(cell >= 0 && cell < 50);
+            assertTrue(cells.add(cell));
+            assertEquals(49 - i, grid.getFreeCount());
+        }
+        assertEquals(-1, grid.acquireCell());
+
+        grid.releaseCell(7);
+        grid.releaseCell(7);  // 이미 빈 칸은 다시 넣지 않음
+        assertEquals(1, grid.getFreeCount());
+        assertEquals(7, grid.acquireCell());
+        assertEquals(-1, grid.acquireCell());
+
+        // 중간에서 빼고 넣어도 빈 칸 목록이 어긋나지 않음
+        for (int cell = 0; cell < 50; cell += 3) {
+            grid.releaseCell(cell);
+        }
+        Set<Integer> reacquired = new HashSet<>();
+        for (int cell; (cell = grid.acquireCell()) >= 0; ) {
+            assertTrue(reacquired.add(cell));
+        }
+        assertEquals(17, reacquired.size());
+        for (int cell : reacquired) {
+            assertEquals(0, cell % 3);
+        }
+
+        grid.clear();
+        assertEquals(50, grid.getFreeCount());
+    }
+
+    @Test
+    void placesWhileAnyCellIsFree() {
+        MoleGrid grid = new MoleGrid(MOLE, MOLE, GAP, GAP, new Random(2));
+        grid.resize(100, 60, List.of());
+        int cells = grid.getCellCount();
+        assertEquals(7 * 4, cells);
+        List<MoleField.Mole> moles = moles(cells + 1);
+
+        Set<Long> occupied = new HashSet<>();
+        for (int i = 0; i < cells; i++) {
+            MoleField.Mole mole = moles.get(i);
+            assertTrue(grid.place(mole, null));
+            assertInside(mole, 100, 60);
+            assertTrue(occupied.add(cellOf(mole, 100 / 7, 60 / 4)));
+        }
+        assertEquals(0, grid.getFreeCount());
+        assertFalse(grid.place(moles.get(cells), null));
+
+        // 하나가 사라지면 그 칸에 바로 놓임
+        MoleField.Mole gone = moles.get(cells / 2);
+        long cell = cellOf(gone, 100 / 7, 60 / 4);
+        grid.release(gone);
+        assertEquals(1, grid.getFreeCount());
+        assertTrue(grid.place(moles.get(cells), null));
+        assertEquals(cell, cellOf(moles.get(cells), 100 / 7, 60 / 4));
+
+        // 칸을 차지하지 않은 두더지를 놓아줘도 빈 칸이 늘지 않음
+        grid.release(gone);
+        assertEquals(0, grid.getFreeCount());
+    }
+
+    @Test
+    void resizeReseatsMolesAlreadyOnScreen() {
+        MoleGrid grid = new MoleGrid(MOLE, MOLE, 0, 0, new Random(3));
+        grid.resize(40, 40, List.of());
+        List<MoleField.Mole> moles = moles(4);
+        moles.get(0).moveTo(0, 0);
+        moles.get(1).moveTo(35, 35);
+        moles.get(2).moveTo(2, 3);    // 0번과 같은 칸
+        moles.get(3).moveTo(70, 10);  // 필드 밖
+
+        grid.resize(60, 40, moles);
+        assertEquals(6 * 4, grid.getCellCount());
+        assertEquals(24 - 2, grid.getFreeCount());
+
+        // 새 두더지는 칸을 차지한 두더지와 겹치지 않음
+        List<MoleField.Mole> placed = moles(22);
+        for (MoleField.Mole mole : placed) {
+            assertTrue(grid.place(mole, null));
+            assertFalse(cellOf(mole, 10, 10) == cellOf(moles.get(0), 10, 10));
+            assertFalse(cellOf(mole, 10, 10) == cellOf(moles.get(1), 10, 10));
+        }
+        assertEquals(0, grid.getFreeCount());
+
+        // 칸을 차지한 두더지가 사라지면 칸이 비고, 차지하지 못한 두더지는 빈 칸을 만들지 않음
+        grid.release(moles.get(2));
+        grid.release(moles.get(3));
+        assertEquals(0, grid.getFreeCount());
+        grid.release(moles.get(0));
+        assertEquals(1, grid.getFreeCount());
+
+        // 크기가 같으면 다시 나누지 않음
+        grid.resize(60, 40, List.of());
+        assertEquals(1, grid.getFreeCount());
+    }
+
+    @Test
+    void tinyFieldHasNoCells() {
+        MoleGrid grid = new MoleGrid(MOLE, MOLE, GAP, GAP, new Random(4));
+        grid.resize(MOLE - 1, 100, List.of());
+        assertEquals(0, grid.getCellCount());
+        assertFalse(grid.place(moles(1).get(0), null));
+
+        grid.resize(MOLE, MOLE, List.of());
+        assertEquals(1, grid.getCellCount());
+        MoleField.Mole mole = moles(1).get(0);
+        assertTrue(grid.place(mole, null));
+        assertEquals(0, mole.x());
+        assertEquals(0, mole.y());
+    }
+
+    private static List<MoleField.Mole> moles(int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = "w" + i;
+        }
+        return new ArrayList<>(MoleFields.withWords(words).getMoles());
+    }
+
+    private static void assertInside(MoleField.Mole mole, int width, int height) {
+        assertTrue(mole.x() >= 0 && mole.x() + MOLE <= width, "x=" + mole.x());
+        assertTrue(mole.y() >= 0 && mole.y() + MOLE <= height, "y=" + mole.y());
+    }
+
+    private static long cellOf(MoleField.Mole mole, int cellWidth, int cellHeight) {
+        return (long) (mole.x() / cellWidth) << 32 | (mole.y() / cellHeight);
+    }
+}
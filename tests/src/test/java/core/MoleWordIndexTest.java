@@ -0,0 +1,97 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link MoleWordIndex}의 단어 찾기와 앞부분(조합 중인 한글 포함) 찾기를 확인합니다.
+ */
+class MoleWordIndexTest {
+
+    @Test
+    void findsFirstMoleForWord() {
+        List<MoleField.Mole> moles = spawn("apple", "apple", "apply");
+        MoleField.Mole first = moles.get(0);
+        MoleField.Mole second = moles.get(1);
+        MoleWordIndex index = new MoleWordIndex();
+        moles.forEach(index::add);
+
+        assertSame(first, index.first("apple"));
+        index.remove(first);
+        assertSame(second, index.first("apple"));
+        index.remove(second);
+        assertNull(index.first("apple"));
+        assertNull(index.first("app"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void findsCommittedPrefixMatches() {
+        MoleWordIndex index = indexOf("apple", "apply", "banana", "app");
+
+        assertEquals(Set.of("apple", "apply", "app"), matches(index, "app", false));
+        assertEquals(Set.of("apple"), matches(index, "apple", false));
+        assertEquals(Set.of(), matches(index, "apx", false));
+        assertEquals(Set.of(), matches(index, "", false));
+    }
+
+    @Test
+    void ignoresRemovedMoles() {
+        List<MoleField.Mole> moles = spawn("apple", "apricot");
+        MoleField.Mole apple = moles.get(0);
+        MoleWordIndex index = new MoleWordIndex();
+        moles.forEach(index::add);
+        index.remove(apple);
+
+        assertEquals(Set.of("apricot"), matches(index, "ap", false));
+        index.remove(apple);  // 이미 뺀 두더지는 무시
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void matchesHalfTypedSyllableWhileComposing() {
+        MoleWordIndex index = indexOf("한글", "학교", "하나", "나무");
+
+        // 조합 중인 "하"는 "한", "학", "하"의 앞부분
+        assertEquals(Set.of("한글", "학교", "하나"), matches(index, "하", true));
+        // 조합이 끝난 "하"는 "하나"만
+        assertEquals(Set.of("하나"), matches(index, "하", false));
+        // 조합 중인 "한"은 "한글"과, 다음 음절 초성이 받침으로 붙은 "하나"
+        assertEquals(Set.of("한글", "하나"), matches(index, "한", true));
+        assertEquals(Set.of("한글"), matches(index, "한", false));
+    }
+
+    @Test
+    void matchesNextInitialAttachedAsFinal() {
+        MoleWordIndex index = indexOf("가방", "가게", "갑옷");
+
+        assertEquals(Set.of("가방", "갑옷"), matches(index, "갑", true));
+        assertEquals(Set.of("갑옷"), matches(index, "갑", false));
+        assertEquals(Set.of("가게"), matches(index, "가ㄱ", true));
+    }
+
+    private static MoleWordIndex indexOf(String... words) {
+        MoleWordIndex index = new MoleWordIndex();
+        spawn(words).forEach(index::add);
+        return index;
+    }
+
+    private static List<MoleField.Mole> spawn(String... words) {
+        return new ArrayList<>(MoleFields.withWords(words).getMoles());
+    }
+
+    private static Set<String> matches(MoleWordIndex index, String typed, boolean composing) {
+        List<String> words = new ArrayList<>();
+        int found = index.forEachPrefixMatch(typed, composing, mole -> words.add(mole.word()));
+        assertEquals(words.size(), found);
+        return new TreeSet<>(words);
+    }
+}
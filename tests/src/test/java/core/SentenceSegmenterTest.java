@@ -0,0 +1,79 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SentenceSegmenter}의 문장 경계(약어, 이름 머리글자, 한글 문장 끝, 빈 줄)를 확인합니다.
+ */
+class SentenceSegmenterTest {
+
+    @Test
+    void splitsOnTerminatorFollowedBySpace() {
+        assertEquals(List.of("Hello there.", "How are you?", "Fine!"),
+                SentenceSegmenter.split("Hello there. How are you? Fine!"));
+    }
+
+    @Test
+    void keepsAbbreviationsAndInitialsInTheSentence() {
+        assertEquals(List.of("Mr. Smith met Dr. Lee at St. Mary's.", "They left."),
+                SentenceSegmenter.split("Mr. Smith met Dr. Lee at St. Mary's. They left."));
+        assertEquals(List.of("Use tools, e.g. a hammer, i.e. something heavy.", "Done."),
+                SentenceSegmenter.split("Use tools, e.g. a hammer, i.e. something heavy. Done."));
+        assertEquals(List.of("J. R. R. Tolkien wrote it.", "Read it."),
+                SentenceSegmenter.split("J. R. R. Tolkien wrote it. Read it."));
+    }
+
+    @Test
+    void includesClosingQuotesAfterTerminator() {
+        assertEquals(List.of("He said \"stop.\"", "Then he left."),
+                SentenceSegmenter.split("He said \"stop.\" Then he left."));
+    }
+
+    @Test
+    void splitsHangulSentencesWithoutSpace() {
+        assertEquals(List.of("밥을 먹었다.", "그리고 잤다."),
+                SentenceSegmenter.split("밥을 먹었다.그리고 잤다."));
+        assertEquals(List.of("정말요?", "네!"),
+                SentenceSegmenter.split("정말요? 네!"));
+        // 영어 뒤의 마침표는 띄어쓰기가 없으면 나누지 않음 (예: 소수, 도메인)
+        assertEquals(List.of("값은 3.14이고 example.com 입니다."),
+                SentenceSegmenter.split("값은 3.14이고 example.com 입니다."));
+    }
+
+    @Test
+    void splitsOnBlankLinesAndJoinsWrappedLines() {
+        assertEquals(List.of("First paragraph without a period", "Second line one line two"),
+                SentenceSegmenter.split("First paragraph without a period\n\nSecond line one\r\nline two\n"));
+    }
+
+    @Test
+    void reportsOffsetsWithoutTrailingSpace() {
+        assertArrayEquals(new int[]{0, 3, 4, 7}, SentenceSegmenter.offsets("Hi. Yo.  "));
+    }
+
+    @Test
+    void startsOverAfterReset() {
+        String text = "첫 문장입니다. 두 번째";
+        SentenceSegmenter segmenter = new SentenceSegmenter();
+        for (int i = 0; i < 5; i++) {
+            segmenter.feed(text, i);
+        }
+        segmenter.reset();
+        int completed = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (segmenter.feed(text, i)) {
+                completed++;
+                assertEquals(0, segmenter.getSentenceStart());
+                assertEquals(8, segmenter.getSentenceEnd());
+            }
+        }
+        assertEquals(1, completed);
+        assertTrue(segmenter.hasPendingSentence());
+    }
+}
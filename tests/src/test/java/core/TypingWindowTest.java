@@ -0,0 +1,105 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TypingWindow}의 윈도우 합계, 제거 순서, 버퍼 크기 설정을 확인합니다.
+ */
+class TypingWindowTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void evictsBeforeCheckingCapacity() {
+        TypingWindow window = new TypingWindow(5, 2);
+        window.add(0, 1);
+        window.add(SECOND, 2);
+        // 0초 이벤트가 먼저 빠지므로 6초 이벤트는 1초 이벤트에 합쳐지지 않고 따로 들어감
+        window.add(6 * SECOND, 4);
+        assertEquals(SECOND, window.getOldestTime());
+        assertEquals(6, window.getCharCount());
+
+        window.evictOlderThan(7 * SECOND);
+        assertEquals(6 * SECOND, window.getOldestTime());
+        assertEquals(4, window.getCharCount());
+    }
+
+    @Test
+    void mergesIntoNewestEventWhenFull() {
+        TypingWindow window = new TypingWindow(5, 2);
+        window.add(0, 1);
+        window.add(SECOND, 2);
+        window.add(2 * SECOND, 4);
+        assertEquals(7, window.getCharCount());
+
+        window.evictOlderThan(6 * SECOND - 1);
+        assertEquals(6, window.getCharCount());
+        window.evictOlderThan(6 * SECOND + 1);
+        assertTrue(window.isEmpty());
+        assertEquals(0, window.getCharCount());
+    }
+
+    @Test
+    void matchesReferenceWindowOverLongRun() {
+        // 이벤트마다 한 번씩만 넣고 빼므로 전체 비용은 이벤트 수에 비례
+        TypingWindow window = new TypingWindow(5, TypingWindow.DEFAULT_CAPACITY);
+        ArrayDeque<long[]> reference = new ArrayDeque<>();
+        Random random = new Random(7);
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            long now = 0;
+            int referenceSum = 0;
+            for (int i = 0; i < 1_000_000; i++) {
+                now += 20_000_000L + random.nextInt(200_000_000);  // 20~220ms 간격 (버퍼가 넘치지 않음)
+                int count = 1 + random.nextInt(3);
+                window.add(now, count);
+                reference.addLast(new long[]{now, count});
+                referenceSum += count;
+                while (reference.peekFirst()[0] < now - 5 * SECOND) {
+                    referenceSum -= (int) reference.pollFirst()[1];
+                }
+                if (window.getCharCount() != referenceSum) {
+                    assertEquals(referenceSum, window.getCharCount(), "event " + i);
+                }
+            }
+            assertEquals(reference.peekFirst()[0], window.getOldestTime());
+        });
+    }
+
+    @Test
+    void changesCapacityKeepingNewestEvents() {
+        TypingWindow window = new TypingWindow(5, 4);
+        for (int i = 0; i < 4; i++) {
+            window.add(i * SECOND / 10, i + 1);
+        }
+        assertEquals(10, window.getCharCount());
+
+        window.setCapacity(2);
+        assertEquals(2, window.getCapacity());
+        assertEquals(7, window.getCharCount());
+        assertEquals(2 * SECOND / 10, window.getOldestTime());
+
+        window.setCapacity(8);
+        assertEquals(8, window.getCapacity());
+        assertEquals(7, window.getCharCount());
+        for (int i = 0; i < 6; i++) {
+            window.add(SECOND + i, 1);
+        }
+        assertEquals(13, window.getCharCount());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TypingWindow(5, 0));
+        TypingWindow window = new TypingWindow(5, 1);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> window.setCapacity(-1));
+        assertTrue(e.getMessage().startsWith("버퍼 크기는"), e.getMessage());
+    }
+}
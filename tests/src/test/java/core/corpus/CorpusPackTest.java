@@ -0,0 +1,105 @@
+package core.corpus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CorpusCompiler}로 만든 팩을 {@link CorpusPack}으로 다시 읽어 같은 문장이 나오는지 확인합니다.
+ */
+class CorpusPackTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsSentences() throws IOException {
+        List<String> sentences = List.of(
+                "The quick brown fox.",
+                "다람쥐 헌 쳇바퀴에 타고파.",
+                "Café 123, naïve résumé!",
+                "이모지 😀와 한자 漢字",
+                "x");
+        Path pack = directory.resolve("mixed.pack");
+        assertEquals(sentences.size(), CorpusCompiler.compile(sentences.iterator(), pack));
+
+        CorpusPack opened = CorpusPack.open(pack);
+        assertEquals(sentences.size(), opened.size());
+        for (int i = 0; i < sentences.size(); i++) {
+            assertEquals(sentences.get(i), opened.get(i));
+            assertEquals(sentences.get(i).length(), opened.charLength(i));
+            assertEquals(CorpusCompiler.charClasses(sentences.get(i)), opened.charClasses(i));
+        }
+        assertEquals(sentences, opened.asList());
+        assertEquals(CorpusPack.CLASS_LATIN | CorpusPack.CLASS_PUNCTUATION, opened.charClasses(0));
+        assertEquals(CorpusPack.CLASS_HANGUL | CorpusPack.CLASS_PUNCTUATION, opened.charClasses(1));
+        assertTrue((opened.charClasses(3) & CorpusPack.CLASS_OTHER) != 0);
+    }
+
+    @Test
+    void normalizesTrimsAndSkipsBlankLines() throws IOException {
+        String decomposed = Normalizer.normalize("한글 입력", Normalizer.Form.NFD);
+        Path input = directory.resolve("lines.txt");
+        Files.writeString(input, "  " + decomposed + "  \n\n   \nsecond line\n", StandardCharsets.UTF_8);
+        Path pack = directory.resolve("lines.pack");
+
+        assertEquals(2, CorpusCompiler.compileLines(input, pack));
+        CorpusPack opened = CorpusPack.open(pack);
+        assertEquals(List.of("한글 입력", "second line"), opened.asList());
+        assertEquals(5, opened.charLength(0));
+    }
+
+    @Test
+    void opensEmptyCorpus() throws IOException {
+        Path pack = directory.resolve("empty.pack");
+        assertEquals(0, CorpusCompiler.compile(Collections.<String>emptyIterator(), pack));
+
+        CorpusPack opened = CorpusPack.open(pack);
+        assertEquals(0, opened.size());
+        assertTrue(opened.asList().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> opened.get(0));
+    }
+
+    @Test
+    void getsAnySentenceOfLargeCorpus() throws IOException {
+        List<String> sentences = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            sentences.add((i % 2 == 0 ? "문장 " : "sentence ") + i);
+        }
+        Path pack = directory.resolve("large.pack");
+        CorpusCompiler.compile(sentences.iterator(), pack);
+
+        CorpusPack opened = CorpusPack.open(pack);
+        for (int i : new int[]{4999, 0, 2500, 1, 4998}) {
+            assertEquals(sentences.get(i), opened.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> opened.get(5000));
+        assertThrows(IndexOutOfBoundsException.class, () -> opened.get(-1));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotPacks() throws IOException {
+        Path text = directory.resolve("plain.pack");
+        Files.writeString(text, "이것은 말뭉치 팩이 아닌 일반 텍스트 파일입니다.", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> CorpusPack.open(text));
+
+        // 본문이 잘린 팩
+        Path pack = directory.resolve("truncated.pack");
+        CorpusCompiler.compile(List.of("hello", "world").iterator(), pack);
+        byte[] bytes = Files.readAllBytes(pack);
+        Files.write(pack, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> CorpusPack.open(pack));
+    }
+}
@@ -0,0 +1,56 @@
+package core.metrics;
+
+import core.GameModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link Distribution}의 기록과 보고, 모델의 전역 측정값 기록 끄기를 확인합니다.
+ */
+class DistributionTest {
+
+    @Test
+    void keepsEveryRecordedValue() {
+        Distribution cpm = new MetricsRegistry("test").distribution("test_cpm", "타수");
+        for (int value = 1; value <= 100; value++) {
+            cpm.record(value * 10.0);
+        }
+
+        assertEquals(100, cpm.getCount());
+        assertEquals(505.0, cpm.getMean(), 1e-9);
+        // 칸의 가장 큰 값으로 보고하므로 실제 값 이상, 상대 오차 약 3% 이내
+        assertEquals(500.0, cpm.getP50(), 500.0 * 0.04);
+        assertTrue(cpm.getP50() >= 500.0);
+        assertEquals(990.0, cpm.getP99(), 990.0 * 0.04);
+        assertEquals(1000.0, cpm.getMax(), 1e-9);
+    }
+
+    @Test
+    void reportsSummaryInOpenMetrics() {
+        MetricsRegistry registry = new MetricsRegistry("test");
+        Distribution accuracy = registry.distribution("test_accuracy", "정확도");
+        accuracy.record(90.5);
+        accuracy.record(100.0);
+
+        String text = registry.toOpenMetrics();
+        assertTrue(text.contains("# TYPE test_accuracy summary\n"), text);
+        assertTrue(text.contains("test_accuracy{quantile=\"0.5\"} "), text);
+        assertTrue(text.contains("test_accuracy_sum 190.5\n"), text);
+        assertTrue(text.contains("test_accuracy_count 2\n"), text);
+    }
+
+    @Test
+    void modelCanOptOutOfGlobalMetrics() {
+        GameModel model = new GameModel();
+        model.setRecordsMetrics(false);
+        long before = TypingMetrics.KEYSTROKES.getCount();
+        model.processInput("abc");
+        assertEquals(before, TypingMetrics.KEYSTROKES.getCount());
+
+        model.setRecordsMetrics(true);
+        model.processInput("abcd");
+        assertEquals(before + 1, TypingMetrics.KEYSTROKES.getCount());
+    }
+}
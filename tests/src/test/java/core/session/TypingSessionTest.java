@@ -0,0 +1,57 @@
+package core.session;
+
+import core.GameModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link TypingSession}의 작업 실행 순서와 실패 처리를 확인합니다.
+ */
+class TypingSessionTest {
+
+    /**
+     * 지정한 횟수만큼 상태를 읽을 때 Error를 던지는 게임 모델
+     */
+    private static class FailingModel extends GameModel {
+        volatile int failures = 0;
+
+        @Override
+        public void updateWPM() {
+            if (failures > 0) {
+                failures--;
+                throw new AssertionError("작업 실패");
+            }
+            super.updateWPM();
+        }
+    }
+
+    @Test
+    void errorCompletesFutureAndLaterTasksStillRun() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FailingModel model = new FailingModel();
+            TypingSession session = new TypingSession("test", model, executor, 100);
+            model.failures = 1;
+
+            CompletableFuture<SessionSnapshot> failed = session.refresh();
+            CompletableFuture<SessionSnapshot> next = session.refresh();
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, e.getCause());
+            assertNotNull(next.get(5, TimeUnit.SECONDS));
+            // 실패 뒤에 들어온 작업도 예약되어 실행됨
+            assertNotNull(session.refresh().get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package core.simulation;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 시뮬레이션 결과의 분포 통계를 비교하는 테스트 도우미
+ */
+final class DistributionAssertions {
+    private DistributionAssertions() {
+    }
+
+    /**
+     * 두 결과의 분포가 같은지 확인합니다.
+     * @param expected 기준 분포 (이름 → 통계)
+     * @param actual 비교할 분포
+     */
+    static void assertSameDistributions(Map<String, DistributionStats> expected,
+                                        Map<String, DistributionStats> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((key, stats) -> {
+            DistributionStats other = actual.get(key);
+            assertEquals(stats.getCount(), other.getCount(), key);
+            assertEquals(stats.getMin(), other.getMin(), key);
+            assertEquals(stats.getMax(), other.getMax(), key);
+            // 합을 더하는 순서가 달라 평균은 마지막 자리만 다를 수 있음
+            assertEquals(stats.getMean(), other.getMean(), 1e-9 * Math.max(1.0, Math.abs(stats.getMean())), key);
+            for (double percentile : new double[]{10, 50, 90, 99}) {
+                assertEquals(stats.percentile(percentile), other.percentile(percentile), key + " p" + percentile);
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package core.simulation;
+
+import core.GameModel;
+import core.MoleRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static core.simulation.DistributionAssertions.assertSameDistributions;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 시드의 두더지 시뮬레이션이 fork/join으로 나누는 스레드 수와 관계없이 같은 결과를 내는지 확인합니다.
+ */
+class MoleSimulatorTest {
+    private static final long SEED = 42L;
+
+    @Test
+    void resultIsIndependentOfThreadCount() {
+        MoleSimulator.Result single = run(1);
+        MoleSimulator.Result parallel = run(3);
+
+        assertEquals(single.getGames(), parallel.getGames());
+        assertEquals(single.getSpawned(), parallel.getSpawned());
+        assertEquals(single.getHits(), parallel.getHits());
+        assertEquals(single.getFailedAttempts(), parallel.getFailedAttempts());
+        assertSameDistributions(single.getScores(), parallel.getScores());
+        assertSameDistributions(single.getMisses(), parallel.getMisses());
+        assertSameDistributions(single.getHitRates(), parallel.getHitRates());
+    }
+
+    private static MoleSimulator.Result run(int threads) {
+        return new MoleSimulator(new MoleSimulator.Config(600, threads, SEED,
+                List.of(MoleRules.EASY, MoleRules.HARD), List.of(GameModel.Language.values()),
+                TypistProfile.defaults())).run();
+    }
+}
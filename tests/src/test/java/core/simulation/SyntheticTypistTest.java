@@ -0,0 +1,36 @@
+package core.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link SyntheticTypist}가 입력 필드에 보내는 내용을 확인합니다.
+ */
+class SyntheticTypistTest {
+
+    private static List<String> type(String target, double imeBurstRate) {
+        TypistProfile profile = new TypistProfile("테스트", 100, 0.0, 0.0, 0.0, 0, imeBurstRate);
+        SyntheticTypist typist = new SyntheticTypist(profile, new VirtualClock(), new Random(1));
+        List<String> inputs = new ArrayList<>();
+        assertEquals(target, typist.type(target, inputs::add));
+        return inputs;
+    }
+
+    @Test
+    void sendsEachJamoStateWhileComposing() {
+        // ㅅ이 먼저 "하"의 받침으로 붙었다가 ㅔ를 입력하면 다음 음절로 넘어감
+        assertEquals(List.of("ㅎ", "하", "핫", "하세", "하셍", "하세요"), type("하세요", 1.0));
+        // 받침으로 붙을 수 없는 ㄸ은 따로 나타남
+        assertEquals(List.of("ㄱ", "고", "과", "과ㄸ", "과따"), type("과따", 1.0));
+    }
+
+    @Test
+    void sendsWholeSyllablesOutsideComposing() {
+        assertEquals(List.of("하", "하세", "하세요"), type("하세요", 0.0));
+    }
+}
@@ -0,0 +1,37 @@
+package core.simulation;
+
+import core.GameModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static core.simulation.DistributionAssertions.assertSameDistributions;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 시드의 타자 시뮬레이션이 작업 스레드 수와 관계없이 같은 결과를 내는지 확인합니다.
+ * 게임 상태가 작업 스레드에 남아 다음 게임에 영향을 주면 여기서 드러납니다.
+ */
+class TypingSimulatorTest {
+    private static final long SEED = 42L;
+
+    @Test
+    void resultIsIndependentOfThreadCount() throws Exception {
+        TypingSimulator.Result single = run(1);
+        TypingSimulator.Result parallel = run(3);
+
+        assertEquals(0, single.getMismatches(), () -> String.join("\n", single.getMismatchSamples()));
+        assertEquals(single.getGames(), parallel.getGames());
+        assertEquals(single.getKeystrokes(), parallel.getKeystrokes());
+        assertEquals(single.getInputEvents(), parallel.getInputEvents());
+        assertSameDistributions(single.getAccuracy(), parallel.getAccuracy());
+        assertSameDistributions(single.getCpm(), parallel.getCpm());
+    }
+
+    private static TypingSimulator.Result run(int threads) throws Exception {
+        // 한 작업 스레드가 같은 언어/모드의 게임을 여러 번 진행하도록 조합 수(2 x 3 x 4)보다 많이 실행
+        return new TypingSimulator(new TypingSimulator.Config(96, threads, SEED,
+                List.of(GameModel.Language.values()), List.of(GameModel.GameMode.values()),
+                TypistProfile.defaults())).run();
+    }
+}